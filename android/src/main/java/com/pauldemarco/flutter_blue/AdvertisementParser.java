@@ -30,107 +30,287 @@ package com.pauldemarco.flutter_blue;
 import com.google.protobuf.ByteString;
 import com.pauldemarco.flutter_blue.Protos.AdvertisementData;
 
-import java.io.UnsupportedEncodingException;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.util.UUID;
+import java.nio.charset.Charset;
 
 /**
  * Parser of Bluetooth Advertisement packets.
+ *
+ * {@link #reset(byte[])} indexes the AD structures of a packet into a reusable int array, then
+ * {@link #toProto(boolean)} decodes them in a single pass, with byte fields as views over one copy
+ * of the packet. A parser instance is not thread safe, the static {@link #parse(byte[], boolean)}
+ * keeps one instance per thread.
  */
 class AdvertisementParser {
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final String BASE_UUID = "00000000-0000-1000-8000-00805f9b34fb";
+
+  // Two hex characters for every byte value.
+  private static final char[] BYTE_TO_HEX = new char[256 * 2];
+
+  static {
+    for (int i = 0; i < 256; i++) {
+      BYTE_TO_HEX[i * 2] = HEX_DIGITS[i >>> 4];
+      BYTE_TO_HEX[i * 2 + 1] = HEX_DIGITS[i & 0x0F];
+    }
+  }
+
+  private static final ThreadLocal<AdvertisementParser> PARSERS = new ThreadLocal<AdvertisementParser>() {
+    @Override
+    protected AdvertisementParser initialValue() {
+      return new AdvertisementParser();
+    }
+  };
+
+  // Three slots per AD structure: type, offset of the data and length of the data.
+  private int[] structures = new int[32 * 3];
+  private int count;
+  private byte[] data;
+  private ByteString raw;
+  private final char[] uuidChars = BASE_UUID.toCharArray();
 
   /**
    * Parses packet data into {@link AdvertisementData} structure.
    *
    * @param rawData The scan record data.
+   * @param includeRaw Whether to forward the scan record itself.
    * @return An AdvertisementData proto object.
    * @throws ArrayIndexOutOfBoundsException if the input is truncated.
    */
-  static AdvertisementData parse(byte[] rawData) {
-    ByteBuffer data = ByteBuffer.wrap(rawData).asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
-    AdvertisementData.Builder ret = AdvertisementData.newBuilder();
-    boolean seenLongLocalName = false;
-    do {
-      int length = data.get() & 0xFF;
+  static AdvertisementData parse(byte[] rawData, boolean includeRaw) {
+    AdvertisementParser parser = PARSERS.get();
+    try {
+      parser.reset(rawData);
+      return parser.toProto(includeRaw);
+    } finally {
+      parser.reset(null);
+    }
+  }
+
+  /**
+   * Indexes the AD structures of a packet without decoding them.
+   *
+   * @param rawData The scan record data, or null to release the previous packet.
+   * @throws ArrayIndexOutOfBoundsException if the input is truncated.
+   */
+  void reset(byte[] rawData) {
+    data = rawData;
+    raw = null;
+    count = 0;
+    if (rawData == null) {
+      return;
+    }
+    int i = 0;
+    while (i < rawData.length) {
+      int length = rawData[i] & 0xFF;
       if (length == 0) {
         break;
       }
-      if (length > data.remaining()) {
+      if (i + 1 + length > rawData.length) {
+        count = 0;
         throw new ArrayIndexOutOfBoundsException("Not enough data.");
       }
+      if ((count + 1) * 3 > structures.length) {
+        int[] grown = new int[structures.length * 2];
+        System.arraycopy(structures, 0, grown, 0, structures.length);
+        structures = grown;
+      }
+      structures[count * 3] = rawData[i + 1] & 0xFF;
+      structures[count * 3 + 1] = i + 2;
+      structures[count * 3 + 2] = length - 1;
+      count++;
+      i += 1 + length;
+    }
+  }
 
-      int type = data.get() & 0xFF;
-      length--;
+  int typeAt(int index) {
+    return structures[index * 3];
+  }
 
+  int offsetAt(int index) {
+    return structures[index * 3 + 1];
+  }
+
+  int lengthAt(int index) {
+    return structures[index * 3 + 2];
+  }
+
+  /** A view over {@code length} bytes of the packet, sharing one copy of the packet. */
+  ByteString bytes(int offset, int length) {
+    if (raw == null) {
+      raw = ByteString.copyFrom(data);
+    }
+    return raw.substring(offset, offset + length);
+  }
+
+  int uint16(int offset) {
+    return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8;
+  }
+
+  long uint32(int offset) {
+    return (uint16(offset) | (long) uint16(offset + 2) << 16) & 0xFFFFFFFFL;
+  }
+
+  /**
+   * Decodes a URI AD structure, expanding the leading scheme code point when it is known.
+   *
+   * @return The URI, or null if the structure is empty.
+   */
+  String uri(int offset, int length) {
+    if (length < 1) {
+      return null;
+    }
+    String value = new String(data, offset, length, UTF8);
+    int scheme = value.codePointAt(0);
+    String rest = value.substring(Character.charCount(scheme));
+    switch (scheme) {
+      case 0x01: // No scheme, the remainder is the whole URI.
+        return rest;
+      case 0x16:
+        return "http:" + rest;
+      case 0x17:
+        return "https:" + rest;
+      default:
+        return value;
+    }
+  }
+
+  /** Formats a 16 or 32 bit UUID onto the Bluetooth base UUID. */
+  String shortUuid(long value) {
+    char[] c = uuidChars;
+    BASE_UUID.getChars(8, BASE_UUID.length(), c, 8);
+    for (int i = 0; i < 4; i++) {
+      int b = (int) (value >>> (24 - i * 8)) & 0xFF;
+      c[i * 2] = BYTE_TO_HEX[b * 2];
+      c[i * 2 + 1] = BYTE_TO_HEX[b * 2 + 1];
+    }
+    return new String(c);
+  }
+
+  /** Formats a little endian 128 bit UUID. */
+  String longUuid(int offset) {
+    char[] c = uuidChars;
+    int pos = 0;
+    for (int i = 15; i >= 0; i--) {
+      if (pos == 8 || pos == 13 || pos == 18 || pos == 23) {
+        c[pos++] = '-';
+      }
+      int b = data[offset + i] & 0xFF;
+      c[pos++] = BYTE_TO_HEX[b * 2];
+      c[pos++] = BYTE_TO_HEX[b * 2 + 1];
+    }
+    return new String(c);
+  }
+
+  /** Decodes every indexed AD structure into an {@link AdvertisementData} in a single pass. */
+  AdvertisementData toProto(boolean includeRaw) {
+    AdvertisementData.Builder ret = AdvertisementData.newBuilder();
+    int nameIndex = -1;
+    for (int i = 0; i < count; i++) {
+      int type = typeAt(i);
+      int offset = offsetAt(i);
+      int length = lengthAt(i);
       switch (type) {
+        case 0x01: { // Flags.
+          if (length >= 1) {
+            ret.setConnectable((data[offset] & 0x2) > 0);
+          }
+          break;
+        }
+        case 0x02: // Incomplete list of 16 bit service UUIDs.
+        case 0x03: { // Complete list of 16 bit service UUIDs.
+          for (int o = offset; o + 2 <= offset + length; o += 2) {
+            ret.addServiceUuids(shortUuid(uint16(o)));
+          }
+          break;
+        }
+        case 0x04: // Incomplete list of 32 bit service UUIDs.
+        case 0x05: { // Complete list of 32 bit service UUIDs.
+          for (int o = offset; o + 4 <= offset + length; o += 4) {
+            ret.addServiceUuids(shortUuid(uint32(o)));
+          }
+          break;
+        }
+        case 0x06: // Incomplete list of 128 bit service UUIDs.
+        case 0x07: { // Complete list of 128 bit service UUIDs.
+          for (int o = offset; o + 16 <= offset + length; o += 16) {
+            ret.addServiceUuids(longUuid(o));
+          }
+          break;
+        }
         case 0x08: // Short local name.
         case 0x09: { // Long local name.
-          if (seenLongLocalName) {
-            // Prefer the long name over the short.
-            data.position(data.position() + length);
-            break;
+          // Prefer the long name over the short.
+          if (nameIndex < 0 || type == 0x09 && typeAt(nameIndex) != 0x09) {
+            nameIndex = i;
+          }
+          break;
+        }
+        case 0x12: { // Slave connection interval range.
+          if (length >= 4) {
+            ret.setConnectionIntervalRange(Protos.ConnectionIntervalRange.newBuilder()
+                .setMin(uint16(offset))
+                .setMax(uint16(offset + 2)));
           }
-          byte[] name = new byte[length];
-          data.get(name);
-          try {
-            ret.setLocalName(new String(name, "UTF-8"));
-          } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException(e);
+          break;
+        }
+        case 0x19: { // Appearance.
+          if (length >= 2) {
+            ret.setAppearance(Protos.Int32Value.newBuilder().setValue(uint16(offset)));
           }
-          if (type == 0x09) {
-            seenLongLocalName = true;
+          break;
+        }
+        case 0x24: { // URI.
+          String uri = uri(offset, length);
+          if (uri != null) {
+            ret.setUri(uri);
           }
           break;
         }
         case 0x0A: { // Power level.
-          ret.setTxPowerLevel(Protos.Int32Value.newBuilder().setValue(data.get()));
+          if (length >= 1) {
+            ret.setTxPowerLevel(Protos.Int32Value.newBuilder().setValue(data[offset]));
+          }
           break;
         }
         case 0x16: // Service Data with 16 bit UUID.
         case 0x20: // Service Data with 32 bit UUID.
         case 0x21: { // Service Data with 128 bit UUID.
-          UUID uuid;
-          int remainingDataLength = 0;
-          if (type == 0x16 || type == 0x20) {
-            long uuidValue;
-            if (type == 0x16) {
-              uuidValue = data.getShort() & 0xFFFF;
-              remainingDataLength = length - 2;
-            } else {
-              uuidValue = data.getInt() & 0xFFFFFFFF;
-              remainingDataLength = length - 4;
-            }
-            uuid = UUID.fromString(String.format("%08x-0000-1000-8000-00805f9b34fb", uuidValue));
+          int uuidLength = (type == 0x16) ? 2 : (type == 0x20) ? 4 : 16;
+          if (length < uuidLength) {
+            throw new ArrayIndexOutOfBoundsException("Not enough data for Service Data.");
+          }
+          String uuid;
+          if (type == 0x16) {
+            uuid = shortUuid(uint16(offset));
+          } else if (type == 0x20) {
+            uuid = shortUuid(uint32(offset));
           } else {
-            long msb = data.getLong();
-            long lsb = data.getLong();
-            uuid = new UUID(msb, lsb);
-            remainingDataLength = length - 16;
+            uuid = longUuid(offset);
           }
-          byte[] remainingData = new byte[remainingDataLength];
-          data.get(remainingData);
-          ret.putServiceData(uuid.toString(), ByteString.copyFrom(remainingData));
+          ret.putServiceData(uuid, bytes(offset + uuidLength, length - uuidLength));
           break;
         }
         case 0xFF: {// Manufacturer specific data.
-          if(length < 2) {
+          if (length < 2) {
             throw new ArrayIndexOutOfBoundsException("Not enough data for Manufacturer specific data.");
           }
-          int manufacturerId = data.getShort();
-          if((length - 2) > 0) {
-            byte[] msd = new byte[length - 2];
-            data.get(msd);
-            ret.putManufacturerData(manufacturerId, ByteString.copyFrom(msd));
+          if ((length - 2) > 0) {
+            ret.putManufacturerData(uint16(offset), bytes(offset + 2, length - 2));
           }
           break;
         }
         default: {
-          data.position(data.position() + length);
           break;
         }
       }
-    } while (true);
+    }
+    if (nameIndex >= 0) {
+      ret.setLocalName(new String(data, offsetAt(nameIndex), lengthAt(nameIndex), UTF8));
+    }
+    if (includeRaw && data.length > 0) {
+      ret.setRawScanRecord(bytes(0, data.length));
+    }
     return ret.build();
   }
 }
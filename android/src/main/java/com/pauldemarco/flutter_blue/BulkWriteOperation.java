@@ -0,0 +1,146 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.bluetooth.BluetoothGatt;
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.os.SystemClock;
+
+import java.util.concurrent.Executor;
+
+import io.flutter.plugin.common.MethodChannel.Result;
+
+/**
+ * Writes a large buffer to a characteristic in MTU sized chunks.
+ *
+ * Each chunk is issued from the onCharacteristicWrite of the previous one, so the transfer runs
+ * as fast as the stack accepts packets without a channel round trip per chunk. Progress is
+ * reported every progressInterval bytes and once more when the transfer ends, before the method
+ * call is answered.
+ */
+class BulkWriteOperation extends GattOperationQueue.Operation {
+
+    interface Listener {
+        void onProgress(Protos.BulkWriteProgress progress);
+    }
+
+    private final BluetoothGatt gatt;
+    private final BluetoothGattCharacteristic characteristic;
+    private final byte[] data;
+    private final int chunkSize;
+    private final int writeType;
+    private final int progressInterval;
+    private final Listener listener;
+    private final Executor replies;
+    private final Result reply;
+    private int offset;
+    private int pending;
+    private int lastReported;
+    private long startedAt;
+    private boolean finished;
+
+    /**
+     * @param replies Runs the reply on the main thread, see {@link GattOperationQueue}.
+     * @param reply Answered once the last chunk is written or the transfer fails.
+     */
+    BulkWriteOperation(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] data, int chunkSize,
+                       int writeType, int progressInterval, Executor replies, Result reply, Listener listener) {
+        super(GattOperationQueue.Type.WRITE_CHARACTERISTIC, "bulk_write_error", GattOperationQueue.NO_REPLY, characteristic);
+        this.gatt = gatt;
+        this.characteristic = characteristic;
+        this.data = data;
+        this.chunkSize = chunkSize;
+        this.writeType = writeType;
+        this.progressInterval = progressInterval;
+        this.listener = listener;
+        this.replies = replies;
+        this.reply = reply;
+    }
+
+    @Override
+    void execute() throws Exception {
+        if(data.length == 0) {
+            throw new Exception("nothing to write");
+        }
+        startedAt = SystemClock.elapsedRealtime();
+        writeNextChunk();
+    }
+
+    @Override
+    boolean onComplete(int status) throws Exception {
+        if(status != BluetoothGatt.GATT_SUCCESS) {
+            throw new Exception("chunk at offset " + (offset - pending) + " failed with status " + status);
+        }
+        pending = 0;
+        if(offset >= data.length) {
+            finish(null);
+            return true;
+        }
+        if(progressInterval > 0 && offset - lastReported >= progressInterval) {
+            report(false, true);
+        }
+        writeNextChunk();
+        return false;
+    }
+
+    @Override
+    void onAbort(String reason) {
+        finish(reason);
+    }
+
+    @Override
+    boolean reportsOwnResults() {
+        return true;
+    }
+
+    private void writeNextChunk() throws Exception {
+        int length = Math.min(chunkSize, data.length - offset);
+        byte[] chunk = new byte[length];
+        System.arraycopy(data, offset, chunk, 0, length);
+        if(!characteristic.setValue(chunk)) {
+            throw new Exception("could not set the local value of characteristic");
+        }
+        characteristic.setWriteType(writeType);
+        if(!gatt.writeCharacteristic(characteristic)) {
+            throw new Exception("writeCharacteristic failed at offset " + offset);
+        }
+        offset += length;
+        pending = length;
+    }
+
+    private void finish(final String error) {
+        if(finished) {
+            return;
+        }
+        finished = true;
+        report(true, error == null);
+        replies.execute(new Runnable() {
+            @Override
+            public void run() {
+                if(error == null) {
+                    reply.success(null);
+                } else {
+                    reply.error(errorCode, error, null);
+                }
+            }
+        });
+    }
+
+    private void report(boolean done, boolean success) {
+        int written = offset - pending;
+        long elapsed = Math.max(1, SystemClock.elapsedRealtime() - startedAt);
+        lastReported = written;
+        listener.onProgress(Protos.BulkWriteProgress.newBuilder()
+                .setRemoteId(gatt.getDevice().getAddress())
+                .setCharacteristicUuid(characteristic.getUuid().toString())
+                .setCharacteristicHandle(characteristic.getInstanceId())
+                .setBytesWritten(written)
+                .setTotalBytes(data.length)
+                .setBytesPerSecond((int) (written * 1000L / elapsed))
+                .setDone(done)
+                .setSuccess(success)
+                .build());
+    }
+}
@@ -0,0 +1,227 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs Bluetooth callback processing on a dedicated thread and delivers the results to the main
+ * thread in order.
+ *
+ * Scan and GATT callbacks only hand their raw data to {@link #execute}, so decoding, encoding,
+ * deduplication and batching no longer hold the binder threads. Messages passed to {@link #send}
+ * and method call replies passed to {@link #post} are queued in call order, and the main thread
+ * drains everything queued with a single post. A reply queued before the events of the request it
+ * answers therefore always reaches Dart first.
+ *
+ * A task or reply that throws is reported to the sink and skipped, so one malformed callback does
+ * not take down the processing thread or the app.
+ *
+ * Time spent in each stage is recorded and reported by {@link #stats}.
+ */
+class CallbackProcessor {
+
+    interface Sink {
+        /** Called on the main thread for every sent message, in order. */
+        void deliver(String method, byte[] payload);
+
+        /** Called on the thread of the task, which is skipped. */
+        void onTaskFailed(RuntimeException e);
+    }
+
+    private static class Stage {
+        final String name;
+        long count;
+        long totalNanos;
+        long maxNanos;
+
+        Stage(String name) {
+            this.name = name;
+        }
+
+        synchronized void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            if(nanos > maxNanos) {
+                maxNanos = nanos;
+            }
+        }
+
+        synchronized Protos.PipelineStage toProto() {
+            return Protos.PipelineStage.newBuilder()
+                    .setName(name)
+                    .setCount(count)
+                    .setTotalMicros(totalNanos / 1000)
+                    .setMaxMicros(maxNanos / 1000)
+                    .build();
+        }
+    }
+
+    private static class Message {
+        final String method;
+        final byte[] payload;
+        // Runs instead of delivering to the sink when set
+        final Runnable task;
+        final long sentAt;
+
+        Message(String method, byte[] payload, Runnable task, long sentAt) {
+            this.method = method;
+            this.payload = payload;
+            this.task = task;
+            this.sentAt = sentAt;
+        }
+    }
+
+    private final HandlerThread thread;
+    private final Executor worker;
+    private final Executor main;
+    private final Sink sink;
+    // Callback to the start of processing, processing itself, and send to delivery on the main thread
+    private final Stage dispatch = new Stage("dispatch");
+    private final Stage process = new Stage("process");
+    private final Stage deliver = new Stage("deliver");
+    private final Object lock = new Object();
+    private int pendingTasks;
+    private int maxPendingTasks;
+    private int maxPendingMessages;
+    private List<Message> outbox = new ArrayList<>();
+    private boolean drainScheduled;
+
+    private final Runnable drainRunnable = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    CallbackProcessor(String name, Sink sink) {
+        this.sink = sink;
+        this.thread = new HandlerThread(name);
+        thread.start();
+        this.worker = new HandlerExecutor(new Handler(thread.getLooper()));
+        this.main = new HandlerExecutor(new Handler(Looper.getMainLooper()));
+    }
+
+    /** Runs the processing and the deliveries on the given executors, for the JVM tests. */
+    CallbackProcessor(Executor worker, Executor main, Sink sink) {
+        this.sink = sink;
+        this.thread = null;
+        this.worker = worker;
+        this.main = main;
+    }
+
+    /** The looper of the processing thread, for components that schedule work on it. */
+    Looper getLooper() {
+        return thread.getLooper();
+    }
+
+    /** Runs the task on the processing thread, after every task executed before it. */
+    void execute(final Runnable task) {
+        final long queuedAt = System.nanoTime();
+        synchronized(lock) {
+            pendingTasks++;
+            if(pendingTasks > maxPendingTasks) {
+                maxPendingTasks = pendingTasks;
+            }
+        }
+        worker.execute(new Runnable() {
+            @Override
+            public void run() {
+                long start = System.nanoTime();
+                dispatch.record(start - queuedAt);
+                synchronized(lock) {
+                    pendingTasks--;
+                }
+                runGuarded(task);
+                process.record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    /** Queues a message for the main thread. Safe to call from any thread. */
+    void send(String method, byte[] payload) {
+        enqueue(new Message(method, payload, null, System.nanoTime()));
+    }
+
+    /**
+     * Queues a task for the main thread, ordered with the messages passed to {@link #send}. Used
+     * for method call replies. Safe to call from any thread.
+     */
+    void post(Runnable task) {
+        enqueue(new Message(null, null, task, System.nanoTime()));
+    }
+
+    private void enqueue(Message message) {
+        synchronized(lock) {
+            outbox.add(message);
+            if(outbox.size() > maxPendingMessages) {
+                maxPendingMessages = outbox.size();
+            }
+            if(drainScheduled) {
+                return;
+            }
+            drainScheduled = true;
+        }
+        main.execute(drainRunnable);
+    }
+
+    Protos.PipelineStats stats() {
+        Protos.PipelineStats.Builder p = Protos.PipelineStats.newBuilder();
+        p.addStages(dispatch.toProto());
+        p.addStages(process.toProto());
+        p.addStages(deliver.toProto());
+        synchronized(lock) {
+            p.setPendingTasks(pendingTasks);
+            p.setPendingMessages(outbox.size());
+            p.setMaxPendingTasks(maxPendingTasks);
+            p.setMaxPendingMessages(maxPendingMessages);
+        }
+        return p.build();
+    }
+
+    private void drain() {
+        List<Message> messages;
+        synchronized(lock) {
+            messages = outbox;
+            outbox = new ArrayList<>();
+            drainScheduled = false;
+        }
+        for(Message m : messages) {
+            deliver.record(System.nanoTime() - m.sentAt);
+            if(m.task != null) {
+                runGuarded(m.task);
+            } else {
+                sink.deliver(m.method, m.payload);
+            }
+        }
+    }
+
+    private void runGuarded(Runnable task) {
+        try {
+            task.run();
+        } catch(RuntimeException e) {
+            sink.onTaskFailed(e);
+        }
+    }
+
+    private static class HandlerExecutor implements Executor {
+        private final Handler handler;
+
+        HandlerExecutor(Handler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            handler.post(task);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.bluetooth.BluetoothGatt;
+import android.bluetooth.BluetoothGattCharacteristic;
+
+import com.google.protobuf.ByteString;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import io.flutter.plugin.common.MethodChannel.Result;
+
+/**
+ * Reads or writes a list of characteristics of one device in order, as a single queue operation.
+ *
+ * Unlike single requests, the method result is only answered once every item has run, with a
+ * {@link Protos.CharacteristicBatchResponse} holding the outcome of each item in request order. A
+ * failing item does not stop the batch, only a timeout or disconnect does.
+ */
+class CharacteristicBatchOperation extends GattOperationQueue.Operation {
+
+    static class Item {
+        // Null if the characteristic could not be located, the error is already set then
+        final BluetoothGattCharacteristic characteristic;
+        final byte[] value;
+        final int writeType;
+        // Fresh value from the GattValueCache, a read item with one is answered without radio traffic
+        final byte[] cached;
+        final Protos.CharacteristicBatchResult.Builder result = Protos.CharacteristicBatchResult.newBuilder();
+
+        Item(BluetoothGattCharacteristic characteristic, byte[] value, int writeType, byte[] cached) {
+            this.characteristic = characteristic;
+            this.value = value;
+            this.writeType = writeType;
+            this.cached = cached;
+        }
+    }
+
+    private final Executor replies;
+    private final BluetoothGatt gatt;
+    private final List<Item> items;
+    private final Result reply;
+    private int index;
+    private byte[] readValue;
+    private boolean finished;
+
+    /**
+     * @param type READ_CHARACTERISTIC or WRITE_CHARACTERISTIC.
+     * @param replies Runs the reply on the main thread, see {@link GattOperationQueue}.
+     */
+    CharacteristicBatchOperation(GattOperationQueue.Type type, BluetoothGatt gatt, List<Item> items, Executor replies, Result reply) {
+        super(type, "characteristic_batch_error", GattOperationQueue.NO_REPLY);
+        this.replies = replies;
+        this.gatt = gatt;
+        this.items = items;
+        this.reply = reply;
+    }
+
+    @Override
+    boolean reportsOwnResults() {
+        return true;
+    }
+
+    @Override
+    boolean matches(Object attribute) {
+        return index < items.size() && items.get(index).characteristic == attribute;
+    }
+
+    @Override
+    void onValue(byte[] value) {
+        readValue = value;
+    }
+
+    @Override
+    void execute() throws Exception {
+        if(!issueNext()) {
+            // Answered by onAbort with the outcome every item already holds
+            throw new Exception("no request of the batch could be started");
+        }
+    }
+
+    @Override
+    boolean onComplete(int status) {
+        Item item = items.get(index);
+        item.result.setSuccess(status == BluetoothGatt.GATT_SUCCESS);
+        item.result.setGattStatus(status);
+        if(type == GattOperationQueue.Type.READ_CHARACTERISTIC && readValue != null) {
+            item.result.setValue(ByteString.copyFrom(readValue));
+        }
+        readValue = null;
+        index++;
+        if(issueNext()) {
+            return false;
+        }
+        finish();
+        return true;
+    }
+
+    @Override
+    void onAbort(String reason) {
+        for(int i = index; i < items.size(); i++) {
+            Protos.CharacteristicBatchResult.Builder result = items.get(i).result;
+            if(result.getError().isEmpty()) {
+                result.setError(reason);
+            }
+        }
+        finish();
+    }
+
+    /** Starts the next item that can be started, recording the failures of those that cannot. */
+    private boolean issueNext() {
+        for(; index < items.size(); index++) {
+            Item item = items.get(index);
+            if(item.characteristic == null) {
+                continue;
+            }
+            if(item.cached != null) {
+                item.result.setSuccess(true);
+                item.result.setValue(ByteString.copyFrom(item.cached));
+                continue;
+            }
+            try {
+                start(item);
+                return true;
+            } catch(Exception e) {
+                item.result.setError(e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private void start(Item item) throws Exception {
+        if(type == GattOperationQueue.Type.READ_CHARACTERISTIC) {
+            if(!gatt.readCharacteristic(item.characteristic)) {
+                throw new Exception("gatt.readCharacteristic returned false");
+            }
+            return;
+        }
+        if(!item.characteristic.setValue(item.value)) {
+            throw new Exception("could not set the local value of characteristic");
+        }
+        item.characteristic.setWriteType(item.writeType);
+        if(!gatt.writeCharacteristic(item.characteristic)) {
+            throw new Exception("writeCharacteristic failed");
+        }
+    }
+
+    private void finish() {
+        if(finished) {
+            return;
+        }
+        finished = true;
+        Protos.CharacteristicBatchResponse.Builder p = Protos.CharacteristicBatchResponse.newBuilder();
+        p.setRemoteId(gatt.getDevice().getAddress());
+        for(Item item : items) {
+            p.addResults(item.result);
+        }
+        final byte[] response = p.build().toByteArray();
+        replies.execute(new Runnable() {
+            @Override
+            public void run() {
+                reply.success(response);
+            }
+        });
+    }
+}
@@ -0,0 +1,20 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.os.SystemClock;
+
+/** Monotonic time, from SystemClock in the plugin and from a fake clock in the JVM tests. */
+interface Clock {
+    /** @return A monotonic timestamp in milliseconds. */
+    long elapsedRealtime();
+
+    Clock SYSTEM = new Clock() {
+        @Override
+        public long elapsedRealtime() {
+            return SystemClock.elapsedRealtime();
+        }
+    };
+}
@@ -0,0 +1,273 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.bluetooth.BluetoothProfile;
+
+import com.pauldemarco.flutter_blue.Protos.ConnectionSlotState.State;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Schedules connections onto the limited number of slots the Bluetooth controller offers.
+ *
+ * Connection requests beyond the configured limits are queued and started as slots free up.
+ * When every slot is taken, the least recently active idle device is disconnected to make room.
+ *
+ * Every method is synchronized. Requests come from the platform thread, while
+ * onConnectionStateChange and touch are entered from the callback processing thread. Scheduling
+ * runs on whichever of those threads changes the slots, and on the timer when it has to wait for
+ * a slot to free up or a device to go idle. Devices are connected and disconnected with the lock
+ * held and report their state changes later, from their callbacks.
+ */
+class ConnectionManager {
+
+    interface Device {
+        /** Starts a connection attempt, returns false if it could not be started. */
+        boolean connect();
+
+        void disconnect();
+
+        /** Whether the device has GATT operations queued or in flight. */
+        boolean isBusy();
+    }
+
+    interface Listener {
+        void onStateChanged(Protos.ConnectionSlotState state);
+    }
+
+    private static class Entry {
+        final String remoteId;
+        Device device;
+        boolean background;
+        State state = State.IDLE;
+        long lastActivity;
+        // Explicitly disconnected, forgotten once its link is down
+        boolean removed;
+        // Connection requested while disconnecting, queued again once its link is down
+        boolean requeue;
+
+        Entry(String remoteId, long now) {
+            this.remoteId = remoteId;
+            this.lastActivity = now;
+        }
+    }
+
+    private final Timer timer;
+    private final Clock clock;
+    private final Listener listener;
+    // Access ordered, so iteration starts at the least recently active device
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Deque<Entry> queue = new ArrayDeque<>();
+    private Protos.ConnectionLimits limits = Protos.ConnectionLimits.getDefaultInstance();
+
+    private final Runnable scheduleRunnable = new Runnable() {
+        @Override
+        public void run() {
+            schedule();
+        }
+    };
+
+    /** @param timer Runs the deferred scheduling, on the main thread in the plugin. */
+    ConnectionManager(Timer timer, Clock clock, Listener listener) {
+        this.timer = timer;
+        this.clock = clock;
+        this.listener = listener;
+    }
+
+    synchronized void setLimits(Protos.ConnectionLimits limits) {
+        this.limits = limits;
+        schedule();
+    }
+
+    /**
+     * Requests a connection, starting it now if a slot is free. A device still queued starts with
+     * the new options instead, and one still disconnecting is queued again once its link is down.
+     *
+     * @param background Background (auto connect) attempts may wait indefinitely, so they do not
+     *                   count against max_pending_connections.
+     * @return false if the attempt was started immediately and failed.
+     * @throws IllegalStateException if the device is already connecting or connected, its
+     *         options can only change by disconnecting first.
+     */
+    synchronized boolean connect(String remoteId, Device device, boolean background) {
+        Entry entry = entries.get(remoteId);
+        if(entry == null) {
+            entry = new Entry(remoteId, clock.elapsedRealtime());
+            entries.put(remoteId, entry);
+        }
+        if(entry.state == State.CONNECTING || entry.state == State.CONNECTED) {
+            throw new IllegalStateException("device is already " + ((entry.state == State.CONNECTING) ? "connecting" : "connected")
+                    + ", disconnect it first to connect with new options");
+        }
+        entry.device = device;
+        entry.background = background;
+        if(entry.state == State.DISCONNECTING) {
+            entry.removed = false;
+            entry.requeue = true;
+            return true;
+        }
+        if(entry.state == State.QUEUED) {
+            return true;
+        }
+        setState(entry, State.QUEUED);
+        queue.add(entry);
+        schedule();
+        return entry.state != State.IDLE;
+    }
+
+    /**
+     * Forgets a device, e.g. when it is explicitly disconnected. A device with an established link
+     * keeps its slot until onConnectionStateChange reports the link down, a queued or pending
+     * attempt frees it at once.
+     */
+    synchronized void remove(String remoteId) {
+        Entry entry = entries.get(remoteId);
+        if(entry == null) {
+            return;
+        }
+        entry.requeue = false;
+        if(entry.state == State.CONNECTED || entry.state == State.DISCONNECTING) {
+            entry.removed = true;
+            setState(entry, State.DISCONNECTING);
+            return;
+        }
+        entries.remove(remoteId);
+        queue.remove(entry);
+        schedule();
+    }
+
+    /** Records GATT activity, which keeps the device from being rotated out. */
+    synchronized void touch(String remoteId) {
+        Entry entry = entries.get(remoteId);
+        if(entry != null) {
+            entry.lastActivity = clock.elapsedRealtime();
+        }
+    }
+
+    /** Called from BluetoothGattCallback.onConnectionStateChange. */
+    synchronized void onConnectionStateChange(String remoteId, int newState) {
+        Entry entry = entries.get(remoteId);
+        if(entry == null || entry.state == State.QUEUED) {
+            return;
+        }
+        if(entry.removed && newState != BluetoothProfile.STATE_DISCONNECTED) {
+            return;
+        }
+        switch(newState) {
+            case BluetoothProfile.STATE_CONNECTED:
+                entry.lastActivity = clock.elapsedRealtime();
+                setState(entry, State.CONNECTED);
+                break;
+            case BluetoothProfile.STATE_DISCONNECTING:
+                setState(entry, State.DISCONNECTING);
+                break;
+            case BluetoothProfile.STATE_DISCONNECTED:
+                setState(entry, State.IDLE);
+                if(entry.removed) {
+                    entries.remove(remoteId);
+                } else if(entry.requeue) {
+                    entry.requeue = false;
+                    setState(entry, State.QUEUED);
+                    queue.add(entry);
+                }
+                timer.postDelayed(scheduleRunnable, 0);
+                break;
+            default:
+                break;
+        }
+    }
+
+    synchronized Protos.ConnectionSlotsResponse snapshot() {
+        Protos.ConnectionSlotsResponse.Builder p = Protos.ConnectionSlotsResponse.newBuilder();
+        for(Entry entry : entries.values()) {
+            p.addDevices(toProto(entry));
+        }
+        return p.build();
+    }
+
+    private synchronized void schedule() {
+        timer.removeCallbacks(scheduleRunnable);
+        while(!queue.isEmpty()) {
+            Entry next = queue.peek();
+            int maxPending = limits.getMaxPendingConnections();
+            if(!next.background && maxPending > 0 && count(State.CONNECTING, false) >= maxPending) {
+                return;
+            }
+            int maxConnections = limits.getMaxConnections();
+            if(maxConnections > 0 && active() >= maxConnections) {
+                rotate();
+                return;
+            }
+            queue.poll();
+            setState(next, State.CONNECTING);
+            if(!next.device.connect()) {
+                setState(next, State.IDLE);
+            }
+        }
+    }
+
+    /** Disconnects the least recently active idle device, or retries once one may have gone idle. */
+    private void rotate() {
+        long idleTimeout = limits.getIdleTimeoutMillis();
+        if(idleTimeout <= 0 || count(State.DISCONNECTING, true) > 0) {
+            return;
+        }
+        long now = clock.elapsedRealtime();
+        long nextCheck = idleTimeout;
+        for(Entry entry : entries.values()) {
+            if(entry.state != State.CONNECTED || entry.device.isBusy()) {
+                continue;
+            }
+            long idle = now - entry.lastActivity;
+            if(idle >= idleTimeout) {
+                setState(entry, State.DISCONNECTING);
+                entry.device.disconnect();
+                return;
+            }
+            nextCheck = Math.min(nextCheck, idleTimeout - idle);
+        }
+        timer.postDelayed(scheduleRunnable, nextCheck);
+    }
+
+    private int active() {
+        int active = 0;
+        for(Entry entry : entries.values()) {
+            if(entry.state == State.CONNECTING || entry.state == State.CONNECTED || entry.state == State.DISCONNECTING) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    private int count(State state, boolean includeBackground) {
+        int count = 0;
+        for(Entry entry : entries.values()) {
+            if(entry.state == state && (includeBackground || !entry.background)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void setState(Entry entry, State state) {
+        if(entry.state == state) {
+            return;
+        }
+        entry.state = state;
+        listener.onStateChanged(toProto(entry));
+    }
+
+    private Protos.ConnectionSlotState toProto(Entry entry) {
+        return Protos.ConnectionSlotState.newBuilder()
+                .setRemoteId(entry.remoteId)
+                .setState(entry.state)
+                .setIdleMillis(clock.elapsedRealtime() - entry.lastActivity)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.bluetooth.BluetoothGatt;
+
+import com.google.protobuf.ByteString;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import io.flutter.plugin.common.MethodChannel.Result;
+
+/**
+ * Sends the same request to many devices and answers with a single {@link Protos.FanOutResponse}.
+ *
+ * One {@link DeviceOperation} is submitted to the queue of each device, so devices run
+ * concurrently while each device stays serialized with its other operations. The method call is
+ * answered once every device has completed, failed, timed out or disconnected, which the queue
+ * reports through onAbort whether the request was in flight or still queued.
+ */
+class FanOut {
+
+    /** The request sent to one device, answered through the FanOut instead of events. */
+    static abstract class DeviceOperation extends GattOperationQueue.Operation {
+        private final FanOut fanOut;
+        private final int index;
+        private byte[] value;
+
+        /** @param attribute The characteristic or descriptor of the request. */
+        DeviceOperation(FanOut fanOut, int index, GattOperationQueue.Type type, Object attribute) {
+            super(type, "fan_out_error", GattOperationQueue.NO_REPLY, attribute);
+            this.fanOut = fanOut;
+            this.index = index;
+        }
+
+        @Override
+        boolean onComplete(int status) {
+            fanOut.complete(index, status, value);
+            return true;
+        }
+
+        @Override
+        void onAbort(String reason) {
+            fanOut.fail(index, reason);
+        }
+
+        @Override
+        boolean reportsOwnResults() {
+            return true;
+        }
+
+        @Override
+        void onValue(byte[] value) {
+            this.value = value;
+        }
+    }
+
+    private final Executor replies;
+    private final Result reply;
+    private final Protos.FanOutResult.Builder[] results;
+    private final boolean[] reported;
+    private final long startedAt = System.nanoTime();
+    private int remaining;
+
+    /**
+     * @param replies Runs the reply on the main thread, see {@link GattOperationQueue}.
+     */
+    FanOut(List<String> remoteIds, Executor replies, Result reply) {
+        this.replies = replies;
+        this.reply = reply;
+        this.results = new Protos.FanOutResult.Builder[remoteIds.size()];
+        this.reported = new boolean[results.length];
+        for(int i = 0; i < results.length; i++) {
+            results[i] = Protos.FanOutResult.newBuilder().setRemoteId(remoteIds.get(i));
+        }
+        this.remaining = results.length;
+        if(remaining == 0) {
+            finish();
+        }
+    }
+
+    /** Records a device whose request could not be issued or did not complete. */
+    synchronized void fail(int index, String error) {
+        if(reported[index]) {
+            return;
+        }
+        results[index].setError(error);
+        done(index);
+    }
+
+    private synchronized void complete(int index, int status, byte[] value) {
+        if(reported[index]) {
+            return;
+        }
+        results[index].setSuccess(status == BluetoothGatt.GATT_SUCCESS);
+        results[index].setGattStatus(status);
+        if(value != null) {
+            results[index].setValue(ByteString.copyFrom(value));
+        }
+        done(index);
+    }
+
+    private void done(int index) {
+        reported[index] = true;
+        results[index].setLatencyMicros((System.nanoTime() - startedAt) / 1000);
+        if(--remaining == 0) {
+            finish();
+        }
+    }
+
+    private void finish() {
+        Protos.FanOutResponse.Builder p = Protos.FanOutResponse.newBuilder();
+        for(Protos.FanOutResult.Builder result : results) {
+            p.addResults(result);
+        }
+        final byte[] response = p.build().toByteArray();
+        replies.execute(new Runnable() {
+            @Override
+            public void run() {
+                reply.success(response);
+            }
+        });
+    }
+}
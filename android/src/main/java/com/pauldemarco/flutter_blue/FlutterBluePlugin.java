@@ -28,17 +28,27 @@ import android.content.Intent;
 import android.content.IntentFilter;
 import android.content.pm.PackageManager;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.os.ParcelUuid;
+import android.os.SystemClock;
 import android.util.Log;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 
+import java.io.File;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import androidx.core.app.ActivityCompat;
 import androidx.core.content.ContextCompat;
@@ -64,8 +74,69 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
     private final MethodChannel channel;
     private final EventChannel stateChannel;
     private final BluetoothManager mBluetoothManager;
+    private final ServiceCacheStore serviceCache;
+    private final ScanScheduler scanScheduler;
     private BluetoothAdapter mBluetoothAdapter;
-    private final Map<String, BluetoothDeviceCache> mDevices = new HashMap<>();
+    // Only mutated from the platform thread, read lock-free from the callback processing thread
+    private final ConcurrentMap<String, BluetoothDeviceCache> mDevices = new ConcurrentHashMap<>();
+    private final ConnectionManager connectionManager = new ConnectionManager(
+            new Timer.HandlerTimer(new Handler(Looper.getMainLooper())), Clock.SYSTEM, new ConnectionManager.Listener() {
+        @Override
+        public void onStateChanged(Protos.ConnectionSlotState state) {
+            invokeMethodUIThread("ConnectionSlotState", state.toByteArray());
+        }
+    });
+    private final Reconnector reconnector = new Reconnector(new Reconnector.Listener() {
+        @Override
+        public boolean connect(String remoteId) {
+            BluetoothDeviceCache cache = mDevices.get(remoteId);
+            if(cache == null) {
+                return false;
+            }
+            ManagedDevice device = new ManagedDevice(cache.gatt.getDevice(), cache.options);
+            try {
+                return connectionManager.connect(remoteId, device, cache.options.getAndroidAutoConnect());
+            } catch(IllegalStateException e) {
+                // Connected again by Dart meanwhile
+                return false;
+            }
+        }
+
+        @Override
+        public void cancel(String remoteId) {
+            connectionManager.remove(remoteId);
+            BluetoothDeviceCache cache = mDevices.get(remoteId);
+            if(cache != null) {
+                cache.gatt.disconnect();
+            }
+        }
+
+        @Override
+        public void onStateChanged(Protos.ReconnectState state) {
+            invokeMethodUIThread("ReconnectState", state.toByteArray());
+        }
+    });
+    // Scan and GATT callbacks are processed here, in order, instead of on the binder threads
+    private final CallbackProcessor processor = new CallbackProcessor(TAG, new CallbackProcessor.Sink() {
+        @Override
+        public void deliver(String method, byte[] payload) {
+            channel.invokeMethod(method, payload);
+        }
+
+        @Override
+        public void onTaskFailed(RuntimeException e) {
+            Log.e(TAG, "callback processing failed", e);
+        }
+    });
+    // Answers queued method calls in order with the events, see GattOperationQueue
+    private final Executor replies = new Executor() {
+        @Override
+        public void execute(Runnable reply) {
+            processor.post(reply);
+        }
+    };
+    private final Timer operationTimeouts = new Timer.HandlerTimer(new Handler(Looper.getMainLooper()));
+    private final Metrics metrics = new Metrics();
     private LogLevel logLevel = LogLevel.EMERGENCY;
 
     // Pending call and result for startScan, in the case where permissions are needed
@@ -85,6 +156,8 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
         this.stateChannel = new EventChannel(registrar.messenger(), NAMESPACE+"/state");
         this.mBluetoothManager = (BluetoothManager) r.activity().getSystemService(Context.BLUETOOTH_SERVICE);
         this.mBluetoothAdapter = mBluetoothManager.getAdapter();
+        this.serviceCache = new ServiceCacheStore(new File(r.activity().getCacheDir(), "flutter_blue_services"));
+        this.scanScheduler = createScanScheduler();
         channel.setMethodCallHandler(this);
         stateChannel.setStreamHandler(stateHandler);
     }
@@ -107,29 +180,29 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
 
             case "state":
             {
-                Protos.BluetoothState.Builder p = Protos.BluetoothState.newBuilder();
+                Protos.BluetoothState.State state;
                 try {
                     switch(mBluetoothAdapter.getState()) {
                         case BluetoothAdapter.STATE_OFF:
-                            p.setState(Protos.BluetoothState.State.OFF);
+                            state = Protos.BluetoothState.State.OFF;
                             break;
                         case BluetoothAdapter.STATE_ON:
-                            p.setState(Protos.BluetoothState.State.ON);
+                            state = Protos.BluetoothState.State.ON;
                             break;
                         case BluetoothAdapter.STATE_TURNING_OFF:
-                            p.setState(Protos.BluetoothState.State.TURNING_OFF);
+                            state = Protos.BluetoothState.State.TURNING_OFF;
                             break;
                         case BluetoothAdapter.STATE_TURNING_ON:
-                            p.setState(Protos.BluetoothState.State.TURNING_ON);
+                            state = Protos.BluetoothState.State.TURNING_ON;
                             break;
                         default:
-                            p.setState(Protos.BluetoothState.State.UNKNOWN);
+                            state = Protos.BluetoothState.State.UNKNOWN;
                             break;
                     }
                 } catch (SecurityException e) {
-                    p.setState(Protos.BluetoothState.State.UNAUTHORIZED);
+                    state = Protos.BluetoothState.State.UNAUTHORIZED;
                 }
-                result.success(p.build().toByteArray());
+                result.success(ProtoEncoder.bluetoothState(state));
                 break;
             }
 
@@ -170,6 +243,25 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
                 break;
             }
 
+            case "deviceTable":
+            {
+                byte[] data = call.arguments();
+                Protos.DeviceTableRequest request;
+                try {
+                    request = Protos.DeviceTableRequest.newBuilder().mergeFrom(data).build();
+                } catch (InvalidProtocolBufferException e) {
+                    result.error("RuntimeException", e.getMessage(), e);
+                    break;
+                }
+                ScanDeviceTable table = deviceTable;
+                if(table == null) {
+                    result.error("device_table_error", "no device table, was device_table set when scanning?", null);
+                    break;
+                }
+                result.success(table.query(request.getSinceVersion(), SystemClock.elapsedRealtime()).toByteArray());
+                break;
+            }
+
             case "getConnectedDevices":
             {
                 List<BluetoothDevice> devices = mBluetoothManager.getConnectedDevices(BluetoothProfile.GATT);
@@ -196,30 +288,31 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
                 BluetoothDevice device = mBluetoothAdapter.getRemoteDevice(deviceId);
                 boolean isConnected = mBluetoothManager.getConnectedDevices(BluetoothProfile.GATT).contains(device);
 
+                boolean reconnect = mDevices.containsKey(deviceId);
+                reconnector.cancel(deviceId);
+
                 // If device is already connected, return error
-                if(mDevices.containsKey(deviceId) && isConnected) {
+                if(reconnect && isConnected) {
                     result.error("already_connected", "connection with device already exists", null);
                     return;
                 }
 
-                // If device was connected to previously but is now disconnected, attempt a reconnect
-                if(mDevices.containsKey(deviceId) && !isConnected) {
-                    if(mDevices.get(deviceId).gatt.connect()){
-                        result.success(null);
-                    } else {
+                // Reconnects and new connections both wait for a free connection slot
+                boolean started;
+                try {
+                    started = connectionManager.connect(deviceId, new ManagedDevice(device, options), options.getAndroidAutoConnect());
+                } catch(IllegalStateException e) {
+                    result.error("already_connected", e.getMessage(), null);
+                    return;
+                }
+                if(!started) {
+                    if(reconnect) {
                         result.error("reconnect_error", "error when reconnecting to device", null);
+                    } else {
+                        result.error("connect_error", "error when connecting to device", null);
                     }
                     return;
                 }
-
-                // New request, connect and add gattServer to Map
-                BluetoothGatt gattServer;
-                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
-                    gattServer = device.connectGatt(activity, options.getAndroidAutoConnect(), mGattCallback, BluetoothDevice.TRANSPORT_LE);
-                } else {
-                    gattServer = device.connectGatt(activity, options.getAndroidAutoConnect(), mGattCallback);
-                }
-                mDevices.put(deviceId, new BluetoothDeviceCache(gattServer));
                 result.success(null);
                 break;
             }
@@ -230,11 +323,21 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
                 BluetoothDevice device = mBluetoothAdapter.getRemoteDevice(deviceId);
                 int state = mBluetoothManager.getConnectionState(device, BluetoothProfile.GATT);
                 BluetoothDeviceCache cache = mDevices.remove(deviceId);
+                // The slot is released once DISCONNECTED arrives
+                connectionManager.remove(deviceId);
+                reconnector.cancel(deviceId);
                 if(cache != null) {
+                    cache.deferredConnected.set(null);
+                    cache.queue.cancel("device disconnected");
+                    if(cache.notifications != null) {
+                        cache.notifications.close();
+                    }
                     BluetoothGatt gattServer = cache.gatt;
                     gattServer.disconnect();
                     if(state == BluetoothProfile.STATE_DISCONNECTED) {
+                        // No callback arrives once closed
                         gattServer.close();
+                        connectionManager.onConnectionStateChange(deviceId, BluetoothProfile.STATE_DISCONNECTED);
                     }
                 }
                 result.success(null);
@@ -258,12 +361,9 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
             {
                 String deviceId = (String)call.arguments;
                 try {
-                    BluetoothGatt gatt = locateGatt(deviceId);
-                    if(gatt.discoverServices()) {
-                        result.success(null);
-                    } else {
-                        result.error("discover_services_error", "unknown reason", null);
-                    }
+                    BluetoothDeviceCache cache = locateCache(deviceId);
+                    cache.database = null;
+                    cache.queue.submit(ServiceDiscoveryOperation.requested(cache.gatt, result));
                 } catch(Exception e) {
                     result.error("discover_services_error", e.getMessage(), e);
                 }
@@ -274,13 +374,13 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
             {
                 String deviceId = (String)call.arguments;
                 try {
-                    BluetoothGatt gatt = locateGatt(deviceId);
-                    Protos.DiscoverServicesResult.Builder p = Protos.DiscoverServicesResult.newBuilder();
-                    p.setRemoteId(deviceId);
-                    for(BluetoothGattService s : gatt.getServices()){
-                        p.addServices(ProtoMaker.from(gatt.getDevice(), s, gatt));
+                    BluetoothDeviceCache cache = locateCache(deviceId);
+                    GattDatabase database = cache.database;
+                    if(database == null) {
+                        // Only cached once onServicesDiscovered succeeds, until then this may be empty or stale
+                        database = new GattDatabase(cache.gatt);
                     }
-                    result.success(p.build().toByteArray());
+                    result.success(database.bytes);
                 } catch(Exception e) {
                     result.error("get_services_error", e.getMessage(), e);
                 }
@@ -298,21 +398,40 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
                     break;
                 }
 
-                BluetoothGatt gattServer;
-                BluetoothGattCharacteristic characteristic;
+                BluetoothDeviceCache cache;
+                final BluetoothGatt gattServer;
+                final BluetoothGattCharacteristic characteristic;
                 try {
-                    gattServer = locateGatt(request.getRemoteId());
-                    characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+                    cache = locateCache(request.getRemoteId());
+                    gattServer = cache.gatt;
+                    characteristic = locateCharacteristic(cache, request.getCharacteristicHandle(), request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
                 } catch(Exception e) {
                     result.error("read_characteristic_error", e.getMessage(), null);
                     return;
                 }
 
-                if(gattServer.readCharacteristic(characteristic)) {
+                GattValueCache values = cache.values;
+                byte[] cached = (values != null && !request.getBypassCache()) ? values.get(characteristic) : null;
+                if(cached != null) {
+                    // Answered without radio traffic, reported the same way as a completed read
                     result.success(null);
-                } else {
-                    result.error("read_characteristic_error", "unknown reason, may occur if readCharacteristic was called before last read finished.", null);
+                    sendReadCharacteristicResponse(gattServer, characteristic, cached, "");
+                    break;
                 }
+
+                cache.queue.submit(new GattOperationQueue.Request(GattOperationQueue.Type.READ_CHARACTERISTIC, "read_characteristic_error", result, characteristic) {
+                    @Override
+                    void issue() throws Exception {
+                        if(!gattServer.readCharacteristic(characteristic)) {
+                            throw new Exception("gatt.readCharacteristic returned false");
+                        }
+                    }
+
+                    @Override
+                    void onFailure(String reason) {
+                        sendReadCharacteristicResponse(gattServer, characteristic, null, reason);
+                    }
+                });
                 break;
             }
 
@@ -327,23 +446,33 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
                     break;
                 }
 
-                BluetoothGatt gattServer;
+                BluetoothDeviceCache cache;
+                final BluetoothGatt gattServer;
                 BluetoothGattCharacteristic characteristic;
-                BluetoothGattDescriptor descriptor;
+                final BluetoothGattDescriptor descriptor;
                 try {
-                    gattServer = locateGatt(request.getRemoteId());
-                    characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
-                    descriptor = locateDescriptor(characteristic, request.getDescriptorUuid());
+                    cache = locateCache(request.getRemoteId());
+                    gattServer = cache.gatt;
+                    characteristic = locateCharacteristic(cache, request.getCharacteristicHandle(), request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+                    descriptor = locateDescriptor(cache, characteristic, request.getDescriptorUuid());
                 } catch(Exception e) {
                     result.error("read_descriptor_error", e.getMessage(), null);
                     return;
                 }
 
-                if(gattServer.readDescriptor(descriptor)) {
-                    result.success(null);
-                } else {
-                    result.error("read_descriptor_error", "unknown reason, may occur if readDescriptor was called before last read finished.", null);
-                }
+                cache.queue.submit(new GattOperationQueue.Request(GattOperationQueue.Type.READ_DESCRIPTOR, "read_descriptor_error", result, descriptor) {
+                    @Override
+                    void issue() throws Exception {
+                        if(!gattServer.readDescriptor(descriptor)) {
+                            throw new Exception("gatt.readDescriptor returned false");
+                        }
+                    }
+
+                    @Override
+                    void onFailure(String reason) {
+                        sendReadDescriptorResponse(gattServer, descriptor, null, reason);
+                    }
+                });
                 break;
             }
 
@@ -358,71 +487,178 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
                     break;
                 }
 
-                BluetoothGatt gattServer;
-                BluetoothGattCharacteristic characteristic;
+                BluetoothDeviceCache cache;
+                final BluetoothGatt gattServer;
+                final BluetoothGattCharacteristic characteristic;
                 try {
-                    gattServer = locateGatt(request.getRemoteId());
-                    characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+                    cache = locateCache(request.getRemoteId());
+                    gattServer = cache.gatt;
+                    characteristic = locateCharacteristic(cache, request.getCharacteristicHandle(), request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
                 } catch(Exception e) {
                     result.error("write_characteristic_error", e.getMessage(), null);
                     return;
                 }
 
-                // Set characteristic to new value
-                if(!characteristic.setValue(request.getValue().toByteArray())){
-                    result.error("write_characteristic_error", "could not set the local value of characteristic", null);
+                final byte[] value = request.getValue().toByteArray();
+                final int writeType = writeType(request);
+                invalidateValue(cache, characteristic);
+                cache.queue.submit(new GattOperationQueue.Request(GattOperationQueue.Type.WRITE_CHARACTERISTIC, "write_characteristic_error", result, characteristic) {
+                    @Override
+                    void issue() throws Exception {
+                        // Set characteristic to new value
+                        if(!characteristic.setValue(value)) {
+                            throw new Exception("could not set the local value of characteristic");
+                        }
+                        // Apply the correct write type
+                        characteristic.setWriteType(writeType);
+                        if(!gattServer.writeCharacteristic(characteristic)) {
+                            throw new Exception("writeCharacteristic failed");
+                        }
+                    }
+
+                    @Override
+                    void onFailure(String reason) {
+                        sendWriteCharacteristicResponse(gattServer, characteristic, false);
+                    }
+                });
+                break;
+            }
+
+            case "readCharacteristics":
+            {
+                byte[] data = call.arguments();
+                Protos.ReadCharacteristicsRequest request;
+                try {
+                    request = Protos.ReadCharacteristicsRequest.newBuilder().mergeFrom(data).build();
+                } catch (InvalidProtocolBufferException e) {
+                    result.error("RuntimeException", e.getMessage(), e);
+                    break;
+                }
+
+                BluetoothDeviceCache cache;
+                try {
+                    cache = locateCache(request.getRemoteId());
+                } catch(Exception e) {
+                    result.error("read_characteristics_error", e.getMessage(), null);
+                    return;
                 }
 
-                // Apply the correct write type
-                if(request.getWriteType() == Protos.WriteCharacteristicRequest.WriteType.WITHOUT_RESPONSE) {
-                    characteristic.setWriteType(BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE);
-                } else {
-                    characteristic.setWriteType(BluetoothGattCharacteristic.WRITE_TYPE_DEFAULT);
+                List<CharacteristicBatchOperation.Item> items = new ArrayList<>(request.getRequestsCount());
+                for(Protos.ReadCharacteristicRequest r : request.getRequestsList()) {
+                    items.add(batchItem(cache, request.getRemoteId(), r.getRemoteId(), r.getCharacteristicHandle(),
+                            r.getServiceUuid(), r.getSecondaryServiceUuid(), r.getCharacteristicUuid(), null, 0, r.getBypassCache()));
+                }
+                cache.queue.submit(new CharacteristicBatchOperation(GattOperationQueue.Type.READ_CHARACTERISTIC, cache.gatt, items, replies, result));
+                break;
+            }
+
+            case "writeCharacteristics":
+            {
+                byte[] data = call.arguments();
+                Protos.WriteCharacteristicsRequest request;
+                try {
+                    request = Protos.WriteCharacteristicsRequest.newBuilder().mergeFrom(data).build();
+                } catch (InvalidProtocolBufferException e) {
+                    result.error("RuntimeException", e.getMessage(), e);
+                    break;
                 }
 
-                if(!gattServer.writeCharacteristic(characteristic)){
-                    result.error("write_characteristic_error", "writeCharacteristic failed", null);
+                BluetoothDeviceCache cache;
+                try {
+                    cache = locateCache(request.getRemoteId());
+                } catch(Exception e) {
+                    result.error("write_characteristics_error", e.getMessage(), null);
                     return;
                 }
 
-                result.success(null);
+                List<CharacteristicBatchOperation.Item> items = new ArrayList<>(request.getRequestsCount());
+                for(Protos.WriteCharacteristicRequest r : request.getRequestsList()) {
+                    items.add(batchItem(cache, request.getRemoteId(), r.getRemoteId(), r.getCharacteristicHandle(),
+                            r.getServiceUuid(), r.getSecondaryServiceUuid(), r.getCharacteristicUuid(), r.getValue().toByteArray(), writeType(r), true));
+                }
+                cache.queue.submit(new CharacteristicBatchOperation(GattOperationQueue.Type.WRITE_CHARACTERISTIC, cache.gatt, items, replies, result));
                 break;
             }
 
-            case "writeDescriptor":
+            case "bulkWrite":
             {
                 byte[] data = call.arguments();
-                Protos.WriteDescriptorRequest request;
+                Protos.BulkWriteRequest bulkRequest;
                 try {
-                    request = Protos.WriteDescriptorRequest.newBuilder().mergeFrom(data).build();
+                    bulkRequest = Protos.BulkWriteRequest.newBuilder().mergeFrom(data).build();
                 } catch (InvalidProtocolBufferException e) {
                     result.error("RuntimeException", e.getMessage(), e);
                     break;
                 }
+                Protos.WriteCharacteristicRequest request = bulkRequest.getRequest();
 
-                BluetoothGatt gattServer;
+                BluetoothDeviceCache cache;
                 BluetoothGattCharacteristic characteristic;
-                BluetoothGattDescriptor descriptor;
                 try {
-                    gattServer = locateGatt(request.getRemoteId());
-                    characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
-                    descriptor = locateDescriptor(characteristic, request.getDescriptorUuid());
+                    cache = locateCache(request.getRemoteId());
+                    characteristic = locateCharacteristic(cache, request.getCharacteristicHandle(), request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
                 } catch(Exception e) {
-                    result.error("write_descriptor_error", e.getMessage(), null);
+                    result.error("bulk_write_error", e.getMessage(), null);
                     return;
                 }
 
-                // Set descriptor to new value
-                if(!descriptor.setValue(request.getValue().toByteArray())){
-                    result.error("write_descriptor_error", "could not set the local value for descriptor", null);
+                int writeType = writeType(request);
+                // ATT header takes 3 bytes of the MTU, the default MTU of 23 leaves 20
+                int chunkSize = Math.max(20, cache.mtu - 3);
+                invalidateValue(cache, characteristic);
+                cache.queue.submit(new BulkWriteOperation(cache.gatt, characteristic, request.getValue().toByteArray(), chunkSize,
+                        writeType, bulkRequest.getProgressInterval(), replies, result, new BulkWriteOperation.Listener() {
+                    @Override
+                    public void onProgress(Protos.BulkWriteProgress progress) {
+                        invokeMethodUIThread("BulkWriteProgress", progress.toByteArray());
+                    }
+                }));
+                break;
+            }
+
+            case "writeDescriptor":
+            {
+                byte[] data = call.arguments();
+                Protos.WriteDescriptorRequest request;
+                try {
+                    request = Protos.WriteDescriptorRequest.newBuilder().mergeFrom(data).build();
+                } catch (InvalidProtocolBufferException e) {
+                    result.error("RuntimeException", e.getMessage(), e);
+                    break;
                 }
 
-                if(!gattServer.writeDescriptor(descriptor)){
-                    result.error("write_descriptor_error", "writeCharacteristic failed", null);
+                BluetoothDeviceCache cache;
+                final BluetoothGatt gattServer;
+                BluetoothGattCharacteristic characteristic;
+                final BluetoothGattDescriptor descriptor;
+                try {
+                    cache = locateCache(request.getRemoteId());
+                    gattServer = cache.gatt;
+                    characteristic = locateCharacteristic(cache, request.getCharacteristicHandle(), request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+                    descriptor = locateDescriptor(cache, characteristic, request.getDescriptorUuid());
+                } catch(Exception e) {
+                    result.error("write_descriptor_error", e.getMessage(), null);
                     return;
                 }
 
-                result.success(null);
+                final byte[] value = request.getValue().toByteArray();
+                cache.queue.submit(new GattOperationQueue.Request(GattOperationQueue.Type.WRITE_DESCRIPTOR, "write_descriptor_error", result, descriptor) {
+                    @Override
+                    void issue() throws Exception {
+                        // Set descriptor to new value
+                        if(!descriptor.setValue(value)) {
+                            throw new Exception("could not set the local value for descriptor");
+                        }
+                        if(!gattServer.writeDescriptor(descriptor)) {
+                            throw new Exception("writeDescriptor failed");
+                        }
+                    }
+
+                    @Override
+                    void onFailure(String reason) {
+                        sendWriteDescriptorResponse(gattServer, descriptor, false);
+                    }
+                });
                 break;
             }
 
@@ -437,12 +673,14 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
                     break;
                 }
 
-                BluetoothGatt gattServer;
-                BluetoothGattCharacteristic characteristic;
-                BluetoothGattDescriptor cccDescriptor;
+                final BluetoothDeviceCache cache;
+                final BluetoothGatt gattServer;
+                final BluetoothGattCharacteristic characteristic;
+                final BluetoothGattDescriptor cccDescriptor;
                 try {
-                    gattServer = locateGatt(request.getRemoteId());
-                    characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+                    cache = locateCache(request.getRemoteId());
+                    gattServer = cache.gatt;
+                    characteristic = locateCharacteristic(cache, request.getCharacteristicHandle(), request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
                     cccDescriptor = characteristic.getDescriptor(CCCD_ID);
                     if(cccDescriptor == null) {
                         throw new Exception("could not locate CCCD descriptor for characteristic: " +characteristic.getUuid().toString());
@@ -452,41 +690,172 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
                     return;
                 }
 
-                byte[] value = null;
+                final byte[] value;
+                final boolean enable = request.getEnable();
+                final boolean compact = request.getCompact();
+                try {
+                    value = cccdValue(characteristic, enable);
+                } catch(Exception e) {
+                    result.error("set_notification_error", e.getMessage(), null);
+                    return;
+                }
 
-                if(request.getEnable()) {
-                    boolean canNotify = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_NOTIFY) > 0;
-                    boolean canIndicate = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_INDICATE) > 0;
-                    if(!canIndicate && !canNotify) {
-                        result.error("set_notification_error", "the characteristic cannot notify or indicate", null);
-                        return;
+                cache.queue.submit(new GattOperationQueue.Request(GattOperationQueue.Type.WRITE_DESCRIPTOR, "set_notification_error", result, cccDescriptor) {
+                    @Override
+                    void issue() throws Exception {
+                        writeNotification(gattServer, characteristic, cccDescriptor, enable, value);
                     }
-                    if(canIndicate) {
-                        value = BluetoothGattDescriptor.ENABLE_INDICATION_VALUE;
+
+                    @Override
+                    void onFailure(String reason) {
+                        sendWriteDescriptorResponse(gattServer, cccDescriptor, false);
+                        sendSetNotificationResponse(gattServer, characteristic, characteristic.getValue(), false);
                     }
-                    if(canNotify) {
-                        value = BluetoothGattDescriptor.ENABLE_NOTIFICATION_VALUE;
+
+                    @Override
+                    boolean onComplete(int status) {
+                        if(status == BluetoothGatt.GATT_SUCCESS) {
+                            trackNotification(cache, characteristic, enable, compact);
+                        }
+                        return true;
                     }
-                } else {
-                    value = BluetoothGattDescriptor.DISABLE_NOTIFICATION_VALUE;
-                }
+                });
+                break;
+            }
 
-                if(!gattServer.setCharacteristicNotification(characteristic, request.getEnable())){
-                    result.error("set_notification_error", "could not set characteristic notifications to :" + request.getEnable(), null);
-                    return;
+            case "readCharacteristicFanOut":
+            {
+                byte[] data = call.arguments();
+                Protos.FanOutReadRequest fanOutRequest;
+                try {
+                    fanOutRequest = Protos.FanOutReadRequest.newBuilder().mergeFrom(data).build();
+                } catch (InvalidProtocolBufferException e) {
+                    result.error("RuntimeException", e.getMessage(), e);
+                    break;
+                }
+                Protos.ReadCharacteristicRequest request = fanOutRequest.getRequest();
+
+                List<String> remoteIds = fanOutTargets(fanOutRequest.getRemoteIdsList());
+                FanOut fanOut = new FanOut(remoteIds, replies, result);
+                for(int i = 0; i < remoteIds.size(); i++) {
+                    BluetoothDeviceCache cache;
+                    final BluetoothGatt gattServer;
+                    final BluetoothGattCharacteristic characteristic;
+                    try {
+                        cache = locateCache(remoteIds.get(i));
+                        gattServer = cache.gatt;
+                        characteristic = locateCharacteristic(cache, request.getCharacteristicHandle(), request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+                    } catch(Exception e) {
+                        fanOut.fail(i, e.getMessage());
+                        continue;
+                    }
+                    cache.queue.submit(new FanOut.DeviceOperation(fanOut, i, GattOperationQueue.Type.READ_CHARACTERISTIC, characteristic) {
+                        @Override
+                        void execute() throws Exception {
+                            if(!gattServer.readCharacteristic(characteristic)) {
+                                throw new Exception("gatt.readCharacteristic returned false");
+                            }
+                        }
+                    });
                 }
+                break;
+            }
 
-                if(!cccDescriptor.setValue(value)) {
-                    result.error("set_notification_error", "error when setting the descriptor value to: " + value, null);
-                    return;
+            case "writeCharacteristicFanOut":
+            {
+                byte[] data = call.arguments();
+                Protos.FanOutWriteRequest fanOutRequest;
+                try {
+                    fanOutRequest = Protos.FanOutWriteRequest.newBuilder().mergeFrom(data).build();
+                } catch (InvalidProtocolBufferException e) {
+                    result.error("RuntimeException", e.getMessage(), e);
+                    break;
+                }
+                Protos.WriteCharacteristicRequest request = fanOutRequest.getRequest();
+                final byte[] value = request.getValue().toByteArray();
+                final int writeType = writeType(request);
+
+                List<String> remoteIds = fanOutTargets(fanOutRequest.getRemoteIdsList());
+                FanOut fanOut = new FanOut(remoteIds, replies, result);
+                for(int i = 0; i < remoteIds.size(); i++) {
+                    BluetoothDeviceCache cache;
+                    final BluetoothGatt gattServer;
+                    final BluetoothGattCharacteristic characteristic;
+                    try {
+                        cache = locateCache(remoteIds.get(i));
+                        gattServer = cache.gatt;
+                        characteristic = locateCharacteristic(cache, request.getCharacteristicHandle(), request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+                    } catch(Exception e) {
+                        fanOut.fail(i, e.getMessage());
+                        continue;
+                    }
+                    invalidateValue(cache, characteristic);
+                    cache.queue.submit(new FanOut.DeviceOperation(fanOut, i, GattOperationQueue.Type.WRITE_CHARACTERISTIC, characteristic) {
+                        @Override
+                        void execute() throws Exception {
+                            if(!characteristic.setValue(value)) {
+                                throw new Exception("could not set the local value of characteristic");
+                            }
+                            characteristic.setWriteType(writeType);
+                            if(!gattServer.writeCharacteristic(characteristic)) {
+                                throw new Exception("writeCharacteristic failed");
+                            }
+                        }
+                    });
                 }
+                break;
+            }
 
-                if(!gattServer.writeDescriptor(cccDescriptor)) {
-                    result.error("set_notification_error", "error when writing the descriptor", null);
-                    return;
+            case "setNotificationFanOut":
+            {
+                byte[] data = call.arguments();
+                Protos.FanOutSetNotificationRequest fanOutRequest;
+                try {
+                    fanOutRequest = Protos.FanOutSetNotificationRequest.newBuilder().mergeFrom(data).build();
+                } catch (InvalidProtocolBufferException e) {
+                    result.error("RuntimeException", e.getMessage(), e);
+                    break;
                 }
+                Protos.SetNotificationRequest request = fanOutRequest.getRequest();
+                final boolean enable = request.getEnable();
+                final boolean compact = request.getCompact();
+
+                List<String> remoteIds = fanOutTargets(fanOutRequest.getRemoteIdsList());
+                FanOut fanOut = new FanOut(remoteIds, replies, result);
+                for(int i = 0; i < remoteIds.size(); i++) {
+                    final BluetoothDeviceCache cache;
+                    final BluetoothGatt gattServer;
+                    final BluetoothGattCharacteristic characteristic;
+                    final BluetoothGattDescriptor cccDescriptor;
+                    final byte[] value;
+                    try {
+                        cache = locateCache(remoteIds.get(i));
+                        gattServer = cache.gatt;
+                        characteristic = locateCharacteristic(cache, request.getCharacteristicHandle(), request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+                        cccDescriptor = characteristic.getDescriptor(CCCD_ID);
+                        if(cccDescriptor == null) {
+                            throw new Exception("could not locate CCCD descriptor for characteristic: " +characteristic.getUuid().toString());
+                        }
+                        value = cccdValue(characteristic, enable);
+                    } catch(Exception e) {
+                        fanOut.fail(i, e.getMessage());
+                        continue;
+                    }
+                    cache.queue.submit(new FanOut.DeviceOperation(fanOut, i, GattOperationQueue.Type.WRITE_DESCRIPTOR, cccDescriptor) {
+                        @Override
+                        void execute() throws Exception {
+                            writeNotification(gattServer, characteristic, cccDescriptor, enable, value);
+                        }
 
-                result.success(null);
+                        @Override
+                        boolean onComplete(int status) {
+                            if(status == BluetoothGatt.GATT_SUCCESS) {
+                                trackNotification(cache, characteristic, enable, compact);
+                            }
+                            return super.onComplete(status);
+                        }
+                    });
+                }
                 break;
             }
 
@@ -505,6 +874,62 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
                 break;
             }
 
+            case "notificationStats":
+            {
+                String deviceId = (String)call.arguments;
+                BluetoothDeviceCache cache = mDevices.get(deviceId);
+                if(cache != null && cache.notifications != null) {
+                    result.success(cache.notifications.stats(deviceId).toByteArray());
+                } else {
+                    result.error("notification_stats_error", "no notification channel, was notification_buffer_size set when connecting?", null);
+                }
+                break;
+            }
+
+            case "pipelineStats":
+            {
+                result.success(processor.stats().toByteArray());
+                break;
+            }
+
+            case "getMetrics":
+            {
+                result.success(metrics.snapshot(processor.stats()).toByteArray());
+                break;
+            }
+
+            case "valueCacheStats":
+            {
+                String deviceId = (String)call.arguments;
+                BluetoothDeviceCache cache = mDevices.get(deviceId);
+                GattValueCache values = (cache != null) ? cache.values : null;
+                if(values != null) {
+                    result.success(values.stats(deviceId).toByteArray());
+                } else {
+                    result.error("value_cache_stats_error", "no value cache, was value_cache set when connecting?", null);
+                }
+                break;
+            }
+
+            case "setConnectionLimits":
+            {
+                byte[] data = call.arguments();
+                try {
+                    connectionManager.setLimits(Protos.ConnectionLimits.newBuilder().mergeFrom(data).build());
+                } catch (InvalidProtocolBufferException e) {
+                    result.error("RuntimeException", e.getMessage(), e);
+                    break;
+                }
+                result.success(null);
+                break;
+            }
+
+            case "connectionSlots":
+            {
+                result.success(connectionManager.snapshot().toByteArray());
+                break;
+            }
+
             case "requestMtu":
             {
                 byte[] data = call.arguments();
@@ -516,16 +941,20 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
                     break;
                 }
 
-                BluetoothGatt gatt;
                 try {
-                    gatt = locateGatt(request.getRemoteId());
-                    int mtu = request.getMtu();
+                    BluetoothDeviceCache cache = locateCache(request.getRemoteId());
+                    final BluetoothGatt gatt = cache.gatt;
+                    final int mtu = request.getMtu();
                     if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-                        if(gatt.requestMtu(mtu)) {
-                            result.success(null);
-                        } else {
-                            result.error("requestMtu", "gatt.requestMtu returned false", null);
-                        }
+                        cache.queue.submit(new GattOperationQueue.Operation(GattOperationQueue.Type.REQUEST_MTU, "requestMtu", result) {
+                            @Override
+                            @TargetApi(21)
+                            void execute() throws Exception {
+                                if(!gatt.requestMtu(mtu)) {
+                                    throw new Exception("gatt.requestMtu returned false");
+                                }
+                            }
+                        });
                     } else {
                         result.error("requestMtu", "Only supported on devices >= API 21 (Lollipop). This device == " + Build.VERSION.SDK_INT, null);
                     }
@@ -561,40 +990,152 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
         return false;
     }
 
-    private BluetoothGatt locateGatt(String remoteId) throws Exception {
+    private BluetoothDeviceCache locateCache(String remoteId) throws Exception {
         BluetoothDeviceCache cache = mDevices.get(remoteId);
         if(cache == null || cache.gatt == null) {
             throw new Exception("no instance of BluetoothGatt, have you connected first?");
         } else {
-            return cache.gatt;
+            return cache;
         }
     }
 
-    private BluetoothGattCharacteristic locateCharacteristic(BluetoothGatt gattServer, String serviceId, String secondaryServiceId, String characteristicId) throws Exception {
-        BluetoothGattService primaryService = gattServer.getService(UUID.fromString(serviceId));
-        if(primaryService == null) {
-            throw new Exception("service (" + serviceId + ") could not be located on the device");
-        }
-        BluetoothGattService secondaryService = null;
-        if(secondaryServiceId.length() > 0) {
-            for(BluetoothGattService s : primaryService.getIncludedServices()){
-                if(s.getUuid().equals(UUID.fromString(secondaryServiceId))){
-                    secondaryService = s;
-                }
+    private BluetoothGattCharacteristic locateCharacteristic(BluetoothDeviceCache cache, int handle, String serviceId, String secondaryServiceId, String characteristicId) throws Exception {
+        GattDatabase database = cache.database;
+        if(handle != 0) {
+            if(database == null) {
+                throw new Exception("characteristic handles can only be used after services have been discovered");
             }
-            if(secondaryService == null) {
-                throw new Exception("secondary service (" + secondaryServiceId + ") could not be located on the device");
+            return database.characteristic(handle);
+        }
+        if(database != null) {
+            BluetoothGattCharacteristic characteristic = database.characteristic(serviceId, secondaryServiceId, characteristicId);
+            if(characteristic != null) {
+                return characteristic;
             }
         }
-        BluetoothGattService service = (secondaryService != null) ? secondaryService : primaryService;
-        BluetoothGattCharacteristic characteristic = service.getCharacteristic(UUID.fromString(characteristicId));
-        if(characteristic == null) {
-            throw new Exception("characteristic (" + characteristicId + ") could not be located in the service ("+service.getUuid().toString()+")");
+        return locateCharacteristic(cache.gatt, serviceId, secondaryServiceId, characteristicId);
+    }
+
+    // A write is queued, so the cached value must not answer reads anymore
+    private void invalidateValue(BluetoothDeviceCache cache, BluetoothGattCharacteristic characteristic) {
+        GattValueCache values = cache.values;
+        if(values != null) {
+            values.invalidate(characteristic);
         }
-        return characteristic;
     }
 
-    private BluetoothGattDescriptor locateDescriptor(BluetoothGattCharacteristic characteristic, String descriptorId) throws Exception {
+    private static int writeType(Protos.WriteCharacteristicRequest request) {
+        return (request.getWriteType() == Protos.WriteCharacteristicRequest.WriteType.WITHOUT_RESPONSE)
+                ? BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE
+                : BluetoothGattCharacteristic.WRITE_TYPE_DEFAULT;
+    }
+
+    /** The CCCD value enabling notifications, or indications if the characteristic cannot notify. */
+    private static byte[] cccdValue(BluetoothGattCharacteristic characteristic, boolean enable) throws Exception {
+        if(!enable) {
+            return BluetoothGattDescriptor.DISABLE_NOTIFICATION_VALUE;
+        }
+        boolean canNotify = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_NOTIFY) > 0;
+        boolean canIndicate = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_INDICATE) > 0;
+        if(!canIndicate && !canNotify) {
+            throw new Exception("the characteristic cannot notify or indicate");
+        }
+        return canNotify ? BluetoothGattDescriptor.ENABLE_NOTIFICATION_VALUE : BluetoothGattDescriptor.ENABLE_INDICATION_VALUE;
+    }
+
+    private static void writeNotification(BluetoothGatt gattServer, BluetoothGattCharacteristic characteristic,
+                                          BluetoothGattDescriptor cccDescriptor, boolean enable, byte[] value) throws Exception {
+        if(!gattServer.setCharacteristicNotification(characteristic, enable)) {
+            throw new Exception("could not set characteristic notifications to :" + enable);
+        }
+        if(!cccDescriptor.setValue(value)) {
+            throw new Exception("error when setting the descriptor value to: " + value);
+        }
+        if(!gattServer.writeDescriptor(cccDescriptor)) {
+            throw new Exception("error when writing the descriptor");
+        }
+    }
+
+    /** The requested remote ids, or every known device if none were given. */
+    private List<String> fanOutTargets(List<String> remoteIds) {
+        if(!remoteIds.isEmpty()) {
+            return remoteIds;
+        }
+        return new ArrayList<>(mDevices.keySet());
+    }
+
+    // Failures to locate are recorded on the item, so the rest of the batch still runs
+    private CharacteristicBatchOperation.Item batchItem(BluetoothDeviceCache cache, String remoteId, String itemRemoteId, int handle,
+                                                        String serviceId, String secondaryServiceId, String characteristicId,
+                                                        byte[] value, int writeType, boolean bypassCache) {
+        BluetoothGattCharacteristic characteristic = null;
+        String error = null;
+        if(!itemRemoteId.isEmpty() && !itemRemoteId.equals(remoteId)) {
+            error = "request is for another device (" + itemRemoteId + ")";
+        } else {
+            try {
+                characteristic = locateCharacteristic(cache, handle, serviceId, secondaryServiceId, characteristicId);
+            } catch(Exception e) {
+                error = e.getMessage();
+            }
+        }
+        byte[] cached = null;
+        if(characteristic != null) {
+            GattValueCache values = cache.values;
+            if(value != null) {
+                invalidateValue(cache, characteristic);
+            } else if(values != null && !bypassCache) {
+                cached = values.get(characteristic);
+            }
+        }
+        CharacteristicBatchOperation.Item item = new CharacteristicBatchOperation.Item(characteristic, value, writeType, cached);
+        if(characteristic != null) {
+            item.result.setCharacteristicUuid(characteristic.getUuid().toString());
+            item.result.setCharacteristicHandle(characteristic.getInstanceId());
+        } else {
+            item.result.setCharacteristicUuid(characteristicId);
+            item.result.setCharacteristicHandle(handle);
+            item.result.setError(error);
+        }
+        return item;
+    }
+
+    private BluetoothGattCharacteristic locateCharacteristic(BluetoothGatt gattServer, String serviceId, String secondaryServiceId, String characteristicId) throws Exception {
+        BluetoothGattService primaryService = gattServer.getService(UUID.fromString(serviceId));
+        if(primaryService == null) {
+            throw new Exception("service (" + serviceId + ") could not be located on the device");
+        }
+        BluetoothGattService secondaryService = null;
+        if(secondaryServiceId.length() > 0) {
+            for(BluetoothGattService s : primaryService.getIncludedServices()){
+                if(s.getUuid().equals(UUID.fromString(secondaryServiceId))){
+                    secondaryService = s;
+                }
+            }
+            if(secondaryService == null) {
+                throw new Exception("secondary service (" + secondaryServiceId + ") could not be located on the device");
+            }
+        }
+        BluetoothGattService service = (secondaryService != null) ? secondaryService : primaryService;
+        BluetoothGattCharacteristic characteristic = service.getCharacteristic(UUID.fromString(characteristicId));
+        if(characteristic == null) {
+            throw new Exception("characteristic (" + characteristicId + ") could not be located in the service ("+service.getUuid().toString()+")");
+        }
+        return characteristic;
+    }
+
+    private BluetoothGattDescriptor locateDescriptor(BluetoothDeviceCache cache, BluetoothGattCharacteristic characteristic, String descriptorId) throws Exception {
+        GattDatabase database = cache.database;
+        if(database != null) {
+            BluetoothGattDescriptor descriptor = database.descriptor(characteristic, descriptorId);
+            if(descriptor != null) {
+                return descriptor;
+            }
+        }
+        return locateDescriptor(characteristic, descriptorId);
+    }
+
+    private BluetoothGattDescriptor locateDescriptor(BluetoothGattCharacteristic characteristic, String descriptorId) throws Exception {
         BluetoothGattDescriptor descriptor = characteristic.getDescriptor(UUID.fromString(descriptorId));
         if(descriptor == null) {
             throw new Exception("descriptor (" + descriptorId + ") could not be located in the characteristic ("+characteristic.getUuid().toString()+")");
@@ -615,16 +1156,16 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
                             BluetoothAdapter.ERROR);
                     switch (state) {
                         case BluetoothAdapter.STATE_OFF:
-                            sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.OFF).build().toByteArray());
+                            sink.success(ProtoEncoder.bluetoothState(Protos.BluetoothState.State.OFF));
                             break;
                         case BluetoothAdapter.STATE_TURNING_OFF:
-                            sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.TURNING_OFF).build().toByteArray());
+                            sink.success(ProtoEncoder.bluetoothState(Protos.BluetoothState.State.TURNING_OFF));
                             break;
                         case BluetoothAdapter.STATE_ON:
-                            sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.ON).build().toByteArray());
+                            sink.success(ProtoEncoder.bluetoothState(Protos.BluetoothState.State.ON));
                             break;
                         case BluetoothAdapter.STATE_TURNING_ON:
-                            sink.success(Protos.BluetoothState.newBuilder().setState(Protos.BluetoothState.State.TURNING_ON).build().toByteArray());
+                            sink.success(ProtoEncoder.bluetoothState(Protos.BluetoothState.State.TURNING_ON));
                             break;
                     }
                 }
@@ -650,18 +1191,47 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
         Protos.ScanSettings settings;
         try {
             settings = Protos.ScanSettings.newBuilder().mergeFrom(data).build();
-            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-                startScan21(settings);
+            startScanBatcher(settings);
+            includeRawScanRecord = settings.getIncludeRawScanRecord();
+            scanDeduplicator = settings.getDeduplicate()
+                    ? new ScanDeduplicator(settings.getDedupRssiDelta(), settings.getDedupRefreshMillis())
+                    : null;
+            Protos.DeviceTableSettings table = settings.getDeviceTable();
+            deviceTable = (table.getMaxDevices() > 0)
+                    ? new ScanDeviceTable(table.getMaxDevices(), table.getMaxAgeMillis())
+                    : null;
+            scanSettings = settings;
+            if(settings.hasSchedule()) {
+                scanScheduler.start(settings.getSchedule(), settings.getAndroidScanMode());
             } else {
-                startScan18(settings);
+                scanScheduler.stop();
+                startPlatformScan(settings, settings.getAndroidScanMode());
             }
             result.success(null);
         } catch (Exception e) {
+            stopScanBatcher();
             result.error("startScan", e.getMessage(), e);
         }
     }
 
     private void stopScan() {
+        scanScheduler.stop();
+        stopPlatformScan();
+        stopScanBatcher();
+    }
+
+    // The settings of the current scan, restarted from here by the scheduler
+    private volatile Protos.ScanSettings scanSettings;
+
+    private void startPlatformScan(Protos.ScanSettings settings, int scanMode) throws IllegalStateException {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            startScan21(settings, scanMode);
+        } else {
+            startScan18(settings);
+        }
+    }
+
+    private void stopPlatformScan() {
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
             stopScan21();
         } else {
@@ -669,6 +1239,84 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
         }
     }
 
+    // Windows are timed on the callback processing thread, alongside the results they count
+    private ScanScheduler createScanScheduler() {
+        return new ScanScheduler(
+                Clock.SYSTEM,
+                new Timer.HandlerTimer(new Handler(processor.getLooper())),
+                new ScanScheduler.Scanner() {
+                    @Override
+                    public void start(int scanMode) throws Exception {
+                        startPlatformScan(scanSettings, scanMode);
+                    }
+
+                    @Override
+                    public void stop() {
+                        stopPlatformScan();
+                    }
+                },
+                new ScanScheduler.Listener() {
+                    @Override
+                    public void onScanFailed(Protos.ScanFailure failure) {
+                        log(LogLevel.ERROR, "[onScanFailed] " + failure.getErrorCode() + ": " + failure.getMessage());
+                        invokeMethodUIThread("ScanFailed", failure.toByteArray());
+                    }
+                });
+    }
+
+    private volatile ScanResultBatcher scanBatcher;
+
+    private void startScanBatcher(Protos.ScanSettings settings) {
+        stopScanBatcher();
+        if(settings.getReportDelayMillis() > 0) {
+            scanBatcher = new ScanResultBatcher(processor.getLooper(), settings.getReportDelayMillis(), settings.getMaxBatchSize(), new ScanResultBatcher.Listener() {
+                @Override
+                public void onBatch(Protos.ScanResultBatch batch) {
+                    invokeMethodUIThread("ScanResultBatch", batch.toByteArray());
+                }
+            });
+            scanBatcher.start();
+        }
+    }
+
+    private void stopScanBatcher() {
+        if(scanBatcher != null) {
+            scanBatcher.stop();
+            scanBatcher = null;
+        }
+    }
+
+    private volatile ScanDeduplicator scanDeduplicator;
+    private volatile boolean includeRawScanRecord;
+    // Kept after stopScan so it can still be queried, replaced by the next startScan
+    private volatile ScanDeviceTable deviceTable;
+
+    /** Records the advertisement in the device table, then decides whether it is reported. */
+    private boolean shouldReportScanResult(BluetoothDevice device, byte[] scanRecord, int rssi) {
+        long now = SystemClock.elapsedRealtime();
+        ScanDeviceTable table = deviceTable;
+        if(table != null) {
+            table.update(device.getAddress(), scanRecord, rssi, now, System.currentTimeMillis());
+        }
+        scanScheduler.onDeviceSeen(device.getAddress());
+        ScanDeduplicator deduplicator = scanDeduplicator;
+        if(deduplicator != null && !deduplicator.shouldReport(device.getAddress(), scanRecord, rssi, now)) {
+            metrics.scanDropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private void onScanResult(Protos.ScanResult scanResult) {
+        metrics.scanEmitted.incrementAndGet();
+        ScanResultBatcher batcher = scanBatcher;
+        if(batcher != null) {
+            batcher.add(scanResult);
+        } else {
+            invokeMethodUIThread("ScanResult", scanResult.toByteArray());
+        }
+    }
+
     private ScanCallback scanCallback21;
 
     @TargetApi(21)
@@ -677,43 +1325,174 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
             scanCallback21 = new ScanCallback() {
 
                 @Override
-                public void onScanResult(int callbackType, ScanResult result) {
+                public void onScanResult(int callbackType, final ScanResult result) {
                     super.onScanResult(callbackType, result);
-                    Protos.ScanResult scanResult = ProtoMaker.from(result.getDevice(), result);
-                    invokeMethodUIThread("ScanResult", scanResult.toByteArray());
+                    metrics.scanReceived.incrementAndGet();
+                    if(callbackType == ScanSettings.CALLBACK_TYPE_MATCH_LOST) {
+                        processor.execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                onScanResultLost(result);
+                            }
+                        });
+                        return;
+                    }
+                    processor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            if(shouldReportScanResult(result)) {
+                                FlutterBluePlugin.this.onScanResult(ProtoMaker.from(result.getDevice(), result, includeRawScanRecord));
+                            }
+                        }
+                    });
                 }
 
                 @Override
-                public void onBatchScanResults(List<ScanResult> results) {
+                public void onBatchScanResults(final List<ScanResult> results) {
                     super.onBatchScanResults(results);
-
+                    metrics.scanReceived.addAndGet(results.size());
+                    processor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            for(ScanResult result : results) {
+                                if(shouldReportScanResult(result)) {
+                                    FlutterBluePlugin.this.onScanResult(ProtoMaker.from(result.getDevice(), result, includeRawScanRecord));
+                                }
+                            }
+                        }
+                    });
                 }
 
                 @Override
-                public void onScanFailed(int errorCode) {
+                public void onScanFailed(final int errorCode) {
                     super.onScanFailed(errorCode);
+                    processor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            scanScheduler.onScanFailed(errorCode);
+                        }
+                    });
                 }
             };
         }
         return scanCallback21;
     }
 
+    // Always reported, and the next match of the device is reported even when deduplicating
+    @TargetApi(21)
+    private void onScanResultLost(ScanResult result) {
+        ScanDeduplicator deduplicator = scanDeduplicator;
+        if(deduplicator != null) {
+            deduplicator.forget(result.getDevice().getAddress());
+        }
+        Protos.ScanResult p = ProtoMaker.from(result.getDevice(), result, includeRawScanRecord);
+        onScanResult(p.toBuilder().setLost(true).build());
+    }
+
     @TargetApi(21)
-    private void startScan21(Protos.ScanSettings proto) throws IllegalStateException {
+    private boolean shouldReportScanResult(ScanResult result) {
+        byte[] scanRecord = result.getScanRecord() != null ? result.getScanRecord().getBytes() : null;
+        return shouldReportScanResult(result.getDevice(), scanRecord, result.getRssi());
+    }
+
+    @TargetApi(21)
+    private void startScan21(Protos.ScanSettings proto, int scanMode) throws IllegalStateException {
         BluetoothLeScanner scanner = mBluetoothAdapter.getBluetoothLeScanner();
         if(scanner == null) throw new IllegalStateException("getBluetoothLeScanner() is null. Is the Adapter on?");
-        int scanMode = proto.getAndroidScanMode();
         int count = proto.getServiceUuidsCount();
-        List<ScanFilter> filters = new ArrayList<>(count);
+        List<ScanFilter> filters = new ArrayList<>(count + proto.getFiltersCount());
         for(int i = 0; i < count; i++) {
             String uuid = proto.getServiceUuids(i);
             ScanFilter f = new ScanFilter.Builder().setServiceUuid(ParcelUuid.fromString(uuid)).build();
             filters.add(f);
         }
-        ScanSettings settings = new ScanSettings.Builder().setScanMode(scanMode).build();
+        for(Protos.ScanFilter filter : proto.getFiltersList()) {
+            filters.add(toScanFilter(filter));
+        }
+        ScanSettings.Builder builder = new ScanSettings.Builder().setScanMode(scanMode);
+        int callbackType = proto.getAndroidCallbackType();
+        if(callbackType != 0 && callbackType != ScanSettings.CALLBACK_TYPE_ALL_MATCHES) {
+            // First match and match lost are tracked by the controller's filters
+            if(Build.VERSION.SDK_INT < 23 || !mBluetoothAdapter.isOffloadedFilteringSupported()) {
+                throw new IllegalStateException("callback type " + callbackType + " is not supported on this device");
+            }
+            if(filters.isEmpty()) {
+                throw new IllegalStateException("callback type " + callbackType + " requires a scan filter");
+            }
+        }
+        if(Build.VERSION.SDK_INT >= 23) {
+            applyMatchSettings23(builder, proto);
+        }
+        if(Build.VERSION.SDK_INT >= 26) {
+            applyAdvertisingSettings26(builder, proto);
+        }
+        // Let the controller batch results too when it can, the native buffer coalesces either way.
+        // The platform rejects a report delay unless every match is reported.
+        if(proto.getReportDelayMillis() > 0 && mBluetoothAdapter.isOffloadedScanBatchingSupported()
+                && (callbackType == 0 || callbackType == ScanSettings.CALLBACK_TYPE_ALL_MATCHES)) {
+            builder.setReportDelay(proto.getReportDelayMillis());
+        }
+        ScanSettings settings = builder.build();
         scanner.startScan(filters, settings, getScanCallback21());
     }
 
+    @TargetApi(23)
+    private static void applyMatchSettings23(ScanSettings.Builder builder, Protos.ScanSettings proto) {
+        if(proto.getAndroidCallbackType() != 0) {
+            builder.setCallbackType(proto.getAndroidCallbackType());
+        }
+        if(proto.getAndroidMatchMode() != 0) {
+            builder.setMatchMode(proto.getAndroidMatchMode());
+        }
+        if(proto.getAndroidNumOfMatches() != 0) {
+            builder.setNumOfMatches(proto.getAndroidNumOfMatches());
+        }
+    }
+
+    @TargetApi(26)
+    private static void applyAdvertisingSettings26(ScanSettings.Builder builder, Protos.ScanSettings proto) {
+        if(!proto.getAndroidExtendedAdvertising()) {
+            return;
+        }
+        builder.setLegacy(false);
+        if(proto.getAndroidPhy() != 0) {
+            builder.setPhy(proto.getAndroidPhy());
+        }
+    }
+
+    // Lets the controller drop packets that match no filter
+    @TargetApi(21)
+    private static ScanFilter toScanFilter(Protos.ScanFilter proto) {
+        ScanFilter.Builder builder = new ScanFilter.Builder();
+        if(!proto.getDeviceAddress().isEmpty()) {
+            builder.setDeviceAddress(proto.getDeviceAddress().toUpperCase(Locale.US));
+        }
+        if(!proto.getDeviceName().isEmpty()) {
+            builder.setDeviceName(proto.getDeviceName());
+        }
+        if(!proto.getServiceUuid().isEmpty()) {
+            builder.setServiceUuid(ParcelUuid.fromString(proto.getServiceUuid()));
+        }
+        if(proto.getHasManufacturerId()) {
+            byte[] data = proto.getManufacturerData().toByteArray();
+            if(proto.getManufacturerDataMask().isEmpty()) {
+                builder.setManufacturerData(proto.getManufacturerId(), data);
+            } else {
+                builder.setManufacturerData(proto.getManufacturerId(), data, proto.getManufacturerDataMask().toByteArray());
+            }
+        }
+        if(!proto.getServiceDataUuid().isEmpty()) {
+            ParcelUuid uuid = ParcelUuid.fromString(proto.getServiceDataUuid());
+            byte[] data = proto.getServiceData().toByteArray();
+            if(proto.getServiceDataMask().isEmpty()) {
+                builder.setServiceData(uuid, data);
+            } else {
+                builder.setServiceData(uuid, data, proto.getServiceDataMask().toByteArray());
+            }
+        }
+        return builder.build();
+    }
+
     @TargetApi(21)
     private void stopScan21() {
         BluetoothLeScanner scanner = mBluetoothAdapter.getBluetoothLeScanner();
@@ -726,21 +1505,45 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
         if(scanCallback18 == null) {
             scanCallback18 = new BluetoothAdapter.LeScanCallback() {
                 @Override
-                public void onLeScan(final BluetoothDevice bluetoothDevice, int rssi,
-                                     byte[] scanRecord) {
-                    Protos.ScanResult scanResult = ProtoMaker.from(bluetoothDevice, scanRecord, rssi);
-                    invokeMethodUIThread("ScanResult", scanResult.toByteArray());
+                public void onLeScan(final BluetoothDevice bluetoothDevice, final int rssi,
+                                     final byte[] scanRecord) {
+                    metrics.scanReceived.incrementAndGet();
+                    // Cheap and allocation free, so rejected packets are dropped before being posted
+                    ScanFilterMatcher matcher = scanFilterMatcher;
+                    if(matcher != null && !matcher.matches(bluetoothDevice.getAddress(), scanRecord)) {
+                        metrics.scanDropped.incrementAndGet();
+                        return;
+                    }
+                    processor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            if(shouldReportScanResult(bluetoothDevice, scanRecord, rssi)) {
+                                onScanResult(ProtoMaker.from(bluetoothDevice, scanRecord, rssi, includeRawScanRecord));
+                            }
+                        }
+                    });
                 }
             };
         }
         return scanCallback18;
     }
 
+    // Filters the API 18 scan natively, set when ScanSettings has filters beyond service_uuids
+    private volatile ScanFilterMatcher scanFilterMatcher;
+
     private void startScan18(Protos.ScanSettings proto) throws IllegalStateException {
         List<String> serviceUuids = proto.getServiceUuidsList();
-        UUID[] uuids = new UUID[serviceUuids.size()];
-        for(int i = 0; i < serviceUuids.size(); i++) {
-            uuids[i] = UUID.fromString(serviceUuids.get(i));
+        UUID[] uuids;
+        if(proto.getFiltersCount() > 0) {
+            // startLeScan would require the service UUIDs on top of the filters, match both natively instead
+            scanFilterMatcher = new ScanFilterMatcher(proto.getFiltersList(), serviceUuids);
+            uuids = new UUID[0];
+        } else {
+            scanFilterMatcher = null;
+            uuids = new UUID[serviceUuids.size()];
+            for(int i = 0; i < serviceUuids.size(); i++) {
+                uuids[i] = UUID.fromString(serviceUuids.get(i));
+            }
         }
         boolean success = mBluetoothAdapter.startLeScan(uuids, getScanCallback18());
         if(!success) throw new IllegalStateException("getBluetoothLeScanner() is null. Is the Adapter on?");
@@ -750,166 +1553,702 @@ public class FlutterBluePlugin implements MethodCallHandler, RequestPermissionsR
         mBluetoothAdapter.stopLeScan(getScanCallback18());
     }
 
+    // Callbacks only capture what may change before processing, everything else runs on the processor
     private final BluetoothGattCallback mGattCallback = new BluetoothGattCallback() {
         @Override
-        public void onConnectionStateChange(BluetoothGatt gatt, int status, int newState) {
-            log(LogLevel.DEBUG, "[onConnectionStateChange] status: " + status + " newState: " + newState);
-            if(newState == BluetoothProfile.STATE_DISCONNECTED) {
-                if(!mDevices.containsKey(gatt.getDevice().getAddress())) {
-                    gatt.close();
-                }
+        public void onConnectionStateChange(final BluetoothGatt gatt, final int status, final int newState) {
+            if(isLoggable(LogLevel.DEBUG)) {
+                log(LogLevel.DEBUG, "[onConnectionStateChange] status: " + status + " newState: " + newState);
             }
-            invokeMethodUIThread("DeviceState", ProtoMaker.from(gatt.getDevice(), newState).toByteArray());
+            processor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    connectionManager.onConnectionStateChange(gatt.getDevice().getAddress(), newState);
+                    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+                    if(cache != null && cache.database != null) {
+                        // The remote database may have changed while disconnected
+                        cache.previousDatabase = cache.database;
+                        cache.database = null;
+                    }
+                    if(newState == BluetoothProfile.STATE_DISCONNECTED) {
+                        if(cache == null) {
+                            gatt.close();
+                        } else {
+                            // Never report CONNECTED once the link is gone
+                            cache.deferredConnected.set(null);
+                            cache.queue.cancel("device disconnected");
+                            if(cache.values != null) {
+                                cache.values.clear();
+                            }
+                            // Explicitly disconnected devices are no longer cached, rotated out ones are flagged
+                            if(!cache.rotatedOut) {
+                                reconnector.onDisconnected(gatt.getDevice().getAddress(), cache.options.getReconnect());
+                            }
+                            cache.rotatedOut = false;
+                        }
+                    }
+                    if(newState == BluetoothProfile.STATE_CONNECTED && cache != null) {
+                        long connectStartedAt = cache.connectStartedAt;
+                        if(connectStartedAt != 0) {
+                            metrics.record(gatt.getDevice().getAddress(), Metrics.Operation.CONNECT, System.nanoTime() - connectStartedAt);
+                            cache.connectStartedAt = 0;
+                        }
+                        long disconnectedAt = reconnector.onConnected(gatt.getDevice().getAddress());
+                        boolean deferred = setupConnection(gatt, cache);
+                        if(cache.options.getCacheServices()) {
+                            discoverInBackground(gatt, cache);
+                        } else if(disconnectedAt >= 0) {
+                            byte[] previous = (cache.previousDatabase != null) ? cache.previousDatabase.bytes : null;
+                            cache.queue.submit(ServiceDiscoveryOperation.background(gatt, previous, new LogResult("discoverServices")));
+                        }
+                        if(disconnectedAt >= 0) {
+                            restoreNotifications(gatt, cache, disconnectedAt);
+                        }
+                        if(deferred) {
+                            // CONNECTED is reported once the link setup requested in the ConnectRequest is done
+                            return;
+                        }
+                    }
+                    invokeMethodUIThread("DeviceState", ProtoMaker.from(gatt.getDevice(), newState).toByteArray());
+                }
+            });
         }
 
         @Override
-        public void onServicesDiscovered(BluetoothGatt gatt, int status) {
-            log(LogLevel.DEBUG, "[onServicesDiscovered] count: " + gatt.getServices().size() + " status: " + status);
-            Protos.DiscoverServicesResult.Builder p = Protos.DiscoverServicesResult.newBuilder();
-            p.setRemoteId(gatt.getDevice().getAddress());
-            for(BluetoothGattService s : gatt.getServices()) {
-                p.addServices(ProtoMaker.from(gatt.getDevice(), s, gatt));
+        public void onServicesDiscovered(final BluetoothGatt gatt, final int status) {
+            if(isLoggable(LogLevel.DEBUG)) {
+                log(LogLevel.DEBUG, "[onServicesDiscovered] count: " + gatt.getServices().size() + " status: " + status);
             }
-            invokeMethodUIThread("DiscoverServicesResult", p.build().toByteArray());
-        }
-
-        @Override
-        public void onCharacteristicRead(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, int status) {
-            log(LogLevel.DEBUG, "[onCharacteristicRead] uuid: " + characteristic.getUuid().toString() + " status: " + status);
-            Protos.ReadCharacteristicResponse.Builder p = Protos.ReadCharacteristicResponse.newBuilder();
-            p.setRemoteId(gatt.getDevice().getAddress());
-            p.setCharacteristic(ProtoMaker.from(gatt.getDevice(), characteristic, gatt));
-            invokeMethodUIThread("ReadCharacteristicResponse", p.build().toByteArray());
+            processor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    GattDatabase database = new GattDatabase(gatt);
+                    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+                    GattOperationQueue.Operation current = (cache != null) ? cache.queue.current() : null;
+                    if(cache != null && status == BluetoothGatt.GATT_SUCCESS) {
+                        cache.database = database;
+                        if(cache.options.getCacheServices()) {
+                            storeServices(gatt.getDevice().getAddress(), cache.options.getFirmwareFingerprint(), database);
+                        }
+                    }
+                    if(current instanceof ServiceDiscoveryOperation && current.reportsOwnResults()) {
+                        byte[] provisional = ((ServiceDiscoveryOperation) current).provisional;
+                        if(status == BluetoothGatt.GATT_SUCCESS) {
+                            reportServicesDiff(provisional, database);
+                        } else if(provisional != null) {
+                            // Dart keeps the provisional services, only the failure is reported
+                            invokeMethodUIThread("ServicesDiff", Protos.ServicesDiff.newBuilder()
+                                    .setRemoteId(gatt.getDevice().getAddress())
+                                    .setError("background discovery failed with status " + status)
+                                    .build().toByteArray());
+                        }
+                    } else {
+                        invokeMethodUIThread("DiscoverServicesResult", database.bytes);
+                    }
+                    completeOperation(gatt, GattOperationQueue.Type.DISCOVER_SERVICES, null, status);
+                }
+            });
         }
 
         @Override
-        public void onCharacteristicWrite(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, int status) {
-            log(LogLevel.DEBUG, "[onCharacteristicWrite] uuid: " + characteristic.getUuid().toString() + " status: " + status);
-            Protos.WriteCharacteristicRequest.Builder request = Protos.WriteCharacteristicRequest.newBuilder();
-            request.setRemoteId(gatt.getDevice().getAddress());
-            request.setCharacteristicUuid(characteristic.getUuid().toString());
-            request.setServiceUuid(characteristic.getService().getUuid().toString());
-            Protos.WriteCharacteristicResponse.Builder p = Protos.WriteCharacteristicResponse.newBuilder();
-            p.setRequest(request);
-            p.setSuccess(status == BluetoothGatt.GATT_SUCCESS);
-            invokeMethodUIThread("WriteCharacteristicResponse", p.build().toByteArray());
+        public void onCharacteristicRead(final BluetoothGatt gatt, final BluetoothGattCharacteristic characteristic, final int status) {
+            if(isLoggable(LogLevel.DEBUG)) {
+                log(LogLevel.DEBUG, "[onCharacteristicRead] uuid: " + characteristic.getUuid().toString() + " status: " + status);
+            }
+            final byte[] value = characteristic.getValue();
+            processor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+                    if(cache != null && cache.values != null && status == BluetoothGatt.GATT_SUCCESS) {
+                        cache.values.put(characteristic, value);
+                    }
+                    GattOperationQueue.Operation current = (cache != null) ? cache.queue.current() : null;
+                    if(current != null && current.reportsOwnResults()) {
+                        // Batches and fan-outs report every value in their aggregate response
+                        current.onValue(value);
+                        completeOperation(gatt, GattOperationQueue.Type.READ_CHARACTERISTIC, characteristic, status);
+                        return;
+                    }
+                    sendReadCharacteristicResponse(gatt, characteristic, value, "");
+                    completeOperation(gatt, GattOperationQueue.Type.READ_CHARACTERISTIC, characteristic, status);
+                }
+            });
         }
 
         @Override
-        public void onCharacteristicChanged(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic) {
-            log(LogLevel.DEBUG, "[onCharacteristicChanged] uuid: " + characteristic.getUuid().toString());
-            Protos.OnCharacteristicChanged.Builder p = Protos.OnCharacteristicChanged.newBuilder();
-            p.setRemoteId(gatt.getDevice().getAddress());
-            p.setCharacteristic(ProtoMaker.from(gatt.getDevice(), characteristic, gatt));
-            invokeMethodUIThread("OnCharacteristicChanged", p.build().toByteArray());
+        public void onCharacteristicWrite(final BluetoothGatt gatt, final BluetoothGattCharacteristic characteristic, final int status) {
+            if(isLoggable(LogLevel.DEBUG)) {
+                log(LogLevel.DEBUG, "[onCharacteristicWrite] uuid: " + characteristic.getUuid().toString() + " status: " + status);
+            }
+            final byte[] value = characteristic.getValue();
+            processor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+                    GattOperationQueue.Operation current = (cache != null) ? cache.queue.current() : null;
+                    if(current != null && current.reportsOwnResults()) {
+                        // Bulk writes report through BulkWriteProgress, batches and fan-outs through their aggregate response
+                        completeOperation(gatt, GattOperationQueue.Type.WRITE_CHARACTERISTIC, characteristic, status);
+                        return;
+                    }
+                    if(cache != null && cache.values != null) {
+                        if(status == BluetoothGatt.GATT_SUCCESS) {
+                            cache.values.put(characteristic, value);
+                        } else {
+                            cache.values.invalidate(characteristic);
+                        }
+                    }
+                    sendWriteCharacteristicResponse(gatt, characteristic, status == BluetoothGatt.GATT_SUCCESS);
+                    completeOperation(gatt, GattOperationQueue.Type.WRITE_CHARACTERISTIC, characteristic, status);
+                }
+            });
         }
 
         @Override
-        public void onDescriptorRead(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, int status) {
-            log(LogLevel.DEBUG, "[onDescriptorRead] uuid: " + descriptor.getUuid().toString() + " status: " + status);
-            // Rebuild the ReadAttributeRequest and send back along with response
-            Protos.ReadDescriptorRequest.Builder q = Protos.ReadDescriptorRequest.newBuilder();
-            q.setRemoteId(gatt.getDevice().getAddress());
-            q.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
-            q.setDescriptorUuid(descriptor.getUuid().toString());
-            if(descriptor.getCharacteristic().getService().getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
-                q.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
-            } else {
-                // Reverse search to find service
-                for(BluetoothGattService s : gatt.getServices()) {
-                    for(BluetoothGattService ss : s.getIncludedServices()) {
-                        if(ss.getUuid().equals(descriptor.getCharacteristic().getService().getUuid())){
-                            q.setServiceUuid(s.getUuid().toString());
-                            q.setSecondaryServiceUuid(ss.getUuid().toString());
-                            break;
+        public void onCharacteristicChanged(final BluetoothGatt gatt, final BluetoothGattCharacteristic characteristic) {
+            if(isLoggable(LogLevel.DEBUG)) {
+                log(LogLevel.DEBUG, "[onCharacteristicChanged] uuid: " + characteristic.getUuid().toString());
+            }
+            final byte[] value = characteristic.getValue();
+            final long receivedAt = System.currentTimeMillis();
+            processor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+                    if(cache != null && cache.values != null) {
+                        cache.values.put(characteristic, value);
+                    }
+                    if(cache != null && (cache.notifications != null || cache.compactNotifications.contains(characteristic))) {
+                        Protos.OnCharacteristicValue q = ProtoMaker.from(gatt.getDevice().getAddress(), characteristic,
+                                primaryServiceOf(gatt, characteristic.getService()), value, receivedAt);
+                        if(cache.notifications != null) {
+                            cache.notifications.offer(q.toByteArray());
+                        } else {
+                            invokeMethodUIThread("OnCharacteristicValue", q.toByteArray());
                         }
+                        return;
                     }
+                    Protos.OnCharacteristicChanged.Builder p = Protos.OnCharacteristicChanged.newBuilder();
+                    p.setRemoteId(gatt.getDevice().getAddress());
+                    p.setCharacteristic(ProtoMaker.from(gatt.getDevice(), characteristic, primaryServiceOf(gatt, characteristic.getService()), value));
+                    invokeMethodUIThread("OnCharacteristicChanged", p.build().toByteArray());
                 }
+            });
+        }
+
+        @Override
+        public void onDescriptorRead(final BluetoothGatt gatt, final BluetoothGattDescriptor descriptor, final int status) {
+            if(isLoggable(LogLevel.DEBUG)) {
+                log(LogLevel.DEBUG, "[onDescriptorRead] uuid: " + descriptor.getUuid().toString() + " status: " + status);
             }
-            Protos.ReadDescriptorResponse.Builder p = Protos.ReadDescriptorResponse.newBuilder();
-            p.setRequest(q);
-            p.setValue(ByteString.copyFrom(descriptor.getValue()));
-            invokeMethodUIThread("ReadDescriptorResponse", p.build().toByteArray());
+            final byte[] value = descriptor.getValue();
+            processor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    sendReadDescriptorResponse(gatt, descriptor, value, "");
+                    completeOperation(gatt, GattOperationQueue.Type.READ_DESCRIPTOR, descriptor, status);
+                }
+            });
         }
 
         @Override
-        public void onDescriptorWrite(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, int status) {
-            log(LogLevel.DEBUG, "[onDescriptorWrite] uuid: " + descriptor.getUuid().toString() + " status: " + status);
-            Protos.WriteDescriptorRequest.Builder request = Protos.WriteDescriptorRequest.newBuilder();
-            request.setRemoteId(gatt.getDevice().getAddress());
-            request.setDescriptorUuid(descriptor.getUuid().toString());
-            request.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
-            request.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
-            Protos.WriteDescriptorResponse.Builder p = Protos.WriteDescriptorResponse.newBuilder();
-            p.setRequest(request);
-            p.setSuccess(status == BluetoothGatt.GATT_SUCCESS);
-            invokeMethodUIThread("WriteDescriptorResponse", p.build().toByteArray());
-
-            if(descriptor.getUuid().compareTo(CCCD_ID) == 0) {
-                // SetNotificationResponse
-                Protos.SetNotificationResponse.Builder q = Protos.SetNotificationResponse.newBuilder();
-                q.setRemoteId(gatt.getDevice().getAddress());
-                q.setCharacteristic(ProtoMaker.from(gatt.getDevice(), descriptor.getCharacteristic(), gatt));
-                invokeMethodUIThread("SetNotificationResponse", q.build().toByteArray());
+        public void onDescriptorWrite(final BluetoothGatt gatt, final BluetoothGattDescriptor descriptor, final int status) {
+            if(isLoggable(LogLevel.DEBUG)) {
+                log(LogLevel.DEBUG, "[onDescriptorWrite] uuid: " + descriptor.getUuid().toString() + " status: " + status);
             }
+            final byte[] characteristicValue = descriptor.getCharacteristic().getValue();
+            processor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+                    GattOperationQueue.Operation current = (cache != null) ? cache.queue.current() : null;
+                    Metrics.Operation metric = (descriptor.getUuid().compareTo(CCCD_ID) == 0)
+                            ? Metrics.Operation.SET_NOTIFICATION
+                            : Metrics.Operation.WRITE_DESCRIPTOR;
+                    if(current != null && current.reportsOwnResults()) {
+                        completeOperation(gatt, GattOperationQueue.Type.WRITE_DESCRIPTOR, descriptor, status, metric);
+                        return;
+                    }
+                    boolean success = status == BluetoothGatt.GATT_SUCCESS;
+                    sendWriteDescriptorResponse(gatt, descriptor, success);
+                    if(descriptor.getUuid().compareTo(CCCD_ID) == 0) {
+                        sendSetNotificationResponse(gatt, descriptor.getCharacteristic(), characteristicValue, success);
+                    }
+                    completeOperation(gatt, GattOperationQueue.Type.WRITE_DESCRIPTOR, descriptor, status, metric);
+                }
+            });
         }
 
         @Override
         public void onReliableWriteCompleted(BluetoothGatt gatt, int status) {
-            log(LogLevel.DEBUG, "[onReliableWriteCompleted] status: " + status);
+            if(isLoggable(LogLevel.DEBUG)) {
+                log(LogLevel.DEBUG, "[onReliableWriteCompleted] status: " + status);
+            }
         }
 
         @Override
         public void onReadRemoteRssi(BluetoothGatt gatt, int rssi, int status) {
-            log(LogLevel.DEBUG, "[onReadRemoteRssi] rssi: " + rssi + " status: " + status);
+            if(isLoggable(LogLevel.DEBUG)) {
+                log(LogLevel.DEBUG, "[onReadRemoteRssi] rssi: " + rssi + " status: " + status);
+            }
         }
 
         @Override
-        public void onMtuChanged(BluetoothGatt gatt, int mtu, int status) {
-            log(LogLevel.DEBUG, "[onMtuChanged] mtu: " + mtu + " status: " + status);
-            if(status == BluetoothGatt.GATT_SUCCESS) {
-                if(mDevices.containsKey(gatt.getDevice().getAddress())) {
-                    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
-                    cache.mtu = mtu;
-                    Protos.MtuSizeResponse.Builder p = Protos.MtuSizeResponse.newBuilder();
-                    p.setRemoteId(gatt.getDevice().getAddress());
-                    p.setMtu(mtu);
-                    invokeMethodUIThread("MtuSize", p.build().toByteArray());
-                }
+        public void onMtuChanged(final BluetoothGatt gatt, final int mtu, final int status) {
+            if(isLoggable(LogLevel.DEBUG)) {
+                log(LogLevel.DEBUG, "[onMtuChanged] mtu: " + mtu + " status: " + status);
             }
+            processor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if(status == BluetoothGatt.GATT_SUCCESS) {
+                        BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+                        if(cache != null) {
+                            cache.mtu = mtu;
+                            Protos.MtuSizeResponse.Builder p = Protos.MtuSizeResponse.newBuilder();
+                            p.setRemoteId(gatt.getDevice().getAddress());
+                            p.setMtu(mtu);
+                            invokeMethodUIThread("MtuSize", p.build().toByteArray());
+                        }
+                    }
+                    completeOperation(gatt, GattOperationQueue.Type.REQUEST_MTU, null, status);
+                }
+            });
         }
     };
 
+    /**
+     * Applies the connection priority, PHY and MTU requested in the ConnectRequest.
+     *
+     * @return true if reporting the CONNECTED state was deferred until the MTU exchange completes.
+     */
+    private boolean setupConnection(final BluetoothGatt gatt, final BluetoothDeviceCache cache) {
+        Protos.ConnectRequest options = cache.options;
+        if(Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+            return false;
+        }
+        switch(options.getConnectionPriority()) {
+            case HIGH:
+                gatt.requestConnectionPriority(BluetoothGatt.CONNECTION_PRIORITY_HIGH);
+                break;
+            case LOW_POWER:
+                gatt.requestConnectionPriority(BluetoothGatt.CONNECTION_PRIORITY_LOW_POWER);
+                break;
+            default:
+                break;
+        }
+        if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            int phy = 0;
+            switch(options.getPreferredPhy()) {
+                case LE_1M:
+                    phy = BluetoothDevice.PHY_LE_1M_MASK;
+                    break;
+                case LE_2M:
+                    phy = BluetoothDevice.PHY_LE_2M_MASK;
+                    break;
+                case LE_CODED:
+                    phy = BluetoothDevice.PHY_LE_CODED_MASK;
+                    break;
+                default:
+                    break;
+            }
+            if(phy != 0) {
+                gatt.setPreferredPhy(phy, phy, BluetoothDevice.PHY_OPTION_NO_PREFERRED);
+            }
+        }
+        final int mtu = options.getMtu();
+        if(mtu <= 0) {
+            return false;
+        }
+        cache.deferredConnected.set(ProtoMaker.from(gatt.getDevice(), BluetoothProfile.STATE_CONNECTED).toByteArray());
+        cache.queue.submit(new GattOperationQueue.Operation(GattOperationQueue.Type.REQUEST_MTU, "requestMtu", new LogResult("requestMtu")) {
+            @Override
+            @TargetApi(21)
+            void execute() throws Exception {
+                if(!gatt.requestMtu(mtu)) {
+                    throw new Exception("gatt.requestMtu returned false");
+                }
+            }
+
+            @Override
+            boolean onComplete(int status) {
+                reportDeferredConnected(cache);
+                return true;
+            }
+
+            // A disconnect has already dropped the deferred state, a timeout or failed request has not
+            @Override
+            void onAbort(String reason) {
+                reportDeferredConnected(cache);
+            }
+        });
+        return true;
+    }
+
+    private void reportDeferredConnected(BluetoothDeviceCache cache) {
+        byte[] connected = cache.deferredConnected.getAndSet(null);
+        if(connected != null) {
+            invokeMethodUIThread("DeviceState", connected);
+        }
+    }
+
+    /** Reports the services stored from the last connection, then rediscovers them through the queue. */
+    private void discoverInBackground(BluetoothGatt gatt, BluetoothDeviceCache cache) {
+        byte[] provisional = serviceCache.load(gatt.getDevice().getAddress(), cache.options.getFirmwareFingerprint());
+        if(provisional != null) {
+            invokeMethodUIThread("ProvisionalServices", provisional);
+        }
+        cache.queue.submit(ServiceDiscoveryOperation.background(gatt, provisional, new LogResult("discoverServices")));
+    }
+
+    // Queued behind the MTU request and service discovery of the reconnection
+    private void restoreNotifications(final BluetoothGatt gatt, final BluetoothDeviceCache cache, final long disconnectedAt) {
+        // Characteristics from before the drop are replaced by the discovery
+        cache.compactNotifications.clear();
+        List<NotificationRestoreOperation.Subscription> subscriptions = new ArrayList<>(cache.subscriptions.values());
+        NotificationRestoreOperation.Target target = new NotificationRestoreOperation.Target() {
+            @Override
+            public BluetoothGattDescriptor enable(NotificationRestoreOperation.Subscription subscription) throws Exception {
+                BluetoothGattCharacteristic characteristic = locateCharacteristic(cache, 0, subscription.serviceUuid,
+                        subscription.secondaryServiceUuid, subscription.characteristicUuid);
+                BluetoothGattDescriptor cccDescriptor = characteristic.getDescriptor(CCCD_ID);
+                if(cccDescriptor == null) {
+                    throw new Exception("could not locate CCCD descriptor for characteristic: " + subscription.characteristicUuid);
+                }
+                writeNotification(gatt, characteristic, cccDescriptor, true, cccdValue(characteristic, true));
+                return cccDescriptor;
+            }
+
+            @Override
+            public void onEnabled(NotificationRestoreOperation.Subscription subscription) {
+                if(!subscription.compact) {
+                    return;
+                }
+                try {
+                    cache.compactNotifications.add(locateCharacteristic(cache, 0, subscription.serviceUuid,
+                            subscription.secondaryServiceUuid, subscription.characteristicUuid));
+                } catch(Exception e) {
+                    log(LogLevel.ERROR, "[restoreNotifications] " + e.getMessage());
+                }
+            }
+
+            @Override
+            public void onRestored(List<NotificationRestoreOperation.Subscription> failed) {
+                List<String> failedUuids = new ArrayList<>(failed.size());
+                for(NotificationRestoreOperation.Subscription subscription : failed) {
+                    // Unless Dart subscribed again meanwhile
+                    cache.subscriptions.remove(subscription.key(), subscription);
+                    failedUuids.add(subscription.characteristicUuid);
+                }
+                invokeMethodUIThread("ReconnectState", Protos.ReconnectState.newBuilder()
+                        .setRemoteId(gatt.getDevice().getAddress())
+                        .setState(Protos.ReconnectState.State.RESTORED)
+                        .addAllFailedNotifications(failedUuids)
+                        .setRecoveryMillis(SystemClock.elapsedRealtime() - disconnectedAt)
+                        .build().toByteArray());
+            }
+        };
+        if(subscriptions.isEmpty()) {
+            target.onRestored(Collections.<NotificationRestoreOperation.Subscription>emptyList());
+            return;
+        }
+        cache.queue.submit(new NotificationRestoreOperation(subscriptions, target));
+    }
+
+    // Remembers enabled notifications by UUID, so they can be restored after a reconnection. Only
+    // called once the CCCD write succeeded, so failed requests are neither delivered compact nor restored.
+    private void trackNotification(BluetoothDeviceCache cache, BluetoothGattCharacteristic characteristic, boolean enable, boolean compact) {
+        if(enable && compact) {
+            cache.compactNotifications.add(characteristic);
+        } else {
+            cache.compactNotifications.remove(characteristic);
+        }
+        BluetoothGattService service = characteristic.getService();
+        BluetoothGattService primary = primaryServiceOf(cache.gatt, service);
+        String serviceUuid = (primary != null) ? primary.getUuid().toString() : service.getUuid().toString();
+        String secondaryServiceUuid = (primary != null && primary != service) ? service.getUuid().toString() : "";
+        NotificationRestoreOperation.Subscription subscription = new NotificationRestoreOperation.Subscription(
+                serviceUuid, secondaryServiceUuid, characteristic.getUuid().toString(), compact);
+        if(enable) {
+            cache.subscriptions.put(subscription.key(), subscription);
+        } else {
+            cache.subscriptions.remove(subscription.key());
+        }
+    }
+
+    private void storeServices(String remoteId, String fingerprint, GattDatabase database) {
+        if(!Arrays.equals(serviceCache.load(remoteId, fingerprint), database.bytes)) {
+            serviceCache.store(remoteId, fingerprint, database.bytes);
+        }
+    }
+
+    private void reportServicesDiff(byte[] provisional, GattDatabase database) {
+        if(provisional == null || Arrays.equals(provisional, database.bytes)) {
+            return;
+        }
+        Protos.ServicesDiff diff;
+        try {
+            diff = database.diff(Protos.DiscoverServicesResult.parseFrom(provisional));
+        } catch(InvalidProtocolBufferException e) {
+            // Unreadable provisional tree, report everything as added
+            diff = database.diff(Protos.DiscoverServicesResult.getDefaultInstance());
+        }
+        if(diff.getAddedCount() + diff.getRemovedCount() + diff.getChangedCount() > 0) {
+            invokeMethodUIThread("ServicesDiff", diff.toByteArray());
+        }
+    }
+
+    // Result for operations the plugin starts on its own, failures are only logged
+    class LogResult implements Result {
+        final String name;
+
+        LogResult(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void success(Object o) {
+        }
+
+        @Override
+        public void error(String code, String message, Object details) {
+            log(LogLevel.WARNING, "[" + name + "] " + code + ": " + message);
+        }
+
+        @Override
+        public void notImplemented() {
+        }
+    }
+
+    private BluetoothGattService primaryServiceOf(BluetoothGatt gatt, BluetoothGattService service) {
+        BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+        GattDatabase database = (cache != null) ? cache.database : null;
+        if(database != null) {
+            return database.primaryServiceOf(service);
+        }
+        return ProtoMaker.findPrimaryService(gatt, service);
+    }
+
+    // Response events of the single requests, also sent with the failure when a request is abandoned
+
+    /** @param error Why the read was abandoned, empty if it completed. */
+    private void sendReadCharacteristicResponse(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] value, String error) {
+        Protos.ReadCharacteristicResponse.Builder p = Protos.ReadCharacteristicResponse.newBuilder();
+        p.setRemoteId(gatt.getDevice().getAddress());
+        p.setCharacteristic(ProtoMaker.from(gatt.getDevice(), characteristic, primaryServiceOf(gatt, characteristic.getService()), value));
+        p.setError(error);
+        invokeMethodUIThread("ReadCharacteristicResponse", p.build().toByteArray());
+    }
+
+    private void sendWriteCharacteristicResponse(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, boolean success) {
+        Protos.WriteCharacteristicRequest.Builder request = Protos.WriteCharacteristicRequest.newBuilder();
+        request.setRemoteId(gatt.getDevice().getAddress());
+        request.setCharacteristicUuid(characteristic.getUuid().toString());
+        request.setServiceUuid(characteristic.getService().getUuid().toString());
+        Protos.WriteCharacteristicResponse.Builder p = Protos.WriteCharacteristicResponse.newBuilder();
+        p.setRequest(request);
+        p.setSuccess(success);
+        invokeMethodUIThread("WriteCharacteristicResponse", p.build().toByteArray());
+    }
+
+    /** @param error Why the read was abandoned, empty if it completed. */
+    private void sendReadDescriptorResponse(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, byte[] value, String error) {
+        // Rebuild the ReadAttributeRequest and send back along with response
+        Protos.ReadDescriptorRequest.Builder q = Protos.ReadDescriptorRequest.newBuilder();
+        q.setRemoteId(gatt.getDevice().getAddress());
+        q.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
+        q.setDescriptorUuid(descriptor.getUuid().toString());
+        BluetoothGattService service = descriptor.getCharacteristic().getService();
+        if(service.getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
+            q.setServiceUuid(service.getUuid().toString());
+        } else {
+            BluetoothGattService primaryService = primaryServiceOf(gatt, service);
+            if(primaryService != null) {
+                q.setServiceUuid(primaryService.getUuid().toString());
+                q.setSecondaryServiceUuid(service.getUuid().toString());
+            }
+        }
+        Protos.ReadDescriptorResponse.Builder p = Protos.ReadDescriptorResponse.newBuilder();
+        p.setRequest(q);
+        if(value != null) {
+            p.setValue(ByteString.copyFrom(value));
+        }
+        p.setError(error);
+        invokeMethodUIThread("ReadDescriptorResponse", p.build().toByteArray());
+    }
+
+    private void sendWriteDescriptorResponse(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, boolean success) {
+        Protos.WriteDescriptorRequest.Builder request = Protos.WriteDescriptorRequest.newBuilder();
+        request.setRemoteId(gatt.getDevice().getAddress());
+        request.setDescriptorUuid(descriptor.getUuid().toString());
+        request.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
+        request.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
+        Protos.WriteDescriptorResponse.Builder p = Protos.WriteDescriptorResponse.newBuilder();
+        p.setRequest(request);
+        p.setSuccess(success);
+        invokeMethodUIThread("WriteDescriptorResponse", p.build().toByteArray());
+    }
+
+    private void sendSetNotificationResponse(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] value, boolean success) {
+        Protos.SetNotificationResponse.Builder p = Protos.SetNotificationResponse.newBuilder();
+        p.setRemoteId(gatt.getDevice().getAddress());
+        p.setCharacteristic(ProtoMaker.from(gatt.getDevice(), characteristic, primaryServiceOf(gatt, characteristic.getService()), value));
+        p.setSuccess(success);
+        invokeMethodUIThread("SetNotificationResponse", p.build().toByteArray());
+    }
+
+    private void completeOperation(BluetoothGatt gatt, GattOperationQueue.Type type, Object attribute, int status) {
+        completeOperation(gatt, type, attribute, status, Metrics.Operation.of(type));
+    }
+
+    /**
+     * @param attribute The characteristic or descriptor of the callback, null for the others.
+     * @param metric The histogram the latency of the request is recorded in.
+     */
+    private void completeOperation(BluetoothGatt gatt, GattOperationQueue.Type type, Object attribute, int status, Metrics.Operation metric) {
+        String remoteId = gatt.getDevice().getAddress();
+        connectionManager.touch(remoteId);
+        BluetoothDeviceCache cache = mDevices.get(remoteId);
+        if(cache == null) {
+            return;
+        }
+        long nanos = cache.queue.inFlightNanos();
+        if(cache.queue.complete(type, attribute, status)) {
+            metrics.record(remoteId, metric, nanos);
+        } else {
+            log(LogLevel.WARNING, "[completeOperation] unexpected " + type + " completion");
+        }
+    }
+
     enum LogLevel
     {
         EMERGENCY, ALERT, CRITICAL, ERROR, WARNING, NOTICE, INFO, DEBUG;
     }
 
+    // Guards log calls on hot paths, so their message is only built when it is logged
+    private boolean isLoggable(LogLevel level) {
+        return level.ordinal() <= logLevel.ordinal();
+    }
+
     private void log(LogLevel level, String message) {
-        if(level.ordinal() <= logLevel.ordinal()) {
+        if(isLoggable(level)) {
             Log.d(TAG, message);
         }
     }
 
     private void invokeMethodUIThread(final String name, final byte[] byteArray)
     {
-        activity.runOnUiThread(
-                new Runnable() {
-                    @Override
-                    public void run() {
-                        channel.invokeMethod(name, byteArray);
-                    }
-                });
+        processor.send(name, byteArray);
+    }
+
+    // ManagedDevice starts and stops the connection of a device when the ConnectionManager schedules it
+    class ManagedDevice implements ConnectionManager.Device {
+        final BluetoothDevice device;
+        final Protos.ConnectRequest options;
+
+        ManagedDevice(BluetoothDevice device, Protos.ConnectRequest options) {
+            this.device = device;
+            this.options = options;
+        }
+
+        @Override
+        public boolean connect() {
+            String deviceId = device.getAddress();
+            // If device was connected to previously but is now disconnected, attempt a reconnect
+            BluetoothDeviceCache cache = mDevices.get(deviceId);
+            if(cache != null) {
+                cache.options = options;
+                cache.values = GattValueCache.create(options.getValueCache());
+                applyNotificationOptions(cache, deviceId, options);
+                cache.connectStartedAt = System.nanoTime();
+                return cache.gatt.connect();
+            }
+
+            // New request, connect and add gattServer to Map
+            long connectStartedAt = System.nanoTime();
+            BluetoothGatt gattServer;
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+                gattServer = device.connectGatt(activity, options.getAndroidAutoConnect(), mGattCallback, BluetoothDevice.TRANSPORT_LE);
+            } else {
+                gattServer = device.connectGatt(activity, options.getAndroidAutoConnect(), mGattCallback);
+            }
+            if(gattServer == null) {
+                return false;
+            }
+            cache = new BluetoothDeviceCache(gattServer);
+            cache.connectStartedAt = connectStartedAt;
+            cache.options = options;
+            cache.values = GattValueCache.create(options.getValueCache());
+            applyNotificationOptions(cache, deviceId, options);
+            mDevices.put(deviceId, cache);
+            return true;
+        }
+
+        // Keeps the notification channel across reconnections unless its buffer options changed
+        private void applyNotificationOptions(BluetoothDeviceCache cache, String deviceId, Protos.ConnectRequest options) {
+            int size = options.getNotificationBufferSize();
+            NotificationChannel current = cache.notifications;
+            if(current != null && current.hasOptions(size, options.getNotificationOverflowPolicy())) {
+                return;
+            }
+            if(current != null) {
+                current.close();
+            }
+            cache.notifications = (size > 0)
+                    ? new NotificationChannel(registrar.messenger(), NAMESPACE + "/notifications/" + deviceId,
+                            size, options.getNotificationOverflowPolicy())
+                    : null;
+        }
+
+        @Override
+        public void disconnect() {
+            BluetoothDeviceCache cache = mDevices.get(device.getAddress());
+            if(cache != null) {
+                cache.rotatedOut = true;
+                cache.gatt.disconnect();
+            }
+        }
+
+        @Override
+        public boolean isBusy() {
+            BluetoothDeviceCache cache = mDevices.get(device.getAddress());
+            return cache != null && cache.queue.size() > 0;
+        }
     }
 
     // BluetoothDeviceCache contains any other cached information not stored in Android Bluetooth API
     // but still needed Dart side.
     class BluetoothDeviceCache {
         final BluetoothGatt gatt;
-        int mtu;
+        final GattOperationQueue queue;
+        // Written from onMtuChanged, read from the platform thread
+        volatile int mtu;
+        // Options of the latest connect call, applied on every STATE_CONNECTED
+        volatile Protos.ConnectRequest options = Protos.ConnectRequest.getDefaultInstance();
+        // Snapshot of the discovered services, null until discovered or after reconnecting
+        volatile GattDatabase database;
+        // The services before the last disconnect, to report what changed once rediscovered
+        volatile GattDatabase previousDatabase;
+        // Encoded CONNECTED state held back until the connect-time MTU exchange ends, null otherwise
+        final AtomicReference<byte[]> deferredConnected = new AtomicReference<>();
+        // System.nanoTime() of the pending connection attempt, 0 once connected
+        volatile long connectStartedAt;
+        // Disconnected by the ConnectionManager to free a slot, which is not reconnected
+        volatile boolean rotatedOut;
+        // Notifications enabled from Dart, by Subscription.key(), re-enabled after reconnecting
+        final ConcurrentMap<String, NotificationRestoreOperation.Subscription> subscriptions = new ConcurrentHashMap<>();
+        // Characteristics whose notifications are delivered as OnCharacteristicValue
+        final Set<BluetoothGattCharacteristic> compactNotifications =
+                Collections.newSetFromMap(new ConcurrentHashMap<BluetoothGattCharacteristic, Boolean>());
+        // Dedicated notification event channel, null unless requested in the ConnectRequest
+        volatile NotificationChannel notifications;
+        // Last known characteristic values, null unless requested in the ConnectRequest
+        volatile GattValueCache values;
 
         BluetoothDeviceCache(BluetoothGatt gatt) {
             this.gatt = gatt;
+            this.queue = new GattOperationQueue(GattOperationQueue.DEFAULT_TIMEOUT_MS, replies, operationTimeouts);
             mtu = 20;
         }
     }
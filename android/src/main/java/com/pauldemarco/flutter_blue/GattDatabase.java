@@ -0,0 +1,168 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.bluetooth.BluetoothDevice;
+import android.bluetooth.BluetoothGatt;
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.BluetoothGattDescriptor;
+import android.bluetooth.BluetoothGattService;
+import android.util.SparseArray;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a device's discovered services.
+ *
+ * Built once per discovery so that the service tree does not have to be rebuilt on every
+ * services call, and so that the primary service owning a secondary service can be found without
+ * scanning every service of the device.
+ *
+ * Also indexes every characteristic by its attribute key and by its handle, so requests resolve to
+ * the BluetoothGattCharacteristic without parsing UUIDs or walking included services.
+ */
+class GattDatabase {
+    final Protos.DiscoverServicesResult result;
+    final byte[] bytes;
+
+    // Included service UUID to the primary service that includes it
+    private final Map<UUID, BluetoothGattService> primaryServices = new HashMap<>();
+    private final Map<String, BluetoothGattCharacteristic> characteristics = new HashMap<>();
+    private final SparseArray<BluetoothGattCharacteristic> handles = new SparseArray<>();
+    private final Map<BluetoothGattCharacteristic, Map<String, BluetoothGattDescriptor>> descriptors = new IdentityHashMap<>();
+    private boolean handlesUnique = true;
+
+    GattDatabase(BluetoothGatt gatt) {
+        BluetoothDevice device = gatt.getDevice();
+        for(BluetoothGattService s : gatt.getServices()) {
+            String serviceId = s.getUuid().toString();
+            index(serviceId, "", s);
+            for(BluetoothGattService ss : s.getIncludedServices()) {
+                primaryServices.put(ss.getUuid(), s);
+                index(serviceId, ss.getUuid().toString(), ss);
+            }
+        }
+        Protos.DiscoverServicesResult.Builder p = Protos.DiscoverServicesResult.newBuilder();
+        p.setRemoteId(device.getAddress());
+        for(BluetoothGattService s : gatt.getServices()) {
+            p.addServices(ProtoMaker.from(device, s, this));
+        }
+        this.result = p.build();
+        this.bytes = result.toByteArray();
+    }
+
+    /**
+     * Returns the primary service a characteristic of the given service should be reported under:
+     * the service itself if it is primary, otherwise the primary service that includes it, or null.
+     */
+    BluetoothGattService primaryServiceOf(BluetoothGattService service) {
+        if(service.getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
+            return service;
+        }
+        return primaryServices.get(service.getUuid());
+    }
+
+    /**
+     * Looks up a characteristic by the UUID strings used in requests.
+     *
+     * @param secondaryServiceId The secondary service UUID, or an empty string.
+     * @return The characteristic, or null if it is not indexed.
+     */
+    BluetoothGattCharacteristic characteristic(String serviceId, String secondaryServiceId, String characteristicId) {
+        return characteristics.get(key(serviceId, secondaryServiceId, characteristicId));
+    }
+
+    /**
+     * Looks up a characteristic by the handle reported in {@link Protos.BluetoothCharacteristic}.
+     *
+     * @throws Exception if the handle is unknown or handles are not unique on this device.
+     */
+    BluetoothGattCharacteristic characteristic(int handle) throws Exception {
+        if(!handlesUnique) {
+            throw new Exception("characteristic handles are not unique on this device, use UUIDs instead");
+        }
+        BluetoothGattCharacteristic characteristic = handles.get(handle);
+        if(characteristic == null) {
+            throw new Exception("characteristic handle (" + handle + ") could not be located on the device");
+        }
+        return characteristic;
+    }
+
+    /** @return The descriptor, or null if it is not indexed. */
+    BluetoothGattDescriptor descriptor(BluetoothGattCharacteristic characteristic, String descriptorId) {
+        Map<String, BluetoothGattDescriptor> map = descriptors.get(characteristic);
+        return (map != null) ? map.get(descriptorId) : null;
+    }
+
+    /**
+     * Compares this database to a previously discovered one. Services are matched by UUID and by
+     * their position among services with the same UUID.
+     */
+    Protos.ServicesDiff diff(Protos.DiscoverServicesResult previous) {
+        Map<String, Protos.BluetoothService> before = byKey(previous.getServicesList());
+        Protos.ServicesDiff.Builder p = Protos.ServicesDiff.newBuilder();
+        p.setRemoteId(result.getRemoteId());
+        for(Map.Entry<String, Protos.BluetoothService> entry : byKey(result.getServicesList()).entrySet()) {
+            Protos.BluetoothService old = before.remove(entry.getKey());
+            if(old == null) {
+                p.addAdded(entry.getValue());
+            } else if(!old.equals(entry.getValue())) {
+                p.addChanged(entry.getValue());
+            }
+        }
+        p.addAllRemoved(before.values());
+        return p.build();
+    }
+
+    private static Map<String, Protos.BluetoothService> byKey(List<Protos.BluetoothService> services) {
+        Map<String, Protos.BluetoothService> map = new LinkedHashMap<>();
+        for(Protos.BluetoothService s : services) {
+            int occurrence = 0;
+            while(map.containsKey(s.getUuid() + "#" + occurrence)) {
+                occurrence++;
+            }
+            map.put(s.getUuid() + "#" + occurrence, s);
+        }
+        return map;
+    }
+
+    private void index(String serviceId, String secondaryServiceId, BluetoothGattService service) {
+        for(BluetoothGattCharacteristic c : service.getCharacteristics()) {
+            String key = key(serviceId, secondaryServiceId, c.getUuid().toString());
+            // First match wins, as with BluetoothGattService.getCharacteristic
+            if(!characteristics.containsKey(key)) {
+                characteristics.put(key, c);
+            }
+            if(descriptors.containsKey(c)) {
+                continue;
+            }
+            BluetoothGattCharacteristic existing = handles.get(c.getInstanceId());
+            if(existing != null && existing != c) {
+                handlesUnique = false;
+            }
+            handles.put(c.getInstanceId(), c);
+            Map<String, BluetoothGattDescriptor> map = new HashMap<>();
+            for(BluetoothGattDescriptor d : c.getDescriptors()) {
+                if(!map.containsKey(d.getUuid().toString())) {
+                    map.put(d.getUuid().toString(), d);
+                }
+            }
+            descriptors.put(c, map);
+        }
+    }
+
+    private static String key(String serviceId, String secondaryServiceId, String characteristicId) {
+        return new StringBuilder(serviceId.length() + secondaryServiceId.length() + characteristicId.length() + 2)
+                .append(serviceId).append('/')
+                .append(secondaryServiceId).append('/')
+                .append(characteristicId)
+                .toString();
+    }
+}
@@ -0,0 +1,302 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import io.flutter.plugin.common.MethodChannel.Result;
+
+/**
+ * Serializes GATT operations for a single device.
+ *
+ * Android only allows one outstanding GATT request per connection. Operations are queued here and
+ * the next one is issued directly from the BluetoothGattCallback completion of the previous one,
+ * so bursts of requests from Dart no longer fail while an operation is in flight.
+ *
+ * Method calls are answered through the replies executor, which must keep them ordered with the
+ * response events sent from the callbacks. An operation started by the completion of the previous
+ * one is then answered before its own response event, which Dart only listens for once answered.
+ */
+class GattOperationQueue {
+    // Above the 30 seconds Android itself allows a GATT request before dropping the link
+    static final long DEFAULT_TIMEOUT_MS = 35000;
+
+    // For operations that answer their method call themselves once they finish
+    static final Result NO_REPLY = new Result() {
+        @Override
+        public void success(Object o) {
+        }
+
+        @Override
+        public void error(String code, String message, Object details) {
+        }
+
+        @Override
+        public void notImplemented() {
+        }
+    };
+
+    enum Type {
+        READ_CHARACTERISTIC,
+        WRITE_CHARACTERISTIC,
+        READ_DESCRIPTOR,
+        WRITE_DESCRIPTOR,
+        REQUEST_MTU,
+        DISCOVER_SERVICES
+    }
+
+    static abstract class Operation {
+        final Type type;
+        final String errorCode;
+        final Result result;
+        // The characteristic or descriptor of the request, null to accept any completion of the type
+        final Object attribute;
+
+        Operation(Type type, String errorCode, Result result) {
+            this(type, errorCode, result, null);
+        }
+
+        Operation(Type type, String errorCode, Result result, Object attribute) {
+            this.type = type;
+            this.errorCode = errorCode;
+            this.result = result;
+            this.attribute = attribute;
+        }
+
+        /**
+         * Issues the request to the BluetoothGatt.
+         *
+         * @throws Exception with a descriptive message if the request could not be started.
+         */
+        abstract void execute() throws Exception;
+
+        /**
+         * Called when the in-flight operation completes. Operations spanning several GATT
+         * requests issue the next one here and return false to stay in flight.
+         *
+         * @param status The GATT status of the completed request.
+         * @return true if the operation is finished.
+         */
+        boolean onComplete(int status) throws Exception {
+            return true;
+        }
+
+        /**
+         * Called if the operation is abandoned: when execute() throws, when it times out, or when
+         * the queue is cancelled while it is in flight or still queued. Operations answering
+         * their method call themselves, through NO_REPLY, must answer it here.
+         */
+        void onAbort(String reason) {
+        }
+
+        /**
+         * Whether the operation reports its outcome itself, in which case no response events are
+         * sent for the requests it issues.
+         */
+        boolean reportsOwnResults() {
+            return false;
+        }
+
+        /** Receives the value captured by onCharacteristicRead, before onComplete. */
+        void onValue(byte[] value) {
+        }
+
+        /**
+         * Whether a completion for the given characteristic or descriptor is the one of the
+         * in-flight request. Operations issuing requests for several attributes override this.
+         */
+        boolean matches(Object attribute) {
+            return this.attribute == null || this.attribute == attribute;
+        }
+    }
+
+    /**
+     * A single request whose method call is answered once issued, Dart then waits for its response
+     * event. If the request is abandoned after being issued, onFailure sends that event with the
+     * failure so the caller does not wait forever.
+     */
+    static abstract class Request extends Operation {
+        private boolean issued;
+
+        Request(Type type, String errorCode, Result result, Object attribute) {
+            super(type, errorCode, result, attribute);
+        }
+
+        /**
+         * Issues the request to the BluetoothGatt.
+         *
+         * @throws Exception with a descriptive message if the request could not be started.
+         */
+        abstract void issue() throws Exception;
+
+        /** Sends the response event of the request, reporting it failed for the given reason. */
+        abstract void onFailure(String reason);
+
+        @Override
+        final void execute() throws Exception {
+            issue();
+            issued = true;
+        }
+
+        @Override
+        void onAbort(String reason) {
+            if(issued) {
+                onFailure(reason);
+            }
+        }
+    }
+
+    private final Deque<Operation> pending = new ArrayDeque<>();
+    private final long timeoutMs;
+    private final Executor replies;
+    private final Timer timer;
+    private Operation current;
+    private Runnable timeout;
+    // System.nanoTime() when the in-flight request was issued
+    private long issuedAt;
+
+    /**
+     * @param replies Runs method call replies on the main thread, in order with the response events.
+     * @param timer Runs the operation timeouts.
+     */
+    GattOperationQueue(long timeoutMs, Executor replies, Timer timer) {
+        this.timeoutMs = timeoutMs;
+        this.replies = replies;
+        this.timer = timer;
+    }
+
+    /** Adds an operation to the queue, starting it immediately if the queue is idle. */
+    synchronized void submit(Operation operation) {
+        pending.add(operation);
+        if(current == null) {
+            next();
+        }
+    }
+
+    /**
+     * Called from the BluetoothGattCallback when an operation of the given type completes.
+     *
+     * @param attribute The characteristic or descriptor of the callback, null for the others.
+     * @return true if the completion matched the in-flight operation.
+     */
+    synchronized boolean complete(Type type, Object attribute, int status) {
+        if(current == null || current.type != type || !current.matches(attribute)) {
+            return false;
+        }
+        boolean done;
+        try {
+            done = current.onComplete(status);
+        } catch(Exception e) {
+            current.onAbort(e.getMessage());
+            done = true;
+        }
+        if(done) {
+            finishCurrent();
+            next();
+        } else {
+            issuedAt = System.nanoTime();
+            armTimeout(current);
+        }
+        return true;
+    }
+
+    /** Aborts the in-flight operation and every queued one, e.g. on disconnect. */
+    synchronized void cancel(String reason) {
+        Operation aborted = current;
+        finishCurrent();
+        if(aborted != null) {
+            aborted.onAbort(reason);
+        }
+        List<Operation> queued = new ArrayList<>(pending);
+        pending.clear();
+        for(Operation operation : queued) {
+            operation.onAbort(reason);
+            error(operation, reason);
+        }
+    }
+
+    /** How long the in-flight request has been running, or -1 if there is none. */
+    synchronized long inFlightNanos() {
+        return (current != null) ? System.nanoTime() - issuedAt : -1;
+    }
+
+    /** The in-flight operation, or null. */
+    synchronized Operation current() {
+        return current;
+    }
+
+    synchronized int size() {
+        return pending.size() + (current != null ? 1 : 0);
+    }
+
+    private synchronized void onTimeout(Operation operation) {
+        if(current != operation) {
+            return;
+        }
+        operation.onAbort("timed out");
+        finishCurrent();
+        next();
+    }
+
+    private void finishCurrent() {
+        if(timeout != null) {
+            timer.removeCallbacks(timeout);
+            timeout = null;
+        }
+        current = null;
+    }
+
+    private void next() {
+        while(current == null && !pending.isEmpty()) {
+            final Operation operation = pending.poll();
+            issuedAt = System.nanoTime();
+            try {
+                operation.execute();
+            } catch(Exception e) {
+                operation.onAbort(e.getMessage());
+                error(operation, e.getMessage());
+                continue;
+            }
+            current = operation;
+            success(operation);
+            armTimeout(operation);
+        }
+    }
+
+    private void armTimeout(final Operation operation) {
+        if(timeout != null) {
+            timer.removeCallbacks(timeout);
+        }
+        timeout = new Runnable() {
+            @Override
+            public void run() {
+                onTimeout(operation);
+            }
+        };
+        timer.postDelayed(timeout, timeoutMs);
+    }
+
+    private void success(final Operation operation) {
+        replies.execute(new Runnable() {
+            @Override
+            public void run() {
+                operation.result.success(null);
+            }
+        });
+    }
+
+    private void error(final Operation operation, final String message) {
+        replies.execute(new Runnable() {
+            @Override
+            public void run() {
+                operation.result.error(operation.errorCode, message, null);
+            }
+        });
+    }
+}
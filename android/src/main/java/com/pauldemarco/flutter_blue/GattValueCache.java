@@ -0,0 +1,111 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.os.SystemClock;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Last known values of a device's characteristics, used to answer reads without radio traffic.
+ *
+ * Values are stored from reads, notifications and successful writes, and are fresh for the TTL of
+ * their characteristic UUID given in the {@link Protos.ValueCachePolicy}. Characteristics are
+ * keyed by identity, so values never outlive the discovered services they belong to.
+ */
+class GattValueCache {
+
+    private static class Entry {
+        final byte[] value;
+        final long expiresAt;
+
+        Entry(byte[] value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final int maxEntries;
+    private final long defaultTtl;
+    private final Map<String, Long> ttls = new HashMap<>();
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    // Access ordered, so the least recently used value is evicted first
+    private final Map<BluetoothGattCharacteristic, Entry> entries = new LinkedHashMap<BluetoothGattCharacteristic, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<BluetoothGattCharacteristic, Entry> eldest) {
+            if(size() > maxEntries) {
+                evictions++;
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /** @return The cache described by the policy, or null if it is disabled. */
+    static GattValueCache create(Protos.ValueCachePolicy policy) {
+        return (policy.getMaxEntries() > 0) ? new GattValueCache(policy) : null;
+    }
+
+    private GattValueCache(Protos.ValueCachePolicy policy) {
+        this.maxEntries = policy.getMaxEntries();
+        this.defaultTtl = policy.getDefaultTtlMillis();
+        for(Protos.ValueCacheRule rule : policy.getRulesList()) {
+            ttls.put(rule.getCharacteristicUuid().toLowerCase(Locale.US), rule.getTtlMillis());
+        }
+    }
+
+    /** @return The value if it is still fresh, otherwise null. */
+    synchronized byte[] get(BluetoothGattCharacteristic characteristic) {
+        Entry entry = entries.get(characteristic);
+        if(entry == null || entry.expiresAt <= SystemClock.elapsedRealtime()) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    synchronized void put(BluetoothGattCharacteristic characteristic, byte[] value) {
+        long ttl = ttl(characteristic);
+        if(ttl <= 0 || value == null) {
+            entries.remove(characteristic);
+            return;
+        }
+        entries.put(characteristic, new Entry(value, SystemClock.elapsedRealtime() + ttl));
+    }
+
+    synchronized void invalidate(BluetoothGattCharacteristic characteristic) {
+        entries.remove(characteristic);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized Protos.ValueCacheStats stats(String remoteId) {
+        return Protos.ValueCacheStats.newBuilder()
+                .setRemoteId(remoteId)
+                .setHits(hits)
+                .setMisses(misses)
+                .setEvictions(evictions)
+                .setEntries(entries.size())
+                .build();
+    }
+
+    private long ttl(BluetoothGattCharacteristic characteristic) {
+        if(ttls.isEmpty()) {
+            return defaultTtl;
+        }
+        Long ttl = ttls.get(characteristic.getUuid().toString());
+        return (ttl != null) ? ttl : defaultTtl;
+    }
+}
@@ -0,0 +1,95 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+/**
+ * A fixed-size log-linear histogram of latencies in microseconds, in the style of HdrHistogram.
+ *
+ * Every power of two is split into 8 buckets, so recorded values keep about 12% precision over
+ * the whole range of a long. Recording is a couple of shifts and an array increment, without
+ * allocation.
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values below SUB_BUCKETS are exact, then one row of SUB_BUCKETS per power of two
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long totalMicros;
+    private long minMicros = Long.MAX_VALUE;
+    private long maxMicros;
+
+    synchronized void record(long micros) {
+        if(micros < 0) {
+            micros = 0;
+        }
+        counts[index(micros)]++;
+        count++;
+        totalMicros += micros;
+        if(micros < minMicros) {
+            minMicros = micros;
+        }
+        if(micros > maxMicros) {
+            maxMicros = micros;
+        }
+    }
+
+    synchronized Protos.LatencyHistogram toProto(String operation) {
+        Protos.LatencyHistogram.Builder p = Protos.LatencyHistogram.newBuilder();
+        p.setOperation(operation);
+        p.setCount(count);
+        if(count == 0) {
+            return p.build();
+        }
+        p.setMinMicros(minMicros);
+        p.setMaxMicros(maxMicros);
+        p.setMeanMicros(totalMicros / count);
+        p.setP50Micros(percentile(0.50));
+        p.setP90Micros(percentile(0.90));
+        p.setP99Micros(percentile(0.99));
+        for(int i = 0; i < BUCKETS; i++) {
+            if(counts[i] > 0) {
+                p.addBuckets(Protos.HistogramBucket.newBuilder()
+                        .setUpperMicros(upperBound(i))
+                        .setCount(counts[i]));
+            }
+        }
+        return p.build();
+    }
+
+    // The highest value of the bucket holding the percentile, at most the largest recorded value
+    private long percentile(double fraction) {
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if(seen >= rank) {
+                return Math.min(upperBound(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    static int index(long value) {
+        if(value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if(index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,94 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latency histograms per device and operation, and scan packet counters.
+ *
+ * Recording is cheap enough for every callback: a histogram is created the first time a device
+ * records its operation, and counters are atomic. {@link #snapshot} reports everything recorded
+ * since the plugin was registered.
+ */
+class Metrics {
+
+    enum Operation {
+        CONNECT,
+        DISCOVER_SERVICES,
+        READ_CHARACTERISTIC,
+        WRITE_CHARACTERISTIC,
+        READ_DESCRIPTOR,
+        WRITE_DESCRIPTOR,
+        SET_NOTIFICATION,
+        REQUEST_MTU;
+
+        final String label = name().toLowerCase(Locale.US);
+
+        /** The operation a completed queue request of the given type is recorded as. */
+        static Operation of(GattOperationQueue.Type type) {
+            switch(type) {
+                case READ_CHARACTERISTIC: return READ_CHARACTERISTIC;
+                case WRITE_CHARACTERISTIC: return WRITE_CHARACTERISTIC;
+                case READ_DESCRIPTOR: return READ_DESCRIPTOR;
+                case WRITE_DESCRIPTOR: return WRITE_DESCRIPTOR;
+                case REQUEST_MTU: return REQUEST_MTU;
+                default: return DISCOVER_SERVICES;
+            }
+        }
+    }
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final ConcurrentMap<String, AtomicReferenceArray<LatencyHistogram>> devices = new ConcurrentHashMap<>();
+    // Every advertisement delivered by the platform, and what became of it
+    final AtomicLong scanReceived = new AtomicLong();
+    final AtomicLong scanEmitted = new AtomicLong();
+    final AtomicLong scanDropped = new AtomicLong();
+
+    void record(String remoteId, Operation operation, long nanos) {
+        AtomicReferenceArray<LatencyHistogram> histograms = devices.get(remoteId);
+        if(histograms == null) {
+            AtomicReferenceArray<LatencyHistogram> created = new AtomicReferenceArray<>(OPERATIONS.length);
+            histograms = devices.putIfAbsent(remoteId, created);
+            if(histograms == null) {
+                histograms = created;
+            }
+        }
+        LatencyHistogram histogram = histograms.get(operation.ordinal());
+        if(histogram == null) {
+            histograms.compareAndSet(operation.ordinal(), null, new LatencyHistogram());
+            histogram = histograms.get(operation.ordinal());
+        }
+        histogram.record(nanos / 1000);
+    }
+
+    Protos.Metrics snapshot(Protos.PipelineStats pipeline) {
+        Protos.Metrics.Builder p = Protos.Metrics.newBuilder();
+        for(Map.Entry<String, AtomicReferenceArray<LatencyHistogram>> device : devices.entrySet()) {
+            Protos.DeviceMetrics.Builder d = Protos.DeviceMetrics.newBuilder();
+            d.setRemoteId(device.getKey());
+            AtomicReferenceArray<LatencyHistogram> histograms = device.getValue();
+            for(Operation operation : OPERATIONS) {
+                LatencyHistogram histogram = histograms.get(operation.ordinal());
+                if(histogram != null) {
+                    d.addOperations(histogram.toProto(operation.label));
+                }
+            }
+            p.addDevices(d);
+        }
+        p.setScan(Protos.ScanMetrics.newBuilder()
+                .setReceived(scanReceived.get())
+                .setEmitted(scanEmitted.get())
+                .setDropped(scanDropped.get()));
+        p.setPipeline(pipeline);
+        return p.build();
+    }
+}
@@ -0,0 +1,135 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugin.common.EventChannel.EventSink;
+import io.flutter.plugin.common.EventChannel.StreamHandler;
+
+/**
+ * Event channel dedicated to the notifications of one device.
+ *
+ * Notifications are written into a bounded ring buffer from the callback processing thread. The
+ * buffer is drained on the main thread, which event sinks require, with a single post per drain
+ * and every buffered notification sent as one list event. A full buffer never holds the
+ * processing thread, which every device shares, the overflow policy drops instead.
+ */
+class NotificationChannel implements StreamHandler {
+    private final EventChannel channel;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Protos.ConnectRequest.OverflowPolicy policy;
+    private final byte[][] ring;
+    private int head;
+    private int size;
+    private long delivered;
+    private long dropped;
+    private boolean drainScheduled;
+    private EventSink sink;
+
+    private final Runnable drainRunnable = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    NotificationChannel(BinaryMessenger messenger, String name, int capacity, Protos.ConnectRequest.OverflowPolicy policy) {
+        this.channel = new EventChannel(messenger, name);
+        this.ring = new byte[capacity][];
+        this.policy = policy;
+        channel.setStreamHandler(this);
+    }
+
+    /** Buffers an encoded OnCharacteristicValue, applying the overflow policy when full. */
+    synchronized void offer(byte[] event) {
+        if(size == ring.length) {
+            switch(policy) {
+                case DROP_NEWEST:
+                    dropped++;
+                    return;
+                default:
+                    ring[head] = null;
+                    head = (head + 1) % ring.length;
+                    size--;
+                    dropped++;
+                    break;
+            }
+        }
+        ring[(head + size) % ring.length] = event;
+        size++;
+        scheduleDrain();
+    }
+
+    synchronized Protos.NotificationStats stats(String remoteId) {
+        return Protos.NotificationStats.newBuilder()
+                .setRemoteId(remoteId)
+                .setDelivered(delivered)
+                .setDropped(dropped)
+                .setBuffered(size)
+                .build();
+    }
+
+    /** Whether the channel was created with the given buffer options. */
+    boolean hasOptions(int capacity, Protos.ConnectRequest.OverflowPolicy policy) {
+        return ring.length == capacity && this.policy == policy;
+    }
+
+    void close() {
+        channel.setStreamHandler(null);
+        synchronized(this) {
+            sink = null;
+        }
+    }
+
+    @Override
+    public void onListen(Object o, EventSink eventSink) {
+        synchronized(this) {
+            sink = eventSink;
+            scheduleDrain();
+        }
+    }
+
+    @Override
+    public void onCancel(Object o) {
+        synchronized(this) {
+            sink = null;
+        }
+    }
+
+    private void scheduleDrain() {
+        if(!drainScheduled && sink != null && size > 0) {
+            drainScheduled = true;
+            handler.post(drainRunnable);
+        }
+    }
+
+    private void drain() {
+        EventSink target;
+        List<byte[]> batch;
+        synchronized(this) {
+            drainScheduled = false;
+            target = sink;
+            if(target == null || size == 0) {
+                return;
+            }
+            batch = new ArrayList<>(size);
+            while(size > 0) {
+                batch.add(ring[head]);
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+            }
+            delivered += batch.size();
+        }
+        target.success(batch);
+    }
+}
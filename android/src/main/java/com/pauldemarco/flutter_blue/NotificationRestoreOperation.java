@@ -0,0 +1,118 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.bluetooth.BluetoothGatt;
+import android.bluetooth.BluetoothGattDescriptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enables the notifications a device had before its link dropped, as a single queue operation.
+ *
+ * Queued behind the service discovery of the reconnection, so every subscription is located in
+ * the freshly discovered services. Subscriptions that fail are reported instead of stopping the
+ * rest, and are not restored again. Nothing is reported if the operation is aborted, the next
+ * reconnection restores again.
+ */
+class NotificationRestoreOperation extends GattOperationQueue.Operation {
+
+    /** A notification enabled from Dart, identified by UUIDs so it survives rediscovery. */
+    static class Subscription {
+        final String serviceUuid;
+        final String secondaryServiceUuid;
+        final String characteristicUuid;
+        final boolean compact;
+
+        Subscription(String serviceUuid, String secondaryServiceUuid, String characteristicUuid, boolean compact) {
+            this.serviceUuid = serviceUuid;
+            this.secondaryServiceUuid = secondaryServiceUuid;
+            this.characteristicUuid = characteristicUuid;
+            this.compact = compact;
+        }
+
+        String key() {
+            return key(serviceUuid, secondaryServiceUuid, characteristicUuid);
+        }
+
+        static String key(String serviceUuid, String secondaryServiceUuid, String characteristicUuid) {
+            return serviceUuid + "/" + secondaryServiceUuid + "/" + characteristicUuid;
+        }
+    }
+
+    interface Target {
+        /**
+         * Locates the characteristic and starts writing its CCCD.
+         *
+         * @return The CCCD being written.
+         * @throws Exception with a descriptive message if the write could not be started.
+         */
+        BluetoothGattDescriptor enable(Subscription subscription) throws Exception;
+
+        /** Called once the CCCD write of the subscription succeeded. */
+        void onEnabled(Subscription subscription);
+
+        /** @param failed The subscriptions that could not be located or whose CCCD write failed. */
+        void onRestored(List<Subscription> failed);
+    }
+
+    private final List<Subscription> subscriptions;
+    private final Target target;
+    private final List<Subscription> failed = new ArrayList<>();
+    private int index;
+    private BluetoothGattDescriptor writing;
+
+    NotificationRestoreOperation(List<Subscription> subscriptions, Target target) {
+        super(GattOperationQueue.Type.WRITE_DESCRIPTOR, "restore_notifications_error", GattOperationQueue.NO_REPLY);
+        this.subscriptions = subscriptions;
+        this.target = target;
+    }
+
+    @Override
+    boolean reportsOwnResults() {
+        return true;
+    }
+
+    @Override
+    boolean matches(Object attribute) {
+        return writing == null || writing == attribute;
+    }
+
+    @Override
+    void execute() throws Exception {
+        if(!issueNext()) {
+            target.onRestored(failed);
+            throw new Exception("no notification could be restored");
+        }
+    }
+
+    @Override
+    boolean onComplete(int status) {
+        if(status == BluetoothGatt.GATT_SUCCESS) {
+            target.onEnabled(subscriptions.get(index));
+        } else {
+            failed.add(subscriptions.get(index));
+        }
+        index++;
+        if(issueNext()) {
+            return false;
+        }
+        target.onRestored(failed);
+        return true;
+    }
+
+    private boolean issueNext() {
+        for(; index < subscriptions.size(); index++) {
+            try {
+                writing = target.enable(subscriptions.get(index));
+                return true;
+            } catch(Exception e) {
+                failed.add(subscriptions.get(index));
+            }
+        }
+        return false;
+    }
+}
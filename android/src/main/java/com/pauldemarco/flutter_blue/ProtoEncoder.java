@@ -0,0 +1,31 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+/**
+ * Messages sent to Dart that never change, encoded once.
+ *
+ * Everything else is encoded with toByteArray, which already writes straight into an array of
+ * the serialized size.
+ */
+final class ProtoEncoder {
+    private static final byte[][] BLUETOOTH_STATES = new byte[Protos.BluetoothState.State.values().length][];
+
+    static {
+        for(Protos.BluetoothState.State state : Protos.BluetoothState.State.values()) {
+            if(state != Protos.BluetoothState.State.UNRECOGNIZED) {
+                BLUETOOTH_STATES[state.ordinal()] = Protos.BluetoothState.newBuilder().setState(state).build().toByteArray();
+            }
+        }
+    }
+
+    private ProtoEncoder() {
+    }
+
+    /** The encoded BluetoothState for the given state, shared so it must not be modified. */
+    static byte[] bluetoothState(Protos.BluetoothState.State state) {
+        return BLUETOOTH_STATES[state.ordinal()];
+    }
+}
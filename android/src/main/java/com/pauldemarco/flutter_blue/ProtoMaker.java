@@ -32,19 +32,19 @@ import java.util.UUID;
 
 public class ProtoMaker {
 
-    private static final UUID CCCD_UUID = UUID.fromString("000002902-0000-1000-8000-00805f9b34fb");
+    private static final UUID CCCD_UUID = UUID.fromString("00002902-0000-1000-8000-00805f9b34fb");
 
-    static Protos.ScanResult from(BluetoothDevice device, byte[] advertisementData, int rssi) {
+    static Protos.ScanResult from(BluetoothDevice device, byte[] advertisementData, int rssi, boolean includeRaw) {
         Protos.ScanResult.Builder p = Protos.ScanResult.newBuilder();
         p.setDevice(from(device));
         if(advertisementData != null && advertisementData.length > 0)
-            p.setAdvertisementData(AdvertisementParser.parse(advertisementData));
+            p.setAdvertisementData(AdvertisementParser.parse(advertisementData, includeRaw));
         p.setRssi(rssi);
         return p.build();
     }
 
     @TargetApi(21)
-    static Protos.ScanResult from(BluetoothDevice device, ScanResult scanResult) {
+    static Protos.ScanResult from(BluetoothDevice device, ScanResult scanResult, boolean includeRaw) {
         Protos.ScanResult.Builder p = Protos.ScanResult.newBuilder();
         p.setDevice(from(device));
         Protos.AdvertisementData.Builder a = Protos.AdvertisementData.newBuilder();
@@ -87,6 +87,10 @@ public class ProtoMaker {
                     a.addServiceUuids(s.getUuid().toString());
                 }
             }
+            byte[] bytes = scanRecord.getBytes();
+            if(includeRaw && bytes != null) {
+                a.setRawScanRecord(ByteString.copyFrom(bytes));
+            }
         }
         p.setRssi(scanResult.getRssi());
         p.setAdvertisementData(a.build());
@@ -117,45 +121,92 @@ public class ProtoMaker {
         return p.build();
     }
 
-    static Protos.BluetoothService from(BluetoothDevice device, BluetoothGattService service, BluetoothGatt gatt) {
+    static Protos.BluetoothService from(BluetoothDevice device, BluetoothGattService service, GattDatabase database) {
         Protos.BluetoothService.Builder p = Protos.BluetoothService.newBuilder();
         p.setRemoteId(device.getAddress());
         p.setUuid(service.getUuid().toString());
         p.setIsPrimary(service.getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY);
+        BluetoothGattService primaryService = database.primaryServiceOf(service);
         for(BluetoothGattCharacteristic c : service.getCharacteristics()) {
-            p.addCharacteristics(from(device, c, gatt));
+            p.addCharacteristics(from(device, c, primaryService));
         }
         for(BluetoothGattService s : service.getIncludedServices()) {
-            p.addIncludedServices(from(device, s, gatt));
+            p.addIncludedServices(from(device, s, database));
         }
         return p.build();
     }
 
-    static Protos.BluetoothCharacteristic from(BluetoothDevice device, BluetoothGattCharacteristic characteristic, BluetoothGatt gatt) {
+    /**
+     * @param primaryService The primary service the characteristic belongs to, or that includes
+     *                       the secondary service it belongs to.
+     */
+    static Protos.BluetoothCharacteristic from(BluetoothDevice device, BluetoothGattCharacteristic characteristic, BluetoothGattService primaryService) {
+        return from(device, characteristic, primaryService, characteristic.getValue());
+    }
+
+    /**
+     * @param value The value to report, captured when the callback fired since the characteristic
+     *              may have been updated again by the time this runs.
+     */
+    static Protos.BluetoothCharacteristic from(BluetoothDevice device, BluetoothGattCharacteristic characteristic, BluetoothGattService primaryService, byte[] value) {
         Protos.BluetoothCharacteristic.Builder p = Protos.BluetoothCharacteristic.newBuilder();
         p.setRemoteId(device.getAddress());
         p.setUuid(characteristic.getUuid().toString());
+        p.setHandle(characteristic.getInstanceId());
         p.setProperties(from(characteristic.getProperties()));
-        if(characteristic.getValue() != null)
-            p.setValue(ByteString.copyFrom(characteristic.getValue()));
+        if(value != null)
+            p.setValue(ByteString.copyFrom(value));
         for(BluetoothGattDescriptor d : characteristic.getDescriptors()) {
             p.addDescriptors(from(device, d));
         }
         if(characteristic.getService().getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
             p.setServiceUuid(characteristic.getService().getUuid().toString());
-        } else {
-            // Reverse search to find service
-            for(BluetoothGattService s : gatt.getServices()) {
-                for(BluetoothGattService ss : s.getIncludedServices()) {
-                    if(ss.getUuid().equals(characteristic.getService().getUuid())){
-                        p.setServiceUuid(s.getUuid().toString());
-                        p.setSecondaryServiceUuid(ss.getUuid().toString());
-                        break;
-                    }
+        } else if(primaryService != null) {
+            p.setServiceUuid(primaryService.getUuid().toString());
+            p.setSecondaryServiceUuid(characteristic.getService().getUuid().toString());
+        }
+        return p.build();
+    }
+
+    /**
+     * Builds the compact notification payload, without touching descriptors or properties.
+     */
+    static Protos.OnCharacteristicValue from(String remoteId, BluetoothGattCharacteristic characteristic, BluetoothGattService primaryService, byte[] value, long timestampMillis) {
+        Protos.OnCharacteristicValue.Builder p = Protos.OnCharacteristicValue.newBuilder();
+        p.setRemoteId(remoteId);
+        p.setCharacteristicHandle(characteristic.getInstanceId());
+        p.setCharacteristicUuid(characteristic.getUuid().toString());
+        BluetoothGattService service = characteristic.getService();
+        if(service.getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
+            p.setServiceUuid(service.getUuid().toString());
+        } else if(primaryService != null) {
+            p.setServiceUuid(primaryService.getUuid().toString());
+            p.setSecondaryServiceUuid(service.getUuid().toString());
+        }
+        if(value != null)
+            p.setValue(ByteString.copyFrom(value));
+        p.setTimestampMillis(timestampMillis);
+        return p.build();
+    }
+
+    /**
+     * Returns the service itself if it is primary, otherwise reverse searches for the primary
+     * service that includes it. Prefer {@link GattDatabase#primaryServiceOf} when available.
+     */
+    static BluetoothGattService findPrimaryService(BluetoothGatt gatt, BluetoothGattService service) {
+        if(service.getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
+            return service;
+        }
+        BluetoothGattService primaryService = null;
+        for(BluetoothGattService s : gatt.getServices()) {
+            for(BluetoothGattService ss : s.getIncludedServices()) {
+                if(ss.getUuid().equals(service.getUuid())){
+                    primaryService = s;
+                    break;
                 }
             }
         }
-        return p.build();
+        return primaryService;
     }
 
     static Protos.BluetoothDescriptor from(BluetoothDevice device, BluetoothGattDescriptor descriptor) {
@@ -169,19 +220,28 @@ public class ProtoMaker {
         return p.build();
     }
 
+    // Every combination of the ten defined property bits, built once
+    private static final Protos.CharacteristicProperties[] PROPERTIES = new Protos.CharacteristicProperties[1024];
+
+    static {
+        for(int properties = 0; properties < PROPERTIES.length; properties++) {
+            PROPERTIES[properties] = Protos.CharacteristicProperties.newBuilder()
+                    .setBroadcast((properties & 1) != 0)
+                    .setRead((properties & 2) != 0)
+                    .setWriteWithoutResponse((properties & 4) != 0)
+                    .setWrite((properties & 8) != 0)
+                    .setNotify((properties & 16) != 0)
+                    .setIndicate((properties & 32) != 0)
+                    .setAuthenticatedSignedWrites((properties & 64) != 0)
+                    .setExtendedProperties((properties & 128) != 0)
+                    .setNotifyEncryptionRequired((properties & 256) != 0)
+                    .setIndicateEncryptionRequired((properties & 512) != 0)
+                    .build();
+        }
+    }
+
     static Protos.CharacteristicProperties from(int properties) {
-        return Protos.CharacteristicProperties.newBuilder()
-                .setBroadcast((properties & 1) != 0)
-                .setRead((properties & 2) != 0)
-                .setWriteWithoutResponse((properties & 4) != 0)
-                .setWrite((properties & 8) != 0)
-                .setNotify((properties & 16) != 0)
-                .setIndicate((properties & 32) != 0)
-                .setAuthenticatedSignedWrites((properties & 64) != 0)
-                .setExtendedProperties((properties & 128) != 0)
-                .setNotifyEncryptionRequired((properties & 256) != 0)
-                .setIndicateEncryptionRequired((properties & 512) != 0)
-                .build();
+        return PROPERTIES[properties & (PROPERTIES.length - 1)];
     }
 
     static Protos.DeviceStateResponse from(BluetoothDevice device, int state) {
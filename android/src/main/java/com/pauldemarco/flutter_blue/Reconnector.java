@@ -0,0 +1,161 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Reconnects devices whose link dropped, following their {@link Protos.ReconnectPolicy}.
+ *
+ * Attempts are spaced by an exponential backoff with jitter. An attempt that has not connected
+ * within its timeout is cancelled and counts as failed, as does one that ends in a disconnect.
+ * Attempts run on the main thread, like the {@link ConnectionManager} scheduling they go through.
+ */
+class Reconnector {
+    private static final long DEFAULT_INITIAL_DELAY_MILLIS = 1000;
+    private static final long DEFAULT_MAX_DELAY_MILLIS = 30000;
+    private static final long DEFAULT_ATTEMPT_TIMEOUT_MILLIS = 30000;
+
+    interface Listener {
+        /** Starts a connection attempt, returns false if it could not be started. */
+        boolean connect(String remoteId);
+
+        /** Cancels the pending connection attempt. */
+        void cancel(String remoteId);
+
+        void onStateChanged(Protos.ReconnectState state);
+    }
+
+    private class Entry implements Runnable {
+        final String remoteId;
+        final Protos.ReconnectPolicy policy;
+        final long disconnectedAt = SystemClock.elapsedRealtime();
+        int attempt;
+        boolean connecting;
+
+        Entry(String remoteId, Protos.ReconnectPolicy policy) {
+            this.remoteId = remoteId;
+            this.policy = policy;
+        }
+
+        // Fires once the backoff delay or the attempt timeout elapsed
+        @Override
+        public void run() {
+            synchronized(Reconnector.this) {
+                if(entries.get(remoteId) != this) {
+                    return;
+                }
+                if(connecting) {
+                    listener.cancel(remoteId);
+                    scheduleNext(this);
+                } else {
+                    attempt(this);
+                }
+            }
+        }
+    }
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Random random = new Random();
+    private final Listener listener;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    Reconnector(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Called when the link of a device that was not explicitly disconnected drops, or when an
+     * attempt ends in a disconnect.
+     *
+     * @return true if a reconnection is scheduled.
+     */
+    synchronized boolean onDisconnected(String remoteId, Protos.ReconnectPolicy policy) {
+        Entry entry = entries.get(remoteId);
+        if(entry == null) {
+            if(policy.getMaxAttempts() == 0) {
+                return false;
+            }
+            entry = new Entry(remoteId, policy);
+            entries.put(remoteId, entry);
+        } else if(!entry.connecting) {
+            // Already waiting for the next attempt
+            return true;
+        }
+        handler.removeCallbacks(entry);
+        return scheduleNext(entry);
+    }
+
+    /**
+     * Called when a device connects.
+     *
+     * @return The elapsedRealtime of the disconnect it recovered from, or -1 if it was not reconnecting.
+     */
+    synchronized long onConnected(String remoteId) {
+        Entry entry = entries.remove(remoteId);
+        if(entry == null) {
+            return -1;
+        }
+        handler.removeCallbacks(entry);
+        return entry.disconnectedAt;
+    }
+
+    /** Stops reconnecting a device, e.g. when it is explicitly connected or disconnected. */
+    synchronized void cancel(String remoteId) {
+        Entry entry = entries.remove(remoteId);
+        if(entry != null) {
+            handler.removeCallbacks(entry);
+        }
+    }
+
+    private boolean scheduleNext(Entry entry) {
+        entry.connecting = false;
+        if(entry.attempt >= entry.policy.getMaxAttempts()) {
+            entries.remove(entry.remoteId);
+            report(entry, Protos.ReconnectState.State.GAVE_UP, 0);
+            return false;
+        }
+        long delay = delay(entry.policy, entry.attempt);
+        handler.postDelayed(entry, delay);
+        report(entry, Protos.ReconnectState.State.SCHEDULED, delay);
+        return true;
+    }
+
+    private void attempt(Entry entry) {
+        entry.attempt++;
+        entry.connecting = true;
+        report(entry, Protos.ReconnectState.State.CONNECTING, 0);
+        if(!listener.connect(entry.remoteId)) {
+            scheduleNext(entry);
+            return;
+        }
+        long timeout = entry.policy.getAttemptTimeoutMillis();
+        handler.postDelayed(entry, (timeout > 0) ? timeout : DEFAULT_ATTEMPT_TIMEOUT_MILLIS);
+    }
+
+    // Doubles from the initial delay up to the maximum, then removes up to the jitter fraction at random
+    private long delay(Protos.ReconnectPolicy policy, int attempt) {
+        long initial = (policy.getInitialDelayMillis() > 0) ? policy.getInitialDelayMillis() : DEFAULT_INITIAL_DELAY_MILLIS;
+        long max = (policy.getMaxDelayMillis() > 0) ? policy.getMaxDelayMillis() : DEFAULT_MAX_DELAY_MILLIS;
+        long delay = Math.min(initial << Math.min(attempt, 20), max);
+        float jitter = Math.max(0f, Math.min(policy.getJitter(), 1f));
+        return delay - (long) (delay * jitter * random.nextDouble());
+    }
+
+    private void report(Entry entry, Protos.ReconnectState.State state, long delay) {
+        listener.onStateChanged(Protos.ReconnectState.newBuilder()
+                .setRemoteId(entry.remoteId)
+                .setState(state)
+                .setAttempt(entry.attempt)
+                .setDelayMillis(delay)
+                .build());
+    }
+}
@@ -0,0 +1,78 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Suppresses repeated advertisements before they are encoded.
+ *
+ * A result is reported when the device is new, its payload changed, its rssi moved by more than
+ * the configured delta, or the refresh interval expired since it was last reported.
+ */
+class ScanDeduplicator {
+    static final int MAX_DEVICES = 1024;
+
+    private static class Entry {
+        int payloadHash;
+        int rssi;
+        long reportedAt;
+    }
+
+    private final int rssiDelta;
+    private final long refreshMillis;
+
+    // Access-ordered so the least recently seen device is evicted first
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_DEVICES;
+        }
+    };
+
+    /**
+     * @param rssiDelta Report again once rssi differs from the last report by more than this.
+     * @param refreshMillis Report again after this long, 0 to only report on changes.
+     */
+    ScanDeduplicator(int rssiDelta, long refreshMillis) {
+        this.rssiDelta = rssiDelta;
+        this.refreshMillis = refreshMillis;
+    }
+
+    /**
+     * @param address The remote id of the device.
+     * @param payload The raw scan record, may be null.
+     * @param rssi The received signal strength.
+     * @param now A monotonic timestamp in milliseconds.
+     * @return true if the result should be reported.
+     */
+    synchronized boolean shouldReport(String address, byte[] payload, int rssi, long now) {
+        int payloadHash = Arrays.hashCode(payload);
+        Entry entry = entries.get(address);
+        if(entry == null) {
+            entry = new Entry();
+            entries.put(address, entry);
+        } else if(entry.payloadHash == payloadHash
+                && Math.abs(entry.rssi - rssi) <= rssiDelta
+                && (refreshMillis <= 0 || now - entry.reportedAt < refreshMillis)) {
+            return false;
+        }
+        entry.payloadHash = payloadHash;
+        entry.rssi = rssi;
+        entry.reportedAt = now;
+        return true;
+    }
+
+    /** Reports the next advertisement of the device, as if it were new. */
+    synchronized void forget(String address) {
+        entries.remove(address);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,177 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import com.google.protobuf.ByteString;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Every device seen while scanning, with statistics over all of its advertisements.
+ *
+ * Updated for each advertisement before deduplication, so the statistics are complete even when
+ * few results are reported. Each change bumps a version, which lets callers poll for only the
+ * devices updated or removed since their previous query.
+ */
+class ScanDeviceTable {
+    private static final float RSSI_WEIGHT = 0.125f;
+    private static final float INTERVAL_WEIGHT = 0.125f;
+    // Longer gaps are missed advertisements or scan pauses, not the advertising interval
+    private static final long MAX_INTERVAL_MILLIS = 10000;
+
+    private static class Entry {
+        final String remoteId;
+        final long firstSeenMillis;
+        long lastSeenMillis;
+        long lastSeenElapsed;
+        long count;
+        int rssiMin;
+        int rssiMax;
+        float rssiAverage;
+        float intervalMillis;
+        byte[] payload;
+        Protos.AdvertisementData advertisementData;
+        long version;
+
+        Entry(String remoteId, long firstSeenMillis) {
+            this.remoteId = remoteId;
+            this.firstSeenMillis = firstSeenMillis;
+        }
+    }
+
+    private final int maxDevices;
+    private final long maxAgeMillis;
+    private long version;
+    // Removals older than this are forgotten, queries since before it get a full table
+    private long removalFloor;
+
+    // Access ordered, so iteration starts at the least recently seen device
+    private final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Long> removed = new LinkedHashMap<>();
+
+    /**
+     * @param maxDevices The least recently seen device is removed beyond this.
+     * @param maxAgeMillis Devices not seen for this long are removed, 0 to keep them.
+     */
+    ScanDeviceTable(int maxDevices, long maxAgeMillis) {
+        this.maxDevices = maxDevices;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * @param elapsed A monotonic timestamp in milliseconds.
+     * @param wallClock The wall clock time in milliseconds.
+     */
+    synchronized void update(String remoteId, byte[] payload, int rssi, long elapsed, long wallClock) {
+        Entry entry = entries.get(remoteId);
+        if(entry == null) {
+            entry = new Entry(remoteId, wallClock);
+            entry.rssiMin = rssi;
+            entry.rssiMax = rssi;
+            entry.rssiAverage = rssi;
+            entries.put(remoteId, entry);
+            removed.remove(remoteId);
+            if(entries.size() > maxDevices) {
+                Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+                remove(eldest, eldest.next().getKey());
+            }
+        } else {
+            long interval = elapsed - entry.lastSeenElapsed;
+            if(interval > 0 && interval < MAX_INTERVAL_MILLIS) {
+                entry.intervalMillis = (entry.intervalMillis == 0)
+                        ? interval
+                        : entry.intervalMillis + INTERVAL_WEIGHT * (interval - entry.intervalMillis);
+            }
+            entry.rssiMin = Math.min(entry.rssiMin, rssi);
+            entry.rssiMax = Math.max(entry.rssiMax, rssi);
+            entry.rssiAverage += RSSI_WEIGHT * (rssi - entry.rssiAverage);
+        }
+        entry.lastSeenMillis = wallClock;
+        entry.lastSeenElapsed = elapsed;
+        entry.count++;
+        if(!Arrays.equals(entry.payload, payload)) {
+            entry.payload = payload;
+            entry.advertisementData = null;
+        }
+        entry.version = ++version;
+    }
+
+    /**
+     * @param sinceVersion The version of a previous table to only get what changed since, or 0.
+     * @param elapsed A monotonic timestamp in milliseconds, used for age-based removal.
+     */
+    synchronized Protos.DeviceTable query(long sinceVersion, long elapsed) {
+        removeAged(elapsed);
+        boolean full = sinceVersion <= 0 || sinceVersion < removalFloor;
+        Protos.DeviceTable.Builder p = Protos.DeviceTable.newBuilder();
+        for(Entry entry : entries.values()) {
+            if(full || entry.version > sinceVersion) {
+                p.addDevices(toProto(entry));
+            }
+        }
+        if(!full) {
+            for(Map.Entry<String, Long> removal : removed.entrySet()) {
+                if(removal.getValue() > sinceVersion) {
+                    p.addRemoved(removal.getKey());
+                }
+            }
+        }
+        p.setFull(full);
+        p.setVersion(version);
+        return p.build();
+    }
+
+    private void removeAged(long elapsed) {
+        if(maxAgeMillis <= 0) {
+            return;
+        }
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while(it.hasNext()) {
+            Entry entry = it.next().getValue();
+            // Iteration does not reorder, so the first recent device ends the scan
+            if(elapsed - entry.lastSeenElapsed < maxAgeMillis) {
+                break;
+            }
+            remove(it, entry.remoteId);
+        }
+    }
+
+    private void remove(Iterator<Map.Entry<String, Entry>> it, String remoteId) {
+        it.remove();
+        removed.put(remoteId, ++version);
+        if(removed.size() > maxDevices) {
+            Iterator<Map.Entry<String, Long>> oldest = removed.entrySet().iterator();
+            removalFloor = oldest.next().getValue();
+            oldest.remove();
+        }
+    }
+
+    private static Protos.DeviceTableEntry toProto(Entry entry) {
+        Protos.DeviceTableEntry.Builder p = Protos.DeviceTableEntry.newBuilder();
+        p.setRemoteId(entry.remoteId);
+        p.setFirstSeenMillis(entry.firstSeenMillis);
+        p.setLastSeenMillis(entry.lastSeenMillis);
+        p.setAdvertisementCount(entry.count);
+        p.setRssiMin(entry.rssiMin);
+        p.setRssiMax(entry.rssiMax);
+        p.setRssiAverage(entry.rssiAverage);
+        p.setAdvertisingIntervalMillis(Math.round(entry.intervalMillis));
+        if(entry.payload != null) {
+            p.setLastPayload(ByteString.copyFrom(entry.payload));
+            if(entry.advertisementData == null) {
+                try {
+                    entry.advertisementData = AdvertisementParser.parse(entry.payload, false);
+                } catch(ArrayIndexOutOfBoundsException e) {
+                    entry.advertisementData = Protos.AdvertisementData.getDefaultInstance();
+                }
+            }
+            p.setAdvertisementData(entry.advertisementData);
+        }
+        return p.build();
+    }
+}
@@ -0,0 +1,215 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Evaluates {@link Protos.ScanFilter}s against raw scan records, for the API 18 scan path where
+ * the controller cannot filter.
+ *
+ * Mirrors android.bluetooth.le.ScanFilter: a record passes if it matches any filter, and matches
+ * a filter if it meets every criterion set in it. The AD structures are walked in place, so
+ * rejected packets cost no allocation. Names are only matched against the advertised local name.
+ */
+class ScanFilterMatcher {
+    private static final long BASE_UUID_MSB = 0x0000000000001000L;
+    private static final long BASE_UUID_LSB = 0x800000805F9B34FBL;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static class Filter {
+        String address;
+        byte[] name;
+        UUID serviceUuid;
+        int manufacturerId = -1;
+        byte[] manufacturerData;
+        byte[] manufacturerDataMask;
+        UUID serviceDataUuid;
+        byte[] serviceData;
+        byte[] serviceDataMask;
+    }
+
+    private final List<Filter> filters = new ArrayList<>();
+
+    /**
+     * @throws IllegalArgumentException if a UUID is malformed or a mask does not match its data.
+     */
+    ScanFilterMatcher(List<Protos.ScanFilter> protos, List<String> serviceUuids) {
+        for(Protos.ScanFilter proto : protos) {
+            Filter f = new Filter();
+            if(!proto.getDeviceAddress().isEmpty()) {
+                f.address = proto.getDeviceAddress().toUpperCase(Locale.US);
+            }
+            if(!proto.getDeviceName().isEmpty()) {
+                f.name = proto.getDeviceName().getBytes(UTF_8);
+            }
+            if(!proto.getServiceUuid().isEmpty()) {
+                f.serviceUuid = UUID.fromString(proto.getServiceUuid());
+            }
+            if(proto.getHasManufacturerId()) {
+                f.manufacturerId = proto.getManufacturerId();
+                f.manufacturerData = proto.getManufacturerData().toByteArray();
+                f.manufacturerDataMask = mask(f.manufacturerData, proto.getManufacturerDataMask().toByteArray());
+            }
+            if(!proto.getServiceDataUuid().isEmpty()) {
+                f.serviceDataUuid = UUID.fromString(proto.getServiceDataUuid());
+                f.serviceData = proto.getServiceData().toByteArray();
+                f.serviceDataMask = mask(f.serviceData, proto.getServiceDataMask().toByteArray());
+            }
+            filters.add(f);
+        }
+        for(String uuid : serviceUuids) {
+            Filter f = new Filter();
+            f.serviceUuid = UUID.fromString(uuid);
+            filters.add(f);
+        }
+    }
+
+    /** @param address The address of the device, as returned by BluetoothDevice.getAddress(). */
+    boolean matches(String address, byte[] record) {
+        for(Filter f : filters) {
+            if(matches(f, address, record)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(Filter f, String address, byte[] record) {
+        if(f.address != null && !f.address.equals(address)) {
+            return false;
+        }
+        if(record == null) {
+            return f.name == null && f.serviceUuid == null && f.manufacturerId < 0 && f.serviceDataUuid == null;
+        }
+        boolean name = f.name == null;
+        boolean service = f.serviceUuid == null;
+        boolean manufacturer = f.manufacturerId < 0;
+        boolean serviceData = f.serviceDataUuid == null;
+        int i = 0;
+        while(i < record.length) {
+            int length = record[i] & 0xFF;
+            if(length == 0 || i + 1 + length > record.length) {
+                break;
+            }
+            int type = record[i + 1] & 0xFF;
+            int offset = i + 2;
+            int dataLength = length - 1;
+            switch(type) {
+                case 0x02:
+                case 0x03:
+                    service = service || containsUuid(record, offset, dataLength, 2, f.serviceUuid);
+                    break;
+                case 0x04:
+                case 0x05:
+                    service = service || containsUuid(record, offset, dataLength, 4, f.serviceUuid);
+                    break;
+                case 0x06:
+                case 0x07:
+                    service = service || containsUuid(record, offset, dataLength, 16, f.serviceUuid);
+                    break;
+                case 0x08:
+                case 0x09:
+                    name = name || (dataLength == f.name.length && regionEquals(record, offset, f.name));
+                    break;
+                case 0x16:
+                    serviceData = serviceData || matchesServiceData(f, record, offset, dataLength, 2);
+                    break;
+                case 0x20:
+                    serviceData = serviceData || matchesServiceData(f, record, offset, dataLength, 4);
+                    break;
+                case 0x21:
+                    serviceData = serviceData || matchesServiceData(f, record, offset, dataLength, 16);
+                    break;
+                case 0xFF:
+                    if(!manufacturer && dataLength >= 2
+                            && ((record[offset] & 0xFF) | (record[offset + 1] & 0xFF) << 8) == f.manufacturerId) {
+                        manufacturer = matchesPartial(f.manufacturerData, f.manufacturerDataMask, record, offset + 2, dataLength - 2);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            i += 1 + length;
+        }
+        return name && service && manufacturer && serviceData;
+    }
+
+    private static boolean containsUuid(byte[] record, int offset, int length, int size, UUID uuid) {
+        for(int i = 0; i + size <= length; i += size) {
+            if(uuidEquals(record, offset + i, size, uuid)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesServiceData(Filter f, byte[] record, int offset, int length, int size) {
+        return length >= size
+                && uuidEquals(record, offset, size, f.serviceDataUuid)
+                && matchesPartial(f.serviceData, f.serviceDataMask, record, offset + size, length - size);
+    }
+
+    // UUIDs are little-endian in AD structures, 16 and 32 bit ones are relative to the base UUID
+    private static boolean uuidEquals(byte[] record, int offset, int size, UUID uuid) {
+        long msb;
+        long lsb;
+        if(size == 16) {
+            lsb = littleEndian(record, offset, 8);
+            msb = littleEndian(record, offset + 8, 8);
+        } else {
+            msb = (littleEndian(record, offset, size) << 32) | BASE_UUID_MSB;
+            lsb = BASE_UUID_LSB;
+        }
+        return msb == uuid.getMostSignificantBits() && lsb == uuid.getLeastSignificantBits();
+    }
+
+    private static long littleEndian(byte[] record, int offset, int size) {
+        long value = 0;
+        for(int i = size - 1; i >= 0; i--) {
+            value = (value << 8) | (record[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static boolean matchesPartial(byte[] data, byte[] mask, byte[] record, int offset, int length) {
+        if(length < data.length) {
+            return false;
+        }
+        for(int i = 0; i < data.length; i++) {
+            if((record[offset + i] & mask[i]) != (data[i] & mask[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionEquals(byte[] record, int offset, byte[] expected) {
+        for(int i = 0; i < expected.length; i++) {
+            if(record[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // As with ScanFilter, a missing mask compares every bit
+    private static byte[] mask(byte[] data, byte[] mask) {
+        if(mask.length == 0) {
+            byte[] all = new byte[data.length];
+            Arrays.fill(all, (byte) 0xFF);
+            return all;
+        }
+        if(mask.length != data.length) {
+            throw new IllegalArgumentException("size mismatch for data and mask");
+        }
+        return mask;
+    }
+}
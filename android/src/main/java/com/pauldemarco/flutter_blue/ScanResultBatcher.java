@@ -0,0 +1,87 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Coalesces scan results and delivers them as a single {@link Protos.ScanResultBatch} per interval.
+ *
+ * Only the latest result of each device is kept, so a device advertising many times during an
+ * interval costs one entry in the batch.
+ */
+class ScanResultBatcher {
+
+    interface Listener {
+        void onBatch(Protos.ScanResultBatch batch);
+    }
+
+    private final Handler handler;
+    private final Map<String, Protos.ScanResult> buffer = new LinkedHashMap<>();
+    private final long intervalMillis;
+    private final int maxBatchSize;
+    private final Listener listener;
+    private boolean running;
+
+    private final Runnable flushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+            schedule();
+        }
+    };
+
+    /**
+     * @param looper The thread batches are built and delivered on.
+     * @param intervalMillis How often the buffer is flushed.
+     * @param maxBatchSize Flush early once this many devices are buffered, 0 for no limit.
+     * @param listener Receives each non-empty batch.
+     */
+    ScanResultBatcher(Looper looper, long intervalMillis, int maxBatchSize, Listener listener) {
+        this.handler = new Handler(looper);
+        this.intervalMillis = intervalMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.listener = listener;
+    }
+
+    synchronized void start() {
+        running = true;
+        schedule();
+    }
+
+    /** Stops the timer and delivers anything still buffered. */
+    synchronized void stop() {
+        running = false;
+        handler.removeCallbacks(flushRunnable);
+        flush();
+    }
+
+    synchronized void add(Protos.ScanResult result) {
+        buffer.put(result.getDevice().getRemoteId(), result);
+        if(maxBatchSize > 0 && buffer.size() >= maxBatchSize) {
+            flush();
+        }
+    }
+
+    synchronized void flush() {
+        if(buffer.isEmpty()) {
+            return;
+        }
+        Protos.ScanResultBatch.Builder p = Protos.ScanResultBatch.newBuilder();
+        p.addAllResults(buffer.values());
+        buffer.clear();
+        listener.onBatch(p.build());
+    }
+
+    private synchronized void schedule() {
+        if(running) {
+            handler.postDelayed(flushRunnable, intervalMillis);
+        }
+    }
+}
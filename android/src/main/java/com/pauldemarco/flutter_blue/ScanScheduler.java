@@ -0,0 +1,252 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Runs a scan in windows separated by pauses, as described by a {@link Protos.ScanSchedule}.
+ *
+ * Android silently refuses a sixth scan start within 30 seconds, so windows are delayed as needed
+ * to stay under that limit. With an adaptive schedule, each window picks its scan mode from how
+ * many new devices the previous windows found. Failed scans are reported, and restarted with an
+ * exponential backoff when the schedule asks for it.
+ *
+ * Only depends on the {@link Clock}, {@link Timer} and {@link Scanner} it is given, none of which
+ * need Android.
+ */
+class ScanScheduler {
+    static final int MAX_STARTS = 5;
+    static final long START_PERIOD_MILLIS = 30000;
+    // The platform measures the period with its own clock
+    private static final long START_MARGIN_MILLIS = 250;
+    private static final long FIRST_RESTART_DELAY_MILLIS = 1000;
+    private static final long DEFAULT_MAX_RESTART_DELAY_MILLIS = 60000;
+    private static final int DEFAULT_RAISE_THRESHOLD = 5;
+    private static final int DEFAULT_LOWER_AFTER_WINDOWS = 3;
+    private static final int MAX_KNOWN_DEVICES = 1024;
+
+    // The values of ScanSettings.SCAN_MODE_* and ScanCallback.SCAN_FAILED_*
+    static final int SCAN_MODE_LOW_POWER = 0;
+    static final int SCAN_MODE_LOW_LATENCY = 2;
+    static final int SCAN_FAILED_FEATURE_UNSUPPORTED = 4;
+
+    interface Scanner {
+        void start(int scanMode) throws Exception;
+        void stop();
+    }
+
+    interface Listener {
+        void onScanFailed(Protos.ScanFailure failure);
+    }
+
+    private enum State { IDLE, SCANNING, PAUSED, WAITING }
+
+    private final Clock clock;
+    private final Timer timer;
+    private final Scanner scanner;
+    private final Listener listener;
+
+    // Times of the most recent starts, oldest at startIndex once full
+    private final long[] starts = new long[MAX_STARTS];
+    private int startCount;
+    private int startIndex;
+
+    private State state = State.IDLE;
+    private Protos.ScanSchedule schedule;
+    private int scanMode;
+    private int failures;
+    private int newDevices;
+    private int quietWindows;
+    private final Set<String> knownDevices = new HashSet<>();
+
+    private final Runnable beginWindow = new Runnable() {
+        @Override
+        public void run() {
+            synchronized(ScanScheduler.this) {
+                if(state != State.IDLE) {
+                    beginWindow();
+                }
+            }
+        }
+    };
+
+    private final Runnable endWindow = new Runnable() {
+        @Override
+        public void run() {
+            synchronized(ScanScheduler.this) {
+                if(state == State.SCANNING) {
+                    endWindow();
+                }
+            }
+        }
+    };
+
+    ScanScheduler(Clock clock, Timer timer, Scanner scanner, Listener listener) {
+        this.clock = clock;
+        this.timer = timer;
+        this.scanner = scanner;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts the first window now, or once the start limit allows it.
+     *
+     * @param scanMode The scan mode of the first window.
+     * @throws Exception if the first window could not be started, the scheduler is then idle.
+     */
+    synchronized void start(Protos.ScanSchedule schedule, int scanMode) throws Exception {
+        stop();
+        this.schedule = schedule;
+        this.scanMode = scanMode;
+        failures = 0;
+        quietWindows = 0;
+        knownDevices.clear();
+        long delay = startDelay(clock.elapsedRealtime());
+        if(delay > 0) {
+            state = State.WAITING;
+            timer.postDelayed(beginWindow, delay);
+            return;
+        }
+        scanner.start(scanMode);
+        onStarted();
+    }
+
+    /** Cancels every pending window. The caller stops the platform scan. */
+    synchronized void stop() {
+        timer.removeCallbacks(beginWindow);
+        timer.removeCallbacks(endWindow);
+        state = State.IDLE;
+    }
+
+    /** Counts devices towards the discovery rate of the current window. */
+    synchronized void onDeviceSeen(String remoteId) {
+        if(state != State.SCANNING) {
+            return;
+        }
+        failures = 0;
+        if(knownDevices.size() >= MAX_KNOWN_DEVICES) {
+            knownDevices.clear();
+        }
+        if(knownDevices.add(remoteId)) {
+            newDevices++;
+        }
+    }
+
+    /** @param errorCode One of ScanCallback.SCAN_FAILED_*. */
+    synchronized void onScanFailed(int errorCode) {
+        fail(errorCode, errorName(errorCode));
+    }
+
+    private void beginWindow() {
+        long delay = startDelay(clock.elapsedRealtime());
+        if(delay > 0) {
+            state = State.WAITING;
+            timer.postDelayed(beginWindow, delay);
+            return;
+        }
+        try {
+            scanner.start(scanMode);
+        } catch(Exception e) {
+            fail(0, e.getMessage());
+            return;
+        }
+        onStarted();
+    }
+
+    private void onStarted() {
+        long now = clock.elapsedRealtime();
+        starts[startIndex] = now;
+        startIndex = (startIndex + 1) % MAX_STARTS;
+        if(startCount < MAX_STARTS) {
+            startCount++;
+        }
+        newDevices = 0;
+        state = State.SCANNING;
+        if(schedule.getScanWindowMillis() > 0) {
+            timer.postDelayed(endWindow, schedule.getScanWindowMillis());
+        }
+    }
+
+    private void endWindow() {
+        scanner.stop();
+        failures = 0;
+        if(schedule.getAdaptiveScanMode()) {
+            adapt();
+        }
+        if(schedule.getPauseWindowMillis() > 0) {
+            state = State.PAUSED;
+            timer.postDelayed(beginWindow, schedule.getPauseWindowMillis());
+        } else {
+            beginWindow();
+        }
+    }
+
+    // Busy windows raise the scan mode at once, it is lowered after several quiet ones
+    private void adapt() {
+        int raiseThreshold = (schedule.getRaiseThreshold() > 0) ? schedule.getRaiseThreshold() : DEFAULT_RAISE_THRESHOLD;
+        int lowerAfter = (schedule.getLowerAfterWindows() > 0) ? schedule.getLowerAfterWindows() : DEFAULT_LOWER_AFTER_WINDOWS;
+        if(newDevices >= raiseThreshold) {
+            scanMode = Math.min(Math.max(scanMode, SCAN_MODE_LOW_POWER) + 1, SCAN_MODE_LOW_LATENCY);
+            quietWindows = 0;
+        } else if(newDevices == 0) {
+            if(++quietWindows >= lowerAfter) {
+                scanMode = Math.max(scanMode - 1, SCAN_MODE_LOW_POWER);
+                quietWindows = 0;
+            }
+        } else {
+            quietWindows = 0;
+        }
+    }
+
+    private void fail(int errorCode, String message) {
+        Protos.ScanFailure.Builder p = Protos.ScanFailure.newBuilder();
+        p.setErrorCode(errorCode);
+        if(message != null) {
+            p.setMessage(message);
+        }
+        boolean restart = state != State.IDLE
+                && schedule.getRestartOnFailure()
+                && errorCode != SCAN_FAILED_FEATURE_UNSUPPORTED;
+        timer.removeCallbacks(endWindow);
+        if(restart) {
+            // Also clears a scan the platform considers already started
+            scanner.stop();
+            long maxDelay = (schedule.getMaxRestartDelayMillis() > 0)
+                    ? schedule.getMaxRestartDelayMillis()
+                    : DEFAULT_MAX_RESTART_DELAY_MILLIS;
+            long delay = Math.min(FIRST_RESTART_DELAY_MILLIS << Math.min(failures, 16), maxDelay);
+            failures++;
+            state = State.WAITING;
+            timer.postDelayed(beginWindow, delay);
+            p.setRestarting(true);
+            p.setRestartDelayMillis(delay);
+        } else {
+            stop();
+        }
+        listener.onScanFailed(p.build());
+    }
+
+    // How long until another start stays under the platform limit
+    private long startDelay(long now) {
+        if(startCount < MAX_STARTS) {
+            return 0;
+        }
+        return Math.max(0, starts[startIndex] + START_PERIOD_MILLIS + START_MARGIN_MILLIS - now);
+    }
+
+    private static String errorName(int errorCode) {
+        switch(errorCode) {
+            case 1: return "already started";
+            case 2: return "application registration failed";
+            case 3: return "internal error";
+            case 4: return "feature unsupported";
+            case 5: return "out of hardware resources";
+            case 6: return "scanning too frequently";
+            default: return "unknown error " + errorCode;
+        }
+    }
+}
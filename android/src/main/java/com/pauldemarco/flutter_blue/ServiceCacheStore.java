@@ -0,0 +1,118 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Stores the last discovered services of each device in app storage.
+ *
+ * One file per remote id holds the encoded {@link Protos.DiscoverServicesResult} together with the
+ * firmware fingerprint it was discovered with:
+ *
+ *   int magic, int version, short fingerprint length, fingerprint (UTF-8), int result length, result
+ *
+ * Files are read through a memory mapping and replaced atomically, so a crash while writing
+ * leaves the previous entry intact.
+ */
+class ServiceCacheStore {
+    private static final int MAGIC = 0x46425343; // "FBSC"
+    private static final int VERSION = 1;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final File directory;
+
+    ServiceCacheStore(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param fingerprint The firmware fingerprint the entry must have been stored with, may be empty.
+     * @return The encoded DiscoverServicesResult, or null if there is no usable entry.
+     */
+    synchronized byte[] load(String remoteId, String fingerprint) {
+        File file = file(remoteId);
+        if(!file.exists()) {
+            return null;
+        }
+        RandomAccessFile in = null;
+        try {
+            in = new RandomAccessFile(file, "r");
+            FileChannel channel = in.getChannel();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            byte[] storedFingerprint = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(storedFingerprint);
+            if(!Arrays.equals(storedFingerprint, fingerprint.getBytes(UTF_8))) {
+                return null;
+            }
+            byte[] result = new byte[buffer.getInt()];
+            buffer.get(result);
+            return result;
+        } catch(IOException e) {
+            return null;
+        } catch(BufferUnderflowException e) {
+            return null;
+        } catch(NegativeArraySizeException e) {
+            return null;
+        } finally {
+            close(in);
+        }
+    }
+
+    /** Replaces the entry of the device. Failures only lose the cache, so they are ignored. */
+    synchronized void store(String remoteId, String fingerprint, byte[] result) {
+        if(!directory.isDirectory() && !directory.mkdirs()) {
+            return;
+        }
+        File file = file(remoteId);
+        File temp = new File(directory, file.getName() + ".tmp");
+        byte[] fingerprintBytes = fingerprint.getBytes(UTF_8);
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeShort(fingerprintBytes.length);
+            out.write(fingerprintBytes);
+            out.writeInt(result.length);
+            out.write(result);
+            out.close();
+            out = null;
+            if(!temp.renameTo(file)) {
+                temp.delete();
+            }
+        } catch(IOException e) {
+            close(out);
+            temp.delete();
+        }
+    }
+
+    private File file(String remoteId) {
+        return new File(directory, remoteId.replace(":", "") + ".services");
+    }
+
+    private static void close(Closeable closeable) {
+        if(closeable != null) {
+            try {
+                closeable.close();
+            } catch(IOException ignored) {
+            }
+        }
+    }
+}
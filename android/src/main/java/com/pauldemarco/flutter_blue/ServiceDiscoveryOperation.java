@@ -0,0 +1,50 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.bluetooth.BluetoothGatt;
+
+import io.flutter.plugin.common.MethodChannel.Result;
+
+/**
+ * Runs service discovery through the queue, so it never overlaps another GATT request.
+ *
+ * Discoveries requested from Dart report a DiscoverServicesResult. Background discoveries started
+ * on connect only report what changed since the provisional service tree taken from the
+ * {@link ServiceCacheStore}.
+ */
+class ServiceDiscoveryOperation extends GattOperationQueue.Operation {
+    private final BluetoothGatt gatt;
+    private final boolean background;
+    // Encoded DiscoverServicesResult reported before a background discovery, or null
+    final byte[] provisional;
+
+    private ServiceDiscoveryOperation(BluetoothGatt gatt, boolean background, byte[] provisional, Result result) {
+        super(GattOperationQueue.Type.DISCOVER_SERVICES, "discover_services_error", result);
+        this.gatt = gatt;
+        this.background = background;
+        this.provisional = provisional;
+    }
+
+    static ServiceDiscoveryOperation requested(BluetoothGatt gatt, Result result) {
+        return new ServiceDiscoveryOperation(gatt, false, null, result);
+    }
+
+    static ServiceDiscoveryOperation background(BluetoothGatt gatt, byte[] provisional, Result result) {
+        return new ServiceDiscoveryOperation(gatt, true, provisional, result);
+    }
+
+    @Override
+    void execute() throws Exception {
+        if(!gatt.discoverServices()) {
+            throw new Exception("unknown reason");
+        }
+    }
+
+    @Override
+    boolean reportsOwnResults() {
+        return background;
+    }
+}
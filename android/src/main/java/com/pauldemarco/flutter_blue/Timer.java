@@ -0,0 +1,32 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.os.Handler;
+
+/** Runs delayed tasks, on a Handler in the plugin and on a fake clock in the JVM tests. */
+interface Timer {
+    void postDelayed(Runnable task, long delayMillis);
+    void removeCallbacks(Runnable task);
+
+    /** Runs the tasks on the thread of a Handler. */
+    class HandlerTimer implements Timer {
+        private final Handler handler;
+
+        HandlerTimer(Handler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void postDelayed(Runnable task, long delayMillis) {
+            handler.postDelayed(task, delayMillis);
+        }
+
+        @Override
+        public void removeCallbacks(Runnable task) {
+            handler.removeCallbacks(task);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import com.pauldemarco.flutter_blue.Protos.AdvertisementData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and allocation per packet of {@link AdvertisementParser#parse}, over the recorded
+ * {@link ScanRecords}.
+ *
+ * Run {@link #main} from the unit test classpath; the gc.alloc.rate.norm lines of the report are
+ * the bytes allocated per parsed packet.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdvertisementParserBenchmark {
+    private int next;
+
+    private byte[] nextRecord() {
+        byte[] record = ScanRecords.ALL[next];
+        next = (next + 1) % ScanRecords.ALL.length;
+        return record;
+    }
+
+    @Benchmark
+    public AdvertisementData parse() {
+        return AdvertisementParser.parse(nextRecord(), false);
+    }
+
+    @Benchmark
+    public AdvertisementData parseWithRawRecord() {
+        return AdvertisementParser.parse(nextRecord(), true);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AdvertisementParserBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,121 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import com.pauldemarco.flutter_blue.Protos.AdvertisementData;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AdvertisementParserTest {
+
+    @Test
+    public void decodesManufacturerData() {
+        AdvertisementData data = AdvertisementParser.parse(ScanRecords.IBEACON, false);
+        assertTrue(data.getConnectable());
+        assertEquals(1, data.getManufacturerDataCount());
+        byte[] frame = data.getManufacturerDataOrThrow(0x004C).toByteArray();
+        assertEquals(23, frame.length);
+        assertEquals(0x02, frame[0]);
+        assertEquals((byte) 0xC5, frame[22]);
+        assertTrue(data.getRawScanRecord().isEmpty());
+    }
+
+    @Test
+    public void decodesServiceDataOnTheBaseUuid() {
+        AdvertisementData data = AdvertisementParser.parse(ScanRecords.EDDYSTONE_URL, false);
+        String eddystone = "0000feaa-0000-1000-8000-00805f9b34fb";
+        assertEquals(Arrays.asList(eddystone), data.getServiceUuidsList());
+        byte[] frame = data.getServiceDataOrThrow(eddystone).toByteArray();
+        assertArrayEquals(ScanRecords.hex("10eb03676f6f676c6507"), frame);
+    }
+
+    @Test
+    public void decodesLongUuidNameAndTxPower() {
+        AdvertisementData data = AdvertisementParser.parse(ScanRecords.NAMED_SENSOR, false);
+        assertEquals(Arrays.asList("6e400001-b5a3-f393-e0a9-e50e24dcca9e"), data.getServiceUuidsList());
+        assertEquals("Thermometer", data.getLocalName());
+        assertTrue(data.hasTxPowerLevel());
+        assertEquals(4, data.getTxPowerLevel().getValue());
+    }
+
+    @Test
+    public void decodesScanResponseFields() {
+        AdvertisementData data = AdvertisementParser.parse(ScanRecords.HEART_RATE, true);
+        assertEquals(Arrays.asList(
+                "0000180d-0000-1000-8000-00805f9b34fb",
+                "0000180f-0000-1000-8000-00805f9b34fb"), data.getServiceUuidsList());
+        assertEquals(0x0341, data.getAppearance().getValue());
+        assertEquals(6, data.getConnectionIntervalRange().getMin());
+        assertEquals(12, data.getConnectionIntervalRange().getMax());
+        assertEquals("HRS", data.getLocalName());
+        assertArrayEquals(ScanRecords.hex("01020304"), data.getManufacturerDataOrThrow(0x0059).toByteArray());
+        assertArrayEquals(ScanRecords.HEART_RATE, data.getRawScanRecord().toByteArray());
+        assertFalse(data.hasTxPowerLevel());
+    }
+
+    @Test
+    public void expandsTheUriSchemePrefix() {
+        String host = "2f2f6578616d706c652e636f6d"; // "//example.com"
+        assertEquals("https://example.com", AdvertisementParser.parse(ScanRecords.hex("0f2417" + host), false).getUri());
+        assertEquals("http://example.com", AdvertisementParser.parse(ScanRecords.hex("0f2416" + host), false).getUri());
+        // 0x01 means the remainder carries no scheme
+        assertEquals("example.com", AdvertisementParser.parse(ScanRecords.hex("0d24016578616d706c652e636f6d"), false).getUri());
+    }
+
+    @Test
+    public void skipsEmptyUris() {
+        AdvertisementData data = AdvertisementParser.parse(ScanRecords.hex("0124" + "0409485253"), false);
+        assertTrue(data.getUri().isEmpty());
+        assertEquals("HRS", data.getLocalName());
+    }
+
+    @Test
+    public void rejectsTruncatedUris() {
+        // The structure announces 15 bytes but only 11 follow
+        try {
+            AdvertisementParser.parse(ScanRecords.hex("0f24172f2f6578616d706c65"), false);
+            fail();
+        } catch(ArrayIndexOutOfBoundsException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void reusedParserKeepsEarlierResults() {
+        AdvertisementData first = AdvertisementParser.parse(ScanRecords.IBEACON, true);
+        for(byte[] record : ScanRecords.ALL) {
+            AdvertisementParser.parse(record, true);
+        }
+        assertArrayEquals(ScanRecords.IBEACON, first.getRawScanRecord().toByteArray());
+        assertEquals(23, first.getManufacturerDataOrThrow(0x004C).size());
+    }
+
+    @Test
+    public void stopsAtPadding() {
+        byte[] padded = Arrays.copyOf(ScanRecords.NAMED_SENSOR, 62);
+        assertEquals("Thermometer", AdvertisementParser.parse(padded, false).getLocalName());
+    }
+
+    @Test
+    public void rejectsTruncatedRecords() {
+        byte[] truncated = Arrays.copyOf(ScanRecords.IBEACON, ScanRecords.IBEACON.length - 1);
+        try {
+            AdvertisementParser.parse(truncated, false);
+            fail();
+        } catch(ArrayIndexOutOfBoundsException e) {
+            // Expected
+        }
+        // The parser of this thread is still usable
+        assertEquals("Thermometer", AdvertisementParser.parse(ScanRecords.NAMED_SENSOR, false).getLocalName());
+    }
+}
@@ -0,0 +1,104 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+
+public class CallbackProcessorTest {
+
+    /** Runs the posted tasks when drained, like a Handler whose looper is stepped by the test. */
+    private static class QueueExecutor implements Executor {
+        final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void drain() {
+            while(!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+    }
+
+    private final QueueExecutor worker = new QueueExecutor();
+    private final QueueExecutor main = new QueueExecutor();
+    private final List<String> delivered = new ArrayList<>();
+    private final List<RuntimeException> failures = new ArrayList<>();
+    private final CallbackProcessor processor = new CallbackProcessor(worker, main, new CallbackProcessor.Sink() {
+        @Override
+        public void deliver(String method, byte[] payload) {
+            delivered.add(method);
+        }
+
+        @Override
+        public void onTaskFailed(RuntimeException e) {
+            failures.add(e);
+        }
+    });
+
+    private Runnable sending(final String method) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                processor.send(method, new byte[0]);
+            }
+        };
+    }
+
+    private static Runnable throwing(final RuntimeException e) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                throw e;
+            }
+        };
+    }
+
+    @Test
+    public void keepsProcessingAfterATaskThrows() {
+        RuntimeException e = new ArrayIndexOutOfBoundsException("truncated advertisement");
+        processor.execute(sending("first"));
+        processor.execute(throwing(e));
+        processor.execute(sending("second"));
+
+        worker.drain();
+        main.drain();
+
+        assertEquals(Arrays.asList("first", "second"), delivered);
+        assertEquals(Arrays.<RuntimeException>asList(e), failures);
+    }
+
+    @Test
+    public void keepsDeliveringAfterAReplyThrows() {
+        RuntimeException e = new NullPointerException("value");
+        processor.send("before", new byte[0]);
+        processor.post(throwing(e));
+        processor.send("after", new byte[0]);
+
+        main.drain();
+
+        assertEquals(Arrays.asList("before", "after"), delivered);
+        assertEquals(Arrays.<RuntimeException>asList(e), failures);
+    }
+
+    @Test
+    public void countsThrowingTasksAsProcessed() {
+        processor.execute(throwing(new IllegalStateException()));
+
+        worker.drain();
+
+        assertEquals(0, processor.stats().getPendingTasks());
+        assertEquals(1, processor.stats().getStages(1).getCount());
+    }
+}
@@ -0,0 +1,260 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import com.pauldemarco.flutter_blue.Protos.ConnectionSlotState.State;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Connects and disconnects devices from several platform threads while callback threads deliver
+ * their connection state changes and notifications, the way the plugin shares its device registry
+ * and ConnectionManager between the platform thread and the callback processing thread.
+ */
+public class ConnectionManagerStressTest {
+    private static final int STATE_DISCONNECTED = 0;
+    private static final int STATE_CONNECTED = 2;
+    private static final int DEVICES = 24;
+    private static final int MAX_CONNECTIONS = 4;
+
+    /** Runs the deferred scheduling on a thread of its own, as the main looper does. */
+    private static class ExecutorTimer implements Timer {
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        final Map<Runnable, ScheduledFuture<?>> scheduled = new HashMap<>();
+
+        @Override
+        public synchronized void postDelayed(Runnable task, long delayMillis) {
+            scheduled.put(task, executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS));
+        }
+
+        @Override
+        public synchronized void removeCallbacks(Runnable task) {
+            ScheduledFuture<?> future = scheduled.remove(task);
+            if(future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /** What the plugin keeps in mDevices for a device. */
+    private static class DeviceCache {
+        final AtomicInteger notifications = new AtomicInteger();
+    }
+
+    private static class Callback {
+        final String remoteId;
+        final int newState;
+
+        Callback(String remoteId, int newState) {
+            this.remoteId = remoteId;
+            this.newState = newState;
+        }
+    }
+
+    private final ExecutorTimer timer = new ExecutorTimer();
+    private final Clock clock = new Clock() {
+        @Override
+        public long elapsedRealtime() {
+            return System.nanoTime() / 1000000;
+        }
+    };
+    private final ThreadPoolExecutor threads = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+    private final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+    private final ConcurrentMap<String, DeviceCache> registry = new ConcurrentHashMap<>();
+    // One callback thread per group of devices, like the ordered callbacks of one BluetoothGatt
+    private final List<BlockingQueue<Callback>> callbacks = new ArrayList<>();
+    private final AtomicLong pendingCallbacks = new AtomicLong();
+    private volatile int maxActive;
+
+    private final ConnectionManager manager = new ConnectionManager(timer, clock, new ConnectionManager.Listener() {
+        // Called with the manager's lock held, so the snapshot is consistent with the change
+        @Override
+        public void onStateChanged(Protos.ConnectionSlotState state) {
+            int active = 0;
+            for(Protos.ConnectionSlotState slot : manager.snapshot().getDevicesList()) {
+                if(slot.getState() == State.CONNECTING || slot.getState() == State.CONNECTED
+                        || slot.getState() == State.DISCONNECTING) {
+                    active++;
+                }
+            }
+            maxActive = Math.max(maxActive, active);
+        }
+    });
+
+    /** What ManagedDevice does, with the link reporting its state from a callback thread. */
+    private class Device implements ConnectionManager.Device {
+        final String remoteId;
+
+        Device(String remoteId) {
+            this.remoteId = remoteId;
+        }
+
+        @Override
+        public boolean connect() {
+            registry.putIfAbsent(remoteId, new DeviceCache());
+            post(remoteId, STATE_CONNECTED);
+            return true;
+        }
+
+        @Override
+        public void disconnect() {
+            post(remoteId, STATE_DISCONNECTED);
+        }
+
+        @Override
+        public boolean isBusy() {
+            return false;
+        }
+    }
+
+    private void post(String remoteId, int newState) {
+        pendingCallbacks.incrementAndGet();
+        callbacks.get(Math.abs(remoteId.hashCode()) % callbacks.size()).add(new Callback(remoteId, newState));
+    }
+
+    /** What onConnectionStateChange and onCharacteristicChanged do on the processing thread. */
+    private Runnable callbackThread(final BlockingQueue<Callback> queue, final long seed) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                Random random = new Random(seed);
+                try {
+                    while(true) {
+                        Callback callback = queue.take();
+                        if(callback.remoteId == null) {
+                            return;
+                        }
+                        manager.onConnectionStateChange(callback.remoteId, callback.newState);
+                        DeviceCache cache = registry.get(callback.remoteId);
+                        if(cache != null && callback.newState == STATE_CONNECTED) {
+                            for(int i = random.nextInt(8); i > 0; i--) {
+                                cache.notifications.incrementAndGet();
+                                manager.touch(callback.remoteId);
+                            }
+                        }
+                        pendingCallbacks.decrementAndGet();
+                    }
+                } catch(Throwable t) {
+                    failures.add(t);
+                }
+            }
+        };
+    }
+
+    /** What the connect and disconnect method calls do on the platform thread. */
+    private Runnable platformThread(final CountDownLatch start, final int calls, final long seed) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                Random random = new Random(seed);
+                try {
+                    start.await();
+                    for(int i = 0; i < calls; i++) {
+                        String remoteId = "device-" + random.nextInt(DEVICES);
+                        if(random.nextInt(3) > 0) {
+                            try {
+                                manager.connect(remoteId, new Device(remoteId), random.nextBoolean());
+                            } catch(IllegalStateException e) {
+                                // Already connecting or connected
+                            }
+                        } else {
+                            disconnect(remoteId);
+                        }
+                        manager.snapshot();
+                    }
+                } catch(Throwable t) {
+                    failures.add(t);
+                }
+            }
+        };
+    }
+
+    // Like the disconnect method call, the link reports back even if it was not up
+    private void disconnect(String remoteId) {
+        registry.remove(remoteId);
+        manager.remove(remoteId);
+        post(remoteId, STATE_DISCONNECTED);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        for(BlockingQueue<Callback> queue : callbacks) {
+            queue.add(new Callback(null, 0));
+        }
+        threads.shutdown();
+        assertTrue(threads.awaitTermination(10, TimeUnit.SECONDS));
+        timer.executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentConnectsDisconnectsAndCallbacksKeepTheSlotsConsistent() throws Exception {
+        manager.setLimits(Protos.ConnectionLimits.newBuilder()
+                .setMaxConnections(MAX_CONNECTIONS)
+                .setMaxPendingConnections(2)
+                .setIdleTimeoutMillis(2)
+                .build());
+        for(int i = 0; i < 4; i++) {
+            BlockingQueue<Callback> queue = new LinkedBlockingQueue<>();
+            callbacks.add(queue);
+            threads.execute(callbackThread(queue, i));
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        int platformThreads = 4;
+        for(int i = 0; i < platformThreads; i++) {
+            threads.execute(platformThread(start, 5000, 100 + i));
+        }
+        start.countDown();
+
+        awaitQuiet();
+        for(int i = 0; i < DEVICES; i++) {
+            disconnect("device-" + i);
+        }
+        awaitQuiet();
+
+        assertTrue(failures.toString(), failures.isEmpty());
+        assertEquals(MAX_CONNECTIONS, maxActive);
+        assertEquals(0, manager.snapshot().getDevicesCount());
+        assertTrue(registry.isEmpty());
+    }
+
+    // Until the platform threads are done and every callback and deferred schedule has run
+    private void awaitQuiet() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 20000;
+        while(System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            // Callback threads block on their queues, platform threads end once done
+            if(pendingCallbacks.get() == 0 && threads.getActiveCount() <= callbacks.size()) {
+                Thread.sleep(20);
+                if(pendingCallbacks.get() == 0) {
+                    return;
+                }
+            }
+        }
+        throw new AssertionError("callbacks still pending: " + pendingCallbacks.get());
+    }
+}
@@ -0,0 +1,75 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/** A {@link Timer} and clock whose time only moves when a test advances it. */
+class FakeTimer implements Timer, Clock {
+
+    private static class Task {
+        final Runnable runnable;
+        final long dueAt;
+
+        Task(Runnable runnable, long dueAt) {
+            this.runnable = runnable;
+            this.dueAt = dueAt;
+        }
+    }
+
+    private final List<Task> tasks = new ArrayList<>();
+    private long now;
+
+    @Override
+    public synchronized void postDelayed(Runnable task, long delayMillis) {
+        tasks.add(new Task(task, now + delayMillis));
+    }
+
+    @Override
+    public synchronized void removeCallbacks(Runnable task) {
+        Iterator<Task> it = tasks.iterator();
+        while(it.hasNext()) {
+            if(it.next().runnable == task) {
+                it.remove();
+            }
+        }
+    }
+
+    @Override
+    public synchronized long elapsedRealtime() {
+        return now;
+    }
+
+    /** Runs every task due within the next millis, in due order, moving the clock to each. */
+    void advance(long millis) {
+        long end;
+        synchronized(this) {
+            end = now + millis;
+        }
+        while(true) {
+            Task next = null;
+            synchronized(this) {
+                for(Task task : tasks) {
+                    if(task.dueAt <= end && (next == null || task.dueAt < next.dueAt)) {
+                        next = task;
+                    }
+                }
+                if(next == null) {
+                    now = end;
+                    return;
+                }
+                tasks.remove(next);
+                now = next.dueAt;
+            }
+            next.runnable.run();
+        }
+    }
+
+    synchronized int pending() {
+        return tasks.size();
+    }
+}
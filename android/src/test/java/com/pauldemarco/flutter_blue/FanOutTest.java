@@ -0,0 +1,138 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import io.flutter.plugin.common.MethodChannel.Result;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FanOutTest {
+    private static final int GATT_SUCCESS = 0;
+    private static final List<String> DEVICES = Arrays.asList("A", "B", "C");
+
+    private final Executor replies = new Executor() {
+        @Override
+        public void execute(Runnable reply) {
+            reply.run();
+        }
+    };
+    private final FakeTimer timer = new FakeTimer();
+    private final List<Object> answers = new ArrayList<>();
+    private final Result reply = new Result() {
+        @Override
+        public void success(Object o) {
+            answers.add(o);
+        }
+
+        @Override
+        public void error(String code, String message, Object details) {
+            answers.add(code);
+        }
+
+        @Override
+        public void notImplemented() {
+        }
+    };
+
+    private GattOperationQueue queue() {
+        return new GattOperationQueue(1000, replies, timer);
+    }
+
+    private static GattOperationQueue.Operation busy() {
+        return new GattOperationQueue.Operation(GattOperationQueue.Type.WRITE_CHARACTERISTIC, "write_characteristic_error", GattOperationQueue.NO_REPLY) {
+            @Override
+            void execute() {
+            }
+        };
+    }
+
+    private static FanOut.DeviceOperation read(FanOut fanOut, int index) {
+        return new FanOut.DeviceOperation(fanOut, index, GattOperationQueue.Type.READ_CHARACTERISTIC, null) {
+            @Override
+            void execute() {
+            }
+        };
+    }
+
+    private Protos.FanOutResponse response() throws InvalidProtocolBufferException {
+        assertEquals(1, answers.size());
+        return Protos.FanOutResponse.parseFrom((byte[]) answers.get(0));
+    }
+
+    @Test
+    public void answersOnceADeviceDisconnectsWhileItsRequestIsQueued() throws Exception {
+        List<GattOperationQueue> queues = Arrays.asList(queue(), queue(), queue());
+        // B is busy with an earlier request, its fan-out read waits behind it
+        queues.get(1).submit(busy());
+        FanOut fanOut = new FanOut(DEVICES, replies, reply);
+        for(int i = 0; i < queues.size(); i++) {
+            queues.get(i).submit(read(fanOut, i));
+        }
+
+        queues.get(0).current().onValue(new byte[] {1});
+        assertTrue(queues.get(0).complete(GattOperationQueue.Type.READ_CHARACTERISTIC, null, GATT_SUCCESS));
+        queues.get(1).cancel("device disconnected");
+        assertTrue(answers.isEmpty());
+        queues.get(2).current().onValue(new byte[] {3});
+        assertTrue(queues.get(2).complete(GattOperationQueue.Type.READ_CHARACTERISTIC, null, GATT_SUCCESS));
+
+        Protos.FanOutResponse response = response();
+        assertEquals(3, response.getResultsCount());
+        assertTrue(response.getResults(0).getSuccess());
+        assertEquals(1, response.getResults(0).getValue().byteAt(0));
+        assertFalse(response.getResults(1).getSuccess());
+        assertEquals("B", response.getResults(1).getRemoteId());
+        assertEquals("device disconnected", response.getResults(1).getError());
+        assertTrue(response.getResults(2).getSuccess());
+        assertEquals(3, response.getResults(2).getValue().byteAt(0));
+    }
+
+    @Test
+    public void answersOnceADeviceDisconnectsWhileItsRequestIsInFlight() throws Exception {
+        List<GattOperationQueue> queues = Arrays.asList(queue(), queue(), queue());
+        FanOut fanOut = new FanOut(DEVICES, replies, reply);
+        for(int i = 0; i < queues.size(); i++) {
+            queues.get(i).submit(read(fanOut, i));
+        }
+
+        queues.get(1).cancel("device disconnected");
+        assertTrue(queues.get(0).complete(GattOperationQueue.Type.READ_CHARACTERISTIC, null, GATT_SUCCESS));
+        timer.advance(1000);
+
+        Protos.FanOutResponse response = response();
+        assertTrue(response.getResults(0).getSuccess());
+        assertEquals("device disconnected", response.getResults(1).getError());
+        assertEquals("timed out", response.getResults(2).getError());
+    }
+
+    @Test
+    public void countsRequestsThatCannotStart() throws Exception {
+        GattOperationQueue queue = queue();
+        FanOut fanOut = new FanOut(Arrays.asList("A", "B"), replies, reply);
+        fanOut.fail(0, "no instance of BluetoothGatt, have you connected first?");
+        queue.submit(new FanOut.DeviceOperation(fanOut, 1, GattOperationQueue.Type.READ_CHARACTERISTIC, null) {
+            @Override
+            void execute() throws Exception {
+                throw new Exception("gatt.readCharacteristic returned false");
+            }
+        });
+
+        Protos.FanOutResponse response = response();
+        assertEquals("no instance of BluetoothGatt, have you connected first?", response.getResults(0).getError());
+        assertEquals("gatt.readCharacteristic returned false", response.getResults(1).getError());
+        assertEquals(0, queue.size());
+    }
+}
@@ -0,0 +1,275 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import io.flutter.plugin.common.MethodChannel.Result;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Bursts of submissions from several threads racing the completions of a simulated callback
+ * thread per device, and disconnects cancelling devices in the middle of it all.
+ */
+public class GattOperationQueueStressTest {
+    private static final int GATT_SUCCESS = 0;
+    private static final long TIMEOUT_MS = 60000;
+
+    private final Executor replies = new Executor() {
+        @Override
+        public void execute(Runnable reply) {
+            reply.run();
+        }
+    };
+    private final FakeTimer timer = new FakeTimer();
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+    private volatile boolean running = true;
+
+    /** A device with its queue and the thread delivering its GATT callbacks. */
+    private class Device implements Runnable {
+        final GattOperationQueue queue = new GattOperationQueue(TIMEOUT_MS, replies, timer);
+        final BlockingQueue<Op> issued = new LinkedBlockingQueue<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+
+        @Override
+        public void run() {
+            try {
+                while(running || !issued.isEmpty()) {
+                    Op op = issued.poll(10, TimeUnit.MILLISECONDS);
+                    if(op == null) {
+                        continue;
+                    }
+                    // Like the stack, only the request that was issued gets a callback
+                    synchronized(queue) {
+                        if(queue.current() == op) {
+                            queue.complete(GattOperationQueue.Type.READ_CHARACTERISTIC, null, GATT_SUCCESS);
+                        }
+                    }
+                }
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private class Op extends GattOperationQueue.Operation {
+        final Device device;
+        final int submitter;
+        final int sequence;
+        final List<Op> executed;
+        boolean executing;
+
+        Op(Device device, int submitter, int sequence, Result result, List<Op> executed) {
+            super(GattOperationQueue.Type.READ_CHARACTERISTIC, "read_characteristic_error", result);
+            this.device = device;
+            this.submitter = submitter;
+            this.sequence = sequence;
+            this.executed = executed;
+        }
+
+        @Override
+        void execute() {
+            if(device.inFlight.incrementAndGet() > 1) {
+                device.overlaps.incrementAndGet();
+            }
+            executing = true;
+            synchronized(executed) {
+                executed.add(this);
+            }
+            device.issued.add(this);
+        }
+
+        @Override
+        boolean onComplete(int status) {
+            executing = false;
+            device.inFlight.decrementAndGet();
+            return true;
+        }
+
+        @Override
+        void onAbort(String reason) {
+            if(executing) {
+                executing = false;
+                device.inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    /** Counts the answers of every operation by id. */
+    private static class Answers {
+        final AtomicIntegerArray successes;
+        final AtomicIntegerArray errors;
+        final AtomicInteger total = new AtomicInteger();
+
+        Answers(int size) {
+            successes = new AtomicIntegerArray(size);
+            errors = new AtomicIntegerArray(size);
+        }
+
+        Result result(final int id) {
+            return new Result() {
+                @Override
+                public void success(Object o) {
+                    successes.incrementAndGet(id);
+                    total.incrementAndGet();
+                }
+
+                @Override
+                public void error(String code, String message, Object details) {
+                    errors.incrementAndGet(id);
+                    total.incrementAndGet();
+                }
+
+                @Override
+                public void notImplemented() {
+                }
+            };
+        }
+
+        void await(int expected) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 10000;
+            while(total.get() < expected && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        running = false;
+        threads.shutdown();
+        assertTrue(threads.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void concurrentBurstsOnOneDeviceRunOneAtATimeInSubmissionOrder() throws Exception {
+        final int submitters = 8;
+        final int burst = 500;
+        final Device device = new Device();
+        final Answers answers = new Answers(submitters * burst);
+        final List<Op> executed = new ArrayList<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        threads.execute(device);
+        for(int s = 0; s < submitters; s++) {
+            final int submitter = s;
+            threads.execute(new Runnable() {
+                @Override
+                public void run() {
+                    await(start);
+                    for(int i = 0; i < burst; i++) {
+                        int id = submitter * burst + i;
+                        device.queue.submit(new Op(device, submitter, i, answers.result(id), executed));
+                    }
+                }
+            });
+        }
+        start.countDown();
+        answers.await(submitters * burst);
+        waitUntilIdle(device);
+
+        assertEquals(submitters * burst, answers.total.get());
+        for(int id = 0; id < submitters * burst; id++) {
+            assertEquals(1, answers.successes.get(id));
+        }
+        assertEquals(0, device.overlaps.get());
+        assertEquals(submitters * burst, executed.size());
+        int[] last = new int[submitters];
+        Arrays.fill(last, -1);
+        for(Op op : executed) {
+            assertEquals(last[op.submitter] + 1, op.sequence);
+            last[op.submitter] = op.sequence;
+        }
+    }
+
+    @Test
+    public void burstsAcrossDevicesWithDisconnectsAnswerEveryCallOnce() throws Exception {
+        final int deviceCount = 16;
+        final int submitters = 4;
+        final int burst = 2000;
+        final List<Device> devices = new ArrayList<>();
+        for(int i = 0; i < deviceCount; i++) {
+            Device device = new Device();
+            devices.add(device);
+            threads.execute(device);
+        }
+        final Answers answers = new Answers(submitters * burst);
+        final List<Op> executed = new ArrayList<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch submitted = new CountDownLatch(submitters);
+        for(int s = 0; s < submitters; s++) {
+            final int submitter = s;
+            threads.execute(new Runnable() {
+                @Override
+                public void run() {
+                    await(start);
+                    Random random = new Random(submitter);
+                    for(int i = 0; i < burst; i++) {
+                        int id = submitter * burst + i;
+                        Device device = devices.get(random.nextInt(deviceCount));
+                        device.queue.submit(new Op(device, submitter, i, answers.result(id), executed));
+                    }
+                    submitted.countDown();
+                }
+            });
+        }
+        threads.execute(new Runnable() {
+            @Override
+            public void run() {
+                await(start);
+                Random random = new Random(42);
+                while(submitted.getCount() > 0) {
+                    devices.get(random.nextInt(deviceCount)).queue.cancel("device disconnected");
+                    Thread.yield();
+                }
+            }
+        });
+        start.countDown();
+        answers.await(submitters * burst);
+
+        assertEquals(submitters * burst, answers.total.get());
+        for(int id = 0; id < submitters * burst; id++) {
+            assertEquals(1, answers.successes.get(id) + answers.errors.get(id));
+        }
+        for(Device device : devices) {
+            waitUntilIdle(device);
+            assertEquals(0, device.overlaps.get());
+            assertEquals(0, device.inFlight.get());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntilIdle(Device device) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while(device.queue.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, device.queue.size());
+    }
+}
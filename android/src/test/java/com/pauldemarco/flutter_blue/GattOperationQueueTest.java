@@ -0,0 +1,247 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import io.flutter.plugin.common.MethodChannel.Result;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GattOperationQueueTest {
+    private static final int GATT_SUCCESS = 0;
+
+    // Replies and events in the order the main thread delivers them, as the CallbackProcessor outbox
+    private final List<Runnable> outbox = new ArrayList<>();
+    private final List<String> delivered = new ArrayList<>();
+    private final List<String> issued = new ArrayList<>();
+    private final FakeTimer timer = new FakeTimer();
+    private final GattOperationQueue queue = new GattOperationQueue(1000, new Executor() {
+        @Override
+        public void execute(Runnable reply) {
+            outbox.add(reply);
+        }
+    }, timer);
+
+    private class Read extends GattOperationQueue.Operation {
+        final String name;
+
+        Read(String name) {
+            super(GattOperationQueue.Type.READ_CHARACTERISTIC, "read_characteristic_error", new Reply(name));
+            this.name = name;
+        }
+
+        @Override
+        void execute() throws Exception {
+            issued.add(name);
+        }
+
+        @Override
+        void onAbort(String reason) {
+            delivered.add("abort " + name + ": " + reason);
+        }
+    }
+
+    // A read of the given characteristic reporting its abandonment in a response event
+    private class ReadRequest extends GattOperationQueue.Request {
+        final String name;
+
+        ReadRequest(String name, Object characteristic) {
+            super(GattOperationQueue.Type.READ_CHARACTERISTIC, "read_characteristic_error", new Reply(name), characteristic);
+            this.name = name;
+        }
+
+        @Override
+        void issue() throws Exception {
+            if(name.startsWith("failing")) {
+                throw new Exception("gatt.readCharacteristic returned false");
+            }
+            issued.add(name);
+        }
+
+        @Override
+        void onFailure(final String reason) {
+            outbox.add(new Runnable() {
+                @Override
+                public void run() {
+                    delivered.add("failed response " + name + ": " + reason);
+                }
+            });
+        }
+    }
+
+    private class FailingRead extends Read {
+        FailingRead(String name) {
+            super(name);
+        }
+
+        @Override
+        void execute() throws Exception {
+            throw new Exception("gatt.readCharacteristic returned false");
+        }
+    }
+
+    private class Reply implements Result {
+        final String name;
+
+        Reply(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void success(Object o) {
+            delivered.add("reply " + name);
+        }
+
+        @Override
+        public void error(String code, String message, Object details) {
+            delivered.add("error " + name + ": " + message);
+        }
+
+        @Override
+        public void notImplemented() {
+        }
+    }
+
+    // What onCharacteristicRead does: send the response event, then complete the operation
+    private void onCharacteristicRead(final String name) {
+        outbox.add(new Runnable() {
+            @Override
+            public void run() {
+                delivered.add("response " + name);
+            }
+        });
+        assertTrue(queue.complete(GattOperationQueue.Type.READ_CHARACTERISTIC, null, GATT_SUCCESS));
+    }
+
+    private void drain() {
+        for(Runnable r : outbox) {
+            r.run();
+        }
+        outbox.clear();
+    }
+
+    @Test
+    public void backToBackReadsAreAnsweredBeforeTheirResponses() {
+        queue.submit(new Read("a"));
+        queue.submit(new Read("b"));
+        assertEquals(Arrays.asList("a"), issued);
+
+        onCharacteristicRead("a");
+        assertEquals(Arrays.asList("a", "b"), issued);
+        onCharacteristicRead("b");
+        drain();
+
+        assertEquals(Arrays.asList("reply a", "response a", "reply b", "response b"), delivered);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void readStartedByACompletionIsAnsweredBeforeItsResponseAcrossDrains() {
+        queue.submit(new Read("a"));
+        queue.submit(new Read("b"));
+        drain();
+
+        onCharacteristicRead("a");
+        drain();
+        onCharacteristicRead("b");
+        drain();
+
+        assertEquals(Arrays.asList("reply a", "response a", "reply b", "response b"), delivered);
+    }
+
+    @Test
+    public void timeoutAbortsAndStartsTheNextOperation() {
+        queue.submit(new Read("a"));
+        queue.submit(new Read("b"));
+        timer.advance(999);
+        assertEquals(Arrays.asList("a"), issued);
+
+        timer.advance(1);
+        assertEquals(Arrays.asList("a", "b"), issued);
+        assertFalse(queue.complete(GattOperationQueue.Type.WRITE_CHARACTERISTIC, null, GATT_SUCCESS));
+        onCharacteristicRead("b");
+        drain();
+
+        assertEquals(Arrays.asList("abort a: timed out", "reply a", "reply b", "response b"), delivered);
+        assertEquals(0, timer.pending());
+    }
+
+    @Test
+    public void cancelAbortsTheInFlightAndEveryQueuedOperation() {
+        queue.submit(new Read("a"));
+        queue.submit(new Read("b"));
+        queue.submit(new Read("c"));
+        queue.cancel("device disconnected");
+        drain();
+
+        assertEquals(Arrays.asList("a"), issued);
+        assertEquals(Arrays.asList(
+                "abort a: device disconnected",
+                "abort b: device disconnected",
+                "abort c: device disconnected",
+                "reply a",
+                "error b: device disconnected",
+                "error c: device disconnected"), delivered);
+        assertEquals(0, queue.size());
+        assertEquals(0, timer.pending());
+    }
+
+    @Test
+    public void failedExecuteAbortsAndStartsTheNextOperation() {
+        queue.submit(new Read("a"));
+        queue.submit(new FailingRead("b"));
+        queue.submit(new Read("c"));
+        onCharacteristicRead("a");
+        drain();
+
+        assertEquals(Arrays.asList("a", "c"), issued);
+        assertEquals(Arrays.asList(
+                "abort b: gatt.readCharacteristic returned false",
+                "reply a",
+                "response a",
+                "error b: gatt.readCharacteristic returned false",
+                "reply c"), delivered);
+    }
+
+    @Test
+    public void completionOfAnotherCharacteristicDoesNotCompleteTheRequest() {
+        Object a = new Object();
+        Object b = new Object();
+        queue.submit(new ReadRequest("a", a));
+        queue.submit(new ReadRequest("b", b));
+
+        assertFalse(queue.complete(GattOperationQueue.Type.READ_CHARACTERISTIC, b, GATT_SUCCESS));
+        assertEquals(Arrays.asList("a"), issued);
+        assertTrue(queue.complete(GattOperationQueue.Type.READ_CHARACTERISTIC, a, GATT_SUCCESS));
+        assertEquals(Arrays.asList("a", "b"), issued);
+    }
+
+    @Test
+    public void abandonedRequestsReportTheirFailure() {
+        queue.submit(new ReadRequest("a", null));
+        queue.submit(new ReadRequest("failing b", null));
+        queue.submit(new ReadRequest("c", null));
+        queue.submit(new ReadRequest("d", null));
+        timer.advance(1000);
+        queue.cancel("device disconnected");
+        drain();
+
+        assertEquals(Arrays.asList(
+                "reply a",
+                "failed response a: timed out",
+                "error failing b: gatt.readCharacteristic returned false",
+                "reply c",
+                "failed response c: device disconnected",
+                "error d: device disconnected"), delivered);
+    }
+}
@@ -0,0 +1,111 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.bluetooth.BluetoothGattDescriptor;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NotificationRestoreOperationTest {
+    private static final int GATT_SUCCESS = 0;
+    private static final int GATT_WRITE_NOT_PERMITTED = 3;
+
+    private final Executor replies = new Executor() {
+        @Override
+        public void execute(Runnable reply) {
+            reply.run();
+        }
+    };
+    private final GattOperationQueue queue = new GattOperationQueue(1000, replies, new FakeTimer());
+
+    /** Fails to locate the subscriptions listed as missing, records everything else. */
+    private static class Target implements NotificationRestoreOperation.Target {
+        final List<String> missing;
+        final List<String> written = new ArrayList<>();
+        final List<String> enabled = new ArrayList<>();
+        List<NotificationRestoreOperation.Subscription> failed;
+
+        Target(String... missing) {
+            this.missing = Arrays.asList(missing);
+        }
+
+        @Override
+        public BluetoothGattDescriptor enable(NotificationRestoreOperation.Subscription subscription) throws Exception {
+            if(missing.contains(subscription.characteristicUuid)) {
+                throw new Exception("could not locate characteristic: " + subscription.characteristicUuid);
+            }
+            written.add(subscription.characteristicUuid);
+            return null;
+        }
+
+        @Override
+        public void onEnabled(NotificationRestoreOperation.Subscription subscription) {
+            enabled.add(subscription.characteristicUuid);
+        }
+
+        @Override
+        public void onRestored(List<NotificationRestoreOperation.Subscription> failed) {
+            this.failed = failed;
+        }
+    }
+
+    private static NotificationRestoreOperation.Subscription subscription(String characteristicUuid) {
+        return new NotificationRestoreOperation.Subscription("s", "", characteristicUuid, false);
+    }
+
+    private static List<String> uuids(List<NotificationRestoreOperation.Subscription> subscriptions) {
+        List<String> uuids = new ArrayList<>();
+        for(NotificationRestoreOperation.Subscription subscription : subscriptions) {
+            uuids.add(subscription.characteristicUuid);
+        }
+        return uuids;
+    }
+
+    @Test
+    public void reportsSubscriptionsWhoseCccdWriteFails() {
+        Target target = new Target("b");
+        queue.submit(new NotificationRestoreOperation(Arrays.asList(
+                subscription("a"), subscription("b"), subscription("c"), subscription("d")), target));
+
+        queue.complete(GattOperationQueue.Type.WRITE_DESCRIPTOR, null, GATT_SUCCESS);
+        queue.complete(GattOperationQueue.Type.WRITE_DESCRIPTOR, null, GATT_WRITE_NOT_PERMITTED);
+        assertNull(target.failed);
+        queue.complete(GattOperationQueue.Type.WRITE_DESCRIPTOR, null, GATT_SUCCESS);
+
+        assertEquals(Arrays.asList("a", "c", "d"), target.written);
+        assertEquals(Arrays.asList("a", "d"), target.enabled);
+        assertEquals(Arrays.asList("b", "c"), uuids(target.failed));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void reportsEverySubscriptionWhenNoneCanBeLocated() {
+        Target target = new Target("a", "b");
+        queue.submit(new NotificationRestoreOperation(Arrays.asList(subscription("a"), subscription("b")), target));
+
+        assertTrue(target.enabled.isEmpty());
+        assertEquals(Arrays.asList("a", "b"), uuids(target.failed));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void reportsNothingWhenAborted() {
+        Target target = new Target();
+        queue.submit(new NotificationRestoreOperation(Arrays.asList(subscription("a"), subscription("b")), target));
+        queue.cancel("device disconnected");
+
+        assertTrue(target.enabled.isEmpty());
+        assertNull(target.failed);
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.BluetoothGattService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and allocation per message of the encodings sent to Dart on the hot paths: a scan result
+ * and a notification, from building the message to the bytes handed to the channel.
+ *
+ * Run {@link #main} from the unit test classpath; the gc.alloc.rate.norm lines of the report are
+ * the bytes allocated per encoded message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtoEncodingBenchmark {
+    private static final String REMOTE_ID = "C4:7C:8D:6A:3E:21";
+
+    private int next;
+    private Protos.BluetoothDevice device;
+    private BluetoothGattCharacteristic characteristic;
+    private final byte[] value = ScanRecords.hex("16aa0201");
+
+    @Setup
+    public void setUp() {
+        // What ProtoMaker.from(BluetoothDevice) builds, which needs the Bluetooth service
+        device = Protos.BluetoothDevice.newBuilder()
+                .setRemoteId(REMOTE_ID)
+                .setName("HRS")
+                .setType(Protos.BluetoothDevice.Type.LE)
+                .build();
+        BluetoothGattService service = new BluetoothGattService(
+                UUID.fromString("0000180d-0000-1000-8000-00805f9b34fb"), BluetoothGattService.SERVICE_TYPE_PRIMARY);
+        characteristic = new BluetoothGattCharacteristic(
+                UUID.fromString("00002a37-0000-1000-8000-00805f9b34fb"), BluetoothGattCharacteristic.PROPERTY_NOTIFY, 0);
+        service.addCharacteristic(characteristic);
+    }
+
+    /** The tail of ProtoMaker.from(BluetoothDevice, byte[], int, boolean) and its encoding. */
+    @Benchmark
+    public byte[] scanResult() {
+        byte[] record = ScanRecords.ALL[next];
+        next = (next + 1) % ScanRecords.ALL.length;
+        return Protos.ScanResult.newBuilder()
+                .setDevice(device)
+                .setAdvertisementData(AdvertisementParser.parse(record, false))
+                .setRssi(-60)
+                .build()
+                .toByteArray();
+    }
+
+    /** What onCharacteristicChanged sends per value. */
+    @Benchmark
+    public byte[] notification() {
+        return ProtoMaker.from(REMOTE_ID, characteristic, null, value, 1000L).toByteArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProtoEncodingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,47 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+/** Scan records captured from common advertisers, shared by the parser tests and benchmarks. */
+class ScanRecords {
+
+    // Flags, then an Apple iBeacon frame as manufacturer data
+    static final byte[] IBEACON = hex(
+            "020106"
+            + "1aff4c000215e2c56db5dffb48d2b060d0f5a71096e000010002c5");
+
+    // Flags, the Eddystone service UUID, then an Eddystone-URL frame for https://google.com
+    static final byte[] EDDYSTONE_URL = hex(
+            "020106"
+            + "0303aafe"
+            + "0d16aafe10eb03676f6f676c6507");
+
+    // Flags, the 128 bit Nordic UART service, TX power and a complete local name
+    static final byte[] NAMED_SENSOR = hex(
+            "020106"
+            + "11079ecadc240ee5a9e093f3a3b50100406e"
+            + "020a04"
+            + "0c09546865726d6f6d65746572");
+
+    // An advertisement followed by its scan response: 16 bit services, appearance,
+    // connection interval range, shortened name and manufacturer data
+    static final byte[] HEART_RATE = hex(
+            "020106"
+            + "05030d180f18"
+            + "03194103"
+            + "051206000c00"
+            + "0408485253"
+            + "07ff590001020304");
+
+    static final byte[][] ALL = { IBEACON, EDDYSTONE_URL, NAMED_SENSOR, HEART_RATE };
+
+    static byte[] hex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for(int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return bytes;
+    }
+}
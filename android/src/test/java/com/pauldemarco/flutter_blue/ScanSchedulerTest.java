@@ -0,0 +1,204 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.pauldemarco.flutter_blue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ScanSchedulerTest {
+    private static final int SCAN_MODE_BALANCED = 1;
+    private static final int SCAN_FAILED_ALREADY_STARTED = 1;
+    private static final int SCAN_FAILED_INTERNAL_ERROR = 3;
+
+    private final FakeTimer timer = new FakeTimer();
+    private final List<Long> starts = new ArrayList<>();
+    private final List<Integer> modes = new ArrayList<>();
+    private final List<Protos.ScanFailure> failures = new ArrayList<>();
+    private boolean scanning;
+
+    private final ScanScheduler.Scanner scanner = new ScanScheduler.Scanner() {
+        @Override
+        public void start(int scanMode) {
+            assertFalse(scanning);
+            scanning = true;
+            starts.add(timer.elapsedRealtime());
+            modes.add(scanMode);
+        }
+
+        @Override
+        public void stop() {
+            scanning = false;
+        }
+    };
+
+    private final ScanScheduler scheduler = new ScanScheduler(timer, timer, scanner, new ScanScheduler.Listener() {
+        @Override
+        public void onScanFailed(Protos.ScanFailure failure) {
+            failures.add(failure);
+        }
+    });
+
+    @Test
+    public void delaysTheSixthStartWithinThirtySeconds() throws Exception {
+        scheduler.start(Protos.ScanSchedule.newBuilder()
+                .setScanWindowMillis(1000)
+                .build(), ScanScheduler.SCAN_MODE_LOW_POWER);
+        timer.advance(5000);
+        assertEquals(Arrays.asList(0L, 1000L, 2000L, 3000L, 4000L), starts);
+        assertFalse(scanning);
+
+        timer.advance(25249);
+        assertEquals(5, starts.size());
+        timer.advance(1);
+        assertEquals(6, starts.size());
+        assertEquals(30250L, (long) starts.get(5));
+        assertTrue(scanning);
+    }
+
+    @Test
+    public void neverStartsMoreThanFiveTimesInThirtySeconds() throws Exception {
+        scheduler.start(Protos.ScanSchedule.newBuilder()
+                .setScanWindowMillis(700)
+                .setPauseWindowMillis(300)
+                .build(), ScanScheduler.SCAN_MODE_LOW_POWER);
+        timer.advance(300000);
+        assertTrue(starts.size() > 40);
+        for(int i = ScanScheduler.MAX_STARTS; i < starts.size(); i++) {
+            assertTrue(starts.get(i) - starts.get(i - ScanScheduler.MAX_STARTS) > ScanScheduler.START_PERIOD_MILLIS);
+        }
+    }
+
+    @Test
+    public void startLimitAppliesAcrossRestartsOfTheSchedule() throws Exception {
+        Protos.ScanSchedule continuous = Protos.ScanSchedule.getDefaultInstance();
+        for(int i = 0; i < 5; i++) {
+            scheduler.start(continuous, ScanScheduler.SCAN_MODE_LOW_POWER);
+            scheduler.stop();
+            scanner.stop();
+            timer.advance(100);
+        }
+        scheduler.start(continuous, ScanScheduler.SCAN_MODE_LOW_POWER);
+        assertEquals(5, starts.size());
+        timer.advance(29750);
+        assertEquals(6, starts.size());
+        assertEquals(30250L, (long) starts.get(5));
+    }
+
+    @Test
+    public void adaptsTheScanModeToTheDiscoveryRate() throws Exception {
+        // Windows start every 11 seconds, well within the start limit
+        scheduler.start(Protos.ScanSchedule.newBuilder()
+                .setScanWindowMillis(1000)
+                .setPauseWindowMillis(10000)
+                .setAdaptiveScanMode(true)
+                .setRaiseThreshold(3)
+                .setLowerAfterWindows(2)
+                .build(), ScanScheduler.SCAN_MODE_LOW_POWER);
+        window("a", "b", "c");
+        window("d", "e", "f");
+        window("g", "h", "i");
+        window("a", "b", "c");
+        window();
+        window("j");
+        window();
+        window();
+        window();
+
+        assertEquals(Arrays.asList(
+                ScanScheduler.SCAN_MODE_LOW_POWER,
+                SCAN_MODE_BALANCED,
+                ScanScheduler.SCAN_MODE_LOW_LATENCY,
+                ScanScheduler.SCAN_MODE_LOW_LATENCY,
+                ScanScheduler.SCAN_MODE_LOW_LATENCY,
+                SCAN_MODE_BALANCED,
+                SCAN_MODE_BALANCED,
+                SCAN_MODE_BALANCED,
+                ScanScheduler.SCAN_MODE_LOW_POWER,
+                ScanScheduler.SCAN_MODE_LOW_POWER), modes);
+    }
+
+    @Test
+    public void keepsTheScanModeWithoutAdaptiveSchedule() throws Exception {
+        scheduler.start(Protos.ScanSchedule.newBuilder()
+                .setScanWindowMillis(1000)
+                .setPauseWindowMillis(10000)
+                .build(), SCAN_MODE_BALANCED);
+        window("a", "b", "c", "d", "e", "f");
+        window();
+        window();
+        window();
+        assertEquals(Arrays.asList(SCAN_MODE_BALANCED, SCAN_MODE_BALANCED, SCAN_MODE_BALANCED,
+                SCAN_MODE_BALANCED, SCAN_MODE_BALANCED), modes);
+    }
+
+    @Test
+    public void restartsFailedScansWithExponentialBackoff() throws Exception {
+        scheduler.start(Protos.ScanSchedule.newBuilder()
+                .setRestartOnFailure(true)
+                .setMaxRestartDelayMillis(5000)
+                .build(), ScanScheduler.SCAN_MODE_LOW_POWER);
+        List<Long> delays = new ArrayList<>();
+        for(int i = 0; i < 4; i++) {
+            scheduler.onScanFailed(SCAN_FAILED_INTERNAL_ERROR);
+            assertFalse(scanning);
+            Protos.ScanFailure failure = failures.get(failures.size() - 1);
+            assertEquals(SCAN_FAILED_INTERNAL_ERROR, failure.getErrorCode());
+            assertEquals("internal error", failure.getMessage());
+            assertTrue(failure.getRestarting());
+            delays.add(failure.getRestartDelayMillis());
+            timer.advance(failure.getRestartDelayMillis());
+        }
+        assertEquals(Arrays.asList(1000L, 2000L, 4000L, 5000L), delays);
+        assertEquals(Arrays.asList(0L, 1000L, 3000L, 7000L, 12000L), starts);
+
+        // A scan that delivers results starts the backoff over
+        scheduler.onDeviceSeen("a");
+        scheduler.onScanFailed(SCAN_FAILED_ALREADY_STARTED);
+        assertEquals(1000L, failures.get(failures.size() - 1).getRestartDelayMillis());
+    }
+
+    @Test
+    public void doesNotRestartUnsupportedScans() throws Exception {
+        scheduler.start(Protos.ScanSchedule.newBuilder()
+                .setRestartOnFailure(true)
+                .build(), ScanScheduler.SCAN_MODE_LOW_POWER);
+        scheduler.onScanFailed(ScanScheduler.SCAN_FAILED_FEATURE_UNSUPPORTED);
+
+        Protos.ScanFailure failure = failures.get(0);
+        assertEquals("feature unsupported", failure.getMessage());
+        assertFalse(failure.getRestarting());
+        assertEquals(0, timer.pending());
+        timer.advance(120000);
+        assertEquals(1, starts.size());
+    }
+
+    @Test
+    public void doesNotRestartWithoutRestartOnFailure() throws Exception {
+        scheduler.start(Protos.ScanSchedule.newBuilder()
+                .setScanWindowMillis(1000)
+                .setPauseWindowMillis(1000)
+                .build(), ScanScheduler.SCAN_MODE_LOW_POWER);
+        scheduler.onScanFailed(SCAN_FAILED_INTERNAL_ERROR);
+
+        assertFalse(failures.get(0).getRestarting());
+        assertEquals(0, timer.pending());
+    }
+
+    // Reports the devices seen, then moves to the start of the next window
+    private void window(String... remoteIds) {
+        assertTrue(scanning);
+        for(String remoteId : remoteIds) {
+            scheduler.onDeviceSeen(remoteId);
+        }
+        timer.advance(11000);
+    }
+}
@@ -32,9 +32,29 @@ CF_EXTERN_C_BEGIN
 @class ProtosBluetoothDescriptor;
 @class ProtosBluetoothDevice;
 @class ProtosBluetoothService;
+@class ProtosCharacteristicBatchResult;
 @class ProtosCharacteristicProperties;
+@class ProtosConnectionIntervalRange;
+@class ProtosConnectionSlotState;
+@class ProtosDeviceMetrics;
+@class ProtosDeviceTableEntry;
+@class ProtosDeviceTableSettings;
+@class ProtosFanOutResult;
+@class ProtosHistogramBucket;
 @class ProtosInt32Value;
+@class ProtosLatencyHistogram;
+@class ProtosPipelineStage;
+@class ProtosPipelineStats;
+@class ProtosReadCharacteristicRequest;
 @class ProtosReadDescriptorRequest;
+@class ProtosReconnectPolicy;
+@class ProtosScanFilter;
+@class ProtosScanMetrics;
+@class ProtosScanResult;
+@class ProtosScanSchedule;
+@class ProtosSetNotificationRequest;
+@class ProtosValueCachePolicy;
+@class ProtosValueCacheRule;
 @class ProtosWriteCharacteristicRequest;
 @class ProtosWriteDescriptorRequest;
 
@@ -66,6 +86,121 @@ GPBEnumDescriptor *ProtosBluetoothState_State_EnumDescriptor(void);
  **/
 BOOL ProtosBluetoothState_State_IsValidValue(int32_t value);
 
+#pragma mark - Enum ProtosReconnectState_State
+
+typedef GPB_ENUM(ProtosReconnectState_State) {
+  /**
+   * Value used if any message's field encounters a value that is not defined
+   * by this enum. The message will also have C functions to get/set the rawValue
+   * of the field.
+   **/
+  ProtosReconnectState_State_GPBUnrecognizedEnumeratorValue = kGPBUnrecognizedEnumeratorValue,
+  ProtosReconnectState_State_Scheduled = 0,
+  ProtosReconnectState_State_Connecting = 1,
+
+  /** Connected again with the notifications re-enabled. */
+  ProtosReconnectState_State_Restored = 2,
+  ProtosReconnectState_State_GaveUp = 3,
+};
+
+GPBEnumDescriptor *ProtosReconnectState_State_EnumDescriptor(void);
+
+/**
+ * Checks to see if the given value is defined by the enum or was not known at
+ * the time this source was generated.
+ **/
+BOOL ProtosReconnectState_State_IsValidValue(int32_t value);
+
+#pragma mark - Enum ProtosConnectRequest_OverflowPolicy
+
+typedef GPB_ENUM(ProtosConnectRequest_OverflowPolicy) {
+  /**
+   * Value used if any message's field encounters a value that is not defined
+   * by this enum. The message will also have C functions to get/set the rawValue
+   * of the field.
+   **/
+  ProtosConnectRequest_OverflowPolicy_GPBUnrecognizedEnumeratorValue = kGPBUnrecognizedEnumeratorValue,
+  ProtosConnectRequest_OverflowPolicy_DropOldest = 0,
+  ProtosConnectRequest_OverflowPolicy_DropNewest = 1,
+};
+
+GPBEnumDescriptor *ProtosConnectRequest_OverflowPolicy_EnumDescriptor(void);
+
+/**
+ * Checks to see if the given value is defined by the enum or was not known at
+ * the time this source was generated.
+ **/
+BOOL ProtosConnectRequest_OverflowPolicy_IsValidValue(int32_t value);
+
+#pragma mark - Enum ProtosConnectRequest_ConnectionPriority
+
+typedef GPB_ENUM(ProtosConnectRequest_ConnectionPriority) {
+  /**
+   * Value used if any message's field encounters a value that is not defined
+   * by this enum. The message will also have C functions to get/set the rawValue
+   * of the field.
+   **/
+  ProtosConnectRequest_ConnectionPriority_GPBUnrecognizedEnumeratorValue = kGPBUnrecognizedEnumeratorValue,
+  ProtosConnectRequest_ConnectionPriority_Balanced = 0,
+  ProtosConnectRequest_ConnectionPriority_High = 1,
+  ProtosConnectRequest_ConnectionPriority_LowPower = 2,
+};
+
+GPBEnumDescriptor *ProtosConnectRequest_ConnectionPriority_EnumDescriptor(void);
+
+/**
+ * Checks to see if the given value is defined by the enum or was not known at
+ * the time this source was generated.
+ **/
+BOOL ProtosConnectRequest_ConnectionPriority_IsValidValue(int32_t value);
+
+#pragma mark - Enum ProtosConnectRequest_Phy
+
+typedef GPB_ENUM(ProtosConnectRequest_Phy) {
+  /**
+   * Value used if any message's field encounters a value that is not defined
+   * by this enum. The message will also have C functions to get/set the rawValue
+   * of the field.
+   **/
+  ProtosConnectRequest_Phy_GPBUnrecognizedEnumeratorValue = kGPBUnrecognizedEnumeratorValue,
+  ProtosConnectRequest_Phy_PhyUnspecified = 0,
+  ProtosConnectRequest_Phy_Le1M = 1,
+  ProtosConnectRequest_Phy_Le2M = 2,
+  ProtosConnectRequest_Phy_LeCoded = 3,
+};
+
+GPBEnumDescriptor *ProtosConnectRequest_Phy_EnumDescriptor(void);
+
+/**
+ * Checks to see if the given value is defined by the enum or was not known at
+ * the time this source was generated.
+ **/
+BOOL ProtosConnectRequest_Phy_IsValidValue(int32_t value);
+
+#pragma mark - Enum ProtosConnectionSlotState_State
+
+typedef GPB_ENUM(ProtosConnectionSlotState_State) {
+  /**
+   * Value used if any message's field encounters a value that is not defined
+   * by this enum. The message will also have C functions to get/set the rawValue
+   * of the field.
+   **/
+  ProtosConnectionSlotState_State_GPBUnrecognizedEnumeratorValue = kGPBUnrecognizedEnumeratorValue,
+  ProtosConnectionSlotState_State_Idle = 0,
+  ProtosConnectionSlotState_State_Queued = 1,
+  ProtosConnectionSlotState_State_Connecting = 2,
+  ProtosConnectionSlotState_State_Connected = 3,
+  ProtosConnectionSlotState_State_Disconnecting = 4,
+};
+
+GPBEnumDescriptor *ProtosConnectionSlotState_State_EnumDescriptor(void);
+
+/**
+ * Checks to see if the given value is defined by the enum or was not known at
+ * the time this source was generated.
+ **/
+BOOL ProtosConnectionSlotState_State_IsValidValue(int32_t value);
+
 #pragma mark - Enum ProtosBluetoothDevice_Type
 
 typedef GPB_ENUM(ProtosBluetoothDevice_Type) {
@@ -199,6 +334,10 @@ typedef GPB_ENUM(ProtosAdvertisementData_FieldNumber) {
   ProtosAdvertisementData_FieldNumber_ManufacturerData = 4,
   ProtosAdvertisementData_FieldNumber_ServiceData = 5,
   ProtosAdvertisementData_FieldNumber_ServiceUuidsArray = 6,
+  ProtosAdvertisementData_FieldNumber_Appearance = 7,
+  ProtosAdvertisementData_FieldNumber_ConnectionIntervalRange = 8,
+  ProtosAdvertisementData_FieldNumber_Uri = 9,
+  ProtosAdvertisementData_FieldNumber_RawScanRecord = 10,
 };
 
 @interface ProtosAdvertisementData : GPBMessage
@@ -225,6 +364,37 @@ typedef GPB_ENUM(ProtosAdvertisementData_FieldNumber) {
 /** The number of items in @c serviceUuidsArray without causing the array to be created. */
 @property(nonatomic, readonly) NSUInteger serviceUuidsArray_Count;
 
+@property(nonatomic, readwrite, strong, null_resettable) ProtosInt32Value *appearance;
+/** Test to see if @c appearance has been set. */
+@property(nonatomic, readwrite) BOOL hasAppearance;
+
+/** Slave connection interval range. */
+@property(nonatomic, readwrite, strong, null_resettable) ProtosConnectionIntervalRange *connectionIntervalRange;
+/** Test to see if @c connectionIntervalRange has been set. */
+@property(nonatomic, readwrite) BOOL hasConnectionIntervalRange;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *uri;
+
+/** Only set when ScanSettings.include_raw_scan_record is true. */
+@property(nonatomic, readwrite, copy, null_resettable) NSData *rawScanRecord;
+
+@end
+
+#pragma mark - ProtosConnectionIntervalRange
+
+typedef GPB_ENUM(ProtosConnectionIntervalRange_FieldNumber) {
+  ProtosConnectionIntervalRange_FieldNumber_Min = 1,
+  ProtosConnectionIntervalRange_FieldNumber_Max = 2,
+};
+
+@interface ProtosConnectionIntervalRange : GPBMessage
+
+/** In units of 1.25 ms, 0xFFFF means no specific minimum. */
+@property(nonatomic, readwrite) uint32_t min;
+
+/** In units of 1.25 ms, 0xFFFF means no specific maximum. */
+@property(nonatomic, readwrite) uint32_t max;
+
 @end
 
 #pragma mark - ProtosScanSettings
@@ -232,6 +402,20 @@ typedef GPB_ENUM(ProtosAdvertisementData_FieldNumber) {
 typedef GPB_ENUM(ProtosScanSettings_FieldNumber) {
   ProtosScanSettings_FieldNumber_AndroidScanMode = 1,
   ProtosScanSettings_FieldNumber_ServiceUuidsArray = 2,
+  ProtosScanSettings_FieldNumber_ReportDelayMillis = 3,
+  ProtosScanSettings_FieldNumber_MaxBatchSize = 4,
+  ProtosScanSettings_FieldNumber_Deduplicate = 5,
+  ProtosScanSettings_FieldNumber_DedupRssiDelta = 6,
+  ProtosScanSettings_FieldNumber_DedupRefreshMillis = 7,
+  ProtosScanSettings_FieldNumber_IncludeRawScanRecord = 8,
+  ProtosScanSettings_FieldNumber_DeviceTable = 9,
+  ProtosScanSettings_FieldNumber_FiltersArray = 10,
+  ProtosScanSettings_FieldNumber_AndroidCallbackType = 11,
+  ProtosScanSettings_FieldNumber_AndroidMatchMode = 12,
+  ProtosScanSettings_FieldNumber_AndroidNumOfMatches = 13,
+  ProtosScanSettings_FieldNumber_AndroidExtendedAdvertising = 14,
+  ProtosScanSettings_FieldNumber_AndroidPhy = 15,
+  ProtosScanSettings_FieldNumber_Schedule = 16,
 };
 
 @interface ProtosScanSettings : GPBMessage
@@ -242,6 +426,263 @@ typedef GPB_ENUM(ProtosScanSettings_FieldNumber) {
 /** The number of items in @c serviceUuidsArray without causing the array to be created. */
 @property(nonatomic, readonly) NSUInteger serviceUuidsArray_Count;
 
+/** When > 0, results are delivered in batches once per interval. */
+@property(nonatomic, readwrite) int64_t reportDelayMillis;
+
+/** Flush a batch early once it holds this many devices. 0 means no limit. */
+@property(nonatomic, readwrite) int32_t maxBatchSize;
+
+/** Drop repeated advertisements with an unchanged payload. */
+@property(nonatomic, readwrite) BOOL deduplicate;
+
+/** When deduplicating, still report if rssi moves by more than this. */
+@property(nonatomic, readwrite) int32_t dedupRssiDelta;
+
+/** When deduplicating, still report a device after this long. 0 means never. */
+@property(nonatomic, readwrite) int64_t dedupRefreshMillis;
+
+/** Forward the undecoded scan record in AdvertisementData. */
+@property(nonatomic, readwrite) BOOL includeRawScanRecord;
+
+/** Query with the deviceTable method. */
+@property(nonatomic, readwrite, strong, null_resettable) ProtosDeviceTableSettings *deviceTable;
+/** Test to see if @c deviceTable has been set. */
+@property(nonatomic, readwrite) BOOL hasDeviceTable;
+
+/** A device is reported if it matches any filter, or any of service_uuids. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosScanFilter*> *filtersArray;
+/** The number of items in @c filtersArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger filtersArray_Count;
+
+/** The options below take the values of android.bluetooth.le.ScanSettings, 0 keeps the platform default. */
+@property(nonatomic, readwrite) int32_t androidCallbackType;
+
+/** API 23+. 1 aggressive, 2 sticky. */
+@property(nonatomic, readwrite) int32_t androidMatchMode;
+
+/** API 23+. Advertisements needed for a first match, 1 to 3. */
+@property(nonatomic, readwrite) int32_t androidNumOfMatches;
+
+/** API 26+. Also report extended advertisements. */
+@property(nonatomic, readwrite) BOOL androidExtendedAdvertising;
+
+/** API 26+, with android_extended_advertising. 1 LE 1M, 3 LE Coded, 255 all. */
+@property(nonatomic, readwrite) int32_t androidPhy;
+
+/** When set, scans in windows and reports failures as ScanFailed. */
+@property(nonatomic, readwrite, strong, null_resettable) ProtosScanSchedule *schedule;
+/** Test to see if @c schedule has been set. */
+@property(nonatomic, readwrite) BOOL hasSchedule;
+
+@end
+
+#pragma mark - ProtosScanSchedule
+
+typedef GPB_ENUM(ProtosScanSchedule_FieldNumber) {
+  ProtosScanSchedule_FieldNumber_ScanWindowMillis = 1,
+  ProtosScanSchedule_FieldNumber_PauseWindowMillis = 2,
+  ProtosScanSchedule_FieldNumber_AdaptiveScanMode = 3,
+  ProtosScanSchedule_FieldNumber_RaiseThreshold = 4,
+  ProtosScanSchedule_FieldNumber_LowerAfterWindows = 5,
+  ProtosScanSchedule_FieldNumber_RestartOnFailure = 6,
+  ProtosScanSchedule_FieldNumber_MaxRestartDelayMillis = 7,
+};
+
+/**
+ * Windows are delayed as needed to stay under 5 scan starts per 30 seconds.
+ **/
+@interface ProtosScanSchedule : GPBMessage
+
+/** 0 scans continuously. */
+@property(nonatomic, readwrite) int64_t scanWindowMillis;
+
+@property(nonatomic, readwrite) int64_t pauseWindowMillis;
+
+/** Moves between low power, balanced and low latency with the discovery rate. */
+@property(nonatomic, readwrite) BOOL adaptiveScanMode;
+
+/** New devices in a window that raise the scan mode. 0 means 5. */
+@property(nonatomic, readwrite) int32_t raiseThreshold;
+
+/** Windows without new devices that lower the scan mode. 0 means 3. */
+@property(nonatomic, readwrite) int32_t lowerAfterWindows;
+
+@property(nonatomic, readwrite) BOOL restartOnFailure;
+
+/** Restarts back off exponentially from 1 second. 0 means 60 seconds. */
+@property(nonatomic, readwrite) int64_t maxRestartDelayMillis;
+
+@end
+
+#pragma mark - ProtosScanFailure
+
+typedef GPB_ENUM(ProtosScanFailure_FieldNumber) {
+  ProtosScanFailure_FieldNumber_ErrorCode = 1,
+  ProtosScanFailure_FieldNumber_Message = 2,
+  ProtosScanFailure_FieldNumber_Restarting = 3,
+  ProtosScanFailure_FieldNumber_RestartDelayMillis = 4,
+};
+
+@interface ProtosScanFailure : GPBMessage
+
+/** ScanCallback.SCAN_FAILED_*, or 0 if the scan could not be started. */
+@property(nonatomic, readwrite) int32_t errorCode;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *message;
+
+@property(nonatomic, readwrite) BOOL restarting;
+
+@property(nonatomic, readwrite) int64_t restartDelayMillis;
+
+@end
+
+#pragma mark - ProtosScanFilter
+
+typedef GPB_ENUM(ProtosScanFilter_FieldNumber) {
+  ProtosScanFilter_FieldNumber_DeviceAddress = 1,
+  ProtosScanFilter_FieldNumber_DeviceName = 2,
+  ProtosScanFilter_FieldNumber_ServiceUuid = 3,
+  ProtosScanFilter_FieldNumber_HasManufacturerId = 4,
+  ProtosScanFilter_FieldNumber_ManufacturerId = 5,
+  ProtosScanFilter_FieldNumber_ManufacturerData = 6,
+  ProtosScanFilter_FieldNumber_ManufacturerDataMask = 7,
+  ProtosScanFilter_FieldNumber_ServiceDataUuid = 8,
+  ProtosScanFilter_FieldNumber_ServiceData = 9,
+  ProtosScanFilter_FieldNumber_ServiceDataMask = 10,
+};
+
+/**
+ * Every criterion that is set must match. Data is compared as a prefix, only the bits set in the
+ * mask are compared, and an empty mask compares every bit.
+ **/
+@interface ProtosScanFilter : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *deviceAddress;
+
+/** Matched against the advertised local name on Android 4.3 and 4.4. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *deviceName;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *serviceUuid;
+
+@property(nonatomic, readwrite) BOOL hasManufacturerId;
+
+/** Only matched when has_manufacturer_id is set. */
+@property(nonatomic, readwrite) int32_t manufacturerId;
+
+/** Data after the company identifier. */
+@property(nonatomic, readwrite, copy, null_resettable) NSData *manufacturerData;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSData *manufacturerDataMask;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *serviceDataUuid;
+
+/** Data after the service UUID. */
+@property(nonatomic, readwrite, copy, null_resettable) NSData *serviceData;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSData *serviceDataMask;
+
+@end
+
+#pragma mark - ProtosDeviceTableSettings
+
+typedef GPB_ENUM(ProtosDeviceTableSettings_FieldNumber) {
+  ProtosDeviceTableSettings_FieldNumber_MaxDevices = 1,
+  ProtosDeviceTableSettings_FieldNumber_MaxAgeMillis = 2,
+};
+
+@interface ProtosDeviceTableSettings : GPBMessage
+
+/** The least recently seen device is removed beyond this. 0 disables the table. */
+@property(nonatomic, readwrite) uint32_t maxDevices;
+
+/** Devices not seen for this long are removed. 0 means never. */
+@property(nonatomic, readwrite) int64_t maxAgeMillis;
+
+@end
+
+#pragma mark - ProtosDeviceTableRequest
+
+typedef GPB_ENUM(ProtosDeviceTableRequest_FieldNumber) {
+  ProtosDeviceTableRequest_FieldNumber_SinceVersion = 1,
+};
+
+@interface ProtosDeviceTableRequest : GPBMessage
+
+/** Version of a previous DeviceTable to only get changes, 0 for every device. */
+@property(nonatomic, readwrite) uint64_t sinceVersion;
+
+@end
+
+#pragma mark - ProtosDeviceTableEntry
+
+typedef GPB_ENUM(ProtosDeviceTableEntry_FieldNumber) {
+  ProtosDeviceTableEntry_FieldNumber_RemoteId = 1,
+  ProtosDeviceTableEntry_FieldNumber_FirstSeenMillis = 2,
+  ProtosDeviceTableEntry_FieldNumber_LastSeenMillis = 3,
+  ProtosDeviceTableEntry_FieldNumber_AdvertisementCount = 4,
+  ProtosDeviceTableEntry_FieldNumber_RssiMin = 5,
+  ProtosDeviceTableEntry_FieldNumber_RssiMax = 6,
+  ProtosDeviceTableEntry_FieldNumber_RssiAverage = 7,
+  ProtosDeviceTableEntry_FieldNumber_AdvertisingIntervalMillis = 8,
+  ProtosDeviceTableEntry_FieldNumber_LastPayload = 9,
+  ProtosDeviceTableEntry_FieldNumber_AdvertisementData = 10,
+};
+
+@interface ProtosDeviceTableEntry : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+/** Wall clock. */
+@property(nonatomic, readwrite) int64_t firstSeenMillis;
+
+/** Wall clock. */
+@property(nonatomic, readwrite) int64_t lastSeenMillis;
+
+@property(nonatomic, readwrite) uint64_t advertisementCount;
+
+@property(nonatomic, readwrite) int32_t rssiMin;
+
+@property(nonatomic, readwrite) int32_t rssiMax;
+
+/** Exponentially weighted. */
+@property(nonatomic, readwrite) float rssiAverage;
+
+/** Estimated from arrival times, 0 until known. */
+@property(nonatomic, readwrite) uint32_t advertisingIntervalMillis;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSData *lastPayload;
+
+/** Decoded from last_payload. */
+@property(nonatomic, readwrite, strong, null_resettable) ProtosAdvertisementData *advertisementData;
+/** Test to see if @c advertisementData has been set. */
+@property(nonatomic, readwrite) BOOL hasAdvertisementData;
+
+@end
+
+#pragma mark - ProtosDeviceTable
+
+typedef GPB_ENUM(ProtosDeviceTable_FieldNumber) {
+  ProtosDeviceTable_FieldNumber_Version = 1,
+  ProtosDeviceTable_FieldNumber_Full = 2,
+  ProtosDeviceTable_FieldNumber_DevicesArray = 3,
+  ProtosDeviceTable_FieldNumber_RemovedArray = 4,
+};
+
+@interface ProtosDeviceTable : GPBMessage
+
+@property(nonatomic, readwrite) uint64_t version;
+
+/** Every device is listed, otherwise only those updated or removed since the requested version. */
+@property(nonatomic, readwrite) BOOL full;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosDeviceTableEntry*> *devicesArray;
+/** The number of items in @c devicesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger devicesArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<NSString*> *removedArray;
+/** The number of items in @c removedArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger removedArray_Count;
+
 @end
 
 #pragma mark - ProtosScanResult
@@ -250,6 +691,7 @@ typedef GPB_ENUM(ProtosScanResult_FieldNumber) {
   ProtosScanResult_FieldNumber_Device = 1,
   ProtosScanResult_FieldNumber_AdvertisementData = 2,
   ProtosScanResult_FieldNumber_Rssi = 3,
+  ProtosScanResult_FieldNumber_Lost = 4,
 };
 
 @interface ProtosScanResult : GPBMessage
@@ -265,13 +707,113 @@ typedef GPB_ENUM(ProtosScanResult_FieldNumber) {
 
 @property(nonatomic, readwrite) int32_t rssi;
 
+/** The device stopped matching, only with the MATCH_LOST callback type. */
+@property(nonatomic, readwrite) BOOL lost;
+
+@end
+
+#pragma mark - ProtosScanResultBatch
+
+typedef GPB_ENUM(ProtosScanResultBatch_FieldNumber) {
+  ProtosScanResultBatch_FieldNumber_ResultsArray = 1,
+};
+
+@interface ProtosScanResultBatch : GPBMessage
+
+/** The latest result of each device seen during the interval. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosScanResult*> *resultsArray;
+/** The number of items in @c resultsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger resultsArray_Count;
+
+@end
+
+#pragma mark - ProtosReconnectPolicy
+
+typedef GPB_ENUM(ProtosReconnectPolicy_FieldNumber) {
+  ProtosReconnectPolicy_FieldNumber_MaxAttempts = 1,
+  ProtosReconnectPolicy_FieldNumber_InitialDelayMillis = 2,
+  ProtosReconnectPolicy_FieldNumber_MaxDelayMillis = 3,
+  ProtosReconnectPolicy_FieldNumber_Jitter = 4,
+  ProtosReconnectPolicy_FieldNumber_AttemptTimeoutMillis = 5,
+};
+
+@interface ProtosReconnectPolicy : GPBMessage
+
+/** Disabled when 0. */
+@property(nonatomic, readwrite) uint32_t maxAttempts;
+
+/** Doubles with every attempt. 0 means 1 second. */
+@property(nonatomic, readwrite) int64_t initialDelayMillis;
+
+/** 0 means 30 seconds. */
+@property(nonatomic, readwrite) int64_t maxDelayMillis;
+
+/** Up to this fraction of each delay is removed at random, 0 to 1. */
+@property(nonatomic, readwrite) float jitter;
+
+/** Attempts not connected by then are cancelled. 0 means 30 seconds. */
+@property(nonatomic, readwrite) int64_t attemptTimeoutMillis;
+
+@end
+
+#pragma mark - ProtosReconnectState
+
+typedef GPB_ENUM(ProtosReconnectState_FieldNumber) {
+  ProtosReconnectState_FieldNumber_RemoteId = 1,
+  ProtosReconnectState_FieldNumber_State = 2,
+  ProtosReconnectState_FieldNumber_Attempt = 3,
+  ProtosReconnectState_FieldNumber_DelayMillis = 4,
+  ProtosReconnectState_FieldNumber_FailedNotificationsArray = 5,
+  ProtosReconnectState_FieldNumber_RecoveryMillis = 6,
+};
+
+@interface ProtosReconnectState : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) ProtosReconnectState_State state;
+
+@property(nonatomic, readwrite) uint32_t attempt;
+
+/** Until the next attempt, when SCHEDULED. */
+@property(nonatomic, readwrite) int64_t delayMillis;
+
+/** Characteristic UUIDs not re-enabled, when RESTORED. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<NSString*> *failedNotificationsArray;
+/** The number of items in @c failedNotificationsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger failedNotificationsArray_Count;
+
+/** From the disconnect, when RESTORED. */
+@property(nonatomic, readwrite) int64_t recoveryMillis;
+
 @end
 
+/**
+ * Fetches the raw value of a @c ProtosReconnectState's @c state property, even
+ * if the value was not defined by the enum at the time the code was generated.
+ **/
+int32_t ProtosReconnectState_State_RawValue(ProtosReconnectState *message);
+/**
+ * Sets the raw value of an @c ProtosReconnectState's @c state property, allowing
+ * it to be set to a value that was not defined by the enum at the time the code
+ * was generated.
+ **/
+void SetProtosReconnectState_State_RawValue(ProtosReconnectState *message, int32_t value);
+
 #pragma mark - ProtosConnectRequest
 
 typedef GPB_ENUM(ProtosConnectRequest_FieldNumber) {
   ProtosConnectRequest_FieldNumber_RemoteId = 1,
   ProtosConnectRequest_FieldNumber_AndroidAutoConnect = 2,
+  ProtosConnectRequest_FieldNumber_NotificationBufferSize = 3,
+  ProtosConnectRequest_FieldNumber_NotificationOverflowPolicy = 4,
+  ProtosConnectRequest_FieldNumber_Mtu = 5,
+  ProtosConnectRequest_FieldNumber_ConnectionPriority = 6,
+  ProtosConnectRequest_FieldNumber_PreferredPhy = 7,
+  ProtosConnectRequest_FieldNumber_ValueCache = 8,
+  ProtosConnectRequest_FieldNumber_CacheServices = 9,
+  ProtosConnectRequest_FieldNumber_FirmwareFingerprint = 10,
+  ProtosConnectRequest_FieldNumber_Reconnect = 11,
 };
 
 @interface ProtosConnectRequest : GPBMessage
@@ -280,6 +822,213 @@ typedef GPB_ENUM(ProtosConnectRequest_FieldNumber) {
 
 @property(nonatomic, readwrite) BOOL androidAutoConnect;
 
+/**
+ * When > 0, notifications are buffered up to this many and delivered as OnCharacteristicValue
+ * on the device's own notifications event channel instead of the method channel.
+ **/
+@property(nonatomic, readwrite) uint32_t notificationBufferSize;
+
+@property(nonatomic, readwrite) ProtosConnectRequest_OverflowPolicy notificationOverflowPolicy;
+
+/** Applied right after connecting, before the CONNECTED state is reported. */
+@property(nonatomic, readwrite) uint32_t mtu;
+
+/** Requested when not BALANCED, Android 5.0+. */
+@property(nonatomic, readwrite) ProtosConnectRequest_ConnectionPriority connectionPriority;
+
+/** Requested when set, Android 8.0+. */
+@property(nonatomic, readwrite) ProtosConnectRequest_Phy preferredPhy;
+
+/** Disabled unless max_entries > 0. */
+@property(nonatomic, readwrite, strong, null_resettable) ProtosValueCachePolicy *valueCache;
+/** Test to see if @c valueCache has been set. */
+@property(nonatomic, readwrite) BOOL hasValueCache;
+
+/**
+ * Report the services stored from the last connection as ProvisionalServices right away, then
+ * discover in the background and report a ServicesDiff only if they changed.
+ **/
+@property(nonatomic, readwrite) BOOL cacheServices;
+
+/** Stored services are only used for the same fingerprint. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *firmwareFingerprint;
+
+/**
+ * Reconnect natively when the link drops, then rediscover services, request the MTU again and
+ * re-enable the notifications enabled before the drop. Progress is reported as ReconnectState.
+ **/
+@property(nonatomic, readwrite, strong, null_resettable) ProtosReconnectPolicy *reconnect;
+/** Test to see if @c reconnect has been set. */
+@property(nonatomic, readwrite) BOOL hasReconnect;
+
+@end
+
+/**
+ * Fetches the raw value of a @c ProtosConnectRequest's @c notificationOverflowPolicy property, even
+ * if the value was not defined by the enum at the time the code was generated.
+ **/
+int32_t ProtosConnectRequest_NotificationOverflowPolicy_RawValue(ProtosConnectRequest *message);
+/**
+ * Sets the raw value of an @c ProtosConnectRequest's @c notificationOverflowPolicy property, allowing
+ * it to be set to a value that was not defined by the enum at the time the code
+ * was generated.
+ **/
+void SetProtosConnectRequest_NotificationOverflowPolicy_RawValue(ProtosConnectRequest *message, int32_t value);
+
+/**
+ * Fetches the raw value of a @c ProtosConnectRequest's @c connectionPriority property, even
+ * if the value was not defined by the enum at the time the code was generated.
+ **/
+int32_t ProtosConnectRequest_ConnectionPriority_RawValue(ProtosConnectRequest *message);
+/**
+ * Sets the raw value of an @c ProtosConnectRequest's @c connectionPriority property, allowing
+ * it to be set to a value that was not defined by the enum at the time the code
+ * was generated.
+ **/
+void SetProtosConnectRequest_ConnectionPriority_RawValue(ProtosConnectRequest *message, int32_t value);
+
+/**
+ * Fetches the raw value of a @c ProtosConnectRequest's @c preferredPhy property, even
+ * if the value was not defined by the enum at the time the code was generated.
+ **/
+int32_t ProtosConnectRequest_PreferredPhy_RawValue(ProtosConnectRequest *message);
+/**
+ * Sets the raw value of an @c ProtosConnectRequest's @c preferredPhy property, allowing
+ * it to be set to a value that was not defined by the enum at the time the code
+ * was generated.
+ **/
+void SetProtosConnectRequest_PreferredPhy_RawValue(ProtosConnectRequest *message, int32_t value);
+
+#pragma mark - ProtosValueCachePolicy
+
+typedef GPB_ENUM(ProtosValueCachePolicy_FieldNumber) {
+  ProtosValueCachePolicy_FieldNumber_MaxEntries = 1,
+  ProtosValueCachePolicy_FieldNumber_DefaultTtlMillis = 2,
+  ProtosValueCachePolicy_FieldNumber_RulesArray = 3,
+};
+
+/**
+ * Answers reads of slowly changing characteristics from memory while their value is fresh.
+ **/
+@interface ProtosValueCachePolicy : GPBMessage
+
+/** Least recently used values are evicted beyond this. 0 disables the cache. */
+@property(nonatomic, readwrite) uint32_t maxEntries;
+
+/** For characteristics without a rule, 0 to not cache them. */
+@property(nonatomic, readwrite) uint64_t defaultTtlMillis;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosValueCacheRule*> *rulesArray;
+/** The number of items in @c rulesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger rulesArray_Count;
+
+@end
+
+#pragma mark - ProtosValueCacheRule
+
+typedef GPB_ENUM(ProtosValueCacheRule_FieldNumber) {
+  ProtosValueCacheRule_FieldNumber_CharacteristicUuid = 1,
+  ProtosValueCacheRule_FieldNumber_TtlMillis = 2,
+};
+
+@interface ProtosValueCacheRule : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *characteristicUuid;
+
+/** 0 to never cache this characteristic. */
+@property(nonatomic, readwrite) uint64_t ttlMillis;
+
+@end
+
+#pragma mark - ProtosValueCacheStats
+
+typedef GPB_ENUM(ProtosValueCacheStats_FieldNumber) {
+  ProtosValueCacheStats_FieldNumber_RemoteId = 1,
+  ProtosValueCacheStats_FieldNumber_Hits = 2,
+  ProtosValueCacheStats_FieldNumber_Misses = 3,
+  ProtosValueCacheStats_FieldNumber_Evictions = 4,
+  ProtosValueCacheStats_FieldNumber_Entries = 5,
+};
+
+@interface ProtosValueCacheStats : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) uint64_t hits;
+
+@property(nonatomic, readwrite) uint64_t misses;
+
+@property(nonatomic, readwrite) uint64_t evictions;
+
+@property(nonatomic, readwrite) uint32_t entries;
+
+@end
+
+#pragma mark - ProtosConnectionLimits
+
+typedef GPB_ENUM(ProtosConnectionLimits_FieldNumber) {
+  ProtosConnectionLimits_FieldNumber_MaxPendingConnections = 1,
+  ProtosConnectionLimits_FieldNumber_MaxConnections = 2,
+  ProtosConnectionLimits_FieldNumber_IdleTimeoutMillis = 3,
+};
+
+@interface ProtosConnectionLimits : GPBMessage
+
+/** Foreground connection attempts in flight at once. 0 means no limit. */
+@property(nonatomic, readwrite) uint32_t maxPendingConnections;
+
+/** Devices connecting, connected or disconnecting at once. 0 means no limit. */
+@property(nonatomic, readwrite) uint32_t maxConnections;
+
+/** Idle devices may be disconnected to make room after this long. 0 disables rotation. */
+@property(nonatomic, readwrite) uint32_t idleTimeoutMillis;
+
+@end
+
+#pragma mark - ProtosConnectionSlotState
+
+typedef GPB_ENUM(ProtosConnectionSlotState_FieldNumber) {
+  ProtosConnectionSlotState_FieldNumber_RemoteId = 1,
+  ProtosConnectionSlotState_FieldNumber_State = 2,
+  ProtosConnectionSlotState_FieldNumber_IdleMillis = 3,
+};
+
+@interface ProtosConnectionSlotState : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) ProtosConnectionSlotState_State state;
+
+/** Time since the last GATT activity. */
+@property(nonatomic, readwrite) int64_t idleMillis;
+
+@end
+
+/**
+ * Fetches the raw value of a @c ProtosConnectionSlotState's @c state property, even
+ * if the value was not defined by the enum at the time the code was generated.
+ **/
+int32_t ProtosConnectionSlotState_State_RawValue(ProtosConnectionSlotState *message);
+/**
+ * Sets the raw value of an @c ProtosConnectionSlotState's @c state property, allowing
+ * it to be set to a value that was not defined by the enum at the time the code
+ * was generated.
+ **/
+void SetProtosConnectionSlotState_State_RawValue(ProtosConnectionSlotState *message, int32_t value);
+
+#pragma mark - ProtosConnectionSlotsResponse
+
+typedef GPB_ENUM(ProtosConnectionSlotsResponse_FieldNumber) {
+  ProtosConnectionSlotsResponse_FieldNumber_DevicesArray = 1,
+};
+
+@interface ProtosConnectionSlotsResponse : GPBMessage
+
+/** Least recently active first. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosConnectionSlotState*> *devicesArray;
+/** The number of items in @c devicesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger devicesArray_Count;
+
 @end
 
 #pragma mark - ProtosBluetoothDevice
@@ -353,6 +1102,7 @@ typedef GPB_ENUM(ProtosBluetoothCharacteristic_FieldNumber) {
   ProtosBluetoothCharacteristic_FieldNumber_DescriptorsArray = 5,
   ProtosBluetoothCharacteristic_FieldNumber_Properties = 6,
   ProtosBluetoothCharacteristic_FieldNumber_Value = 7,
+  ProtosBluetoothCharacteristic_FieldNumber_Handle = 8,
 };
 
 @interface ProtosBluetoothCharacteristic : GPBMessage
@@ -379,6 +1129,9 @@ typedef GPB_ENUM(ProtosBluetoothCharacteristic_FieldNumber) {
 
 @property(nonatomic, readwrite, copy, null_resettable) NSData *value;
 
+/** Identifies the characteristic in requests, only unique per device on Android 7.0+. */
+@property(nonatomic, readwrite) int32_t handle;
+
 @end
 
 #pragma mark - ProtosBluetoothDescriptor
@@ -457,9 +1210,44 @@ typedef GPB_ENUM(ProtosDiscoverServicesResult_FieldNumber) {
 
 @property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
 
-@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosBluetoothService*> *servicesArray;
-/** The number of items in @c servicesArray without causing the array to be created. */
-@property(nonatomic, readonly) NSUInteger servicesArray_Count;
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosBluetoothService*> *servicesArray;
+/** The number of items in @c servicesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger servicesArray_Count;
+
+@end
+
+#pragma mark - ProtosServicesDiff
+
+typedef GPB_ENUM(ProtosServicesDiff_FieldNumber) {
+  ProtosServicesDiff_FieldNumber_RemoteId = 1,
+  ProtosServicesDiff_FieldNumber_AddedArray = 2,
+  ProtosServicesDiff_FieldNumber_RemovedArray = 3,
+  ProtosServicesDiff_FieldNumber_ChangedArray = 4,
+  ProtosServicesDiff_FieldNumber_Error = 5,
+};
+
+/**
+ * Difference between the provisional services and those found by background discovery.
+ **/
+@interface ProtosServicesDiff : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosBluetoothService*> *addedArray;
+/** The number of items in @c addedArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger addedArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosBluetoothService*> *removedArray;
+/** The number of items in @c removedArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger removedArray_Count;
+
+/** As discovered now. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosBluetoothService*> *changedArray;
+/** The number of items in @c changedArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger changedArray_Count;
+
+/** Set if the discovery failed, the provisional services are then kept. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *error;
 
 @end
 
@@ -470,6 +1258,8 @@ typedef GPB_ENUM(ProtosReadCharacteristicRequest_FieldNumber) {
   ProtosReadCharacteristicRequest_FieldNumber_CharacteristicUuid = 2,
   ProtosReadCharacteristicRequest_FieldNumber_ServiceUuid = 3,
   ProtosReadCharacteristicRequest_FieldNumber_SecondaryServiceUuid = 4,
+  ProtosReadCharacteristicRequest_FieldNumber_CharacteristicHandle = 5,
+  ProtosReadCharacteristicRequest_FieldNumber_BypassCache = 6,
 };
 
 @interface ProtosReadCharacteristicRequest : GPBMessage
@@ -482,6 +1272,12 @@ typedef GPB_ENUM(ProtosReadCharacteristicRequest_FieldNumber) {
 
 @property(nonatomic, readwrite, copy, null_resettable) NSString *secondaryServiceUuid;
 
+/** When non zero, used instead of the UUIDs. */
+@property(nonatomic, readwrite) int32_t characteristicHandle;
+
+/** Always read over the air, even if the value cache holds a fresh value. */
+@property(nonatomic, readwrite) BOOL bypassCache;
+
 @end
 
 #pragma mark - ProtosReadCharacteristicResponse
@@ -489,6 +1285,7 @@ typedef GPB_ENUM(ProtosReadCharacteristicRequest_FieldNumber) {
 typedef GPB_ENUM(ProtosReadCharacteristicResponse_FieldNumber) {
   ProtosReadCharacteristicResponse_FieldNumber_RemoteId = 1,
   ProtosReadCharacteristicResponse_FieldNumber_Characteristic = 2,
+  ProtosReadCharacteristicResponse_FieldNumber_Error = 3,
 };
 
 @interface ProtosReadCharacteristicResponse : GPBMessage
@@ -499,6 +1296,9 @@ typedef GPB_ENUM(ProtosReadCharacteristicResponse_FieldNumber) {
 /** Test to see if @c characteristic has been set. */
 @property(nonatomic, readwrite) BOOL hasCharacteristic;
 
+/** Set if the read was abandoned, e.g. timed out or disconnected. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *error;
+
 @end
 
 #pragma mark - ProtosReadDescriptorRequest
@@ -509,6 +1309,7 @@ typedef GPB_ENUM(ProtosReadDescriptorRequest_FieldNumber) {
   ProtosReadDescriptorRequest_FieldNumber_ServiceUuid = 3,
   ProtosReadDescriptorRequest_FieldNumber_SecondaryServiceUuid = 4,
   ProtosReadDescriptorRequest_FieldNumber_CharacteristicUuid = 5,
+  ProtosReadDescriptorRequest_FieldNumber_CharacteristicHandle = 6,
 };
 
 @interface ProtosReadDescriptorRequest : GPBMessage
@@ -523,6 +1324,9 @@ typedef GPB_ENUM(ProtosReadDescriptorRequest_FieldNumber) {
 
 @property(nonatomic, readwrite, copy, null_resettable) NSString *characteristicUuid;
 
+/** When non zero, used instead of the service and characteristic UUIDs. */
+@property(nonatomic, readwrite) int32_t characteristicHandle;
+
 @end
 
 #pragma mark - ProtosReadDescriptorResponse
@@ -530,6 +1334,7 @@ typedef GPB_ENUM(ProtosReadDescriptorRequest_FieldNumber) {
 typedef GPB_ENUM(ProtosReadDescriptorResponse_FieldNumber) {
   ProtosReadDescriptorResponse_FieldNumber_Request = 1,
   ProtosReadDescriptorResponse_FieldNumber_Value = 2,
+  ProtosReadDescriptorResponse_FieldNumber_Error = 3,
 };
 
 @interface ProtosReadDescriptorResponse : GPBMessage
@@ -540,6 +1345,9 @@ typedef GPB_ENUM(ProtosReadDescriptorResponse_FieldNumber) {
 
 @property(nonatomic, readwrite, copy, null_resettable) NSData *value;
 
+/** Set if the read was abandoned, e.g. timed out or disconnected. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *error;
+
 @end
 
 #pragma mark - ProtosWriteCharacteristicRequest
@@ -551,6 +1359,7 @@ typedef GPB_ENUM(ProtosWriteCharacteristicRequest_FieldNumber) {
   ProtosWriteCharacteristicRequest_FieldNumber_SecondaryServiceUuid = 4,
   ProtosWriteCharacteristicRequest_FieldNumber_WriteType = 5,
   ProtosWriteCharacteristicRequest_FieldNumber_Value = 6,
+  ProtosWriteCharacteristicRequest_FieldNumber_CharacteristicHandle = 7,
 };
 
 @interface ProtosWriteCharacteristicRequest : GPBMessage
@@ -567,6 +1376,9 @@ typedef GPB_ENUM(ProtosWriteCharacteristicRequest_FieldNumber) {
 
 @property(nonatomic, readwrite, copy, null_resettable) NSData *value;
 
+/** When non zero, used instead of the UUIDs. */
+@property(nonatomic, readwrite) int32_t characteristicHandle;
+
 @end
 
 /**
@@ -598,6 +1410,255 @@ typedef GPB_ENUM(ProtosWriteCharacteristicResponse_FieldNumber) {
 
 @end
 
+#pragma mark - ProtosReadCharacteristicsRequest
+
+typedef GPB_ENUM(ProtosReadCharacteristicsRequest_FieldNumber) {
+  ProtosReadCharacteristicsRequest_FieldNumber_RemoteId = 1,
+  ProtosReadCharacteristicsRequest_FieldNumber_RequestsArray = 2,
+};
+
+/**
+ * Reads every characteristic in order as one operation, answered with a CharacteristicBatchResponse.
+ **/
+@interface ProtosReadCharacteristicsRequest : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+/** remote_id of each request may be left empty. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosReadCharacteristicRequest*> *requestsArray;
+/** The number of items in @c requestsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger requestsArray_Count;
+
+@end
+
+#pragma mark - ProtosWriteCharacteristicsRequest
+
+typedef GPB_ENUM(ProtosWriteCharacteristicsRequest_FieldNumber) {
+  ProtosWriteCharacteristicsRequest_FieldNumber_RemoteId = 1,
+  ProtosWriteCharacteristicsRequest_FieldNumber_RequestsArray = 2,
+};
+
+/**
+ * Writes every characteristic in order as one operation, answered with a CharacteristicBatchResponse.
+ **/
+@interface ProtosWriteCharacteristicsRequest : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+/** remote_id of each request may be left empty. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosWriteCharacteristicRequest*> *requestsArray;
+/** The number of items in @c requestsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger requestsArray_Count;
+
+@end
+
+#pragma mark - ProtosCharacteristicBatchResult
+
+typedef GPB_ENUM(ProtosCharacteristicBatchResult_FieldNumber) {
+  ProtosCharacteristicBatchResult_FieldNumber_CharacteristicUuid = 1,
+  ProtosCharacteristicBatchResult_FieldNumber_CharacteristicHandle = 2,
+  ProtosCharacteristicBatchResult_FieldNumber_Success = 3,
+  ProtosCharacteristicBatchResult_FieldNumber_GattStatus = 4,
+  ProtosCharacteristicBatchResult_FieldNumber_Error = 5,
+  ProtosCharacteristicBatchResult_FieldNumber_Value = 6,
+};
+
+@interface ProtosCharacteristicBatchResult : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *characteristicUuid;
+
+@property(nonatomic, readwrite) int32_t characteristicHandle;
+
+@property(nonatomic, readwrite) BOOL success;
+
+/** Only meaningful if error is empty. */
+@property(nonatomic, readwrite) int32_t gattStatus;
+
+/** Why the request could not be issued or did not complete. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *error;
+
+/** Read batches only. */
+@property(nonatomic, readwrite, copy, null_resettable) NSData *value;
+
+@end
+
+#pragma mark - ProtosCharacteristicBatchResponse
+
+typedef GPB_ENUM(ProtosCharacteristicBatchResponse_FieldNumber) {
+  ProtosCharacteristicBatchResponse_FieldNumber_RemoteId = 1,
+  ProtosCharacteristicBatchResponse_FieldNumber_ResultsArray = 2,
+};
+
+@interface ProtosCharacteristicBatchResponse : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+/** In request order. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosCharacteristicBatchResult*> *resultsArray;
+/** The number of items in @c resultsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger resultsArray_Count;
+
+@end
+
+#pragma mark - ProtosFanOutReadRequest
+
+typedef GPB_ENUM(ProtosFanOutReadRequest_FieldNumber) {
+  ProtosFanOutReadRequest_FieldNumber_RemoteIdsArray = 1,
+  ProtosFanOutReadRequest_FieldNumber_Request = 2,
+};
+
+/**
+ * Sends request to every device in remote_ids, or to every known device if empty.
+ * The remote_id of request is ignored. Answered with a FanOutResponse.
+ **/
+@interface ProtosFanOutReadRequest : GPBMessage
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<NSString*> *remoteIdsArray;
+/** The number of items in @c remoteIdsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger remoteIdsArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosReadCharacteristicRequest *request;
+/** Test to see if @c request has been set. */
+@property(nonatomic, readwrite) BOOL hasRequest;
+
+@end
+
+#pragma mark - ProtosFanOutWriteRequest
+
+typedef GPB_ENUM(ProtosFanOutWriteRequest_FieldNumber) {
+  ProtosFanOutWriteRequest_FieldNumber_RemoteIdsArray = 1,
+  ProtosFanOutWriteRequest_FieldNumber_Request = 2,
+};
+
+@interface ProtosFanOutWriteRequest : GPBMessage
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<NSString*> *remoteIdsArray;
+/** The number of items in @c remoteIdsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger remoteIdsArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosWriteCharacteristicRequest *request;
+/** Test to see if @c request has been set. */
+@property(nonatomic, readwrite) BOOL hasRequest;
+
+@end
+
+#pragma mark - ProtosFanOutSetNotificationRequest
+
+typedef GPB_ENUM(ProtosFanOutSetNotificationRequest_FieldNumber) {
+  ProtosFanOutSetNotificationRequest_FieldNumber_RemoteIdsArray = 1,
+  ProtosFanOutSetNotificationRequest_FieldNumber_Request = 2,
+};
+
+@interface ProtosFanOutSetNotificationRequest : GPBMessage
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<NSString*> *remoteIdsArray;
+/** The number of items in @c remoteIdsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger remoteIdsArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosSetNotificationRequest *request;
+/** Test to see if @c request has been set. */
+@property(nonatomic, readwrite) BOOL hasRequest;
+
+@end
+
+#pragma mark - ProtosFanOutResult
+
+typedef GPB_ENUM(ProtosFanOutResult_FieldNumber) {
+  ProtosFanOutResult_FieldNumber_RemoteId = 1,
+  ProtosFanOutResult_FieldNumber_Success = 2,
+  ProtosFanOutResult_FieldNumber_GattStatus = 3,
+  ProtosFanOutResult_FieldNumber_Error = 4,
+  ProtosFanOutResult_FieldNumber_Value = 5,
+  ProtosFanOutResult_FieldNumber_LatencyMicros = 6,
+};
+
+@interface ProtosFanOutResult : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) BOOL success;
+
+/** Only meaningful if error is empty. */
+@property(nonatomic, readwrite) int32_t gattStatus;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *error;
+
+/** Reads only. */
+@property(nonatomic, readwrite, copy, null_resettable) NSData *value;
+
+/** From the call until this device completed. */
+@property(nonatomic, readwrite) uint64_t latencyMicros;
+
+@end
+
+#pragma mark - ProtosFanOutResponse
+
+typedef GPB_ENUM(ProtosFanOutResponse_FieldNumber) {
+  ProtosFanOutResponse_FieldNumber_ResultsArray = 1,
+};
+
+@interface ProtosFanOutResponse : GPBMessage
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosFanOutResult*> *resultsArray;
+/** The number of items in @c resultsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger resultsArray_Count;
+
+@end
+
+#pragma mark - ProtosBulkWriteRequest
+
+typedef GPB_ENUM(ProtosBulkWriteRequest_FieldNumber) {
+  ProtosBulkWriteRequest_FieldNumber_Request = 1,
+  ProtosBulkWriteRequest_FieldNumber_ProgressInterval = 2,
+};
+
+/**
+ * Writes request.value in MTU sized chunks, paced by the write callbacks.
+ **/
+@interface ProtosBulkWriteRequest : GPBMessage
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosWriteCharacteristicRequest *request;
+/** Test to see if @c request has been set. */
+@property(nonatomic, readwrite) BOOL hasRequest;
+
+/** Bytes between BulkWriteProgress reports. 0 only reports completion. */
+@property(nonatomic, readwrite) uint32_t progressInterval;
+
+@end
+
+#pragma mark - ProtosBulkWriteProgress
+
+typedef GPB_ENUM(ProtosBulkWriteProgress_FieldNumber) {
+  ProtosBulkWriteProgress_FieldNumber_RemoteId = 1,
+  ProtosBulkWriteProgress_FieldNumber_CharacteristicUuid = 2,
+  ProtosBulkWriteProgress_FieldNumber_CharacteristicHandle = 3,
+  ProtosBulkWriteProgress_FieldNumber_BytesWritten = 4,
+  ProtosBulkWriteProgress_FieldNumber_TotalBytes = 5,
+  ProtosBulkWriteProgress_FieldNumber_BytesPerSecond = 6,
+  ProtosBulkWriteProgress_FieldNumber_Done = 7,
+  ProtosBulkWriteProgress_FieldNumber_Success = 8,
+};
+
+@interface ProtosBulkWriteProgress : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *characteristicUuid;
+
+@property(nonatomic, readwrite) int32_t characteristicHandle;
+
+@property(nonatomic, readwrite) uint32_t bytesWritten;
+
+@property(nonatomic, readwrite) uint32_t totalBytes;
+
+@property(nonatomic, readwrite) uint32_t bytesPerSecond;
+
+@property(nonatomic, readwrite) BOOL done;
+
+@property(nonatomic, readwrite) BOOL success;
+
+@end
+
 #pragma mark - ProtosWriteDescriptorRequest
 
 typedef GPB_ENUM(ProtosWriteDescriptorRequest_FieldNumber) {
@@ -607,6 +1668,7 @@ typedef GPB_ENUM(ProtosWriteDescriptorRequest_FieldNumber) {
   ProtosWriteDescriptorRequest_FieldNumber_SecondaryServiceUuid = 4,
   ProtosWriteDescriptorRequest_FieldNumber_CharacteristicUuid = 5,
   ProtosWriteDescriptorRequest_FieldNumber_Value = 6,
+  ProtosWriteDescriptorRequest_FieldNumber_CharacteristicHandle = 7,
 };
 
 @interface ProtosWriteDescriptorRequest : GPBMessage
@@ -623,6 +1685,9 @@ typedef GPB_ENUM(ProtosWriteDescriptorRequest_FieldNumber) {
 
 @property(nonatomic, readwrite, copy, null_resettable) NSData *value;
 
+/** When non zero, used instead of the service and characteristic UUIDs. */
+@property(nonatomic, readwrite) int32_t characteristicHandle;
+
 @end
 
 #pragma mark - ProtosWriteDescriptorResponse
@@ -650,6 +1715,8 @@ typedef GPB_ENUM(ProtosSetNotificationRequest_FieldNumber) {
   ProtosSetNotificationRequest_FieldNumber_SecondaryServiceUuid = 3,
   ProtosSetNotificationRequest_FieldNumber_CharacteristicUuid = 4,
   ProtosSetNotificationRequest_FieldNumber_Enable = 5,
+  ProtosSetNotificationRequest_FieldNumber_CharacteristicHandle = 6,
+  ProtosSetNotificationRequest_FieldNumber_Compact = 7,
 };
 
 @interface ProtosSetNotificationRequest : GPBMessage
@@ -664,6 +1731,12 @@ typedef GPB_ENUM(ProtosSetNotificationRequest_FieldNumber) {
 
 @property(nonatomic, readwrite) BOOL enable;
 
+/** When non zero, used instead of the UUIDs. */
+@property(nonatomic, readwrite) int32_t characteristicHandle;
+
+/** Deliver notifications as OnCharacteristicValue instead of OnCharacteristicChanged. */
+@property(nonatomic, readwrite) BOOL compact;
+
 @end
 
 #pragma mark - ProtosSetNotificationResponse
@@ -703,6 +1776,61 @@ typedef GPB_ENUM(ProtosOnCharacteristicChanged_FieldNumber) {
 
 @end
 
+#pragma mark - ProtosOnCharacteristicValue
+
+typedef GPB_ENUM(ProtosOnCharacteristicValue_FieldNumber) {
+  ProtosOnCharacteristicValue_FieldNumber_RemoteId = 1,
+  ProtosOnCharacteristicValue_FieldNumber_CharacteristicHandle = 2,
+  ProtosOnCharacteristicValue_FieldNumber_CharacteristicUuid = 3,
+  ProtosOnCharacteristicValue_FieldNumber_ServiceUuid = 4,
+  ProtosOnCharacteristicValue_FieldNumber_SecondaryServiceUuid = 5,
+  ProtosOnCharacteristicValue_FieldNumber_Value = 6,
+  ProtosOnCharacteristicValue_FieldNumber_TimestampMillis = 7,
+};
+
+/**
+ * Compact form of OnCharacteristicChanged without properties or descriptors.
+ **/
+@interface ProtosOnCharacteristicValue : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) int32_t characteristicHandle;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *characteristicUuid;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *serviceUuid;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *secondaryServiceUuid;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSData *value;
+
+/** Wall clock time the notification was received. */
+@property(nonatomic, readwrite) int64_t timestampMillis;
+
+@end
+
+#pragma mark - ProtosNotificationStats
+
+typedef GPB_ENUM(ProtosNotificationStats_FieldNumber) {
+  ProtosNotificationStats_FieldNumber_RemoteId = 1,
+  ProtosNotificationStats_FieldNumber_Delivered = 2,
+  ProtosNotificationStats_FieldNumber_Dropped = 3,
+  ProtosNotificationStats_FieldNumber_Buffered = 4,
+};
+
+@interface ProtosNotificationStats : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) uint64_t delivered;
+
+@property(nonatomic, readwrite) uint64_t dropped;
+
+@property(nonatomic, readwrite) uint32_t buffered;
+
+@end
+
 #pragma mark - ProtosDeviceStateResponse
 
 typedef GPB_ENUM(ProtosDeviceStateResponse_FieldNumber) {
@@ -774,6 +1902,184 @@ typedef GPB_ENUM(ProtosMtuSizeResponse_FieldNumber) {
 
 @end
 
+#pragma mark - ProtosPipelineStage
+
+typedef GPB_ENUM(ProtosPipelineStage_FieldNumber) {
+  ProtosPipelineStage_FieldNumber_Name = 1,
+  ProtosPipelineStage_FieldNumber_Count = 2,
+  ProtosPipelineStage_FieldNumber_TotalMicros = 3,
+  ProtosPipelineStage_FieldNumber_MaxMicros = 4,
+};
+
+/**
+ * Time spent in one stage of the native callback pipeline.
+ **/
+@interface ProtosPipelineStage : GPBMessage
+
+/** dispatch, process or deliver. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *name;
+
+@property(nonatomic, readwrite) uint64_t count;
+
+@property(nonatomic, readwrite) uint64_t totalMicros;
+
+@property(nonatomic, readwrite) uint64_t maxMicros;
+
+@end
+
+#pragma mark - ProtosPipelineStats
+
+typedef GPB_ENUM(ProtosPipelineStats_FieldNumber) {
+  ProtosPipelineStats_FieldNumber_StagesArray = 1,
+  ProtosPipelineStats_FieldNumber_PendingTasks = 2,
+  ProtosPipelineStats_FieldNumber_PendingMessages = 3,
+  ProtosPipelineStats_FieldNumber_MaxPendingTasks = 4,
+  ProtosPipelineStats_FieldNumber_MaxPendingMessages = 5,
+};
+
+@interface ProtosPipelineStats : GPBMessage
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosPipelineStage*> *stagesArray;
+/** The number of items in @c stagesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger stagesArray_Count;
+
+/** Callbacks waiting for the processing thread. */
+@property(nonatomic, readwrite) uint32_t pendingTasks;
+
+/** Messages waiting for the main thread. */
+@property(nonatomic, readwrite) uint32_t pendingMessages;
+
+@property(nonatomic, readwrite) uint32_t maxPendingTasks;
+
+@property(nonatomic, readwrite) uint32_t maxPendingMessages;
+
+@end
+
+#pragma mark - ProtosHistogramBucket
+
+typedef GPB_ENUM(ProtosHistogramBucket_FieldNumber) {
+  ProtosHistogramBucket_FieldNumber_UpperMicros = 1,
+  ProtosHistogramBucket_FieldNumber_Count = 2,
+};
+
+@interface ProtosHistogramBucket : GPBMessage
+
+/** The highest value counted in the bucket. */
+@property(nonatomic, readwrite) uint64_t upperMicros;
+
+@property(nonatomic, readwrite) uint64_t count;
+
+@end
+
+#pragma mark - ProtosLatencyHistogram
+
+typedef GPB_ENUM(ProtosLatencyHistogram_FieldNumber) {
+  ProtosLatencyHistogram_FieldNumber_Operation = 1,
+  ProtosLatencyHistogram_FieldNumber_Count = 2,
+  ProtosLatencyHistogram_FieldNumber_MinMicros = 3,
+  ProtosLatencyHistogram_FieldNumber_MaxMicros = 4,
+  ProtosLatencyHistogram_FieldNumber_MeanMicros = 5,
+  ProtosLatencyHistogram_FieldNumber_P50Micros = 6,
+  ProtosLatencyHistogram_FieldNumber_P90Micros = 7,
+  ProtosLatencyHistogram_FieldNumber_P99Micros = 8,
+  ProtosLatencyHistogram_FieldNumber_BucketsArray = 9,
+};
+
+/**
+ * Latencies are measured from issuing a request to processing its callback.
+ **/
+@interface ProtosLatencyHistogram : GPBMessage
+
+/**
+ * connect, discover_services, read_characteristic, write_characteristic, read_descriptor,
+ * write_descriptor, set_notification or request_mtu.
+ **/
+@property(nonatomic, readwrite, copy, null_resettable) NSString *operation;
+
+@property(nonatomic, readwrite) uint64_t count;
+
+@property(nonatomic, readwrite) uint64_t minMicros;
+
+@property(nonatomic, readwrite) uint64_t maxMicros;
+
+@property(nonatomic, readwrite) uint64_t meanMicros;
+
+/** Percentiles are the upper bound of their bucket, within about 12% of the exact value. */
+@property(nonatomic, readwrite) uint64_t p50Micros;
+
+@property(nonatomic, readwrite) uint64_t p90Micros;
+
+@property(nonatomic, readwrite) uint64_t p99Micros;
+
+/** Non-empty buckets only, in increasing order. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosHistogramBucket*> *bucketsArray;
+/** The number of items in @c bucketsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger bucketsArray_Count;
+
+@end
+
+#pragma mark - ProtosDeviceMetrics
+
+typedef GPB_ENUM(ProtosDeviceMetrics_FieldNumber) {
+  ProtosDeviceMetrics_FieldNumber_RemoteId = 1,
+  ProtosDeviceMetrics_FieldNumber_OperationsArray = 2,
+};
+
+@interface ProtosDeviceMetrics : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosLatencyHistogram*> *operationsArray;
+/** The number of items in @c operationsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger operationsArray_Count;
+
+@end
+
+#pragma mark - ProtosScanMetrics
+
+typedef GPB_ENUM(ProtosScanMetrics_FieldNumber) {
+  ProtosScanMetrics_FieldNumber_Received = 1,
+  ProtosScanMetrics_FieldNumber_Emitted = 2,
+  ProtosScanMetrics_FieldNumber_Dropped = 3,
+};
+
+@interface ProtosScanMetrics : GPBMessage
+
+/** Advertisements delivered by the platform. */
+@property(nonatomic, readwrite) uint64_t received;
+
+/** Results forwarded to Dart, individually or in batches. */
+@property(nonatomic, readwrite) uint64_t emitted;
+
+/** Rejected by the scan filters or deduplication. */
+@property(nonatomic, readwrite) uint64_t dropped;
+
+@end
+
+#pragma mark - ProtosMetrics
+
+typedef GPB_ENUM(ProtosMetrics_FieldNumber) {
+  ProtosMetrics_FieldNumber_DevicesArray = 1,
+  ProtosMetrics_FieldNumber_Scan = 2,
+  ProtosMetrics_FieldNumber_Pipeline = 3,
+};
+
+@interface ProtosMetrics : GPBMessage
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosDeviceMetrics*> *devicesArray;
+/** The number of items in @c devicesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger devicesArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosScanMetrics *scan;
+/** Test to see if @c scan has been set. */
+@property(nonatomic, readwrite) BOOL hasScan;
+
+@property(nonatomic, readwrite, strong, null_resettable) ProtosPipelineStats *pipeline;
+/** Test to see if @c pipeline has been set. */
+@property(nonatomic, readwrite) BOOL hasPipeline;
+
+@end
+
 NS_ASSUME_NONNULL_END
 
 CF_EXTERN_C_END
@@ -203,6 +203,10 @@ BOOL ProtosBluetoothState_State_IsValidValue(int32_t value__) {
 @dynamic manufacturerData, manufacturerData_Count;
 @dynamic serviceData, serviceData_Count;
 @dynamic serviceUuidsArray, serviceUuidsArray_Count;
+@dynamic hasAppearance, appearance;
+@dynamic hasConnectionIntervalRange, connectionIntervalRange;
+@dynamic uri;
+@dynamic rawScanRecord;
 
 typedef struct ProtosAdvertisementData__storage_ {
   uint32_t _has_storage_[1];
@@ -211,6 +215,10 @@ typedef struct ProtosAdvertisementData__storage_ {
   GPBInt32ObjectDictionary *manufacturerData;
   NSMutableDictionary *serviceData;
   NSMutableArray *serviceUuidsArray;
+  ProtosInt32Value *appearance;
+  ProtosConnectionIntervalRange *connectionIntervalRange;
+  NSString *uri;
+  NSData *rawScanRecord;
 } ProtosAdvertisementData__storage_;
 
 // This method is threadsafe because it is initially called
@@ -273,6 +281,42 @@ typedef struct ProtosAdvertisementData__storage_ {
         .flags = GPBFieldRepeated,
         .dataType = GPBDataTypeString,
       },
+      {
+        .name = "appearance",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosInt32Value),
+        .number = ProtosAdvertisementData_FieldNumber_Appearance,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, appearance),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "connectionIntervalRange",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosConnectionIntervalRange),
+        .number = ProtosAdvertisementData_FieldNumber_ConnectionIntervalRange,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, connectionIntervalRange),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "uri",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosAdvertisementData_FieldNumber_Uri,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, uri),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "rawScanRecord",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosAdvertisementData_FieldNumber_RawScanRecord,
+        .hasIndex = 7,
+        .offset = (uint32_t)offsetof(ProtosAdvertisementData__storage_, rawScanRecord),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosAdvertisementData class]
@@ -292,18 +336,18 @@ typedef struct ProtosAdvertisementData__storage_ {
 
 @end
 
-#pragma mark - ProtosScanSettings
+#pragma mark - ProtosConnectionIntervalRange
 
-@implementation ProtosScanSettings
+@implementation ProtosConnectionIntervalRange
 
-@dynamic androidScanMode;
-@dynamic serviceUuidsArray, serviceUuidsArray_Count;
+@dynamic min;
+@dynamic max;
 
-typedef struct ProtosScanSettings__storage_ {
+typedef struct ProtosConnectionIntervalRange__storage_ {
   uint32_t _has_storage_[1];
-  int32_t androidScanMode;
-  NSMutableArray *serviceUuidsArray;
-} ProtosScanSettings__storage_;
+  uint32_t min;
+  uint32_t max;
+} ProtosConnectionIntervalRange__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -312,31 +356,31 @@ typedef struct ProtosScanSettings__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "androidScanMode",
+        .name = "min",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosScanSettings_FieldNumber_AndroidScanMode,
+        .number = ProtosConnectionIntervalRange_FieldNumber_Min,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidScanMode),
+        .offset = (uint32_t)offsetof(ProtosConnectionIntervalRange__storage_, min),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeInt32,
+        .dataType = GPBDataTypeUInt32,
       },
       {
-        .name = "serviceUuidsArray",
+        .name = "max",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosScanSettings_FieldNumber_ServiceUuidsArray,
-        .hasIndex = GPBNoHasBit,
-        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, serviceUuidsArray),
-        .flags = GPBFieldRepeated,
-        .dataType = GPBDataTypeString,
+        .number = ProtosConnectionIntervalRange_FieldNumber_Max,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosConnectionIntervalRange__storage_, max),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosScanSettings class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosConnectionIntervalRange class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosScanSettings__storage_)
+                                   storageSize:sizeof(ProtosConnectionIntervalRange__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -348,20 +392,43 @@ typedef struct ProtosScanSettings__storage_ {
 
 @end
 
-#pragma mark - ProtosScanResult
+#pragma mark - ProtosScanSettings
 
-@implementation ProtosScanResult
+@implementation ProtosScanSettings
 
-@dynamic hasDevice, device;
-@dynamic hasAdvertisementData, advertisementData;
-@dynamic rssi;
+@dynamic androidScanMode;
+@dynamic serviceUuidsArray, serviceUuidsArray_Count;
+@dynamic reportDelayMillis;
+@dynamic maxBatchSize;
+@dynamic deduplicate;
+@dynamic dedupRssiDelta;
+@dynamic dedupRefreshMillis;
+@dynamic includeRawScanRecord;
+@dynamic hasDeviceTable, deviceTable;
+@dynamic filtersArray, filtersArray_Count;
+@dynamic androidCallbackType;
+@dynamic androidMatchMode;
+@dynamic androidNumOfMatches;
+@dynamic androidExtendedAdvertising;
+@dynamic androidPhy;
+@dynamic hasSchedule, schedule;
 
-typedef struct ProtosScanResult__storage_ {
+typedef struct ProtosScanSettings__storage_ {
   uint32_t _has_storage_[1];
-  int32_t rssi;
-  ProtosBluetoothDevice *device;
-  ProtosAdvertisementData *advertisementData;
-} ProtosScanResult__storage_;
+  int32_t androidScanMode;
+  int32_t maxBatchSize;
+  int32_t dedupRssiDelta;
+  int32_t androidCallbackType;
+  int32_t androidMatchMode;
+  int32_t androidNumOfMatches;
+  int32_t androidPhy;
+  NSMutableArray *serviceUuidsArray;
+  ProtosDeviceTableSettings *deviceTable;
+  NSMutableArray *filtersArray;
+  ProtosScanSchedule *schedule;
+  int64_t reportDelayMillis;
+  int64_t dedupRefreshMillis;
+} ProtosScanSettings__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -370,40 +437,157 @@ typedef struct ProtosScanResult__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "device",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothDevice),
-        .number = ProtosScanResult_FieldNumber_Device,
+        .name = "androidScanMode",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_AndroidScanMode,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosScanResult__storage_, device),
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidScanMode),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeMessage,
+        .dataType = GPBDataTypeInt32,
       },
       {
-        .name = "advertisementData",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosAdvertisementData),
-        .number = ProtosScanResult_FieldNumber_AdvertisementData,
+        .name = "serviceUuidsArray",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_ServiceUuidsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, serviceUuidsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "reportDelayMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_ReportDelayMillis,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosScanResult__storage_, advertisementData),
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, reportDelayMillis),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeMessage,
+        .dataType = GPBDataTypeInt64,
       },
       {
-        .name = "rssi",
+        .name = "maxBatchSize",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosScanResult_FieldNumber_Rssi,
+        .number = ProtosScanSettings_FieldNumber_MaxBatchSize,
         .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosScanResult__storage_, rssi),
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, maxBatchSize),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "deduplicate",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_Deduplicate,
+        .hasIndex = 3,
+        .offset = 4,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "dedupRssiDelta",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_DedupRssiDelta,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, dedupRssiDelta),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "dedupRefreshMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_DedupRefreshMillis,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, dedupRefreshMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
+      {
+        .name = "includeRawScanRecord",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_IncludeRawScanRecord,
+        .hasIndex = 7,
+        .offset = 8,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "deviceTable",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosDeviceTableSettings),
+        .number = ProtosScanSettings_FieldNumber_DeviceTable,
+        .hasIndex = 9,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, deviceTable),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "filtersArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosScanFilter),
+        .number = ProtosScanSettings_FieldNumber_FiltersArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, filtersArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "androidCallbackType",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_AndroidCallbackType,
+        .hasIndex = 10,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidCallbackType),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "androidMatchMode",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_AndroidMatchMode,
+        .hasIndex = 11,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidMatchMode),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "androidNumOfMatches",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_AndroidNumOfMatches,
+        .hasIndex = 12,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidNumOfMatches),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "androidExtendedAdvertising",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_AndroidExtendedAdvertising,
+        .hasIndex = 13,
+        .offset = 14,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "androidPhy",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSettings_FieldNumber_AndroidPhy,
+        .hasIndex = 15,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidPhy),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeInt32,
       },
+      {
+        .name = "schedule",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosScanSchedule),
+        .number = ProtosScanSettings_FieldNumber_Schedule,
+        .hasIndex = 16,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, schedule),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosScanResult class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosScanSettings class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosScanResult__storage_)
+                                   storageSize:sizeof(ProtosScanSettings__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -415,17 +599,26 @@ typedef struct ProtosScanResult__storage_ {
 
 @end
 
-#pragma mark - ProtosConnectRequest
+#pragma mark - ProtosScanSchedule
 
-@implementation ProtosConnectRequest
+@implementation ProtosScanSchedule
 
-@dynamic remoteId;
-@dynamic androidAutoConnect;
+@dynamic scanWindowMillis;
+@dynamic pauseWindowMillis;
+@dynamic adaptiveScanMode;
+@dynamic raiseThreshold;
+@dynamic lowerAfterWindows;
+@dynamic restartOnFailure;
+@dynamic maxRestartDelayMillis;
 
-typedef struct ProtosConnectRequest__storage_ {
+typedef struct ProtosScanSchedule__storage_ {
   uint32_t _has_storage_[1];
-  NSString *remoteId;
-} ProtosConnectRequest__storage_;
+  int32_t raiseThreshold;
+  int32_t lowerAfterWindows;
+  int64_t scanWindowMillis;
+  int64_t pauseWindowMillis;
+  int64_t maxRestartDelayMillis;
+} ProtosScanSchedule__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -434,31 +627,76 @@ typedef struct ProtosConnectRequest__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "remoteId",
+        .name = "scanWindowMillis",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosConnectRequest_FieldNumber_RemoteId,
+        .number = ProtosScanSchedule_FieldNumber_ScanWindowMillis,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosScanSchedule__storage_, scanWindowMillis),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeInt64,
       },
       {
-        .name = "androidAutoConnect",
+        .name = "pauseWindowMillis",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosConnectRequest_FieldNumber_AndroidAutoConnect,
+        .number = ProtosScanSchedule_FieldNumber_PauseWindowMillis,
         .hasIndex = 1,
-        .offset = 2,  // Stored in _has_storage_ to save space.
+        .offset = (uint32_t)offsetof(ProtosScanSchedule__storage_, pauseWindowMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
+      {
+        .name = "adaptiveScanMode",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSchedule_FieldNumber_AdaptiveScanMode,
+        .hasIndex = 2,
+        .offset = 3,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "raiseThreshold",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSchedule_FieldNumber_RaiseThreshold,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosScanSchedule__storage_, raiseThreshold),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "lowerAfterWindows",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSchedule_FieldNumber_LowerAfterWindows,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosScanSchedule__storage_, lowerAfterWindows),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "restartOnFailure",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSchedule_FieldNumber_RestartOnFailure,
+        .hasIndex = 6,
+        .offset = 7,  // Stored in _has_storage_ to save space.
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeBool,
       },
+      {
+        .name = "maxRestartDelayMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanSchedule_FieldNumber_MaxRestartDelayMillis,
+        .hasIndex = 8,
+        .offset = (uint32_t)offsetof(ProtosScanSchedule__storage_, maxRestartDelayMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosConnectRequest class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosScanSchedule class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosConnectRequest__storage_)
+                                   storageSize:sizeof(ProtosScanSchedule__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -470,20 +708,21 @@ typedef struct ProtosConnectRequest__storage_ {
 
 @end
 
-#pragma mark - ProtosBluetoothDevice
+#pragma mark - ProtosScanFailure
 
-@implementation ProtosBluetoothDevice
+@implementation ProtosScanFailure
 
-@dynamic remoteId;
-@dynamic name;
-@dynamic type;
+@dynamic errorCode;
+@dynamic message;
+@dynamic restarting;
+@dynamic restartDelayMillis;
 
-typedef struct ProtosBluetoothDevice__storage_ {
+typedef struct ProtosScanFailure__storage_ {
   uint32_t _has_storage_[1];
-  ProtosBluetoothDevice_Type type;
-  NSString *remoteId;
-  NSString *name;
-} ProtosBluetoothDevice__storage_;
+  int32_t errorCode;
+  NSString *message;
+  int64_t restartDelayMillis;
+} ProtosScanFailure__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -492,40 +731,49 @@ typedef struct ProtosBluetoothDevice__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "remoteId",
+        .name = "errorCode",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothDevice_FieldNumber_RemoteId,
+        .number = ProtosScanFailure_FieldNumber_ErrorCode,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosScanFailure__storage_, errorCode),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeInt32,
       },
       {
-        .name = "name",
+        .name = "message",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothDevice_FieldNumber_Name,
+        .number = ProtosScanFailure_FieldNumber_Message,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, name),
+        .offset = (uint32_t)offsetof(ProtosScanFailure__storage_, message),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "type",
-        .dataTypeSpecific.enumDescFunc = ProtosBluetoothDevice_Type_EnumDescriptor,
-        .number = ProtosBluetoothDevice_FieldNumber_Type,
+        .name = "restarting",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFailure_FieldNumber_Restarting,
         .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, type),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor),
-        .dataType = GPBDataTypeEnum,
+        .offset = 3,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "restartDelayMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFailure_FieldNumber_RestartDelayMillis,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosScanFailure__storage_, restartDelayMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothDevice class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosScanFailure class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosBluetoothDevice__storage_)
+                                   storageSize:sizeof(ProtosScanFailure__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -537,74 +785,3286 @@ typedef struct ProtosBluetoothDevice__storage_ {
 
 @end
 
-int32_t ProtosBluetoothDevice_Type_RawValue(ProtosBluetoothDevice *message) {
-  GPBDescriptor *descriptor = [ProtosBluetoothDevice descriptor];
-  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosBluetoothDevice_FieldNumber_Type];
-  return GPBGetMessageInt32Field(message, field);
-}
+#pragma mark - ProtosScanFilter
 
-void SetProtosBluetoothDevice_Type_RawValue(ProtosBluetoothDevice *message, int32_t value) {
-  GPBDescriptor *descriptor = [ProtosBluetoothDevice descriptor];
-  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosBluetoothDevice_FieldNumber_Type];
-  GPBSetInt32IvarWithFieldInternal(message, field, value, descriptor.file.syntax);
-}
+@implementation ProtosScanFilter
 
-#pragma mark - Enum ProtosBluetoothDevice_Type
+@dynamic deviceAddress;
+@dynamic deviceName;
+@dynamic serviceUuid;
+@dynamic hasManufacturerId;
+@dynamic manufacturerId;
+@dynamic manufacturerData;
+@dynamic manufacturerDataMask;
+@dynamic serviceDataUuid;
+@dynamic serviceData;
+@dynamic serviceDataMask;
+
+typedef struct ProtosScanFilter__storage_ {
+  uint32_t _has_storage_[1];
+  int32_t manufacturerId;
+  NSString *deviceAddress;
+  NSString *deviceName;
+  NSString *serviceUuid;
+  NSData *manufacturerData;
+  NSData *manufacturerDataMask;
+  NSString *serviceDataUuid;
+  NSData *serviceData;
+  NSData *serviceDataMask;
+} ProtosScanFilter__storage_;
 
-GPBEnumDescriptor *ProtosBluetoothDevice_Type_EnumDescriptor(void) {
-  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "deviceAddress",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFilter_FieldNumber_DeviceAddress,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosScanFilter__storage_, deviceAddress),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "deviceName",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFilter_FieldNumber_DeviceName,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosScanFilter__storage_, deviceName),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFilter_FieldNumber_ServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosScanFilter__storage_, serviceUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "hasManufacturerId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFilter_FieldNumber_HasManufacturerId,
+        .hasIndex = 3,
+        .offset = 4,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "manufacturerId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFilter_FieldNumber_ManufacturerId,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosScanFilter__storage_, manufacturerId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "manufacturerData",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFilter_FieldNumber_ManufacturerData,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosScanFilter__storage_, manufacturerData),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "manufacturerDataMask",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFilter_FieldNumber_ManufacturerDataMask,
+        .hasIndex = 7,
+        .offset = (uint32_t)offsetof(ProtosScanFilter__storage_, manufacturerDataMask),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "serviceDataUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFilter_FieldNumber_ServiceDataUuid,
+        .hasIndex = 8,
+        .offset = (uint32_t)offsetof(ProtosScanFilter__storage_, serviceDataUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceData",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFilter_FieldNumber_ServiceData,
+        .hasIndex = 9,
+        .offset = (uint32_t)offsetof(ProtosScanFilter__storage_, serviceData),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "serviceDataMask",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanFilter_FieldNumber_ServiceDataMask,
+        .hasIndex = 10,
+        .offset = (uint32_t)offsetof(ProtosScanFilter__storage_, serviceDataMask),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosScanFilter class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosScanFilter__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosDeviceTableSettings
+
+@implementation ProtosDeviceTableSettings
+
+@dynamic maxDevices;
+@dynamic maxAgeMillis;
+
+typedef struct ProtosDeviceTableSettings__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t maxDevices;
+  int64_t maxAgeMillis;
+} ProtosDeviceTableSettings__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "maxDevices",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableSettings_FieldNumber_MaxDevices,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableSettings__storage_, maxDevices),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "maxAgeMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableSettings_FieldNumber_MaxAgeMillis,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableSettings__storage_, maxAgeMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosDeviceTableSettings class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosDeviceTableSettings__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosDeviceTableRequest
+
+@implementation ProtosDeviceTableRequest
+
+@dynamic sinceVersion;
+
+typedef struct ProtosDeviceTableRequest__storage_ {
+  uint32_t _has_storage_[1];
+  uint64_t sinceVersion;
+} ProtosDeviceTableRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "sinceVersion",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableRequest_FieldNumber_SinceVersion,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableRequest__storage_, sinceVersion),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosDeviceTableRequest class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosDeviceTableRequest__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosDeviceTableEntry
+
+@implementation ProtosDeviceTableEntry
+
+@dynamic remoteId;
+@dynamic firstSeenMillis;
+@dynamic lastSeenMillis;
+@dynamic advertisementCount;
+@dynamic rssiMin;
+@dynamic rssiMax;
+@dynamic rssiAverage;
+@dynamic advertisingIntervalMillis;
+@dynamic lastPayload;
+@dynamic hasAdvertisementData, advertisementData;
+
+typedef struct ProtosDeviceTableEntry__storage_ {
+  uint32_t _has_storage_[1];
+  int32_t rssiMin;
+  int32_t rssiMax;
+  float rssiAverage;
+  uint32_t advertisingIntervalMillis;
+  NSString *remoteId;
+  NSData *lastPayload;
+  ProtosAdvertisementData *advertisementData;
+  int64_t firstSeenMillis;
+  int64_t lastSeenMillis;
+  uint64_t advertisementCount;
+} ProtosDeviceTableEntry__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableEntry_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableEntry__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "firstSeenMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableEntry_FieldNumber_FirstSeenMillis,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableEntry__storage_, firstSeenMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
+      {
+        .name = "lastSeenMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableEntry_FieldNumber_LastSeenMillis,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableEntry__storage_, lastSeenMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
+      {
+        .name = "advertisementCount",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableEntry_FieldNumber_AdvertisementCount,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableEntry__storage_, advertisementCount),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "rssiMin",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableEntry_FieldNumber_RssiMin,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableEntry__storage_, rssiMin),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "rssiMax",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableEntry_FieldNumber_RssiMax,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableEntry__storage_, rssiMax),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "rssiAverage",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableEntry_FieldNumber_RssiAverage,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableEntry__storage_, rssiAverage),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeFloat,
+      },
+      {
+        .name = "advertisingIntervalMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableEntry_FieldNumber_AdvertisingIntervalMillis,
+        .hasIndex = 7,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableEntry__storage_, advertisingIntervalMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "lastPayload",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTableEntry_FieldNumber_LastPayload,
+        .hasIndex = 8,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableEntry__storage_, lastPayload),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "advertisementData",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosAdvertisementData),
+        .number = ProtosDeviceTableEntry_FieldNumber_AdvertisementData,
+        .hasIndex = 9,
+        .offset = (uint32_t)offsetof(ProtosDeviceTableEntry__storage_, advertisementData),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosDeviceTableEntry class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosDeviceTableEntry__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosDeviceTable
+
+@implementation ProtosDeviceTable
+
+@dynamic version;
+@dynamic full;
+@dynamic devicesArray, devicesArray_Count;
+@dynamic removedArray, removedArray_Count;
+
+typedef struct ProtosDeviceTable__storage_ {
+  uint32_t _has_storage_[1];
+  NSMutableArray *devicesArray;
+  NSMutableArray *removedArray;
+  uint64_t version;
+} ProtosDeviceTable__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "version",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTable_FieldNumber_Version,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosDeviceTable__storage_, version),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "full",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTable_FieldNumber_Full,
+        .hasIndex = 1,
+        .offset = 2,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "devicesArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosDeviceTableEntry),
+        .number = ProtosDeviceTable_FieldNumber_DevicesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosDeviceTable__storage_, devicesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "removedArray",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceTable_FieldNumber_RemovedArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosDeviceTable__storage_, removedArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeString,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosDeviceTable class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosDeviceTable__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosScanResult
+
+@implementation ProtosScanResult
+
+@dynamic hasDevice, device;
+@dynamic hasAdvertisementData, advertisementData;
+@dynamic rssi;
+@dynamic lost;
+
+typedef struct ProtosScanResult__storage_ {
+  uint32_t _has_storage_[1];
+  int32_t rssi;
+  ProtosBluetoothDevice *device;
+  ProtosAdvertisementData *advertisementData;
+} ProtosScanResult__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "device",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothDevice),
+        .number = ProtosScanResult_FieldNumber_Device,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosScanResult__storage_, device),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "advertisementData",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosAdvertisementData),
+        .number = ProtosScanResult_FieldNumber_AdvertisementData,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosScanResult__storage_, advertisementData),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "rssi",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanResult_FieldNumber_Rssi,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosScanResult__storage_, rssi),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "lost",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanResult_FieldNumber_Lost,
+        .hasIndex = 3,
+        .offset = 4,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosScanResult class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosScanResult__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosScanResultBatch
+
+@implementation ProtosScanResultBatch
+
+@dynamic resultsArray, resultsArray_Count;
+
+typedef struct ProtosScanResultBatch__storage_ {
+  uint32_t _has_storage_[1];
+  NSMutableArray *resultsArray;
+} ProtosScanResultBatch__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "resultsArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosScanResult),
+        .number = ProtosScanResultBatch_FieldNumber_ResultsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosScanResultBatch__storage_, resultsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosScanResultBatch class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosScanResultBatch__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosReconnectPolicy
+
+@implementation ProtosReconnectPolicy
+
+@dynamic maxAttempts;
+@dynamic initialDelayMillis;
+@dynamic maxDelayMillis;
+@dynamic jitter;
+@dynamic attemptTimeoutMillis;
+
+typedef struct ProtosReconnectPolicy__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t maxAttempts;
+  float jitter;
+  int64_t initialDelayMillis;
+  int64_t maxDelayMillis;
+  int64_t attemptTimeoutMillis;
+} ProtosReconnectPolicy__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "maxAttempts",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReconnectPolicy_FieldNumber_MaxAttempts,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosReconnectPolicy__storage_, maxAttempts),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "initialDelayMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReconnectPolicy_FieldNumber_InitialDelayMillis,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosReconnectPolicy__storage_, initialDelayMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
+      {
+        .name = "maxDelayMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReconnectPolicy_FieldNumber_MaxDelayMillis,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReconnectPolicy__storage_, maxDelayMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
+      {
+        .name = "jitter",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReconnectPolicy_FieldNumber_Jitter,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosReconnectPolicy__storage_, jitter),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeFloat,
+      },
+      {
+        .name = "attemptTimeoutMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReconnectPolicy_FieldNumber_AttemptTimeoutMillis,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosReconnectPolicy__storage_, attemptTimeoutMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosReconnectPolicy class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosReconnectPolicy__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosReconnectState
+
+@implementation ProtosReconnectState
+
+@dynamic remoteId;
+@dynamic state;
+@dynamic attempt;
+@dynamic delayMillis;
+@dynamic failedNotificationsArray, failedNotificationsArray_Count;
+@dynamic recoveryMillis;
+
+typedef struct ProtosReconnectState__storage_ {
+  uint32_t _has_storage_[1];
+  ProtosReconnectState_State state;
+  uint32_t attempt;
+  NSString *remoteId;
+  NSMutableArray *failedNotificationsArray;
+  int64_t delayMillis;
+  int64_t recoveryMillis;
+} ProtosReconnectState__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReconnectState_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosReconnectState__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "state",
+        .dataTypeSpecific.enumDescFunc = ProtosReconnectState_State_EnumDescriptor,
+        .number = ProtosReconnectState_FieldNumber_State,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosReconnectState__storage_, state),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor),
+        .dataType = GPBDataTypeEnum,
+      },
+      {
+        .name = "attempt",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReconnectState_FieldNumber_Attempt,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReconnectState__storage_, attempt),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "delayMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReconnectState_FieldNumber_DelayMillis,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosReconnectState__storage_, delayMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
+      {
+        .name = "failedNotificationsArray",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReconnectState_FieldNumber_FailedNotificationsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosReconnectState__storage_, failedNotificationsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "recoveryMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReconnectState_FieldNumber_RecoveryMillis,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosReconnectState__storage_, recoveryMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosReconnectState class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosReconnectState__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+int32_t ProtosReconnectState_State_RawValue(ProtosReconnectState *message) {
+  GPBDescriptor *descriptor = [ProtosReconnectState descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosReconnectState_FieldNumber_State];
+  return GPBGetMessageInt32Field(message, field);
+}
+
+void SetProtosReconnectState_State_RawValue(ProtosReconnectState *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosReconnectState descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosReconnectState_FieldNumber_State];
+  GPBSetInt32IvarWithFieldInternal(message, field, value, descriptor.file.syntax);
+}
+
+#pragma mark - Enum ProtosReconnectState_State
+
+GPBEnumDescriptor *ProtosReconnectState_State_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "Scheduled\000Connecting\000Restored\000GaveUp\000";
+    static const int32_t values[] = {
+        ProtosReconnectState_State_Scheduled,
+        ProtosReconnectState_State_Connecting,
+        ProtosReconnectState_State_Restored,
+        ProtosReconnectState_State_GaveUp,
+    };
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosReconnectState_State)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosReconnectState_State_IsValidValue];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosReconnectState_State_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosReconnectState_State_Scheduled:
+    case ProtosReconnectState_State_Connecting:
+    case ProtosReconnectState_State_Restored:
+    case ProtosReconnectState_State_GaveUp:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
+#pragma mark - ProtosConnectRequest
+
+@implementation ProtosConnectRequest
+
+@dynamic remoteId;
+@dynamic androidAutoConnect;
+@dynamic notificationBufferSize;
+@dynamic notificationOverflowPolicy;
+@dynamic mtu;
+@dynamic connectionPriority;
+@dynamic preferredPhy;
+@dynamic hasValueCache, valueCache;
+@dynamic cacheServices;
+@dynamic firmwareFingerprint;
+@dynamic hasReconnect, reconnect;
+
+typedef struct ProtosConnectRequest__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t notificationBufferSize;
+  ProtosConnectRequest_OverflowPolicy notificationOverflowPolicy;
+  uint32_t mtu;
+  ProtosConnectRequest_ConnectionPriority connectionPriority;
+  ProtosConnectRequest_Phy preferredPhy;
+  NSString *remoteId;
+  ProtosValueCachePolicy *valueCache;
+  NSString *firmwareFingerprint;
+  ProtosReconnectPolicy *reconnect;
+} ProtosConnectRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosConnectRequest_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "androidAutoConnect",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosConnectRequest_FieldNumber_AndroidAutoConnect,
+        .hasIndex = 1,
+        .offset = 2,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "notificationBufferSize",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosConnectRequest_FieldNumber_NotificationBufferSize,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, notificationBufferSize),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "notificationOverflowPolicy",
+        .dataTypeSpecific.enumDescFunc = ProtosConnectRequest_OverflowPolicy_EnumDescriptor,
+        .number = ProtosConnectRequest_FieldNumber_NotificationOverflowPolicy,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, notificationOverflowPolicy),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor),
+        .dataType = GPBDataTypeEnum,
+      },
+      {
+        .name = "mtu",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosConnectRequest_FieldNumber_Mtu,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, mtu),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "connectionPriority",
+        .dataTypeSpecific.enumDescFunc = ProtosConnectRequest_ConnectionPriority_EnumDescriptor,
+        .number = ProtosConnectRequest_FieldNumber_ConnectionPriority,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, connectionPriority),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor),
+        .dataType = GPBDataTypeEnum,
+      },
+      {
+        .name = "preferredPhy",
+        .dataTypeSpecific.enumDescFunc = ProtosConnectRequest_Phy_EnumDescriptor,
+        .number = ProtosConnectRequest_FieldNumber_PreferredPhy,
+        .hasIndex = 7,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, preferredPhy),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor),
+        .dataType = GPBDataTypeEnum,
+      },
+      {
+        .name = "valueCache",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosValueCachePolicy),
+        .number = ProtosConnectRequest_FieldNumber_ValueCache,
+        .hasIndex = 8,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, valueCache),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "cacheServices",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosConnectRequest_FieldNumber_CacheServices,
+        .hasIndex = 9,
+        .offset = 10,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "firmwareFingerprint",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosConnectRequest_FieldNumber_FirmwareFingerprint,
+        .hasIndex = 11,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, firmwareFingerprint),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "reconnect",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosReconnectPolicy),
+        .number = ProtosConnectRequest_FieldNumber_Reconnect,
+        .hasIndex = 12,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, reconnect),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosConnectRequest class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosConnectRequest__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+int32_t ProtosConnectRequest_NotificationOverflowPolicy_RawValue(ProtosConnectRequest *message) {
+  GPBDescriptor *descriptor = [ProtosConnectRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosConnectRequest_FieldNumber_NotificationOverflowPolicy];
+  return GPBGetMessageInt32Field(message, field);
+}
+
+void SetProtosConnectRequest_NotificationOverflowPolicy_RawValue(ProtosConnectRequest *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosConnectRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosConnectRequest_FieldNumber_NotificationOverflowPolicy];
+  GPBSetInt32IvarWithFieldInternal(message, field, value, descriptor.file.syntax);
+}
+
+int32_t ProtosConnectRequest_ConnectionPriority_RawValue(ProtosConnectRequest *message) {
+  GPBDescriptor *descriptor = [ProtosConnectRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosConnectRequest_FieldNumber_ConnectionPriority];
+  return GPBGetMessageInt32Field(message, field);
+}
+
+void SetProtosConnectRequest_ConnectionPriority_RawValue(ProtosConnectRequest *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosConnectRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosConnectRequest_FieldNumber_ConnectionPriority];
+  GPBSetInt32IvarWithFieldInternal(message, field, value, descriptor.file.syntax);
+}
+
+int32_t ProtosConnectRequest_PreferredPhy_RawValue(ProtosConnectRequest *message) {
+  GPBDescriptor *descriptor = [ProtosConnectRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosConnectRequest_FieldNumber_PreferredPhy];
+  return GPBGetMessageInt32Field(message, field);
+}
+
+void SetProtosConnectRequest_PreferredPhy_RawValue(ProtosConnectRequest *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosConnectRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosConnectRequest_FieldNumber_PreferredPhy];
+  GPBSetInt32IvarWithFieldInternal(message, field, value, descriptor.file.syntax);
+}
+
+#pragma mark - Enum ProtosConnectRequest_OverflowPolicy
+
+GPBEnumDescriptor *ProtosConnectRequest_OverflowPolicy_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "DropOldest\000DropNewest\000";
+    static const int32_t values[] = {
+        ProtosConnectRequest_OverflowPolicy_DropOldest,
+        ProtosConnectRequest_OverflowPolicy_DropNewest,
+    };
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosConnectRequest_OverflowPolicy)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosConnectRequest_OverflowPolicy_IsValidValue];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosConnectRequest_OverflowPolicy_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosConnectRequest_OverflowPolicy_DropOldest:
+    case ProtosConnectRequest_OverflowPolicy_DropNewest:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
+#pragma mark - Enum ProtosConnectRequest_ConnectionPriority
+
+GPBEnumDescriptor *ProtosConnectRequest_ConnectionPriority_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "Balanced\000High\000LowPower\000";
+    static const int32_t values[] = {
+        ProtosConnectRequest_ConnectionPriority_Balanced,
+        ProtosConnectRequest_ConnectionPriority_High,
+        ProtosConnectRequest_ConnectionPriority_LowPower,
+    };
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosConnectRequest_ConnectionPriority)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosConnectRequest_ConnectionPriority_IsValidValue];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosConnectRequest_ConnectionPriority_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosConnectRequest_ConnectionPriority_Balanced:
+    case ProtosConnectRequest_ConnectionPriority_High:
+    case ProtosConnectRequest_ConnectionPriority_LowPower:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
+#pragma mark - Enum ProtosConnectRequest_Phy
+
+GPBEnumDescriptor *ProtosConnectRequest_Phy_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "PhyUnspecified\000Le1M\000Le2M\000LeCoded\000";
+    static const int32_t values[] = {
+        ProtosConnectRequest_Phy_PhyUnspecified,
+        ProtosConnectRequest_Phy_Le1M,
+        ProtosConnectRequest_Phy_Le2M,
+        ProtosConnectRequest_Phy_LeCoded,
+    };
+    static const char *extraTextFormatInfo = "\002\001b\202\000\002b\202\000";
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosConnectRequest_Phy)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosConnectRequest_Phy_IsValidValue
+                              extraTextFormatInfo:extraTextFormatInfo];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosConnectRequest_Phy_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosConnectRequest_Phy_PhyUnspecified:
+    case ProtosConnectRequest_Phy_Le1M:
+    case ProtosConnectRequest_Phy_Le2M:
+    case ProtosConnectRequest_Phy_LeCoded:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
+#pragma mark - ProtosValueCachePolicy
+
+@implementation ProtosValueCachePolicy
+
+@dynamic maxEntries;
+@dynamic defaultTtlMillis;
+@dynamic rulesArray, rulesArray_Count;
+
+typedef struct ProtosValueCachePolicy__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t maxEntries;
+  NSMutableArray *rulesArray;
+  uint64_t defaultTtlMillis;
+} ProtosValueCachePolicy__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "maxEntries",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosValueCachePolicy_FieldNumber_MaxEntries,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosValueCachePolicy__storage_, maxEntries),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "defaultTtlMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosValueCachePolicy_FieldNumber_DefaultTtlMillis,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosValueCachePolicy__storage_, defaultTtlMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "rulesArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosValueCacheRule),
+        .number = ProtosValueCachePolicy_FieldNumber_RulesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosValueCachePolicy__storage_, rulesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosValueCachePolicy class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosValueCachePolicy__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosValueCacheRule
+
+@implementation ProtosValueCacheRule
+
+@dynamic characteristicUuid;
+@dynamic ttlMillis;
+
+typedef struct ProtosValueCacheRule__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *characteristicUuid;
+  uint64_t ttlMillis;
+} ProtosValueCacheRule__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "characteristicUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosValueCacheRule_FieldNumber_CharacteristicUuid,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosValueCacheRule__storage_, characteristicUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "ttlMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosValueCacheRule_FieldNumber_TtlMillis,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosValueCacheRule__storage_, ttlMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosValueCacheRule class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosValueCacheRule__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosValueCacheStats
+
+@implementation ProtosValueCacheStats
+
+@dynamic remoteId;
+@dynamic hits;
+@dynamic misses;
+@dynamic evictions;
+@dynamic entries;
+
+typedef struct ProtosValueCacheStats__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t entries;
+  NSString *remoteId;
+  uint64_t hits;
+  uint64_t misses;
+  uint64_t evictions;
+} ProtosValueCacheStats__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosValueCacheStats_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosValueCacheStats__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "hits",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosValueCacheStats_FieldNumber_Hits,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosValueCacheStats__storage_, hits),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "misses",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosValueCacheStats_FieldNumber_Misses,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosValueCacheStats__storage_, misses),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "evictions",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosValueCacheStats_FieldNumber_Evictions,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosValueCacheStats__storage_, evictions),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "entries",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosValueCacheStats_FieldNumber_Entries,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosValueCacheStats__storage_, entries),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosValueCacheStats class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosValueCacheStats__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosConnectionLimits
+
+@implementation ProtosConnectionLimits
+
+@dynamic maxPendingConnections;
+@dynamic maxConnections;
+@dynamic idleTimeoutMillis;
+
+typedef struct ProtosConnectionLimits__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t maxPendingConnections;
+  uint32_t maxConnections;
+  uint32_t idleTimeoutMillis;
+} ProtosConnectionLimits__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "maxPendingConnections",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosConnectionLimits_FieldNumber_MaxPendingConnections,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosConnectionLimits__storage_, maxPendingConnections),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "maxConnections",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosConnectionLimits_FieldNumber_MaxConnections,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosConnectionLimits__storage_, maxConnections),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "idleTimeoutMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosConnectionLimits_FieldNumber_IdleTimeoutMillis,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosConnectionLimits__storage_, idleTimeoutMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosConnectionLimits class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosConnectionLimits__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosConnectionSlotState
+
+@implementation ProtosConnectionSlotState
+
+@dynamic remoteId;
+@dynamic state;
+@dynamic idleMillis;
+
+typedef struct ProtosConnectionSlotState__storage_ {
+  uint32_t _has_storage_[1];
+  ProtosConnectionSlotState_State state;
+  NSString *remoteId;
+  int64_t idleMillis;
+} ProtosConnectionSlotState__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosConnectionSlotState_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosConnectionSlotState__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "state",
+        .dataTypeSpecific.enumDescFunc = ProtosConnectionSlotState_State_EnumDescriptor,
+        .number = ProtosConnectionSlotState_FieldNumber_State,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosConnectionSlotState__storage_, state),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor),
+        .dataType = GPBDataTypeEnum,
+      },
+      {
+        .name = "idleMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosConnectionSlotState_FieldNumber_IdleMillis,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosConnectionSlotState__storage_, idleMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosConnectionSlotState class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosConnectionSlotState__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+int32_t ProtosConnectionSlotState_State_RawValue(ProtosConnectionSlotState *message) {
+  GPBDescriptor *descriptor = [ProtosConnectionSlotState descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosConnectionSlotState_FieldNumber_State];
+  return GPBGetMessageInt32Field(message, field);
+}
+
+void SetProtosConnectionSlotState_State_RawValue(ProtosConnectionSlotState *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosConnectionSlotState descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosConnectionSlotState_FieldNumber_State];
+  GPBSetInt32IvarWithFieldInternal(message, field, value, descriptor.file.syntax);
+}
+
+#pragma mark - Enum ProtosConnectionSlotState_State
+
+GPBEnumDescriptor *ProtosConnectionSlotState_State_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "Idle\000Queued\000Connecting\000Connected\000Disconn"
+        "ecting\000";
+    static const int32_t values[] = {
+        ProtosConnectionSlotState_State_Idle,
+        ProtosConnectionSlotState_State_Queued,
+        ProtosConnectionSlotState_State_Connecting,
+        ProtosConnectionSlotState_State_Connected,
+        ProtosConnectionSlotState_State_Disconnecting,
+    };
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosConnectionSlotState_State)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosConnectionSlotState_State_IsValidValue];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosConnectionSlotState_State_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosConnectionSlotState_State_Idle:
+    case ProtosConnectionSlotState_State_Queued:
+    case ProtosConnectionSlotState_State_Connecting:
+    case ProtosConnectionSlotState_State_Connected:
+    case ProtosConnectionSlotState_State_Disconnecting:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
+#pragma mark - ProtosConnectionSlotsResponse
+
+@implementation ProtosConnectionSlotsResponse
+
+@dynamic devicesArray, devicesArray_Count;
+
+typedef struct ProtosConnectionSlotsResponse__storage_ {
+  uint32_t _has_storage_[1];
+  NSMutableArray *devicesArray;
+} ProtosConnectionSlotsResponse__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "devicesArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosConnectionSlotState),
+        .number = ProtosConnectionSlotsResponse_FieldNumber_DevicesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosConnectionSlotsResponse__storage_, devicesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosConnectionSlotsResponse class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosConnectionSlotsResponse__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosBluetoothDevice
+
+@implementation ProtosBluetoothDevice
+
+@dynamic remoteId;
+@dynamic name;
+@dynamic type;
+
+typedef struct ProtosBluetoothDevice__storage_ {
+  uint32_t _has_storage_[1];
+  ProtosBluetoothDevice_Type type;
+  NSString *remoteId;
+  NSString *name;
+} ProtosBluetoothDevice__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothDevice_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "name",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothDevice_FieldNumber_Name,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, name),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "type",
+        .dataTypeSpecific.enumDescFunc = ProtosBluetoothDevice_Type_EnumDescriptor,
+        .number = ProtosBluetoothDevice_FieldNumber_Type,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, type),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor),
+        .dataType = GPBDataTypeEnum,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothDevice class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBluetoothDevice__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+int32_t ProtosBluetoothDevice_Type_RawValue(ProtosBluetoothDevice *message) {
+  GPBDescriptor *descriptor = [ProtosBluetoothDevice descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosBluetoothDevice_FieldNumber_Type];
+  return GPBGetMessageInt32Field(message, field);
+}
+
+void SetProtosBluetoothDevice_Type_RawValue(ProtosBluetoothDevice *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosBluetoothDevice descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosBluetoothDevice_FieldNumber_Type];
+  GPBSetInt32IvarWithFieldInternal(message, field, value, descriptor.file.syntax);
+}
+
+#pragma mark - Enum ProtosBluetoothDevice_Type
+
+GPBEnumDescriptor *ProtosBluetoothDevice_Type_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "Unknown\000Classic\000Le\000Dual\000";
+    static const int32_t values[] = {
+        ProtosBluetoothDevice_Type_Unknown,
+        ProtosBluetoothDevice_Type_Classic,
+        ProtosBluetoothDevice_Type_Le,
+        ProtosBluetoothDevice_Type_Dual,
+    };
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosBluetoothDevice_Type)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosBluetoothDevice_Type_IsValidValue];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosBluetoothDevice_Type_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosBluetoothDevice_Type_Unknown:
+    case ProtosBluetoothDevice_Type_Classic:
+    case ProtosBluetoothDevice_Type_Le:
+    case ProtosBluetoothDevice_Type_Dual:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
+#pragma mark - ProtosBluetoothService
+
+@implementation ProtosBluetoothService
+
+@dynamic uuid;
+@dynamic remoteId;
+@dynamic isPrimary;
+@dynamic characteristicsArray, characteristicsArray_Count;
+@dynamic includedServicesArray, includedServicesArray_Count;
+
+typedef struct ProtosBluetoothService__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *uuid;
+  NSString *remoteId;
+  NSMutableArray *characteristicsArray;
+  NSMutableArray *includedServicesArray;
+} ProtosBluetoothService__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "uuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothService_FieldNumber_Uuid,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, uuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothService_FieldNumber_RemoteId,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "isPrimary",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothService_FieldNumber_IsPrimary,
+        .hasIndex = 2,
+        .offset = 3,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "characteristicsArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothCharacteristic),
+        .number = ProtosBluetoothService_FieldNumber_CharacteristicsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, characteristicsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "includedServicesArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothService),
+        .number = ProtosBluetoothService_FieldNumber_IncludedServicesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, includedServicesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothService class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBluetoothService__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosBluetoothCharacteristic
+
+@implementation ProtosBluetoothCharacteristic
+
+@dynamic uuid;
+@dynamic remoteId;
+@dynamic serviceUuid;
+@dynamic secondaryServiceUuid;
+@dynamic descriptorsArray, descriptorsArray_Count;
+@dynamic hasProperties, properties;
+@dynamic value;
+@dynamic handle;
+
+typedef struct ProtosBluetoothCharacteristic__storage_ {
+  uint32_t _has_storage_[1];
+  int32_t handle;
+  NSString *uuid;
+  NSString *remoteId;
+  NSString *serviceUuid;
+  NSString *secondaryServiceUuid;
+  NSMutableArray *descriptorsArray;
+  ProtosCharacteristicProperties *properties;
+  NSData *value;
+} ProtosBluetoothCharacteristic__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "uuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_Uuid,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, uuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_RemoteId,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_ServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, serviceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "secondaryServiceUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_SecondaryServiceUuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, secondaryServiceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "descriptorsArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothDescriptor),
+        .number = ProtosBluetoothCharacteristic_FieldNumber_DescriptorsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, descriptorsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "properties",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosCharacteristicProperties),
+        .number = ProtosBluetoothCharacteristic_FieldNumber_Properties,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, properties),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_Value,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, value),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "handle",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_Handle,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, handle),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothCharacteristic class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBluetoothCharacteristic__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+#if !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
+    static const char *extraTextFormatInfo =
+        "\002\003\013\000\004\024\000";
+    [localDescriptor setupExtraTextInfo:extraTextFormatInfo];
+#endif  // !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosBluetoothDescriptor
+
+@implementation ProtosBluetoothDescriptor
+
+@dynamic uuid;
+@dynamic remoteId;
+@dynamic serviceUuid;
+@dynamic characteristicUuid;
+@dynamic value;
+
+typedef struct ProtosBluetoothDescriptor__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *uuid;
+  NSString *remoteId;
+  NSString *serviceUuid;
+  NSString *characteristicUuid;
+  NSData *value;
+} ProtosBluetoothDescriptor__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "uuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothDescriptor_FieldNumber_Uuid,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, uuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothDescriptor_FieldNumber_RemoteId,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothDescriptor_FieldNumber_ServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, serviceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristicUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothDescriptor_FieldNumber_CharacteristicUuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, characteristicUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBluetoothDescriptor_FieldNumber_Value,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, value),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothDescriptor class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBluetoothDescriptor__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+#if !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
+    static const char *extraTextFormatInfo =
+        "\002\003\013\000\004\022\000";
+    [localDescriptor setupExtraTextInfo:extraTextFormatInfo];
+#endif  // !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosCharacteristicProperties
+
+@implementation ProtosCharacteristicProperties
+
+@dynamic broadcast;
+@dynamic read;
+@dynamic writeWithoutResponse;
+@dynamic write;
+@dynamic notify;
+@dynamic indicate;
+@dynamic authenticatedSignedWrites;
+@dynamic extendedProperties;
+@dynamic notifyEncryptionRequired;
+@dynamic indicateEncryptionRequired;
+
+typedef struct ProtosCharacteristicProperties__storage_ {
+  uint32_t _has_storage_[1];
+} ProtosCharacteristicProperties__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "broadcast",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicProperties_FieldNumber_Broadcast,
+        .hasIndex = 0,
+        .offset = 1,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "read",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicProperties_FieldNumber_Read,
+        .hasIndex = 2,
+        .offset = 3,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "writeWithoutResponse",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicProperties_FieldNumber_WriteWithoutResponse,
+        .hasIndex = 4,
+        .offset = 5,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "write",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicProperties_FieldNumber_Write,
+        .hasIndex = 6,
+        .offset = 7,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "notify",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicProperties_FieldNumber_Notify,
+        .hasIndex = 8,
+        .offset = 9,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "indicate",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicProperties_FieldNumber_Indicate,
+        .hasIndex = 10,
+        .offset = 11,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "authenticatedSignedWrites",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicProperties_FieldNumber_AuthenticatedSignedWrites,
+        .hasIndex = 12,
+        .offset = 13,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "extendedProperties",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicProperties_FieldNumber_ExtendedProperties,
+        .hasIndex = 14,
+        .offset = 15,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "notifyEncryptionRequired",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicProperties_FieldNumber_NotifyEncryptionRequired,
+        .hasIndex = 16,
+        .offset = 17,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "indicateEncryptionRequired",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicProperties_FieldNumber_IndicateEncryptionRequired,
+        .hasIndex = 18,
+        .offset = 19,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosCharacteristicProperties class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosCharacteristicProperties__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosDiscoverServicesResult
+
+@implementation ProtosDiscoverServicesResult
+
+@dynamic remoteId;
+@dynamic servicesArray, servicesArray_Count;
+
+typedef struct ProtosDiscoverServicesResult__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  NSMutableArray *servicesArray;
+} ProtosDiscoverServicesResult__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDiscoverServicesResult_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosDiscoverServicesResult__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "servicesArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothService),
+        .number = ProtosDiscoverServicesResult_FieldNumber_ServicesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosDiscoverServicesResult__storage_, servicesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosDiscoverServicesResult class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosDiscoverServicesResult__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosServicesDiff
+
+@implementation ProtosServicesDiff
+
+@dynamic remoteId;
+@dynamic addedArray, addedArray_Count;
+@dynamic removedArray, removedArray_Count;
+@dynamic changedArray, changedArray_Count;
+@dynamic error;
+
+typedef struct ProtosServicesDiff__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  NSMutableArray *addedArray;
+  NSMutableArray *removedArray;
+  NSMutableArray *changedArray;
+  NSString *error;
+} ProtosServicesDiff__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosServicesDiff_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosServicesDiff__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "addedArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothService),
+        .number = ProtosServicesDiff_FieldNumber_AddedArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosServicesDiff__storage_, addedArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "removedArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothService),
+        .number = ProtosServicesDiff_FieldNumber_RemovedArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosServicesDiff__storage_, removedArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "changedArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothService),
+        .number = ProtosServicesDiff_FieldNumber_ChangedArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosServicesDiff__storage_, changedArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "error",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosServicesDiff_FieldNumber_Error,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosServicesDiff__storage_, error),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosServicesDiff class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosServicesDiff__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosReadCharacteristicRequest
+
+@implementation ProtosReadCharacteristicRequest
+
+@dynamic remoteId;
+@dynamic characteristicUuid;
+@dynamic serviceUuid;
+@dynamic secondaryServiceUuid;
+@dynamic characteristicHandle;
+@dynamic bypassCache;
+
+typedef struct ProtosReadCharacteristicRequest__storage_ {
+  uint32_t _has_storage_[1];
+  int32_t characteristicHandle;
+  NSString *remoteId;
+  NSString *characteristicUuid;
+  NSString *serviceUuid;
+  NSString *secondaryServiceUuid;
+} ProtosReadCharacteristicRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadCharacteristicRequest_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristicUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadCharacteristicRequest_FieldNumber_CharacteristicUuid,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, characteristicUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadCharacteristicRequest_FieldNumber_ServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, serviceUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "secondaryServiceUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadCharacteristicRequest_FieldNumber_SecondaryServiceUuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, secondaryServiceUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristicHandle",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadCharacteristicRequest_FieldNumber_CharacteristicHandle,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, characteristicHandle),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "bypassCache",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadCharacteristicRequest_FieldNumber_BypassCache,
+        .hasIndex = 5,
+        .offset = 6,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosReadCharacteristicRequest class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosReadCharacteristicRequest__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosReadCharacteristicResponse
+
+@implementation ProtosReadCharacteristicResponse
+
+@dynamic remoteId;
+@dynamic hasCharacteristic, characteristic;
+@dynamic error;
+
+typedef struct ProtosReadCharacteristicResponse__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  ProtosBluetoothCharacteristic *characteristic;
+  NSString *error;
+} ProtosReadCharacteristicResponse__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadCharacteristicResponse_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicResponse__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristic",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothCharacteristic),
+        .number = ProtosReadCharacteristicResponse_FieldNumber_Characteristic,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicResponse__storage_, characteristic),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "error",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadCharacteristicResponse_FieldNumber_Error,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicResponse__storage_, error),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosReadCharacteristicResponse class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosReadCharacteristicResponse__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosReadDescriptorRequest
+
+@implementation ProtosReadDescriptorRequest
+
+@dynamic remoteId;
+@dynamic descriptorUuid;
+@dynamic serviceUuid;
+@dynamic secondaryServiceUuid;
+@dynamic characteristicUuid;
+@dynamic characteristicHandle;
+
+typedef struct ProtosReadDescriptorRequest__storage_ {
+  uint32_t _has_storage_[1];
+  int32_t characteristicHandle;
+  NSString *remoteId;
+  NSString *descriptorUuid;
+  NSString *serviceUuid;
+  NSString *secondaryServiceUuid;
+  NSString *characteristicUuid;
+} ProtosReadDescriptorRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadDescriptorRequest_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "descriptorUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadDescriptorRequest_FieldNumber_DescriptorUuid,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, descriptorUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadDescriptorRequest_FieldNumber_ServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, serviceUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "secondaryServiceUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadDescriptorRequest_FieldNumber_SecondaryServiceUuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, secondaryServiceUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristicUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadDescriptorRequest_FieldNumber_CharacteristicUuid,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, characteristicUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristicHandle",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadDescriptorRequest_FieldNumber_CharacteristicHandle,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, characteristicHandle),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosReadDescriptorRequest class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosReadDescriptorRequest__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosReadDescriptorResponse
+
+@implementation ProtosReadDescriptorResponse
+
+@dynamic hasRequest, request;
+@dynamic value;
+@dynamic error;
+
+typedef struct ProtosReadDescriptorResponse__storage_ {
+  uint32_t _has_storage_[1];
+  ProtosReadDescriptorRequest *request;
+  NSData *value;
+  NSString *error;
+} ProtosReadDescriptorResponse__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "request",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosReadDescriptorRequest),
+        .number = ProtosReadDescriptorResponse_FieldNumber_Request,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorResponse__storage_, request),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadDescriptorResponse_FieldNumber_Value,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorResponse__storage_, value),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "error",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadDescriptorResponse_FieldNumber_Error,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorResponse__storage_, error),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosReadDescriptorResponse class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosReadDescriptorResponse__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosWriteCharacteristicRequest
+
+@implementation ProtosWriteCharacteristicRequest
+
+@dynamic remoteId;
+@dynamic characteristicUuid;
+@dynamic serviceUuid;
+@dynamic secondaryServiceUuid;
+@dynamic writeType;
+@dynamic value;
+@dynamic characteristicHandle;
+
+typedef struct ProtosWriteCharacteristicRequest__storage_ {
+  uint32_t _has_storage_[1];
+  ProtosWriteCharacteristicRequest_WriteType writeType;
+  int32_t characteristicHandle;
+  NSString *remoteId;
+  NSString *characteristicUuid;
+  NSString *serviceUuid;
+  NSString *secondaryServiceUuid;
+  NSData *value;
+} ProtosWriteCharacteristicRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristicUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_CharacteristicUuid,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, characteristicUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_ServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, serviceUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "secondaryServiceUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_SecondaryServiceUuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, secondaryServiceUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "writeType",
+        .dataTypeSpecific.enumDescFunc = ProtosWriteCharacteristicRequest_WriteType_EnumDescriptor,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_WriteType,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, writeType),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor),
+        .dataType = GPBDataTypeEnum,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_Value,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, value),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "characteristicHandle",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_CharacteristicHandle,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, characteristicHandle),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosWriteCharacteristicRequest class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosWriteCharacteristicRequest__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+int32_t ProtosWriteCharacteristicRequest_WriteType_RawValue(ProtosWriteCharacteristicRequest *message) {
+  GPBDescriptor *descriptor = [ProtosWriteCharacteristicRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosWriteCharacteristicRequest_FieldNumber_WriteType];
+  return GPBGetMessageInt32Field(message, field);
+}
+
+void SetProtosWriteCharacteristicRequest_WriteType_RawValue(ProtosWriteCharacteristicRequest *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosWriteCharacteristicRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosWriteCharacteristicRequest_FieldNumber_WriteType];
+  GPBSetInt32IvarWithFieldInternal(message, field, value, descriptor.file.syntax);
+}
+
+#pragma mark - Enum ProtosWriteCharacteristicRequest_WriteType
+
+GPBEnumDescriptor *ProtosWriteCharacteristicRequest_WriteType_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "WithResponse\000WithoutResponse\000";
+    static const int32_t values[] = {
+        ProtosWriteCharacteristicRequest_WriteType_WithResponse,
+        ProtosWriteCharacteristicRequest_WriteType_WithoutResponse,
+    };
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosWriteCharacteristicRequest_WriteType)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosWriteCharacteristicRequest_WriteType_IsValidValue];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosWriteCharacteristicRequest_WriteType_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosWriteCharacteristicRequest_WriteType_WithResponse:
+    case ProtosWriteCharacteristicRequest_WriteType_WithoutResponse:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
+#pragma mark - ProtosWriteCharacteristicResponse
+
+@implementation ProtosWriteCharacteristicResponse
+
+@dynamic hasRequest, request;
+@dynamic success;
+
+typedef struct ProtosWriteCharacteristicResponse__storage_ {
+  uint32_t _has_storage_[1];
+  ProtosWriteCharacteristicRequest *request;
+} ProtosWriteCharacteristicResponse__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "request",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosWriteCharacteristicRequest),
+        .number = ProtosWriteCharacteristicResponse_FieldNumber_Request,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicResponse__storage_, request),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "success",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosWriteCharacteristicResponse_FieldNumber_Success,
+        .hasIndex = 1,
+        .offset = 2,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosWriteCharacteristicResponse class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosWriteCharacteristicResponse__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosReadCharacteristicsRequest
+
+@implementation ProtosReadCharacteristicsRequest
+
+@dynamic remoteId;
+@dynamic requestsArray, requestsArray_Count;
+
+typedef struct ProtosReadCharacteristicsRequest__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  NSMutableArray *requestsArray;
+} ProtosReadCharacteristicsRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
   if (!descriptor) {
-    static const char *valueNames =
-        "Unknown\000Classic\000Le\000Dual\000";
-    static const int32_t values[] = {
-        ProtosBluetoothDevice_Type_Unknown,
-        ProtosBluetoothDevice_Type_Classic,
-        ProtosBluetoothDevice_Type_Le,
-        ProtosBluetoothDevice_Type_Dual,
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosReadCharacteristicsRequest_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicsRequest__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "requestsArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosReadCharacteristicRequest),
+        .number = ProtosReadCharacteristicsRequest_FieldNumber_RequestsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicsRequest__storage_, requestsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosReadCharacteristicsRequest class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosReadCharacteristicsRequest__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosWriteCharacteristicsRequest
+
+@implementation ProtosWriteCharacteristicsRequest
+
+@dynamic remoteId;
+@dynamic requestsArray, requestsArray_Count;
+
+typedef struct ProtosWriteCharacteristicsRequest__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  NSMutableArray *requestsArray;
+} ProtosWriteCharacteristicsRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosWriteCharacteristicsRequest_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicsRequest__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "requestsArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosWriteCharacteristicRequest),
+        .number = ProtosWriteCharacteristicsRequest_FieldNumber_RequestsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicsRequest__storage_, requestsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosWriteCharacteristicsRequest class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosWriteCharacteristicsRequest__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosCharacteristicBatchResult
+
+@implementation ProtosCharacteristicBatchResult
+
+@dynamic characteristicUuid;
+@dynamic characteristicHandle;
+@dynamic success;
+@dynamic gattStatus;
+@dynamic error;
+@dynamic value;
+
+typedef struct ProtosCharacteristicBatchResult__storage_ {
+  uint32_t _has_storage_[1];
+  int32_t characteristicHandle;
+  int32_t gattStatus;
+  NSString *characteristicUuid;
+  NSString *error;
+  NSData *value;
+} ProtosCharacteristicBatchResult__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "characteristicUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicBatchResult_FieldNumber_CharacteristicUuid,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosCharacteristicBatchResult__storage_, characteristicUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristicHandle",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicBatchResult_FieldNumber_CharacteristicHandle,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosCharacteristicBatchResult__storage_, characteristicHandle),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "success",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicBatchResult_FieldNumber_Success,
+        .hasIndex = 2,
+        .offset = 3,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "gattStatus",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicBatchResult_FieldNumber_GattStatus,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosCharacteristicBatchResult__storage_, gattStatus),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "error",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicBatchResult_FieldNumber_Error,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosCharacteristicBatchResult__storage_, error),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicBatchResult_FieldNumber_Value,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosCharacteristicBatchResult__storage_, value),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosCharacteristicBatchResult class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosCharacteristicBatchResult__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosCharacteristicBatchResponse
+
+@implementation ProtosCharacteristicBatchResponse
+
+@dynamic remoteId;
+@dynamic resultsArray, resultsArray_Count;
+
+typedef struct ProtosCharacteristicBatchResponse__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  NSMutableArray *resultsArray;
+} ProtosCharacteristicBatchResponse__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosCharacteristicBatchResponse_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosCharacteristicBatchResponse__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "resultsArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosCharacteristicBatchResult),
+        .number = ProtosCharacteristicBatchResponse_FieldNumber_ResultsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosCharacteristicBatchResponse__storage_, resultsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosCharacteristicBatchResponse class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosCharacteristicBatchResponse__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosFanOutReadRequest
+
+@implementation ProtosFanOutReadRequest
+
+@dynamic remoteIdsArray, remoteIdsArray_Count;
+@dynamic hasRequest, request;
+
+typedef struct ProtosFanOutReadRequest__storage_ {
+  uint32_t _has_storage_[1];
+  NSMutableArray *remoteIdsArray;
+  ProtosReadCharacteristicRequest *request;
+} ProtosFanOutReadRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteIdsArray",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosFanOutReadRequest_FieldNumber_RemoteIdsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosFanOutReadRequest__storage_, remoteIdsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "request",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosReadCharacteristicRequest),
+        .number = ProtosFanOutReadRequest_FieldNumber_Request,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosFanOutReadRequest__storage_, request),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosFanOutReadRequest class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosFanOutReadRequest__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosFanOutWriteRequest
+
+@implementation ProtosFanOutWriteRequest
+
+@dynamic remoteIdsArray, remoteIdsArray_Count;
+@dynamic hasRequest, request;
+
+typedef struct ProtosFanOutWriteRequest__storage_ {
+  uint32_t _has_storage_[1];
+  NSMutableArray *remoteIdsArray;
+  ProtosWriteCharacteristicRequest *request;
+} ProtosFanOutWriteRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteIdsArray",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosFanOutWriteRequest_FieldNumber_RemoteIdsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosFanOutWriteRequest__storage_, remoteIdsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "request",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosWriteCharacteristicRequest),
+        .number = ProtosFanOutWriteRequest_FieldNumber_Request,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosFanOutWriteRequest__storage_, request),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
     };
-    GPBEnumDescriptor *worker =
-        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosBluetoothDevice_Type)
-                                       valueNames:valueNames
-                                           values:values
-                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
-                                     enumVerifier:ProtosBluetoothDevice_Type_IsValidValue];
-    GPBEnumDescriptor *expected = nil;
-    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
-      [worker release];
-    }
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosFanOutWriteRequest class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosFanOutWriteRequest__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
   }
   return descriptor;
 }
 
-BOOL ProtosBluetoothDevice_Type_IsValidValue(int32_t value__) {
-  switch (value__) {
-    case ProtosBluetoothDevice_Type_Unknown:
-    case ProtosBluetoothDevice_Type_Classic:
-    case ProtosBluetoothDevice_Type_Le:
-    case ProtosBluetoothDevice_Type_Dual:
-      return YES;
-    default:
-      return NO;
+@end
+
+#pragma mark - ProtosFanOutSetNotificationRequest
+
+@implementation ProtosFanOutSetNotificationRequest
+
+@dynamic remoteIdsArray, remoteIdsArray_Count;
+@dynamic hasRequest, request;
+
+typedef struct ProtosFanOutSetNotificationRequest__storage_ {
+  uint32_t _has_storage_[1];
+  NSMutableArray *remoteIdsArray;
+  ProtosSetNotificationRequest *request;
+} ProtosFanOutSetNotificationRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteIdsArray",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosFanOutSetNotificationRequest_FieldNumber_RemoteIdsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosFanOutSetNotificationRequest__storage_, remoteIdsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "request",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosSetNotificationRequest),
+        .number = ProtosFanOutSetNotificationRequest_FieldNumber_Request,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosFanOutSetNotificationRequest__storage_, request),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosFanOutSetNotificationRequest class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosFanOutSetNotificationRequest__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
   }
+  return descriptor;
 }
 
-#pragma mark - ProtosBluetoothService
+@end
 
-@implementation ProtosBluetoothService
+#pragma mark - ProtosFanOutResult
+
+@implementation ProtosFanOutResult
 
-@dynamic uuid;
 @dynamic remoteId;
-@dynamic isPrimary;
-@dynamic characteristicsArray, characteristicsArray_Count;
-@dynamic includedServicesArray, includedServicesArray_Count;
+@dynamic success;
+@dynamic gattStatus;
+@dynamic error;
+@dynamic value;
+@dynamic latencyMicros;
 
-typedef struct ProtosBluetoothService__storage_ {
+typedef struct ProtosFanOutResult__storage_ {
   uint32_t _has_storage_[1];
-  NSString *uuid;
+  int32_t gattStatus;
   NSString *remoteId;
-  NSMutableArray *characteristicsArray;
-  NSMutableArray *includedServicesArray;
-} ProtosBluetoothService__storage_;
+  NSString *error;
+  NSData *value;
+  uint64_t latencyMicros;
+} ProtosFanOutResult__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -613,58 +4073,112 @@ typedef struct ProtosBluetoothService__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "uuid",
+        .name = "remoteId",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothService_FieldNumber_Uuid,
+        .number = ProtosFanOutResult_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, uuid),
+        .offset = (uint32_t)offsetof(ProtosFanOutResult__storage_, remoteId),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "remoteId",
+        .name = "success",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothService_FieldNumber_RemoteId,
+        .number = ProtosFanOutResult_FieldNumber_Success,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, remoteId),
+        .offset = 2,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "gattStatus",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosFanOutResult_FieldNumber_GattStatus,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosFanOutResult__storage_, gattStatus),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "error",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosFanOutResult_FieldNumber_Error,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosFanOutResult__storage_, error),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "isPrimary",
+        .name = "value",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothService_FieldNumber_IsPrimary,
-        .hasIndex = 2,
-        .offset = 3,  // Stored in _has_storage_ to save space.
+        .number = ProtosFanOutResult_FieldNumber_Value,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosFanOutResult__storage_, value),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
+        .dataType = GPBDataTypeBytes,
       },
       {
-        .name = "characteristicsArray",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothCharacteristic),
-        .number = ProtosBluetoothService_FieldNumber_CharacteristicsArray,
-        .hasIndex = GPBNoHasBit,
-        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, characteristicsArray),
-        .flags = GPBFieldRepeated,
-        .dataType = GPBDataTypeMessage,
+        .name = "latencyMicros",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosFanOutResult_FieldNumber_LatencyMicros,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosFanOutResult__storage_, latencyMicros),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
       },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosFanOutResult class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosFanOutResult__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosFanOutResponse
+
+@implementation ProtosFanOutResponse
+
+@dynamic resultsArray, resultsArray_Count;
+
+typedef struct ProtosFanOutResponse__storage_ {
+  uint32_t _has_storage_[1];
+  NSMutableArray *resultsArray;
+} ProtosFanOutResponse__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
       {
-        .name = "includedServicesArray",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothService),
-        .number = ProtosBluetoothService_FieldNumber_IncludedServicesArray,
+        .name = "resultsArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosFanOutResult),
+        .number = ProtosFanOutResponse_FieldNumber_ResultsArray,
         .hasIndex = GPBNoHasBit,
-        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, includedServicesArray),
+        .offset = (uint32_t)offsetof(ProtosFanOutResponse__storage_, resultsArray),
         .flags = GPBFieldRepeated,
         .dataType = GPBDataTypeMessage,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothService class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosFanOutResponse class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosBluetoothService__storage_)
+                                   storageSize:sizeof(ProtosFanOutResponse__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -676,28 +4190,18 @@ typedef struct ProtosBluetoothService__storage_ {
 
 @end
 
-#pragma mark - ProtosBluetoothCharacteristic
+#pragma mark - ProtosBulkWriteRequest
 
-@implementation ProtosBluetoothCharacteristic
+@implementation ProtosBulkWriteRequest
 
-@dynamic uuid;
-@dynamic remoteId;
-@dynamic serviceUuid;
-@dynamic secondaryServiceUuid;
-@dynamic descriptorsArray, descriptorsArray_Count;
-@dynamic hasProperties, properties;
-@dynamic value;
+@dynamic hasRequest, request;
+@dynamic progressInterval;
 
-typedef struct ProtosBluetoothCharacteristic__storage_ {
+typedef struct ProtosBulkWriteRequest__storage_ {
   uint32_t _has_storage_[1];
-  NSString *uuid;
-  NSString *remoteId;
-  NSString *serviceUuid;
-  NSString *secondaryServiceUuid;
-  NSMutableArray *descriptorsArray;
-  ProtosCharacteristicProperties *properties;
-  NSData *value;
-} ProtosBluetoothCharacteristic__storage_;
+  uint32_t progressInterval;
+  ProtosWriteCharacteristicRequest *request;
+} ProtosBulkWriteRequest__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -706,82 +4210,152 @@ typedef struct ProtosBluetoothCharacteristic__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "uuid",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothCharacteristic_FieldNumber_Uuid,
+        .name = "request",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosWriteCharacteristicRequest),
+        .number = ProtosBulkWriteRequest_FieldNumber_Request,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, uuid),
+        .offset = (uint32_t)offsetof(ProtosBulkWriteRequest__storage_, request),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeMessage,
       },
       {
-        .name = "remoteId",
+        .name = "progressInterval",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothCharacteristic_FieldNumber_RemoteId,
+        .number = ProtosBulkWriteRequest_FieldNumber_ProgressInterval,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosBulkWriteRequest__storage_, progressInterval),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeUInt32,
       },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBulkWriteRequest class]
+                                     rootClass:[ProtosFlutterblueRoot class]
+                                          file:ProtosFlutterblueRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBulkWriteRequest__storage_)
+                                         flags:GPBDescriptorInitializationFlag_None];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosBulkWriteProgress
+
+@implementation ProtosBulkWriteProgress
+
+@dynamic remoteId;
+@dynamic characteristicUuid;
+@dynamic characteristicHandle;
+@dynamic bytesWritten;
+@dynamic totalBytes;
+@dynamic bytesPerSecond;
+@dynamic done;
+@dynamic success;
+
+typedef struct ProtosBulkWriteProgress__storage_ {
+  uint32_t _has_storage_[1];
+  int32_t characteristicHandle;
+  uint32_t bytesWritten;
+  uint32_t totalBytes;
+  uint32_t bytesPerSecond;
+  NSString *remoteId;
+  NSString *characteristicUuid;
+} ProtosBulkWriteProgress__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
       {
-        .name = "serviceUuid",
+        .name = "remoteId",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothCharacteristic_FieldNumber_ServiceUuid,
-        .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, serviceUuid),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom),
+        .number = ProtosBulkWriteProgress_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosBulkWriteProgress__storage_, remoteId),
+        .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "secondaryServiceUuid",
+        .name = "characteristicUuid",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothCharacteristic_FieldNumber_SecondaryServiceUuid,
-        .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, secondaryServiceUuid),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom),
+        .number = ProtosBulkWriteProgress_FieldNumber_CharacteristicUuid,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosBulkWriteProgress__storage_, characteristicUuid),
+        .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "descriptorsArray",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothDescriptor),
-        .number = ProtosBluetoothCharacteristic_FieldNumber_DescriptorsArray,
-        .hasIndex = GPBNoHasBit,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, descriptorsArray),
-        .flags = GPBFieldRepeated,
-        .dataType = GPBDataTypeMessage,
+        .name = "characteristicHandle",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBulkWriteProgress_FieldNumber_CharacteristicHandle,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosBulkWriteProgress__storage_, characteristicHandle),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
       },
       {
-        .name = "properties",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosCharacteristicProperties),
-        .number = ProtosBluetoothCharacteristic_FieldNumber_Properties,
+        .name = "bytesWritten",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBulkWriteProgress_FieldNumber_BytesWritten,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosBulkWriteProgress__storage_, bytesWritten),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "totalBytes",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBulkWriteProgress_FieldNumber_TotalBytes,
         .hasIndex = 4,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, properties),
+        .offset = (uint32_t)offsetof(ProtosBulkWriteProgress__storage_, totalBytes),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeMessage,
+        .dataType = GPBDataTypeUInt32,
       },
       {
-        .name = "value",
+        .name = "bytesPerSecond",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothCharacteristic_FieldNumber_Value,
+        .number = ProtosBulkWriteProgress_FieldNumber_BytesPerSecond,
         .hasIndex = 5,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, value),
+        .offset = (uint32_t)offsetof(ProtosBulkWriteProgress__storage_, bytesPerSecond),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBytes,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "done",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBulkWriteProgress_FieldNumber_Done,
+        .hasIndex = 6,
+        .offset = 7,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "success",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosBulkWriteProgress_FieldNumber_Success,
+        .hasIndex = 8,
+        .offset = 9,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothCharacteristic class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosBulkWriteProgress class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosBluetoothCharacteristic__storage_)
+                                   storageSize:sizeof(ProtosBulkWriteProgress__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
-#if !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
-    static const char *extraTextFormatInfo =
-        "\002\003\013\000\004\024\000";
-    [localDescriptor setupExtraTextInfo:extraTextFormatInfo];
-#endif  // !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
     #endif  // DEBUG
@@ -792,24 +4366,28 @@ typedef struct ProtosBluetoothCharacteristic__storage_ {
 
 @end
 
-#pragma mark - ProtosBluetoothDescriptor
+#pragma mark - ProtosWriteDescriptorRequest
 
-@implementation ProtosBluetoothDescriptor
+@implementation ProtosWriteDescriptorRequest
 
-@dynamic uuid;
 @dynamic remoteId;
+@dynamic descriptorUuid;
 @dynamic serviceUuid;
+@dynamic secondaryServiceUuid;
 @dynamic characteristicUuid;
 @dynamic value;
+@dynamic characteristicHandle;
 
-typedef struct ProtosBluetoothDescriptor__storage_ {
+typedef struct ProtosWriteDescriptorRequest__storage_ {
   uint32_t _has_storage_[1];
-  NSString *uuid;
+  int32_t characteristicHandle;
   NSString *remoteId;
+  NSString *descriptorUuid;
   NSString *serviceUuid;
+  NSString *secondaryServiceUuid;
   NSString *characteristicUuid;
   NSData *value;
-} ProtosBluetoothDescriptor__storage_;
+} ProtosWriteDescriptorRequest__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -818,64 +4396,77 @@ typedef struct ProtosBluetoothDescriptor__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "uuid",
+        .name = "remoteId",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothDescriptor_FieldNumber_Uuid,
+        .number = ProtosWriteDescriptorRequest_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, uuid),
+        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, remoteId),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "remoteId",
+        .name = "descriptorUuid",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothDescriptor_FieldNumber_RemoteId,
+        .number = ProtosWriteDescriptorRequest_FieldNumber_DescriptorUuid,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, descriptorUuid),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
         .name = "serviceUuid",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothDescriptor_FieldNumber_ServiceUuid,
+        .number = ProtosWriteDescriptorRequest_FieldNumber_ServiceUuid,
         .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, serviceUuid),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom),
+        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, serviceUuid),
+        .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "characteristicUuid",
+        .name = "secondaryServiceUuid",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothDescriptor_FieldNumber_CharacteristicUuid,
+        .number = ProtosWriteDescriptorRequest_FieldNumber_SecondaryServiceUuid,
         .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, characteristicUuid),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom),
+        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, secondaryServiceUuid),
+        .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "value",
+        .name = "characteristicUuid",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosBluetoothDescriptor_FieldNumber_Value,
+        .number = ProtosWriteDescriptorRequest_FieldNumber_CharacteristicUuid,
         .hasIndex = 4,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, value),
+        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, characteristicUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosWriteDescriptorRequest_FieldNumber_Value,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, value),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeBytes,
       },
+      {
+        .name = "characteristicHandle",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosWriteDescriptorRequest_FieldNumber_CharacteristicHandle,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, characteristicHandle),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothDescriptor class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosWriteDescriptorRequest class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosBluetoothDescriptor__storage_)
+                                   storageSize:sizeof(ProtosWriteDescriptorRequest__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
-#if !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
-    static const char *extraTextFormatInfo =
-        "\002\003\013\000\004\022\000";
-    [localDescriptor setupExtraTextInfo:extraTextFormatInfo];
-#endif  // !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
     #endif  // DEBUG
@@ -886,24 +4477,17 @@ typedef struct ProtosBluetoothDescriptor__storage_ {
 
 @end
 
-#pragma mark - ProtosCharacteristicProperties
+#pragma mark - ProtosWriteDescriptorResponse
 
-@implementation ProtosCharacteristicProperties
+@implementation ProtosWriteDescriptorResponse
 
-@dynamic broadcast;
-@dynamic read;
-@dynamic writeWithoutResponse;
-@dynamic write;
-@dynamic notify;
-@dynamic indicate;
-@dynamic authenticatedSignedWrites;
-@dynamic extendedProperties;
-@dynamic notifyEncryptionRequired;
-@dynamic indicateEncryptionRequired;
+@dynamic hasRequest, request;
+@dynamic success;
 
-typedef struct ProtosCharacteristicProperties__storage_ {
+typedef struct ProtosWriteDescriptorResponse__storage_ {
   uint32_t _has_storage_[1];
-} ProtosCharacteristicProperties__storage_;
+  ProtosWriteDescriptorRequest *request;
+} ProtosWriteDescriptorResponse__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -912,103 +4496,31 @@ typedef struct ProtosCharacteristicProperties__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "broadcast",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosCharacteristicProperties_FieldNumber_Broadcast,
+        .name = "request",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosWriteDescriptorRequest),
+        .number = ProtosWriteDescriptorResponse_FieldNumber_Request,
         .hasIndex = 0,
-        .offset = 1,  // Stored in _has_storage_ to save space.
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "read",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosCharacteristicProperties_FieldNumber_Read,
-        .hasIndex = 2,
-        .offset = 3,  // Stored in _has_storage_ to save space.
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "writeWithoutResponse",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosCharacteristicProperties_FieldNumber_WriteWithoutResponse,
-        .hasIndex = 4,
-        .offset = 5,  // Stored in _has_storage_ to save space.
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "write",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosCharacteristicProperties_FieldNumber_Write,
-        .hasIndex = 6,
-        .offset = 7,  // Stored in _has_storage_ to save space.
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "notify",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosCharacteristicProperties_FieldNumber_Notify,
-        .hasIndex = 8,
-        .offset = 9,  // Stored in _has_storage_ to save space.
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "indicate",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosCharacteristicProperties_FieldNumber_Indicate,
-        .hasIndex = 10,
-        .offset = 11,  // Stored in _has_storage_ to save space.
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "authenticatedSignedWrites",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosCharacteristicProperties_FieldNumber_AuthenticatedSignedWrites,
-        .hasIndex = 12,
-        .offset = 13,  // Stored in _has_storage_ to save space.
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "extendedProperties",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosCharacteristicProperties_FieldNumber_ExtendedProperties,
-        .hasIndex = 14,
-        .offset = 15,  // Stored in _has_storage_ to save space.
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "notifyEncryptionRequired",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosCharacteristicProperties_FieldNumber_NotifyEncryptionRequired,
-        .hasIndex = 16,
-        .offset = 17,  // Stored in _has_storage_ to save space.
+        .offset = (uint32_t)offsetof(ProtosWriteDescriptorResponse__storage_, request),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
+        .dataType = GPBDataTypeMessage,
       },
       {
-        .name = "indicateEncryptionRequired",
+        .name = "success",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosCharacteristicProperties_FieldNumber_IndicateEncryptionRequired,
-        .hasIndex = 18,
-        .offset = 19,  // Stored in _has_storage_ to save space.
+        .number = ProtosWriteDescriptorResponse_FieldNumber_Success,
+        .hasIndex = 1,
+        .offset = 2,  // Stored in _has_storage_ to save space.
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeBool,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosCharacteristicProperties class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosWriteDescriptorResponse class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosCharacteristicProperties__storage_)
+                                   storageSize:sizeof(ProtosWriteDescriptorResponse__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1020,18 +4532,26 @@ typedef struct ProtosCharacteristicProperties__storage_ {
 
 @end
 
-#pragma mark - ProtosDiscoverServicesResult
+#pragma mark - ProtosSetNotificationRequest
 
-@implementation ProtosDiscoverServicesResult
+@implementation ProtosSetNotificationRequest
 
 @dynamic remoteId;
-@dynamic servicesArray, servicesArray_Count;
+@dynamic serviceUuid;
+@dynamic secondaryServiceUuid;
+@dynamic characteristicUuid;
+@dynamic enable;
+@dynamic characteristicHandle;
+@dynamic compact;
 
-typedef struct ProtosDiscoverServicesResult__storage_ {
+typedef struct ProtosSetNotificationRequest__storage_ {
   uint32_t _has_storage_[1];
+  int32_t characteristicHandle;
   NSString *remoteId;
-  NSMutableArray *servicesArray;
-} ProtosDiscoverServicesResult__storage_;
+  NSString *serviceUuid;
+  NSString *secondaryServiceUuid;
+  NSString *characteristicUuid;
+} ProtosSetNotificationRequest__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1040,31 +4560,76 @@ typedef struct ProtosDiscoverServicesResult__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "remoteId",
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosSetNotificationRequest_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosSetNotificationRequest_FieldNumber_ServiceUuid,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, serviceUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "secondaryServiceUuid",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosDiscoverServicesResult_FieldNumber_RemoteId,
-        .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosDiscoverServicesResult__storage_, remoteId),
+        .number = ProtosSetNotificationRequest_FieldNumber_SecondaryServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, secondaryServiceUuid),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "servicesArray",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothService),
-        .number = ProtosDiscoverServicesResult_FieldNumber_ServicesArray,
-        .hasIndex = GPBNoHasBit,
-        .offset = (uint32_t)offsetof(ProtosDiscoverServicesResult__storage_, servicesArray),
-        .flags = GPBFieldRepeated,
-        .dataType = GPBDataTypeMessage,
+        .name = "characteristicUuid",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosSetNotificationRequest_FieldNumber_CharacteristicUuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, characteristicUuid),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "enable",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosSetNotificationRequest_FieldNumber_Enable,
+        .hasIndex = 4,
+        .offset = 5,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "characteristicHandle",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosSetNotificationRequest_FieldNumber_CharacteristicHandle,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, characteristicHandle),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "compact",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosSetNotificationRequest_FieldNumber_Compact,
+        .hasIndex = 7,
+        .offset = 8,  // Stored in _has_storage_ to save space.
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBool,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosDiscoverServicesResult class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosSetNotificationRequest class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosDiscoverServicesResult__storage_)
+                                   storageSize:sizeof(ProtosSetNotificationRequest__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1076,22 +4641,19 @@ typedef struct ProtosDiscoverServicesResult__storage_ {
 
 @end
 
-#pragma mark - ProtosReadCharacteristicRequest
+#pragma mark - ProtosSetNotificationResponse
 
-@implementation ProtosReadCharacteristicRequest
+@implementation ProtosSetNotificationResponse
 
 @dynamic remoteId;
-@dynamic characteristicUuid;
-@dynamic serviceUuid;
-@dynamic secondaryServiceUuid;
+@dynamic hasCharacteristic, characteristic;
+@dynamic success;
 
-typedef struct ProtosReadCharacteristicRequest__storage_ {
+typedef struct ProtosSetNotificationResponse__storage_ {
   uint32_t _has_storage_[1];
   NSString *remoteId;
-  NSString *characteristicUuid;
-  NSString *serviceUuid;
-  NSString *secondaryServiceUuid;
-} ProtosReadCharacteristicRequest__storage_;
+  ProtosBluetoothCharacteristic *characteristic;
+} ProtosSetNotificationResponse__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1102,47 +4664,38 @@ typedef struct ProtosReadCharacteristicRequest__storage_ {
       {
         .name = "remoteId",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosReadCharacteristicRequest_FieldNumber_RemoteId,
+        .number = ProtosSetNotificationResponse_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosSetNotificationResponse__storage_, remoteId),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "characteristicUuid",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosReadCharacteristicRequest_FieldNumber_CharacteristicUuid,
+        .name = "characteristic",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothCharacteristic),
+        .number = ProtosSetNotificationResponse_FieldNumber_Characteristic,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, characteristicUuid),
+        .offset = (uint32_t)offsetof(ProtosSetNotificationResponse__storage_, characteristic),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeMessage,
       },
       {
-        .name = "serviceUuid",
+        .name = "success",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosReadCharacteristicRequest_FieldNumber_ServiceUuid,
+        .number = ProtosSetNotificationResponse_FieldNumber_Success,
         .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, serviceUuid),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
-      },
-      {
-        .name = "secondaryServiceUuid",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosReadCharacteristicRequest_FieldNumber_SecondaryServiceUuid,
-        .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, secondaryServiceUuid),
+        .offset = 3,  // Stored in _has_storage_ to save space.
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeBool,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosReadCharacteristicRequest class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosSetNotificationResponse class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosReadCharacteristicRequest__storage_)
+                                   storageSize:sizeof(ProtosSetNotificationResponse__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1154,18 +4707,18 @@ typedef struct ProtosReadCharacteristicRequest__storage_ {
 
 @end
 
-#pragma mark - ProtosReadCharacteristicResponse
+#pragma mark - ProtosOnCharacteristicChanged
 
-@implementation ProtosReadCharacteristicResponse
+@implementation ProtosOnCharacteristicChanged
 
 @dynamic remoteId;
 @dynamic hasCharacteristic, characteristic;
 
-typedef struct ProtosReadCharacteristicResponse__storage_ {
+typedef struct ProtosOnCharacteristicChanged__storage_ {
   uint32_t _has_storage_[1];
   NSString *remoteId;
   ProtosBluetoothCharacteristic *characteristic;
-} ProtosReadCharacteristicResponse__storage_;
+} ProtosOnCharacteristicChanged__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1176,29 +4729,29 @@ typedef struct ProtosReadCharacteristicResponse__storage_ {
       {
         .name = "remoteId",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosReadCharacteristicResponse_FieldNumber_RemoteId,
+        .number = ProtosOnCharacteristicChanged_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicResponse__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicChanged__storage_, remoteId),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
         .name = "characteristic",
         .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothCharacteristic),
-        .number = ProtosReadCharacteristicResponse_FieldNumber_Characteristic,
+        .number = ProtosOnCharacteristicChanged_FieldNumber_Characteristic,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicResponse__storage_, characteristic),
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicChanged__storage_, characteristic),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeMessage,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosReadCharacteristicResponse class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosOnCharacteristicChanged class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosReadCharacteristicResponse__storage_)
+                                   storageSize:sizeof(ProtosOnCharacteristicChanged__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1210,24 +4763,28 @@ typedef struct ProtosReadCharacteristicResponse__storage_ {
 
 @end
 
-#pragma mark - ProtosReadDescriptorRequest
+#pragma mark - ProtosOnCharacteristicValue
 
-@implementation ProtosReadDescriptorRequest
+@implementation ProtosOnCharacteristicValue
 
 @dynamic remoteId;
-@dynamic descriptorUuid;
+@dynamic characteristicHandle;
+@dynamic characteristicUuid;
 @dynamic serviceUuid;
 @dynamic secondaryServiceUuid;
-@dynamic characteristicUuid;
+@dynamic value;
+@dynamic timestampMillis;
 
-typedef struct ProtosReadDescriptorRequest__storage_ {
+typedef struct ProtosOnCharacteristicValue__storage_ {
   uint32_t _has_storage_[1];
+  int32_t characteristicHandle;
   NSString *remoteId;
-  NSString *descriptorUuid;
+  NSString *characteristicUuid;
   NSString *serviceUuid;
   NSString *secondaryServiceUuid;
-  NSString *characteristicUuid;
-} ProtosReadDescriptorRequest__storage_;
+  NSData *value;
+  int64_t timestampMillis;
+} ProtosOnCharacteristicValue__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1238,56 +4795,74 @@ typedef struct ProtosReadDescriptorRequest__storage_ {
       {
         .name = "remoteId",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosReadDescriptorRequest_FieldNumber_RemoteId,
+        .number = ProtosOnCharacteristicValue_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicValue__storage_, remoteId),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "descriptorUuid",
+        .name = "characteristicHandle",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosReadDescriptorRequest_FieldNumber_DescriptorUuid,
+        .number = ProtosOnCharacteristicValue_FieldNumber_CharacteristicHandle,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, descriptorUuid),
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicValue__storage_, characteristicHandle),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeInt32,
       },
       {
-        .name = "serviceUuid",
+        .name = "characteristicUuid",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosReadDescriptorRequest_FieldNumber_ServiceUuid,
+        .number = ProtosOnCharacteristicValue_FieldNumber_CharacteristicUuid,
         .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, serviceUuid),
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicValue__storage_, characteristicUuid),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "secondaryServiceUuid",
+        .name = "serviceUuid",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosReadDescriptorRequest_FieldNumber_SecondaryServiceUuid,
+        .number = ProtosOnCharacteristicValue_FieldNumber_ServiceUuid,
         .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, secondaryServiceUuid),
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicValue__storage_, serviceUuid),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "characteristicUuid",
+        .name = "secondaryServiceUuid",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosReadDescriptorRequest_FieldNumber_CharacteristicUuid,
+        .number = ProtosOnCharacteristicValue_FieldNumber_SecondaryServiceUuid,
         .hasIndex = 4,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, characteristicUuid),
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicValue__storage_, secondaryServiceUuid),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
+      {
+        .name = "value",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosOnCharacteristicValue_FieldNumber_Value,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicValue__storage_, value),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "timestampMillis",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosOnCharacteristicValue_FieldNumber_TimestampMillis,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicValue__storage_, timestampMillis),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeInt64,
+      },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosReadDescriptorRequest class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosOnCharacteristicValue class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosReadDescriptorRequest__storage_)
+                                   storageSize:sizeof(ProtosOnCharacteristicValue__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1299,18 +4874,22 @@ typedef struct ProtosReadDescriptorRequest__storage_ {
 
 @end
 
-#pragma mark - ProtosReadDescriptorResponse
+#pragma mark - ProtosNotificationStats
 
-@implementation ProtosReadDescriptorResponse
+@implementation ProtosNotificationStats
 
-@dynamic hasRequest, request;
-@dynamic value;
+@dynamic remoteId;
+@dynamic delivered;
+@dynamic dropped;
+@dynamic buffered;
 
-typedef struct ProtosReadDescriptorResponse__storage_ {
+typedef struct ProtosNotificationStats__storage_ {
   uint32_t _has_storage_[1];
-  ProtosReadDescriptorRequest *request;
-  NSData *value;
-} ProtosReadDescriptorResponse__storage_;
+  uint32_t buffered;
+  NSString *remoteId;
+  uint64_t delivered;
+  uint64_t dropped;
+} ProtosNotificationStats__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1319,31 +4898,49 @@ typedef struct ProtosReadDescriptorResponse__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "request",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosReadDescriptorRequest),
-        .number = ProtosReadDescriptorResponse_FieldNumber_Request,
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosNotificationStats_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorResponse__storage_, request),
+        .offset = (uint32_t)offsetof(ProtosNotificationStats__storage_, remoteId),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeMessage,
+        .dataType = GPBDataTypeString,
       },
       {
-        .name = "value",
+        .name = "delivered",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosReadDescriptorResponse_FieldNumber_Value,
+        .number = ProtosNotificationStats_FieldNumber_Delivered,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorResponse__storage_, value),
+        .offset = (uint32_t)offsetof(ProtosNotificationStats__storage_, delivered),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBytes,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "dropped",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosNotificationStats_FieldNumber_Dropped,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosNotificationStats__storage_, dropped),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "buffered",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosNotificationStats_FieldNumber_Buffered,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosNotificationStats__storage_, buffered),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosReadDescriptorResponse class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosNotificationStats class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosReadDescriptorResponse__storage_)
+                                   storageSize:sizeof(ProtosNotificationStats__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1355,95 +4952,51 @@ typedef struct ProtosReadDescriptorResponse__storage_ {
 
 @end
 
-#pragma mark - ProtosWriteCharacteristicRequest
+#pragma mark - ProtosDeviceStateResponse
 
-@implementation ProtosWriteCharacteristicRequest
+@implementation ProtosDeviceStateResponse
 
 @dynamic remoteId;
-@dynamic characteristicUuid;
-@dynamic serviceUuid;
-@dynamic secondaryServiceUuid;
-@dynamic writeType;
-@dynamic value;
+@dynamic state;
 
-typedef struct ProtosWriteCharacteristicRequest__storage_ {
+typedef struct ProtosDeviceStateResponse__storage_ {
   uint32_t _has_storage_[1];
-  ProtosWriteCharacteristicRequest_WriteType writeType;
-  NSString *remoteId;
-  NSString *characteristicUuid;
-  NSString *serviceUuid;
-  NSString *secondaryServiceUuid;
-  NSData *value;
-} ProtosWriteCharacteristicRequest__storage_;
-
-// This method is threadsafe because it is initially called
-// in +initialize for each subclass.
-+ (GPBDescriptor *)descriptor {
-  static GPBDescriptor *descriptor = nil;
-  if (!descriptor) {
-    static GPBMessageFieldDescription fields[] = {
-      {
-        .name = "remoteId",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_RemoteId,
-        .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, remoteId),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
-      },
-      {
-        .name = "characteristicUuid",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_CharacteristicUuid,
-        .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, characteristicUuid),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
-      },
-      {
-        .name = "serviceUuid",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_ServiceUuid,
-        .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, serviceUuid),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
-      },
+  ProtosDeviceStateResponse_BluetoothDeviceState state;
+  NSString *remoteId;
+} ProtosDeviceStateResponse__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
       {
-        .name = "secondaryServiceUuid",
+        .name = "remoteId",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_SecondaryServiceUuid,
-        .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, secondaryServiceUuid),
+        .number = ProtosDeviceStateResponse_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosDeviceStateResponse__storage_, remoteId),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "writeType",
-        .dataTypeSpecific.enumDescFunc = ProtosWriteCharacteristicRequest_WriteType_EnumDescriptor,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_WriteType,
-        .hasIndex = 4,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, writeType),
+        .name = "state",
+        .dataTypeSpecific.enumDescFunc = ProtosDeviceStateResponse_BluetoothDeviceState_EnumDescriptor,
+        .number = ProtosDeviceStateResponse_FieldNumber_State,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosDeviceStateResponse__storage_, state),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor),
         .dataType = GPBDataTypeEnum,
       },
-      {
-        .name = "value",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_Value,
-        .hasIndex = 5,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, value),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBytes,
-      },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosWriteCharacteristicRequest class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosDeviceStateResponse class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosWriteCharacteristicRequest__storage_)
+                                   storageSize:sizeof(ProtosDeviceStateResponse__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1455,35 +5008,38 @@ typedef struct ProtosWriteCharacteristicRequest__storage_ {
 
 @end
 
-int32_t ProtosWriteCharacteristicRequest_WriteType_RawValue(ProtosWriteCharacteristicRequest *message) {
-  GPBDescriptor *descriptor = [ProtosWriteCharacteristicRequest descriptor];
-  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosWriteCharacteristicRequest_FieldNumber_WriteType];
+int32_t ProtosDeviceStateResponse_State_RawValue(ProtosDeviceStateResponse *message) {
+  GPBDescriptor *descriptor = [ProtosDeviceStateResponse descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosDeviceStateResponse_FieldNumber_State];
   return GPBGetMessageInt32Field(message, field);
 }
 
-void SetProtosWriteCharacteristicRequest_WriteType_RawValue(ProtosWriteCharacteristicRequest *message, int32_t value) {
-  GPBDescriptor *descriptor = [ProtosWriteCharacteristicRequest descriptor];
-  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosWriteCharacteristicRequest_FieldNumber_WriteType];
+void SetProtosDeviceStateResponse_State_RawValue(ProtosDeviceStateResponse *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosDeviceStateResponse descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosDeviceStateResponse_FieldNumber_State];
   GPBSetInt32IvarWithFieldInternal(message, field, value, descriptor.file.syntax);
 }
 
-#pragma mark - Enum ProtosWriteCharacteristicRequest_WriteType
+#pragma mark - Enum ProtosDeviceStateResponse_BluetoothDeviceState
 
-GPBEnumDescriptor *ProtosWriteCharacteristicRequest_WriteType_EnumDescriptor(void) {
+GPBEnumDescriptor *ProtosDeviceStateResponse_BluetoothDeviceState_EnumDescriptor(void) {
   static _Atomic(GPBEnumDescriptor*) descriptor = nil;
   if (!descriptor) {
     static const char *valueNames =
-        "WithResponse\000WithoutResponse\000";
+        "Disconnected\000Connecting\000Connected\000Discon"
+        "necting\000";
     static const int32_t values[] = {
-        ProtosWriteCharacteristicRequest_WriteType_WithResponse,
-        ProtosWriteCharacteristicRequest_WriteType_WithoutResponse,
+        ProtosDeviceStateResponse_BluetoothDeviceState_Disconnected,
+        ProtosDeviceStateResponse_BluetoothDeviceState_Connecting,
+        ProtosDeviceStateResponse_BluetoothDeviceState_Connected,
+        ProtosDeviceStateResponse_BluetoothDeviceState_Disconnecting,
     };
     GPBEnumDescriptor *worker =
-        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosWriteCharacteristicRequest_WriteType)
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosDeviceStateResponse_BluetoothDeviceState)
                                        valueNames:valueNames
                                            values:values
                                             count:(uint32_t)(sizeof(values) / sizeof(int32_t))
-                                     enumVerifier:ProtosWriteCharacteristicRequest_WriteType_IsValidValue];
+                                     enumVerifier:ProtosDeviceStateResponse_BluetoothDeviceState_IsValidValue];
     GPBEnumDescriptor *expected = nil;
     if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
       [worker release];
@@ -1492,27 +5048,28 @@ GPBEnumDescriptor *ProtosWriteCharacteristicRequest_WriteType_EnumDescriptor(voi
   return descriptor;
 }
 
-BOOL ProtosWriteCharacteristicRequest_WriteType_IsValidValue(int32_t value__) {
+BOOL ProtosDeviceStateResponse_BluetoothDeviceState_IsValidValue(int32_t value__) {
   switch (value__) {
-    case ProtosWriteCharacteristicRequest_WriteType_WithResponse:
-    case ProtosWriteCharacteristicRequest_WriteType_WithoutResponse:
+    case ProtosDeviceStateResponse_BluetoothDeviceState_Disconnected:
+    case ProtosDeviceStateResponse_BluetoothDeviceState_Connecting:
+    case ProtosDeviceStateResponse_BluetoothDeviceState_Connected:
+    case ProtosDeviceStateResponse_BluetoothDeviceState_Disconnecting:
       return YES;
     default:
       return NO;
   }
 }
 
-#pragma mark - ProtosWriteCharacteristicResponse
+#pragma mark - ProtosConnectedDevicesResponse
 
-@implementation ProtosWriteCharacteristicResponse
+@implementation ProtosConnectedDevicesResponse
 
-@dynamic hasRequest, request;
-@dynamic success;
+@dynamic devicesArray, devicesArray_Count;
 
-typedef struct ProtosWriteCharacteristicResponse__storage_ {
+typedef struct ProtosConnectedDevicesResponse__storage_ {
   uint32_t _has_storage_[1];
-  ProtosWriteCharacteristicRequest *request;
-} ProtosWriteCharacteristicResponse__storage_;
+  NSMutableArray *devicesArray;
+} ProtosConnectedDevicesResponse__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1521,31 +5078,22 @@ typedef struct ProtosWriteCharacteristicResponse__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "request",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosWriteCharacteristicRequest),
-        .number = ProtosWriteCharacteristicResponse_FieldNumber_Request,
-        .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicResponse__storage_, request),
-        .flags = GPBFieldOptional,
+        .name = "devicesArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothDevice),
+        .number = ProtosConnectedDevicesResponse_FieldNumber_DevicesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosConnectedDevicesResponse__storage_, devicesArray),
+        .flags = GPBFieldRepeated,
         .dataType = GPBDataTypeMessage,
       },
-      {
-        .name = "success",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteCharacteristicResponse_FieldNumber_Success,
-        .hasIndex = 1,
-        .offset = 2,  // Stored in _has_storage_ to save space.
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
-      },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosWriteCharacteristicResponse class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosConnectedDevicesResponse class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosWriteCharacteristicResponse__storage_)
+                                   storageSize:sizeof(ProtosConnectedDevicesResponse__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1557,26 +5105,18 @@ typedef struct ProtosWriteCharacteristicResponse__storage_ {
 
 @end
 
-#pragma mark - ProtosWriteDescriptorRequest
+#pragma mark - ProtosMtuSizeRequest
 
-@implementation ProtosWriteDescriptorRequest
+@implementation ProtosMtuSizeRequest
 
 @dynamic remoteId;
-@dynamic descriptorUuid;
-@dynamic serviceUuid;
-@dynamic secondaryServiceUuid;
-@dynamic characteristicUuid;
-@dynamic value;
+@dynamic mtu;
 
-typedef struct ProtosWriteDescriptorRequest__storage_ {
+typedef struct ProtosMtuSizeRequest__storage_ {
   uint32_t _has_storage_[1];
+  uint32_t mtu;
   NSString *remoteId;
-  NSString *descriptorUuid;
-  NSString *serviceUuid;
-  NSString *secondaryServiceUuid;
-  NSString *characteristicUuid;
-  NSData *value;
-} ProtosWriteDescriptorRequest__storage_;
+} ProtosMtuSizeRequest__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1587,65 +5127,29 @@ typedef struct ProtosWriteDescriptorRequest__storage_ {
       {
         .name = "remoteId",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteDescriptorRequest_FieldNumber_RemoteId,
+        .number = ProtosMtuSizeRequest_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosMtuSizeRequest__storage_, remoteId),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "descriptorUuid",
+        .name = "mtu",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteDescriptorRequest_FieldNumber_DescriptorUuid,
+        .number = ProtosMtuSizeRequest_FieldNumber_Mtu,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, descriptorUuid),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
-      },
-      {
-        .name = "serviceUuid",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteDescriptorRequest_FieldNumber_ServiceUuid,
-        .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, serviceUuid),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
-      },
-      {
-        .name = "secondaryServiceUuid",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteDescriptorRequest_FieldNumber_SecondaryServiceUuid,
-        .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, secondaryServiceUuid),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
-      },
-      {
-        .name = "characteristicUuid",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteDescriptorRequest_FieldNumber_CharacteristicUuid,
-        .hasIndex = 4,
-        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, characteristicUuid),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
-      },
-      {
-        .name = "value",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteDescriptorRequest_FieldNumber_Value,
-        .hasIndex = 5,
-        .offset = (uint32_t)offsetof(ProtosWriteDescriptorRequest__storage_, value),
+        .offset = (uint32_t)offsetof(ProtosMtuSizeRequest__storage_, mtu),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBytes,
+        .dataType = GPBDataTypeUInt32,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosWriteDescriptorRequest class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosMtuSizeRequest class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosWriteDescriptorRequest__storage_)
+                                   storageSize:sizeof(ProtosMtuSizeRequest__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1657,17 +5161,18 @@ typedef struct ProtosWriteDescriptorRequest__storage_ {
 
 @end
 
-#pragma mark - ProtosWriteDescriptorResponse
+#pragma mark - ProtosMtuSizeResponse
 
-@implementation ProtosWriteDescriptorResponse
+@implementation ProtosMtuSizeResponse
 
-@dynamic hasRequest, request;
-@dynamic success;
+@dynamic remoteId;
+@dynamic mtu;
 
-typedef struct ProtosWriteDescriptorResponse__storage_ {
+typedef struct ProtosMtuSizeResponse__storage_ {
   uint32_t _has_storage_[1];
-  ProtosWriteDescriptorRequest *request;
-} ProtosWriteDescriptorResponse__storage_;
+  uint32_t mtu;
+  NSString *remoteId;
+} ProtosMtuSizeResponse__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1676,31 +5181,31 @@ typedef struct ProtosWriteDescriptorResponse__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "request",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosWriteDescriptorRequest),
-        .number = ProtosWriteDescriptorResponse_FieldNumber_Request,
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosMtuSizeResponse_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosWriteDescriptorResponse__storage_, request),
+        .offset = (uint32_t)offsetof(ProtosMtuSizeResponse__storage_, remoteId),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeMessage,
+        .dataType = GPBDataTypeString,
       },
       {
-        .name = "success",
+        .name = "mtu",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosWriteDescriptorResponse_FieldNumber_Success,
+        .number = ProtosMtuSizeResponse_FieldNumber_Mtu,
         .hasIndex = 1,
-        .offset = 2,  // Stored in _has_storage_ to save space.
+        .offset = (uint32_t)offsetof(ProtosMtuSizeResponse__storage_, mtu),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
+        .dataType = GPBDataTypeUInt32,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosWriteDescriptorResponse class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosMtuSizeResponse class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosWriteDescriptorResponse__storage_)
+                                   storageSize:sizeof(ProtosMtuSizeResponse__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1712,23 +5217,22 @@ typedef struct ProtosWriteDescriptorResponse__storage_ {
 
 @end
 
-#pragma mark - ProtosSetNotificationRequest
+#pragma mark - ProtosPipelineStage
 
-@implementation ProtosSetNotificationRequest
+@implementation ProtosPipelineStage
 
-@dynamic remoteId;
-@dynamic serviceUuid;
-@dynamic secondaryServiceUuid;
-@dynamic characteristicUuid;
-@dynamic enable;
+@dynamic name;
+@dynamic count;
+@dynamic totalMicros;
+@dynamic maxMicros;
 
-typedef struct ProtosSetNotificationRequest__storage_ {
+typedef struct ProtosPipelineStage__storage_ {
   uint32_t _has_storage_[1];
-  NSString *remoteId;
-  NSString *serviceUuid;
-  NSString *secondaryServiceUuid;
-  NSString *characteristicUuid;
-} ProtosSetNotificationRequest__storage_;
+  NSString *name;
+  uint64_t count;
+  uint64_t totalMicros;
+  uint64_t maxMicros;
+} ProtosPipelineStage__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1737,58 +5241,49 @@ typedef struct ProtosSetNotificationRequest__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "remoteId",
+        .name = "name",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosSetNotificationRequest_FieldNumber_RemoteId,
+        .number = ProtosPipelineStage_FieldNumber_Name,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, remoteId),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
-      },
-      {
-        .name = "serviceUuid",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosSetNotificationRequest_FieldNumber_ServiceUuid,
-        .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, serviceUuid),
+        .offset = (uint32_t)offsetof(ProtosPipelineStage__storage_, name),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "secondaryServiceUuid",
+        .name = "count",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosSetNotificationRequest_FieldNumber_SecondaryServiceUuid,
-        .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, secondaryServiceUuid),
+        .number = ProtosPipelineStage_FieldNumber_Count,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosPipelineStage__storage_, count),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeUInt64,
       },
       {
-        .name = "characteristicUuid",
+        .name = "totalMicros",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosSetNotificationRequest_FieldNumber_CharacteristicUuid,
-        .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, characteristicUuid),
+        .number = ProtosPipelineStage_FieldNumber_TotalMicros,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosPipelineStage__storage_, totalMicros),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeUInt64,
       },
       {
-        .name = "enable",
+        .name = "maxMicros",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosSetNotificationRequest_FieldNumber_Enable,
-        .hasIndex = 4,
-        .offset = 5,  // Stored in _has_storage_ to save space.
+        .number = ProtosPipelineStage_FieldNumber_MaxMicros,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosPipelineStage__storage_, maxMicros),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
+        .dataType = GPBDataTypeUInt64,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosSetNotificationRequest class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosPipelineStage class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosSetNotificationRequest__storage_)
+                                   storageSize:sizeof(ProtosPipelineStage__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1800,19 +5295,24 @@ typedef struct ProtosSetNotificationRequest__storage_ {
 
 @end
 
-#pragma mark - ProtosSetNotificationResponse
+#pragma mark - ProtosPipelineStats
 
-@implementation ProtosSetNotificationResponse
+@implementation ProtosPipelineStats
 
-@dynamic remoteId;
-@dynamic hasCharacteristic, characteristic;
-@dynamic success;
+@dynamic stagesArray, stagesArray_Count;
+@dynamic pendingTasks;
+@dynamic pendingMessages;
+@dynamic maxPendingTasks;
+@dynamic maxPendingMessages;
 
-typedef struct ProtosSetNotificationResponse__storage_ {
+typedef struct ProtosPipelineStats__storage_ {
   uint32_t _has_storage_[1];
-  NSString *remoteId;
-  ProtosBluetoothCharacteristic *characteristic;
-} ProtosSetNotificationResponse__storage_;
+  uint32_t pendingTasks;
+  uint32_t pendingMessages;
+  uint32_t maxPendingTasks;
+  uint32_t maxPendingMessages;
+  NSMutableArray *stagesArray;
+} ProtosPipelineStats__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1821,40 +5321,58 @@ typedef struct ProtosSetNotificationResponse__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "remoteId",
+        .name = "stagesArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosPipelineStage),
+        .number = ProtosPipelineStats_FieldNumber_StagesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosPipelineStats__storage_, stagesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "pendingTasks",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosSetNotificationResponse_FieldNumber_RemoteId,
+        .number = ProtosPipelineStats_FieldNumber_PendingTasks,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosSetNotificationResponse__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosPipelineStats__storage_, pendingTasks),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeUInt32,
       },
       {
-        .name = "characteristic",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothCharacteristic),
-        .number = ProtosSetNotificationResponse_FieldNumber_Characteristic,
+        .name = "pendingMessages",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosPipelineStats_FieldNumber_PendingMessages,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosSetNotificationResponse__storage_, characteristic),
+        .offset = (uint32_t)offsetof(ProtosPipelineStats__storage_, pendingMessages),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeMessage,
+        .dataType = GPBDataTypeUInt32,
       },
       {
-        .name = "success",
+        .name = "maxPendingTasks",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosSetNotificationResponse_FieldNumber_Success,
+        .number = ProtosPipelineStats_FieldNumber_MaxPendingTasks,
         .hasIndex = 2,
-        .offset = 3,  // Stored in _has_storage_ to save space.
+        .offset = (uint32_t)offsetof(ProtosPipelineStats__storage_, maxPendingTasks),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeBool,
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "maxPendingMessages",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosPipelineStats_FieldNumber_MaxPendingMessages,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosPipelineStats__storage_, maxPendingMessages),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt32,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosSetNotificationResponse class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosPipelineStats class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosSetNotificationResponse__storage_)
+                                   storageSize:sizeof(ProtosPipelineStats__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1866,18 +5384,18 @@ typedef struct ProtosSetNotificationResponse__storage_ {
 
 @end
 
-#pragma mark - ProtosOnCharacteristicChanged
+#pragma mark - ProtosHistogramBucket
 
-@implementation ProtosOnCharacteristicChanged
+@implementation ProtosHistogramBucket
 
-@dynamic remoteId;
-@dynamic hasCharacteristic, characteristic;
+@dynamic upperMicros;
+@dynamic count;
 
-typedef struct ProtosOnCharacteristicChanged__storage_ {
+typedef struct ProtosHistogramBucket__storage_ {
   uint32_t _has_storage_[1];
-  NSString *remoteId;
-  ProtosBluetoothCharacteristic *characteristic;
-} ProtosOnCharacteristicChanged__storage_;
+  uint64_t upperMicros;
+  uint64_t count;
+} ProtosHistogramBucket__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1886,31 +5404,31 @@ typedef struct ProtosOnCharacteristicChanged__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "remoteId",
+        .name = "upperMicros",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosOnCharacteristicChanged_FieldNumber_RemoteId,
+        .number = ProtosHistogramBucket_FieldNumber_UpperMicros,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosOnCharacteristicChanged__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosHistogramBucket__storage_, upperMicros),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeUInt64,
       },
       {
-        .name = "characteristic",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothCharacteristic),
-        .number = ProtosOnCharacteristicChanged_FieldNumber_Characteristic,
+        .name = "count",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosHistogramBucket_FieldNumber_Count,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosOnCharacteristicChanged__storage_, characteristic),
+        .offset = (uint32_t)offsetof(ProtosHistogramBucket__storage_, count),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeMessage,
+        .dataType = GPBDataTypeUInt64,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosOnCharacteristicChanged class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosHistogramBucket class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosOnCharacteristicChanged__storage_)
+                                   storageSize:sizeof(ProtosHistogramBucket__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1922,18 +5440,32 @@ typedef struct ProtosOnCharacteristicChanged__storage_ {
 
 @end
 
-#pragma mark - ProtosDeviceStateResponse
+#pragma mark - ProtosLatencyHistogram
 
-@implementation ProtosDeviceStateResponse
+@implementation ProtosLatencyHistogram
 
-@dynamic remoteId;
-@dynamic state;
+@dynamic operation;
+@dynamic count;
+@dynamic minMicros;
+@dynamic maxMicros;
+@dynamic meanMicros;
+@dynamic p50Micros;
+@dynamic p90Micros;
+@dynamic p99Micros;
+@dynamic bucketsArray, bucketsArray_Count;
 
-typedef struct ProtosDeviceStateResponse__storage_ {
+typedef struct ProtosLatencyHistogram__storage_ {
   uint32_t _has_storage_[1];
-  ProtosDeviceStateResponse_BluetoothDeviceState state;
-  NSString *remoteId;
-} ProtosDeviceStateResponse__storage_;
+  NSString *operation;
+  NSMutableArray *bucketsArray;
+  uint64_t count;
+  uint64_t minMicros;
+  uint64_t maxMicros;
+  uint64_t meanMicros;
+  uint64_t p50Micros;
+  uint64_t p90Micros;
+  uint64_t p99Micros;
+} ProtosLatencyHistogram__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1942,31 +5474,94 @@ typedef struct ProtosDeviceStateResponse__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "remoteId",
+        .name = "operation",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosDeviceStateResponse_FieldNumber_RemoteId,
+        .number = ProtosLatencyHistogram_FieldNumber_Operation,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosDeviceStateResponse__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, operation),
         .flags = GPBFieldOptional,
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "state",
-        .dataTypeSpecific.enumDescFunc = ProtosDeviceStateResponse_BluetoothDeviceState_EnumDescriptor,
-        .number = ProtosDeviceStateResponse_FieldNumber_State,
+        .name = "count",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosLatencyHistogram_FieldNumber_Count,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosDeviceStateResponse__storage_, state),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor),
-        .dataType = GPBDataTypeEnum,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, count),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "minMicros",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosLatencyHistogram_FieldNumber_MinMicros,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, minMicros),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "maxMicros",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosLatencyHistogram_FieldNumber_MaxMicros,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, maxMicros),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "meanMicros",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosLatencyHistogram_FieldNumber_MeanMicros,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, meanMicros),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "p50Micros",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosLatencyHistogram_FieldNumber_P50Micros,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, p50Micros),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "p90Micros",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosLatencyHistogram_FieldNumber_P90Micros,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, p90Micros),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "p99Micros",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosLatencyHistogram_FieldNumber_P99Micros,
+        .hasIndex = 7,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, p99Micros),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "bucketsArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosHistogramBucket),
+        .number = ProtosLatencyHistogram_FieldNumber_BucketsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosLatencyHistogram__storage_, bucketsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosDeviceStateResponse class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosLatencyHistogram class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosDeviceStateResponse__storage_)
+                                   storageSize:sizeof(ProtosLatencyHistogram__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1978,68 +5573,18 @@ typedef struct ProtosDeviceStateResponse__storage_ {
 
 @end
 
-int32_t ProtosDeviceStateResponse_State_RawValue(ProtosDeviceStateResponse *message) {
-  GPBDescriptor *descriptor = [ProtosDeviceStateResponse descriptor];
-  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosDeviceStateResponse_FieldNumber_State];
-  return GPBGetMessageInt32Field(message, field);
-}
-
-void SetProtosDeviceStateResponse_State_RawValue(ProtosDeviceStateResponse *message, int32_t value) {
-  GPBDescriptor *descriptor = [ProtosDeviceStateResponse descriptor];
-  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosDeviceStateResponse_FieldNumber_State];
-  GPBSetInt32IvarWithFieldInternal(message, field, value, descriptor.file.syntax);
-}
-
-#pragma mark - Enum ProtosDeviceStateResponse_BluetoothDeviceState
-
-GPBEnumDescriptor *ProtosDeviceStateResponse_BluetoothDeviceState_EnumDescriptor(void) {
-  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
-  if (!descriptor) {
-    static const char *valueNames =
-        "Disconnected\000Connecting\000Connected\000Discon"
-        "necting\000";
-    static const int32_t values[] = {
-        ProtosDeviceStateResponse_BluetoothDeviceState_Disconnected,
-        ProtosDeviceStateResponse_BluetoothDeviceState_Connecting,
-        ProtosDeviceStateResponse_BluetoothDeviceState_Connected,
-        ProtosDeviceStateResponse_BluetoothDeviceState_Disconnecting,
-    };
-    GPBEnumDescriptor *worker =
-        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosDeviceStateResponse_BluetoothDeviceState)
-                                       valueNames:valueNames
-                                           values:values
-                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
-                                     enumVerifier:ProtosDeviceStateResponse_BluetoothDeviceState_IsValidValue];
-    GPBEnumDescriptor *expected = nil;
-    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
-      [worker release];
-    }
-  }
-  return descriptor;
-}
-
-BOOL ProtosDeviceStateResponse_BluetoothDeviceState_IsValidValue(int32_t value__) {
-  switch (value__) {
-    case ProtosDeviceStateResponse_BluetoothDeviceState_Disconnected:
-    case ProtosDeviceStateResponse_BluetoothDeviceState_Connecting:
-    case ProtosDeviceStateResponse_BluetoothDeviceState_Connected:
-    case ProtosDeviceStateResponse_BluetoothDeviceState_Disconnecting:
-      return YES;
-    default:
-      return NO;
-  }
-}
-
-#pragma mark - ProtosConnectedDevicesResponse
+#pragma mark - ProtosDeviceMetrics
 
-@implementation ProtosConnectedDevicesResponse
+@implementation ProtosDeviceMetrics
 
-@dynamic devicesArray, devicesArray_Count;
+@dynamic remoteId;
+@dynamic operationsArray, operationsArray_Count;
 
-typedef struct ProtosConnectedDevicesResponse__storage_ {
+typedef struct ProtosDeviceMetrics__storage_ {
   uint32_t _has_storage_[1];
-  NSMutableArray *devicesArray;
-} ProtosConnectedDevicesResponse__storage_;
+  NSString *remoteId;
+  NSMutableArray *operationsArray;
+} ProtosDeviceMetrics__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -2048,22 +5593,31 @@ typedef struct ProtosConnectedDevicesResponse__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "devicesArray",
-        .dataTypeSpecific.className = GPBStringifySymbol(ProtosBluetoothDevice),
-        .number = ProtosConnectedDevicesResponse_FieldNumber_DevicesArray,
+        .name = "remoteId",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosDeviceMetrics_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosDeviceMetrics__storage_, remoteId),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "operationsArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosLatencyHistogram),
+        .number = ProtosDeviceMetrics_FieldNumber_OperationsArray,
         .hasIndex = GPBNoHasBit,
-        .offset = (uint32_t)offsetof(ProtosConnectedDevicesResponse__storage_, devicesArray),
+        .offset = (uint32_t)offsetof(ProtosDeviceMetrics__storage_, operationsArray),
         .flags = GPBFieldRepeated,
         .dataType = GPBDataTypeMessage,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosConnectedDevicesResponse class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosDeviceMetrics class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosConnectedDevicesResponse__storage_)
+                                   storageSize:sizeof(ProtosDeviceMetrics__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -2075,18 +5629,20 @@ typedef struct ProtosConnectedDevicesResponse__storage_ {
 
 @end
 
-#pragma mark - ProtosMtuSizeRequest
+#pragma mark - ProtosScanMetrics
 
-@implementation ProtosMtuSizeRequest
+@implementation ProtosScanMetrics
 
-@dynamic remoteId;
-@dynamic mtu;
+@dynamic received;
+@dynamic emitted;
+@dynamic dropped;
 
-typedef struct ProtosMtuSizeRequest__storage_ {
+typedef struct ProtosScanMetrics__storage_ {
   uint32_t _has_storage_[1];
-  uint32_t mtu;
-  NSString *remoteId;
-} ProtosMtuSizeRequest__storage_;
+  uint64_t received;
+  uint64_t emitted;
+  uint64_t dropped;
+} ProtosScanMetrics__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -2095,31 +5651,40 @@ typedef struct ProtosMtuSizeRequest__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "remoteId",
+        .name = "received",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosMtuSizeRequest_FieldNumber_RemoteId,
+        .number = ProtosScanMetrics_FieldNumber_Received,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosMtuSizeRequest__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosScanMetrics__storage_, received),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeUInt64,
       },
       {
-        .name = "mtu",
+        .name = "emitted",
         .dataTypeSpecific.className = NULL,
-        .number = ProtosMtuSizeRequest_FieldNumber_Mtu,
+        .number = ProtosScanMetrics_FieldNumber_Emitted,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosMtuSizeRequest__storage_, mtu),
+        .offset = (uint32_t)offsetof(ProtosScanMetrics__storage_, emitted),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeUInt32,
+        .dataType = GPBDataTypeUInt64,
+      },
+      {
+        .name = "dropped",
+        .dataTypeSpecific.className = NULL,
+        .number = ProtosScanMetrics_FieldNumber_Dropped,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosScanMetrics__storage_, dropped),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeUInt64,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosMtuSizeRequest class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosScanMetrics class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosMtuSizeRequest__storage_)
+                                   storageSize:sizeof(ProtosScanMetrics__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -2131,18 +5696,20 @@ typedef struct ProtosMtuSizeRequest__storage_ {
 
 @end
 
-#pragma mark - ProtosMtuSizeResponse
+#pragma mark - ProtosMetrics
 
-@implementation ProtosMtuSizeResponse
+@implementation ProtosMetrics
 
-@dynamic remoteId;
-@dynamic mtu;
+@dynamic devicesArray, devicesArray_Count;
+@dynamic hasScan, scan;
+@dynamic hasPipeline, pipeline;
 
-typedef struct ProtosMtuSizeResponse__storage_ {
+typedef struct ProtosMetrics__storage_ {
   uint32_t _has_storage_[1];
-  uint32_t mtu;
-  NSString *remoteId;
-} ProtosMtuSizeResponse__storage_;
+  NSMutableArray *devicesArray;
+  ProtosScanMetrics *scan;
+  ProtosPipelineStats *pipeline;
+} ProtosMetrics__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -2151,31 +5718,40 @@ typedef struct ProtosMtuSizeResponse__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "remoteId",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosMtuSizeResponse_FieldNumber_RemoteId,
+        .name = "devicesArray",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosDeviceMetrics),
+        .number = ProtosMetrics_FieldNumber_DevicesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosMetrics__storage_, devicesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "scan",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosScanMetrics),
+        .number = ProtosMetrics_FieldNumber_Scan,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosMtuSizeResponse__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosMetrics__storage_, scan),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeMessage,
       },
       {
-        .name = "mtu",
-        .dataTypeSpecific.className = NULL,
-        .number = ProtosMtuSizeResponse_FieldNumber_Mtu,
+        .name = "pipeline",
+        .dataTypeSpecific.className = GPBStringifySymbol(ProtosPipelineStats),
+        .number = ProtosMetrics_FieldNumber_Pipeline,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosMtuSizeResponse__storage_, mtu),
+        .offset = (uint32_t)offsetof(ProtosMetrics__storage_, pipeline),
         .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeUInt32,
+        .dataType = GPBDataTypeMessage,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosMtuSizeResponse class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosMetrics class]
                                      rootClass:[ProtosFlutterblueRoot class]
                                           file:ProtosFlutterblueRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosMtuSizeResponse__storage_)
+                                   storageSize:sizeof(ProtosMetrics__storage_)
                                          flags:GPBDescriptorInitializationFlag_None];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
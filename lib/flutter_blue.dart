@@ -8,16 +8,21 @@ import 'dart:async';
 
 import 'package:collection/collection.dart';
 import 'package:convert/convert.dart';
+import 'package:fixnum/fixnum.dart';
 import 'package:flutter/services.dart';
 import 'package:meta/meta.dart';
 import 'package:rxdart/rxdart.dart';
 
 import 'gen/flutterblue.pb.dart' as protos;
 
+part 'src/batch_results.dart';
 part 'src/bluetooth_characteristic.dart';
 part 'src/bluetooth_descriptor.dart';
 part 'src/bluetooth_device.dart';
 part 'src/bluetooth_service.dart';
+part 'src/connection_options.dart';
 part 'src/constants.dart';
 part 'src/flutter_blue.dart';
 part 'src/guid.dart';
+part 'src/metrics.dart';
+part 'src/scan_settings.dart';
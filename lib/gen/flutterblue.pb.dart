@@ -7,6 +7,7 @@
 
 import 'dart:core' as $core;
 
+import 'package:fixnum/fixnum.dart' as $fixnum;
 import 'package:protobuf/protobuf.dart' as $pb;
 
 import 'flutterblue.pbenum.dart';
@@ -73,6 +74,10 @@ class AdvertisementData extends $pb.GeneratedMessage {
     ..m<$core.int, $core.List<$core.int>>(4, 'manufacturerData', entryClassName: 'AdvertisementData.ManufacturerDataEntry', keyFieldType: $pb.PbFieldType.O3, valueFieldType: $pb.PbFieldType.OY)
     ..m<$core.String, $core.List<$core.int>>(5, 'serviceData', entryClassName: 'AdvertisementData.ServiceDataEntry', keyFieldType: $pb.PbFieldType.OS, valueFieldType: $pb.PbFieldType.OY)
     ..pPS(6, 'serviceUuids')
+    ..a<Int32Value>(7, 'appearance', $pb.PbFieldType.OM, defaultOrMaker: Int32Value.getDefault, subBuilder: Int32Value.create)
+    ..a<ConnectionIntervalRange>(8, 'connectionIntervalRange', $pb.PbFieldType.OM, defaultOrMaker: ConnectionIntervalRange.getDefault, subBuilder: ConnectionIntervalRange.create)
+    ..aOS(9, 'uri')
+    ..a<$core.List<$core.int>>(10, 'rawScanRecord', $pb.PbFieldType.OY)
     ..hasRequiredFields = false
   ;
 
@@ -110,12 +115,78 @@ class AdvertisementData extends $pb.GeneratedMessage {
   $core.Map<$core.String, $core.List<$core.int>> get serviceData => $_getMap(4);
 
   $core.List<$core.String> get serviceUuids => $_getList(5);
+
+  Int32Value get appearance => $_getN(6);
+  set appearance(Int32Value v) { setField(7, v); }
+  $core.bool hasAppearance() => $_has(6);
+  void clearAppearance() => clearField(7);
+
+  ConnectionIntervalRange get connectionIntervalRange => $_getN(7);
+  set connectionIntervalRange(ConnectionIntervalRange v) { setField(8, v); }
+  $core.bool hasConnectionIntervalRange() => $_has(7);
+  void clearConnectionIntervalRange() => clearField(8);
+
+  $core.String get uri => $_getS(8, '');
+  set uri($core.String v) { $_setString(8, v); }
+  $core.bool hasUri() => $_has(8);
+  void clearUri() => clearField(9);
+
+  $core.List<$core.int> get rawScanRecord => $_getN(9);
+  set rawScanRecord($core.List<$core.int> v) { $_setBytes(9, v); }
+  $core.bool hasRawScanRecord() => $_has(9);
+  void clearRawScanRecord() => clearField(10);
+}
+
+class ConnectionIntervalRange extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ConnectionIntervalRange', createEmptyInstance: create)
+    ..a<$core.int>(1, 'min', $pb.PbFieldType.OU3)
+    ..a<$core.int>(2, 'max', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  ConnectionIntervalRange._() : super();
+  factory ConnectionIntervalRange() => create();
+  factory ConnectionIntervalRange.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ConnectionIntervalRange.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ConnectionIntervalRange clone() => ConnectionIntervalRange()..mergeFromMessage(this);
+  ConnectionIntervalRange copyWith(void Function(ConnectionIntervalRange) updates) => super.copyWith((message) => updates(message as ConnectionIntervalRange));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ConnectionIntervalRange create() => ConnectionIntervalRange._();
+  ConnectionIntervalRange createEmptyInstance() => create();
+  static $pb.PbList<ConnectionIntervalRange> createRepeated() => $pb.PbList<ConnectionIntervalRange>();
+  static ConnectionIntervalRange getDefault() => _defaultInstance ??= create()..freeze();
+  static ConnectionIntervalRange _defaultInstance;
+
+  $core.int get min => $_get(0, 0);
+  set min($core.int v) { $_setUnsignedInt32(0, v); }
+  $core.bool hasMin() => $_has(0);
+  void clearMin() => clearField(1);
+
+  $core.int get max => $_get(1, 0);
+  set max($core.int v) { $_setUnsignedInt32(1, v); }
+  $core.bool hasMax() => $_has(1);
+  void clearMax() => clearField(2);
 }
 
 class ScanSettings extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo('ScanSettings', createEmptyInstance: create)
     ..a<$core.int>(1, 'androidScanMode', $pb.PbFieldType.O3)
     ..pPS(2, 'serviceUuids')
+    ..aInt64(3, 'reportDelayMillis')
+    ..a<$core.int>(4, 'maxBatchSize', $pb.PbFieldType.O3)
+    ..aOB(5, 'deduplicate')
+    ..a<$core.int>(6, 'dedupRssiDelta', $pb.PbFieldType.O3)
+    ..aInt64(7, 'dedupRefreshMillis')
+    ..aOB(8, 'includeRawScanRecord')
+    ..a<DeviceTableSettings>(9, 'deviceTable', $pb.PbFieldType.OM, defaultOrMaker: DeviceTableSettings.getDefault, subBuilder: DeviceTableSettings.create)
+    ..pc<ScanFilter>(10, 'filters', $pb.PbFieldType.PM, subBuilder: ScanFilter.create)
+    ..a<$core.int>(11, 'androidCallbackType', $pb.PbFieldType.O3)
+    ..a<$core.int>(12, 'androidMatchMode', $pb.PbFieldType.O3)
+    ..a<$core.int>(13, 'androidNumOfMatches', $pb.PbFieldType.O3)
+    ..aOB(14, 'androidExtendedAdvertising')
+    ..a<$core.int>(15, 'androidPhy', $pb.PbFieldType.O3)
+    ..a<ScanSchedule>(16, 'schedule', $pb.PbFieldType.OM, defaultOrMaker: ScanSchedule.getDefault, subBuilder: ScanSchedule.create)
     ..hasRequiredFields = false
   ;
 
@@ -139,6 +210,435 @@ class ScanSettings extends $pb.GeneratedMessage {
   void clearAndroidScanMode() => clearField(1);
 
   $core.List<$core.String> get serviceUuids => $_getList(1);
+
+  $fixnum.Int64 get reportDelayMillis => $_getI64(2);
+  set reportDelayMillis($fixnum.Int64 v) { $_setInt64(2, v); }
+  $core.bool hasReportDelayMillis() => $_has(2);
+  void clearReportDelayMillis() => clearField(3);
+
+  $core.int get maxBatchSize => $_get(3, 0);
+  set maxBatchSize($core.int v) { $_setSignedInt32(3, v); }
+  $core.bool hasMaxBatchSize() => $_has(3);
+  void clearMaxBatchSize() => clearField(4);
+
+  $core.bool get deduplicate => $_get(4, false);
+  set deduplicate($core.bool v) { $_setBool(4, v); }
+  $core.bool hasDeduplicate() => $_has(4);
+  void clearDeduplicate() => clearField(5);
+
+  $core.int get dedupRssiDelta => $_get(5, 0);
+  set dedupRssiDelta($core.int v) { $_setSignedInt32(5, v); }
+  $core.bool hasDedupRssiDelta() => $_has(5);
+  void clearDedupRssiDelta() => clearField(6);
+
+  $fixnum.Int64 get dedupRefreshMillis => $_getI64(6);
+  set dedupRefreshMillis($fixnum.Int64 v) { $_setInt64(6, v); }
+  $core.bool hasDedupRefreshMillis() => $_has(6);
+  void clearDedupRefreshMillis() => clearField(7);
+
+  $core.bool get includeRawScanRecord => $_get(7, false);
+  set includeRawScanRecord($core.bool v) { $_setBool(7, v); }
+  $core.bool hasIncludeRawScanRecord() => $_has(7);
+  void clearIncludeRawScanRecord() => clearField(8);
+
+  DeviceTableSettings get deviceTable => $_getN(8);
+  set deviceTable(DeviceTableSettings v) { setField(9, v); }
+  $core.bool hasDeviceTable() => $_has(8);
+  void clearDeviceTable() => clearField(9);
+
+  $core.List<ScanFilter> get filters => $_getList(9);
+
+  $core.int get androidCallbackType => $_get(10, 0);
+  set androidCallbackType($core.int v) { $_setSignedInt32(10, v); }
+  $core.bool hasAndroidCallbackType() => $_has(10);
+  void clearAndroidCallbackType() => clearField(11);
+
+  $core.int get androidMatchMode => $_get(11, 0);
+  set androidMatchMode($core.int v) { $_setSignedInt32(11, v); }
+  $core.bool hasAndroidMatchMode() => $_has(11);
+  void clearAndroidMatchMode() => clearField(12);
+
+  $core.int get androidNumOfMatches => $_get(12, 0);
+  set androidNumOfMatches($core.int v) { $_setSignedInt32(12, v); }
+  $core.bool hasAndroidNumOfMatches() => $_has(12);
+  void clearAndroidNumOfMatches() => clearField(13);
+
+  $core.bool get androidExtendedAdvertising => $_get(13, false);
+  set androidExtendedAdvertising($core.bool v) { $_setBool(13, v); }
+  $core.bool hasAndroidExtendedAdvertising() => $_has(13);
+  void clearAndroidExtendedAdvertising() => clearField(14);
+
+  $core.int get androidPhy => $_get(14, 0);
+  set androidPhy($core.int v) { $_setSignedInt32(14, v); }
+  $core.bool hasAndroidPhy() => $_has(14);
+  void clearAndroidPhy() => clearField(15);
+
+  ScanSchedule get schedule => $_getN(15);
+  set schedule(ScanSchedule v) { setField(16, v); }
+  $core.bool hasSchedule() => $_has(15);
+  void clearSchedule() => clearField(16);
+}
+
+class ScanSchedule extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ScanSchedule', createEmptyInstance: create)
+    ..aInt64(1, 'scanWindowMillis')
+    ..aInt64(2, 'pauseWindowMillis')
+    ..aOB(3, 'adaptiveScanMode')
+    ..a<$core.int>(4, 'raiseThreshold', $pb.PbFieldType.O3)
+    ..a<$core.int>(5, 'lowerAfterWindows', $pb.PbFieldType.O3)
+    ..aOB(6, 'restartOnFailure')
+    ..aInt64(7, 'maxRestartDelayMillis')
+    ..hasRequiredFields = false
+  ;
+
+  ScanSchedule._() : super();
+  factory ScanSchedule() => create();
+  factory ScanSchedule.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ScanSchedule.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ScanSchedule clone() => ScanSchedule()..mergeFromMessage(this);
+  ScanSchedule copyWith(void Function(ScanSchedule) updates) => super.copyWith((message) => updates(message as ScanSchedule));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ScanSchedule create() => ScanSchedule._();
+  ScanSchedule createEmptyInstance() => create();
+  static $pb.PbList<ScanSchedule> createRepeated() => $pb.PbList<ScanSchedule>();
+  static ScanSchedule getDefault() => _defaultInstance ??= create()..freeze();
+  static ScanSchedule _defaultInstance;
+
+  $fixnum.Int64 get scanWindowMillis => $_getI64(0);
+  set scanWindowMillis($fixnum.Int64 v) { $_setInt64(0, v); }
+  $core.bool hasScanWindowMillis() => $_has(0);
+  void clearScanWindowMillis() => clearField(1);
+
+  $fixnum.Int64 get pauseWindowMillis => $_getI64(1);
+  set pauseWindowMillis($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasPauseWindowMillis() => $_has(1);
+  void clearPauseWindowMillis() => clearField(2);
+
+  $core.bool get adaptiveScanMode => $_get(2, false);
+  set adaptiveScanMode($core.bool v) { $_setBool(2, v); }
+  $core.bool hasAdaptiveScanMode() => $_has(2);
+  void clearAdaptiveScanMode() => clearField(3);
+
+  $core.int get raiseThreshold => $_get(3, 0);
+  set raiseThreshold($core.int v) { $_setSignedInt32(3, v); }
+  $core.bool hasRaiseThreshold() => $_has(3);
+  void clearRaiseThreshold() => clearField(4);
+
+  $core.int get lowerAfterWindows => $_get(4, 0);
+  set lowerAfterWindows($core.int v) { $_setSignedInt32(4, v); }
+  $core.bool hasLowerAfterWindows() => $_has(4);
+  void clearLowerAfterWindows() => clearField(5);
+
+  $core.bool get restartOnFailure => $_get(5, false);
+  set restartOnFailure($core.bool v) { $_setBool(5, v); }
+  $core.bool hasRestartOnFailure() => $_has(5);
+  void clearRestartOnFailure() => clearField(6);
+
+  $fixnum.Int64 get maxRestartDelayMillis => $_getI64(6);
+  set maxRestartDelayMillis($fixnum.Int64 v) { $_setInt64(6, v); }
+  $core.bool hasMaxRestartDelayMillis() => $_has(6);
+  void clearMaxRestartDelayMillis() => clearField(7);
+}
+
+class ScanFailure extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ScanFailure', createEmptyInstance: create)
+    ..a<$core.int>(1, 'errorCode', $pb.PbFieldType.O3)
+    ..aOS(2, 'message')
+    ..aOB(3, 'restarting')
+    ..aInt64(4, 'restartDelayMillis')
+    ..hasRequiredFields = false
+  ;
+
+  ScanFailure._() : super();
+  factory ScanFailure() => create();
+  factory ScanFailure.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ScanFailure.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ScanFailure clone() => ScanFailure()..mergeFromMessage(this);
+  ScanFailure copyWith(void Function(ScanFailure) updates) => super.copyWith((message) => updates(message as ScanFailure));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ScanFailure create() => ScanFailure._();
+  ScanFailure createEmptyInstance() => create();
+  static $pb.PbList<ScanFailure> createRepeated() => $pb.PbList<ScanFailure>();
+  static ScanFailure getDefault() => _defaultInstance ??= create()..freeze();
+  static ScanFailure _defaultInstance;
+
+  $core.int get errorCode => $_get(0, 0);
+  set errorCode($core.int v) { $_setSignedInt32(0, v); }
+  $core.bool hasErrorCode() => $_has(0);
+  void clearErrorCode() => clearField(1);
+
+  $core.String get message => $_getS(1, '');
+  set message($core.String v) { $_setString(1, v); }
+  $core.bool hasMessage() => $_has(1);
+  void clearMessage() => clearField(2);
+
+  $core.bool get restarting => $_get(2, false);
+  set restarting($core.bool v) { $_setBool(2, v); }
+  $core.bool hasRestarting() => $_has(2);
+  void clearRestarting() => clearField(3);
+
+  $fixnum.Int64 get restartDelayMillis => $_getI64(3);
+  set restartDelayMillis($fixnum.Int64 v) { $_setInt64(3, v); }
+  $core.bool hasRestartDelayMillis() => $_has(3);
+  void clearRestartDelayMillis() => clearField(4);
+}
+
+class ScanFilter extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ScanFilter', createEmptyInstance: create)
+    ..aOS(1, 'deviceAddress')
+    ..aOS(2, 'deviceName')
+    ..aOS(3, 'serviceUuid')
+    ..aOB(4, 'hasManufacturerId')
+    ..a<$core.int>(5, 'manufacturerId_5', $pb.PbFieldType.O3, protoName: 'manufacturer_id')
+    ..a<$core.List<$core.int>>(6, 'manufacturerData', $pb.PbFieldType.OY)
+    ..a<$core.List<$core.int>>(7, 'manufacturerDataMask', $pb.PbFieldType.OY)
+    ..aOS(8, 'serviceDataUuid')
+    ..a<$core.List<$core.int>>(9, 'serviceData', $pb.PbFieldType.OY)
+    ..a<$core.List<$core.int>>(10, 'serviceDataMask', $pb.PbFieldType.OY)
+    ..hasRequiredFields = false
+  ;
+
+  ScanFilter._() : super();
+  factory ScanFilter() => create();
+  factory ScanFilter.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ScanFilter.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ScanFilter clone() => ScanFilter()..mergeFromMessage(this);
+  ScanFilter copyWith(void Function(ScanFilter) updates) => super.copyWith((message) => updates(message as ScanFilter));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ScanFilter create() => ScanFilter._();
+  ScanFilter createEmptyInstance() => create();
+  static $pb.PbList<ScanFilter> createRepeated() => $pb.PbList<ScanFilter>();
+  static ScanFilter getDefault() => _defaultInstance ??= create()..freeze();
+  static ScanFilter _defaultInstance;
+
+  $core.String get deviceAddress => $_getS(0, '');
+  set deviceAddress($core.String v) { $_setString(0, v); }
+  $core.bool hasDeviceAddress() => $_has(0);
+  void clearDeviceAddress() => clearField(1);
+
+  $core.String get deviceName => $_getS(1, '');
+  set deviceName($core.String v) { $_setString(1, v); }
+  $core.bool hasDeviceName() => $_has(1);
+  void clearDeviceName() => clearField(2);
+
+  $core.String get serviceUuid => $_getS(2, '');
+  set serviceUuid($core.String v) { $_setString(2, v); }
+  $core.bool hasServiceUuid() => $_has(2);
+  void clearServiceUuid() => clearField(3);
+
+  $core.bool get hasManufacturerId => $_get(3, false);
+  set hasManufacturerId($core.bool v) { $_setBool(3, v); }
+  $core.bool hasHasManufacturerId() => $_has(3);
+  void clearHasManufacturerId() => clearField(4);
+
+  $core.int get manufacturerId_5 => $_get(4, 0);
+  set manufacturerId_5($core.int v) { $_setSignedInt32(4, v); }
+  $core.bool hasManufacturerId_5() => $_has(4);
+  void clearManufacturerId_5() => clearField(5);
+
+  $core.List<$core.int> get manufacturerData => $_getN(5);
+  set manufacturerData($core.List<$core.int> v) { $_setBytes(5, v); }
+  $core.bool hasManufacturerData() => $_has(5);
+  void clearManufacturerData() => clearField(6);
+
+  $core.List<$core.int> get manufacturerDataMask => $_getN(6);
+  set manufacturerDataMask($core.List<$core.int> v) { $_setBytes(6, v); }
+  $core.bool hasManufacturerDataMask() => $_has(6);
+  void clearManufacturerDataMask() => clearField(7);
+
+  $core.String get serviceDataUuid => $_getS(7, '');
+  set serviceDataUuid($core.String v) { $_setString(7, v); }
+  $core.bool hasServiceDataUuid() => $_has(7);
+  void clearServiceDataUuid() => clearField(8);
+
+  $core.List<$core.int> get serviceData => $_getN(8);
+  set serviceData($core.List<$core.int> v) { $_setBytes(8, v); }
+  $core.bool hasServiceData() => $_has(8);
+  void clearServiceData() => clearField(9);
+
+  $core.List<$core.int> get serviceDataMask => $_getN(9);
+  set serviceDataMask($core.List<$core.int> v) { $_setBytes(9, v); }
+  $core.bool hasServiceDataMask() => $_has(9);
+  void clearServiceDataMask() => clearField(10);
+}
+
+class DeviceTableSettings extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('DeviceTableSettings', createEmptyInstance: create)
+    ..a<$core.int>(1, 'maxDevices', $pb.PbFieldType.OU3)
+    ..aInt64(2, 'maxAgeMillis')
+    ..hasRequiredFields = false
+  ;
+
+  DeviceTableSettings._() : super();
+  factory DeviceTableSettings() => create();
+  factory DeviceTableSettings.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory DeviceTableSettings.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  DeviceTableSettings clone() => DeviceTableSettings()..mergeFromMessage(this);
+  DeviceTableSettings copyWith(void Function(DeviceTableSettings) updates) => super.copyWith((message) => updates(message as DeviceTableSettings));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static DeviceTableSettings create() => DeviceTableSettings._();
+  DeviceTableSettings createEmptyInstance() => create();
+  static $pb.PbList<DeviceTableSettings> createRepeated() => $pb.PbList<DeviceTableSettings>();
+  static DeviceTableSettings getDefault() => _defaultInstance ??= create()..freeze();
+  static DeviceTableSettings _defaultInstance;
+
+  $core.int get maxDevices => $_get(0, 0);
+  set maxDevices($core.int v) { $_setUnsignedInt32(0, v); }
+  $core.bool hasMaxDevices() => $_has(0);
+  void clearMaxDevices() => clearField(1);
+
+  $fixnum.Int64 get maxAgeMillis => $_getI64(1);
+  set maxAgeMillis($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasMaxAgeMillis() => $_has(1);
+  void clearMaxAgeMillis() => clearField(2);
+}
+
+class DeviceTableRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('DeviceTableRequest', createEmptyInstance: create)
+    ..a<$fixnum.Int64>(1, 'sinceVersion', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..hasRequiredFields = false
+  ;
+
+  DeviceTableRequest._() : super();
+  factory DeviceTableRequest() => create();
+  factory DeviceTableRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory DeviceTableRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  DeviceTableRequest clone() => DeviceTableRequest()..mergeFromMessage(this);
+  DeviceTableRequest copyWith(void Function(DeviceTableRequest) updates) => super.copyWith((message) => updates(message as DeviceTableRequest));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static DeviceTableRequest create() => DeviceTableRequest._();
+  DeviceTableRequest createEmptyInstance() => create();
+  static $pb.PbList<DeviceTableRequest> createRepeated() => $pb.PbList<DeviceTableRequest>();
+  static DeviceTableRequest getDefault() => _defaultInstance ??= create()..freeze();
+  static DeviceTableRequest _defaultInstance;
+
+  $fixnum.Int64 get sinceVersion => $_getI64(0);
+  set sinceVersion($fixnum.Int64 v) { $_setInt64(0, v); }
+  $core.bool hasSinceVersion() => $_has(0);
+  void clearSinceVersion() => clearField(1);
+}
+
+class DeviceTableEntry extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('DeviceTableEntry', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..aInt64(2, 'firstSeenMillis')
+    ..aInt64(3, 'lastSeenMillis')
+    ..a<$fixnum.Int64>(4, 'advertisementCount', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$core.int>(5, 'rssiMin', $pb.PbFieldType.O3)
+    ..a<$core.int>(6, 'rssiMax', $pb.PbFieldType.O3)
+    ..a<$core.double>(7, 'rssiAverage', $pb.PbFieldType.OF)
+    ..a<$core.int>(8, 'advertisingIntervalMillis', $pb.PbFieldType.OU3)
+    ..a<$core.List<$core.int>>(9, 'lastPayload', $pb.PbFieldType.OY)
+    ..a<AdvertisementData>(10, 'advertisementData', $pb.PbFieldType.OM, defaultOrMaker: AdvertisementData.getDefault, subBuilder: AdvertisementData.create)
+    ..hasRequiredFields = false
+  ;
+
+  DeviceTableEntry._() : super();
+  factory DeviceTableEntry() => create();
+  factory DeviceTableEntry.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory DeviceTableEntry.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  DeviceTableEntry clone() => DeviceTableEntry()..mergeFromMessage(this);
+  DeviceTableEntry copyWith(void Function(DeviceTableEntry) updates) => super.copyWith((message) => updates(message as DeviceTableEntry));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static DeviceTableEntry create() => DeviceTableEntry._();
+  DeviceTableEntry createEmptyInstance() => create();
+  static $pb.PbList<DeviceTableEntry> createRepeated() => $pb.PbList<DeviceTableEntry>();
+  static DeviceTableEntry getDefault() => _defaultInstance ??= create()..freeze();
+  static DeviceTableEntry _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  $fixnum.Int64 get firstSeenMillis => $_getI64(1);
+  set firstSeenMillis($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasFirstSeenMillis() => $_has(1);
+  void clearFirstSeenMillis() => clearField(2);
+
+  $fixnum.Int64 get lastSeenMillis => $_getI64(2);
+  set lastSeenMillis($fixnum.Int64 v) { $_setInt64(2, v); }
+  $core.bool hasLastSeenMillis() => $_has(2);
+  void clearLastSeenMillis() => clearField(3);
+
+  $fixnum.Int64 get advertisementCount => $_getI64(3);
+  set advertisementCount($fixnum.Int64 v) { $_setInt64(3, v); }
+  $core.bool hasAdvertisementCount() => $_has(3);
+  void clearAdvertisementCount() => clearField(4);
+
+  $core.int get rssiMin => $_get(4, 0);
+  set rssiMin($core.int v) { $_setSignedInt32(4, v); }
+  $core.bool hasRssiMin() => $_has(4);
+  void clearRssiMin() => clearField(5);
+
+  $core.int get rssiMax => $_get(5, 0);
+  set rssiMax($core.int v) { $_setSignedInt32(5, v); }
+  $core.bool hasRssiMax() => $_has(5);
+  void clearRssiMax() => clearField(6);
+
+  $core.double get rssiAverage => $_getN(6);
+  set rssiAverage($core.double v) { $_setFloat(6, v); }
+  $core.bool hasRssiAverage() => $_has(6);
+  void clearRssiAverage() => clearField(7);
+
+  $core.int get advertisingIntervalMillis => $_get(7, 0);
+  set advertisingIntervalMillis($core.int v) { $_setUnsignedInt32(7, v); }
+  $core.bool hasAdvertisingIntervalMillis() => $_has(7);
+  void clearAdvertisingIntervalMillis() => clearField(8);
+
+  $core.List<$core.int> get lastPayload => $_getN(8);
+  set lastPayload($core.List<$core.int> v) { $_setBytes(8, v); }
+  $core.bool hasLastPayload() => $_has(8);
+  void clearLastPayload() => clearField(9);
+
+  AdvertisementData get advertisementData => $_getN(9);
+  set advertisementData(AdvertisementData v) { setField(10, v); }
+  $core.bool hasAdvertisementData() => $_has(9);
+  void clearAdvertisementData() => clearField(10);
+}
+
+class DeviceTable extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('DeviceTable', createEmptyInstance: create)
+    ..a<$fixnum.Int64>(1, 'version', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..aOB(2, 'full')
+    ..pc<DeviceTableEntry>(3, 'devices', $pb.PbFieldType.PM, subBuilder: DeviceTableEntry.create)
+    ..pPS(4, 'removed')
+    ..hasRequiredFields = false
+  ;
+
+  DeviceTable._() : super();
+  factory DeviceTable() => create();
+  factory DeviceTable.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory DeviceTable.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  DeviceTable clone() => DeviceTable()..mergeFromMessage(this);
+  DeviceTable copyWith(void Function(DeviceTable) updates) => super.copyWith((message) => updates(message as DeviceTable));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static DeviceTable create() => DeviceTable._();
+  DeviceTable createEmptyInstance() => create();
+  static $pb.PbList<DeviceTable> createRepeated() => $pb.PbList<DeviceTable>();
+  static DeviceTable getDefault() => _defaultInstance ??= create()..freeze();
+  static DeviceTable _defaultInstance;
+
+  $fixnum.Int64 get version => $_getI64(0);
+  set version($fixnum.Int64 v) { $_setInt64(0, v); }
+  $core.bool hasVersion() => $_has(0);
+  void clearVersion() => clearField(1);
+
+  $core.bool get full => $_get(1, false);
+  set full($core.bool v) { $_setBool(1, v); }
+  $core.bool hasFull() => $_has(1);
+  void clearFull() => clearField(2);
+
+  $core.List<DeviceTableEntry> get devices => $_getList(2);
+
+  $core.List<$core.String> get removed => $_getList(3);
 }
 
 class ScanResult extends $pb.GeneratedMessage {
@@ -146,6 +646,7 @@ class ScanResult extends $pb.GeneratedMessage {
     ..a<BluetoothDevice>(1, 'device', $pb.PbFieldType.OM, defaultOrMaker: BluetoothDevice.getDefault, subBuilder: BluetoothDevice.create)
     ..a<AdvertisementData>(2, 'advertisementData', $pb.PbFieldType.OM, defaultOrMaker: AdvertisementData.getDefault, subBuilder: AdvertisementData.create)
     ..a<$core.int>(3, 'rssi', $pb.PbFieldType.O3)
+    ..aOB(4, 'lost')
     ..hasRequiredFields = false
   ;
 
@@ -177,12 +678,152 @@ class ScanResult extends $pb.GeneratedMessage {
   set rssi($core.int v) { $_setSignedInt32(2, v); }
   $core.bool hasRssi() => $_has(2);
   void clearRssi() => clearField(3);
+
+  $core.bool get lost => $_get(3, false);
+  set lost($core.bool v) { $_setBool(3, v); }
+  $core.bool hasLost() => $_has(3);
+  void clearLost() => clearField(4);
+}
+
+class ScanResultBatch extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ScanResultBatch', createEmptyInstance: create)
+    ..pc<ScanResult>(1, 'results', $pb.PbFieldType.PM, subBuilder: ScanResult.create)
+    ..hasRequiredFields = false
+  ;
+
+  ScanResultBatch._() : super();
+  factory ScanResultBatch() => create();
+  factory ScanResultBatch.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ScanResultBatch.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ScanResultBatch clone() => ScanResultBatch()..mergeFromMessage(this);
+  ScanResultBatch copyWith(void Function(ScanResultBatch) updates) => super.copyWith((message) => updates(message as ScanResultBatch));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ScanResultBatch create() => ScanResultBatch._();
+  ScanResultBatch createEmptyInstance() => create();
+  static $pb.PbList<ScanResultBatch> createRepeated() => $pb.PbList<ScanResultBatch>();
+  static ScanResultBatch getDefault() => _defaultInstance ??= create()..freeze();
+  static ScanResultBatch _defaultInstance;
+
+  $core.List<ScanResult> get results => $_getList(0);
+}
+
+class ReconnectPolicy extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ReconnectPolicy', createEmptyInstance: create)
+    ..a<$core.int>(1, 'maxAttempts', $pb.PbFieldType.OU3)
+    ..aInt64(2, 'initialDelayMillis')
+    ..aInt64(3, 'maxDelayMillis')
+    ..a<$core.double>(4, 'jitter', $pb.PbFieldType.OF)
+    ..aInt64(5, 'attemptTimeoutMillis')
+    ..hasRequiredFields = false
+  ;
+
+  ReconnectPolicy._() : super();
+  factory ReconnectPolicy() => create();
+  factory ReconnectPolicy.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReconnectPolicy.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ReconnectPolicy clone() => ReconnectPolicy()..mergeFromMessage(this);
+  ReconnectPolicy copyWith(void Function(ReconnectPolicy) updates) => super.copyWith((message) => updates(message as ReconnectPolicy));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ReconnectPolicy create() => ReconnectPolicy._();
+  ReconnectPolicy createEmptyInstance() => create();
+  static $pb.PbList<ReconnectPolicy> createRepeated() => $pb.PbList<ReconnectPolicy>();
+  static ReconnectPolicy getDefault() => _defaultInstance ??= create()..freeze();
+  static ReconnectPolicy _defaultInstance;
+
+  $core.int get maxAttempts => $_get(0, 0);
+  set maxAttempts($core.int v) { $_setUnsignedInt32(0, v); }
+  $core.bool hasMaxAttempts() => $_has(0);
+  void clearMaxAttempts() => clearField(1);
+
+  $fixnum.Int64 get initialDelayMillis => $_getI64(1);
+  set initialDelayMillis($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasInitialDelayMillis() => $_has(1);
+  void clearInitialDelayMillis() => clearField(2);
+
+  $fixnum.Int64 get maxDelayMillis => $_getI64(2);
+  set maxDelayMillis($fixnum.Int64 v) { $_setInt64(2, v); }
+  $core.bool hasMaxDelayMillis() => $_has(2);
+  void clearMaxDelayMillis() => clearField(3);
+
+  $core.double get jitter => $_getN(3);
+  set jitter($core.double v) { $_setFloat(3, v); }
+  $core.bool hasJitter() => $_has(3);
+  void clearJitter() => clearField(4);
+
+  $fixnum.Int64 get attemptTimeoutMillis => $_getI64(4);
+  set attemptTimeoutMillis($fixnum.Int64 v) { $_setInt64(4, v); }
+  $core.bool hasAttemptTimeoutMillis() => $_has(4);
+  void clearAttemptTimeoutMillis() => clearField(5);
+}
+
+class ReconnectState extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ReconnectState', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..e<ReconnectState_State>(2, 'state', $pb.PbFieldType.OE, defaultOrMaker: ReconnectState_State.SCHEDULED, valueOf: ReconnectState_State.valueOf, enumValues: ReconnectState_State.values)
+    ..a<$core.int>(3, 'attempt', $pb.PbFieldType.OU3)
+    ..aInt64(4, 'delayMillis')
+    ..pPS(5, 'failedNotifications')
+    ..aInt64(6, 'recoveryMillis')
+    ..hasRequiredFields = false
+  ;
+
+  ReconnectState._() : super();
+  factory ReconnectState() => create();
+  factory ReconnectState.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReconnectState.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ReconnectState clone() => ReconnectState()..mergeFromMessage(this);
+  ReconnectState copyWith(void Function(ReconnectState) updates) => super.copyWith((message) => updates(message as ReconnectState));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ReconnectState create() => ReconnectState._();
+  ReconnectState createEmptyInstance() => create();
+  static $pb.PbList<ReconnectState> createRepeated() => $pb.PbList<ReconnectState>();
+  static ReconnectState getDefault() => _defaultInstance ??= create()..freeze();
+  static ReconnectState _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  ReconnectState_State get state => $_getN(1);
+  set state(ReconnectState_State v) { setField(2, v); }
+  $core.bool hasState() => $_has(1);
+  void clearState() => clearField(2);
+
+  $core.int get attempt => $_get(2, 0);
+  set attempt($core.int v) { $_setUnsignedInt32(2, v); }
+  $core.bool hasAttempt() => $_has(2);
+  void clearAttempt() => clearField(3);
+
+  $fixnum.Int64 get delayMillis => $_getI64(3);
+  set delayMillis($fixnum.Int64 v) { $_setInt64(3, v); }
+  $core.bool hasDelayMillis() => $_has(3);
+  void clearDelayMillis() => clearField(4);
+
+  $core.List<$core.String> get failedNotifications => $_getList(4);
+
+  $fixnum.Int64 get recoveryMillis => $_getI64(5);
+  set recoveryMillis($fixnum.Int64 v) { $_setInt64(5, v); }
+  $core.bool hasRecoveryMillis() => $_has(5);
+  void clearRecoveryMillis() => clearField(6);
 }
 
 class ConnectRequest extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo('ConnectRequest', createEmptyInstance: create)
     ..aOS(1, 'remoteId')
     ..aOB(2, 'androidAutoConnect')
+    ..a<$core.int>(3, 'notificationBufferSize', $pb.PbFieldType.OU3)
+    ..e<ConnectRequest_OverflowPolicy>(4, 'notificationOverflowPolicy', $pb.PbFieldType.OE, defaultOrMaker: ConnectRequest_OverflowPolicy.DROP_OLDEST, valueOf: ConnectRequest_OverflowPolicy.valueOf, enumValues: ConnectRequest_OverflowPolicy.values)
+    ..a<$core.int>(5, 'mtu', $pb.PbFieldType.OU3)
+    ..e<ConnectRequest_ConnectionPriority>(6, 'connectionPriority', $pb.PbFieldType.OE, defaultOrMaker: ConnectRequest_ConnectionPriority.BALANCED, valueOf: ConnectRequest_ConnectionPriority.valueOf, enumValues: ConnectRequest_ConnectionPriority.values)
+    ..e<ConnectRequest_Phy>(7, 'preferredPhy', $pb.PbFieldType.OE, defaultOrMaker: ConnectRequest_Phy.PHY_UNSPECIFIED, valueOf: ConnectRequest_Phy.valueOf, enumValues: ConnectRequest_Phy.values)
+    ..a<ValueCachePolicy>(8, 'valueCache', $pb.PbFieldType.OM, defaultOrMaker: ValueCachePolicy.getDefault, subBuilder: ValueCachePolicy.create)
+    ..aOB(9, 'cacheServices')
+    ..aOS(10, 'firmwareFingerprint')
+    ..a<ReconnectPolicy>(11, 'reconnect', $pb.PbFieldType.OM, defaultOrMaker: ReconnectPolicy.getDefault, subBuilder: ReconnectPolicy.create)
     ..hasRequiredFields = false
   ;
 
@@ -209,6 +850,267 @@ class ConnectRequest extends $pb.GeneratedMessage {
   set androidAutoConnect($core.bool v) { $_setBool(1, v); }
   $core.bool hasAndroidAutoConnect() => $_has(1);
   void clearAndroidAutoConnect() => clearField(2);
+
+  $core.int get notificationBufferSize => $_get(2, 0);
+  set notificationBufferSize($core.int v) { $_setUnsignedInt32(2, v); }
+  $core.bool hasNotificationBufferSize() => $_has(2);
+  void clearNotificationBufferSize() => clearField(3);
+
+  ConnectRequest_OverflowPolicy get notificationOverflowPolicy => $_getN(3);
+  set notificationOverflowPolicy(ConnectRequest_OverflowPolicy v) { setField(4, v); }
+  $core.bool hasNotificationOverflowPolicy() => $_has(3);
+  void clearNotificationOverflowPolicy() => clearField(4);
+
+  $core.int get mtu => $_get(4, 0);
+  set mtu($core.int v) { $_setUnsignedInt32(4, v); }
+  $core.bool hasMtu() => $_has(4);
+  void clearMtu() => clearField(5);
+
+  ConnectRequest_ConnectionPriority get connectionPriority => $_getN(5);
+  set connectionPriority(ConnectRequest_ConnectionPriority v) { setField(6, v); }
+  $core.bool hasConnectionPriority() => $_has(5);
+  void clearConnectionPriority() => clearField(6);
+
+  ConnectRequest_Phy get preferredPhy => $_getN(6);
+  set preferredPhy(ConnectRequest_Phy v) { setField(7, v); }
+  $core.bool hasPreferredPhy() => $_has(6);
+  void clearPreferredPhy() => clearField(7);
+
+  ValueCachePolicy get valueCache => $_getN(7);
+  set valueCache(ValueCachePolicy v) { setField(8, v); }
+  $core.bool hasValueCache() => $_has(7);
+  void clearValueCache() => clearField(8);
+
+  $core.bool get cacheServices => $_get(8, false);
+  set cacheServices($core.bool v) { $_setBool(8, v); }
+  $core.bool hasCacheServices() => $_has(8);
+  void clearCacheServices() => clearField(9);
+
+  $core.String get firmwareFingerprint => $_getS(9, '');
+  set firmwareFingerprint($core.String v) { $_setString(9, v); }
+  $core.bool hasFirmwareFingerprint() => $_has(9);
+  void clearFirmwareFingerprint() => clearField(10);
+
+  ReconnectPolicy get reconnect => $_getN(10);
+  set reconnect(ReconnectPolicy v) { setField(11, v); }
+  $core.bool hasReconnect() => $_has(10);
+  void clearReconnect() => clearField(11);
+}
+
+class ValueCachePolicy extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ValueCachePolicy', createEmptyInstance: create)
+    ..a<$core.int>(1, 'maxEntries', $pb.PbFieldType.OU3)
+    ..a<$fixnum.Int64>(2, 'defaultTtlMillis', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..pc<ValueCacheRule>(3, 'rules', $pb.PbFieldType.PM, subBuilder: ValueCacheRule.create)
+    ..hasRequiredFields = false
+  ;
+
+  ValueCachePolicy._() : super();
+  factory ValueCachePolicy() => create();
+  factory ValueCachePolicy.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ValueCachePolicy.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ValueCachePolicy clone() => ValueCachePolicy()..mergeFromMessage(this);
+  ValueCachePolicy copyWith(void Function(ValueCachePolicy) updates) => super.copyWith((message) => updates(message as ValueCachePolicy));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ValueCachePolicy create() => ValueCachePolicy._();
+  ValueCachePolicy createEmptyInstance() => create();
+  static $pb.PbList<ValueCachePolicy> createRepeated() => $pb.PbList<ValueCachePolicy>();
+  static ValueCachePolicy getDefault() => _defaultInstance ??= create()..freeze();
+  static ValueCachePolicy _defaultInstance;
+
+  $core.int get maxEntries => $_get(0, 0);
+  set maxEntries($core.int v) { $_setUnsignedInt32(0, v); }
+  $core.bool hasMaxEntries() => $_has(0);
+  void clearMaxEntries() => clearField(1);
+
+  $fixnum.Int64 get defaultTtlMillis => $_getI64(1);
+  set defaultTtlMillis($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasDefaultTtlMillis() => $_has(1);
+  void clearDefaultTtlMillis() => clearField(2);
+
+  $core.List<ValueCacheRule> get rules => $_getList(2);
+}
+
+class ValueCacheRule extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ValueCacheRule', createEmptyInstance: create)
+    ..aOS(1, 'characteristicUuid')
+    ..a<$fixnum.Int64>(2, 'ttlMillis', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..hasRequiredFields = false
+  ;
+
+  ValueCacheRule._() : super();
+  factory ValueCacheRule() => create();
+  factory ValueCacheRule.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ValueCacheRule.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ValueCacheRule clone() => ValueCacheRule()..mergeFromMessage(this);
+  ValueCacheRule copyWith(void Function(ValueCacheRule) updates) => super.copyWith((message) => updates(message as ValueCacheRule));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ValueCacheRule create() => ValueCacheRule._();
+  ValueCacheRule createEmptyInstance() => create();
+  static $pb.PbList<ValueCacheRule> createRepeated() => $pb.PbList<ValueCacheRule>();
+  static ValueCacheRule getDefault() => _defaultInstance ??= create()..freeze();
+  static ValueCacheRule _defaultInstance;
+
+  $core.String get characteristicUuid => $_getS(0, '');
+  set characteristicUuid($core.String v) { $_setString(0, v); }
+  $core.bool hasCharacteristicUuid() => $_has(0);
+  void clearCharacteristicUuid() => clearField(1);
+
+  $fixnum.Int64 get ttlMillis => $_getI64(1);
+  set ttlMillis($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasTtlMillis() => $_has(1);
+  void clearTtlMillis() => clearField(2);
+}
+
+class ValueCacheStats extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ValueCacheStats', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..a<$fixnum.Int64>(2, 'hits', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(3, 'misses', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(4, 'evictions', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$core.int>(5, 'entries', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  ValueCacheStats._() : super();
+  factory ValueCacheStats() => create();
+  factory ValueCacheStats.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ValueCacheStats.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ValueCacheStats clone() => ValueCacheStats()..mergeFromMessage(this);
+  ValueCacheStats copyWith(void Function(ValueCacheStats) updates) => super.copyWith((message) => updates(message as ValueCacheStats));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ValueCacheStats create() => ValueCacheStats._();
+  ValueCacheStats createEmptyInstance() => create();
+  static $pb.PbList<ValueCacheStats> createRepeated() => $pb.PbList<ValueCacheStats>();
+  static ValueCacheStats getDefault() => _defaultInstance ??= create()..freeze();
+  static ValueCacheStats _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  $fixnum.Int64 get hits => $_getI64(1);
+  set hits($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasHits() => $_has(1);
+  void clearHits() => clearField(2);
+
+  $fixnum.Int64 get misses => $_getI64(2);
+  set misses($fixnum.Int64 v) { $_setInt64(2, v); }
+  $core.bool hasMisses() => $_has(2);
+  void clearMisses() => clearField(3);
+
+  $fixnum.Int64 get evictions => $_getI64(3);
+  set evictions($fixnum.Int64 v) { $_setInt64(3, v); }
+  $core.bool hasEvictions() => $_has(3);
+  void clearEvictions() => clearField(4);
+
+  $core.int get entries => $_get(4, 0);
+  set entries($core.int v) { $_setUnsignedInt32(4, v); }
+  $core.bool hasEntries() => $_has(4);
+  void clearEntries() => clearField(5);
+}
+
+class ConnectionLimits extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ConnectionLimits', createEmptyInstance: create)
+    ..a<$core.int>(1, 'maxPendingConnections', $pb.PbFieldType.OU3)
+    ..a<$core.int>(2, 'maxConnections', $pb.PbFieldType.OU3)
+    ..a<$core.int>(3, 'idleTimeoutMillis', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  ConnectionLimits._() : super();
+  factory ConnectionLimits() => create();
+  factory ConnectionLimits.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ConnectionLimits.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ConnectionLimits clone() => ConnectionLimits()..mergeFromMessage(this);
+  ConnectionLimits copyWith(void Function(ConnectionLimits) updates) => super.copyWith((message) => updates(message as ConnectionLimits));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ConnectionLimits create() => ConnectionLimits._();
+  ConnectionLimits createEmptyInstance() => create();
+  static $pb.PbList<ConnectionLimits> createRepeated() => $pb.PbList<ConnectionLimits>();
+  static ConnectionLimits getDefault() => _defaultInstance ??= create()..freeze();
+  static ConnectionLimits _defaultInstance;
+
+  $core.int get maxPendingConnections => $_get(0, 0);
+  set maxPendingConnections($core.int v) { $_setUnsignedInt32(0, v); }
+  $core.bool hasMaxPendingConnections() => $_has(0);
+  void clearMaxPendingConnections() => clearField(1);
+
+  $core.int get maxConnections => $_get(1, 0);
+  set maxConnections($core.int v) { $_setUnsignedInt32(1, v); }
+  $core.bool hasMaxConnections() => $_has(1);
+  void clearMaxConnections() => clearField(2);
+
+  $core.int get idleTimeoutMillis => $_get(2, 0);
+  set idleTimeoutMillis($core.int v) { $_setUnsignedInt32(2, v); }
+  $core.bool hasIdleTimeoutMillis() => $_has(2);
+  void clearIdleTimeoutMillis() => clearField(3);
+}
+
+class ConnectionSlotState extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ConnectionSlotState', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..e<ConnectionSlotState_State>(2, 'state', $pb.PbFieldType.OE, defaultOrMaker: ConnectionSlotState_State.IDLE, valueOf: ConnectionSlotState_State.valueOf, enumValues: ConnectionSlotState_State.values)
+    ..aInt64(3, 'idleMillis')
+    ..hasRequiredFields = false
+  ;
+
+  ConnectionSlotState._() : super();
+  factory ConnectionSlotState() => create();
+  factory ConnectionSlotState.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ConnectionSlotState.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ConnectionSlotState clone() => ConnectionSlotState()..mergeFromMessage(this);
+  ConnectionSlotState copyWith(void Function(ConnectionSlotState) updates) => super.copyWith((message) => updates(message as ConnectionSlotState));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ConnectionSlotState create() => ConnectionSlotState._();
+  ConnectionSlotState createEmptyInstance() => create();
+  static $pb.PbList<ConnectionSlotState> createRepeated() => $pb.PbList<ConnectionSlotState>();
+  static ConnectionSlotState getDefault() => _defaultInstance ??= create()..freeze();
+  static ConnectionSlotState _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  ConnectionSlotState_State get state => $_getN(1);
+  set state(ConnectionSlotState_State v) { setField(2, v); }
+  $core.bool hasState() => $_has(1);
+  void clearState() => clearField(2);
+
+  $fixnum.Int64 get idleMillis => $_getI64(2);
+  set idleMillis($fixnum.Int64 v) { $_setInt64(2, v); }
+  $core.bool hasIdleMillis() => $_has(2);
+  void clearIdleMillis() => clearField(3);
+}
+
+class ConnectionSlotsResponse extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ConnectionSlotsResponse', createEmptyInstance: create)
+    ..pc<ConnectionSlotState>(1, 'devices', $pb.PbFieldType.PM, subBuilder: ConnectionSlotState.create)
+    ..hasRequiredFields = false
+  ;
+
+  ConnectionSlotsResponse._() : super();
+  factory ConnectionSlotsResponse() => create();
+  factory ConnectionSlotsResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ConnectionSlotsResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ConnectionSlotsResponse clone() => ConnectionSlotsResponse()..mergeFromMessage(this);
+  ConnectionSlotsResponse copyWith(void Function(ConnectionSlotsResponse) updates) => super.copyWith((message) => updates(message as ConnectionSlotsResponse));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ConnectionSlotsResponse create() => ConnectionSlotsResponse._();
+  ConnectionSlotsResponse createEmptyInstance() => create();
+  static $pb.PbList<ConnectionSlotsResponse> createRepeated() => $pb.PbList<ConnectionSlotsResponse>();
+  static ConnectionSlotsResponse getDefault() => _defaultInstance ??= create()..freeze();
+  static ConnectionSlotsResponse _defaultInstance;
+
+  $core.List<ConnectionSlotState> get devices => $_getList(0);
 }
 
 class BluetoothDevice extends $pb.GeneratedMessage {
@@ -302,6 +1204,7 @@ class BluetoothCharacteristic extends $pb.GeneratedMessage {
     ..pc<BluetoothDescriptor>(5, 'descriptors', $pb.PbFieldType.PM, subBuilder: BluetoothDescriptor.create)
     ..a<CharacteristicProperties>(6, 'properties', $pb.PbFieldType.OM, defaultOrMaker: CharacteristicProperties.getDefault, subBuilder: CharacteristicProperties.create)
     ..a<$core.List<$core.int>>(7, 'value', $pb.PbFieldType.OY)
+    ..a<$core.int>(8, 'handle', $pb.PbFieldType.O3)
     ..hasRequiredFields = false
   ;
 
@@ -350,6 +1253,11 @@ class BluetoothCharacteristic extends $pb.GeneratedMessage {
   set value($core.List<$core.int> v) { $_setBytes(6, v); }
   $core.bool hasValue() => $_has(6);
   void clearValue() => clearField(7);
+
+  $core.int get handle => $_get(7, 0);
+  set handle($core.int v) { $_setSignedInt32(7, v); }
+  $core.bool hasHandle() => $_has(7);
+  void clearHandle() => clearField(8);
 }
 
 class BluetoothDescriptor extends $pb.GeneratedMessage {
@@ -511,12 +1419,55 @@ class DiscoverServicesResult extends $pb.GeneratedMessage {
   $core.List<BluetoothService> get services => $_getList(1);
 }
 
+class ServicesDiff extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ServicesDiff', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..pc<BluetoothService>(2, 'added', $pb.PbFieldType.PM, subBuilder: BluetoothService.create)
+    ..pc<BluetoothService>(3, 'removed', $pb.PbFieldType.PM, subBuilder: BluetoothService.create)
+    ..pc<BluetoothService>(4, 'changed', $pb.PbFieldType.PM, subBuilder: BluetoothService.create)
+    ..aOS(5, 'error')
+    ..hasRequiredFields = false
+  ;
+
+  ServicesDiff._() : super();
+  factory ServicesDiff() => create();
+  factory ServicesDiff.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ServicesDiff.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ServicesDiff clone() => ServicesDiff()..mergeFromMessage(this);
+  ServicesDiff copyWith(void Function(ServicesDiff) updates) => super.copyWith((message) => updates(message as ServicesDiff));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ServicesDiff create() => ServicesDiff._();
+  ServicesDiff createEmptyInstance() => create();
+  static $pb.PbList<ServicesDiff> createRepeated() => $pb.PbList<ServicesDiff>();
+  static ServicesDiff getDefault() => _defaultInstance ??= create()..freeze();
+  static ServicesDiff _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  $core.List<BluetoothService> get added => $_getList(1);
+
+  $core.List<BluetoothService> get removed => $_getList(2);
+
+  $core.List<BluetoothService> get changed => $_getList(3);
+
+  $core.String get error => $_getS(4, '');
+  set error($core.String v) { $_setString(4, v); }
+  $core.bool hasError() => $_has(4);
+  void clearError() => clearField(5);
+}
+
 class ReadCharacteristicRequest extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo('ReadCharacteristicRequest', createEmptyInstance: create)
     ..aOS(1, 'remoteId')
     ..aOS(2, 'characteristicUuid')
     ..aOS(3, 'serviceUuid')
     ..aOS(4, 'secondaryServiceUuid')
+    ..a<$core.int>(5, 'characteristicHandle', $pb.PbFieldType.O3)
+    ..aOB(6, 'bypassCache')
     ..hasRequiredFields = false
   ;
 
@@ -553,12 +1504,23 @@ class ReadCharacteristicRequest extends $pb.GeneratedMessage {
   set secondaryServiceUuid($core.String v) { $_setString(3, v); }
   $core.bool hasSecondaryServiceUuid() => $_has(3);
   void clearSecondaryServiceUuid() => clearField(4);
+
+  $core.int get characteristicHandle => $_get(4, 0);
+  set characteristicHandle($core.int v) { $_setSignedInt32(4, v); }
+  $core.bool hasCharacteristicHandle() => $_has(4);
+  void clearCharacteristicHandle() => clearField(5);
+
+  $core.bool get bypassCache => $_get(5, false);
+  set bypassCache($core.bool v) { $_setBool(5, v); }
+  $core.bool hasBypassCache() => $_has(5);
+  void clearBypassCache() => clearField(6);
 }
 
 class ReadCharacteristicResponse extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo('ReadCharacteristicResponse', createEmptyInstance: create)
     ..aOS(1, 'remoteId')
     ..a<BluetoothCharacteristic>(2, 'characteristic', $pb.PbFieldType.OM, defaultOrMaker: BluetoothCharacteristic.getDefault, subBuilder: BluetoothCharacteristic.create)
+    ..aOS(3, 'error')
     ..hasRequiredFields = false
   ;
 
@@ -585,6 +1547,11 @@ class ReadCharacteristicResponse extends $pb.GeneratedMessage {
   set characteristic(BluetoothCharacteristic v) { setField(2, v); }
   $core.bool hasCharacteristic() => $_has(1);
   void clearCharacteristic() => clearField(2);
+
+  $core.String get error => $_getS(2, '');
+  set error($core.String v) { $_setString(2, v); }
+  $core.bool hasError() => $_has(2);
+  void clearError() => clearField(3);
 }
 
 class ReadDescriptorRequest extends $pb.GeneratedMessage {
@@ -594,6 +1561,7 @@ class ReadDescriptorRequest extends $pb.GeneratedMessage {
     ..aOS(3, 'serviceUuid')
     ..aOS(4, 'secondaryServiceUuid')
     ..aOS(5, 'characteristicUuid')
+    ..a<$core.int>(6, 'characteristicHandle', $pb.PbFieldType.O3)
     ..hasRequiredFields = false
   ;
 
@@ -635,12 +1603,18 @@ class ReadDescriptorRequest extends $pb.GeneratedMessage {
   set characteristicUuid($core.String v) { $_setString(4, v); }
   $core.bool hasCharacteristicUuid() => $_has(4);
   void clearCharacteristicUuid() => clearField(5);
+
+  $core.int get characteristicHandle => $_get(5, 0);
+  set characteristicHandle($core.int v) { $_setSignedInt32(5, v); }
+  $core.bool hasCharacteristicHandle() => $_has(5);
+  void clearCharacteristicHandle() => clearField(6);
 }
 
 class ReadDescriptorResponse extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo('ReadDescriptorResponse', createEmptyInstance: create)
     ..a<ReadDescriptorRequest>(1, 'request', $pb.PbFieldType.OM, defaultOrMaker: ReadDescriptorRequest.getDefault, subBuilder: ReadDescriptorRequest.create)
     ..a<$core.List<$core.int>>(2, 'value', $pb.PbFieldType.OY)
+    ..aOS(3, 'error')
     ..hasRequiredFields = false
   ;
 
@@ -667,6 +1641,11 @@ class ReadDescriptorResponse extends $pb.GeneratedMessage {
   set value($core.List<$core.int> v) { $_setBytes(1, v); }
   $core.bool hasValue() => $_has(1);
   void clearValue() => clearField(2);
+
+  $core.String get error => $_getS(2, '');
+  set error($core.String v) { $_setString(2, v); }
+  $core.bool hasError() => $_has(2);
+  void clearError() => clearField(3);
 }
 
 class WriteCharacteristicRequest extends $pb.GeneratedMessage {
@@ -677,6 +1656,7 @@ class WriteCharacteristicRequest extends $pb.GeneratedMessage {
     ..aOS(4, 'secondaryServiceUuid')
     ..e<WriteCharacteristicRequest_WriteType>(5, 'writeType', $pb.PbFieldType.OE, defaultOrMaker: WriteCharacteristicRequest_WriteType.WITH_RESPONSE, valueOf: WriteCharacteristicRequest_WriteType.valueOf, enumValues: WriteCharacteristicRequest_WriteType.values)
     ..a<$core.List<$core.int>>(6, 'value', $pb.PbFieldType.OY)
+    ..a<$core.int>(7, 'characteristicHandle', $pb.PbFieldType.O3)
     ..hasRequiredFields = false
   ;
 
@@ -723,6 +1703,11 @@ class WriteCharacteristicRequest extends $pb.GeneratedMessage {
   set value($core.List<$core.int> v) { $_setBytes(5, v); }
   $core.bool hasValue() => $_has(5);
   void clearValue() => clearField(6);
+
+  $core.int get characteristicHandle => $_get(6, 0);
+  set characteristicHandle($core.int v) { $_setSignedInt32(6, v); }
+  $core.bool hasCharacteristicHandle() => $_has(6);
+  void clearCharacteristicHandle() => clearField(7);
 }
 
 class WriteCharacteristicResponse extends $pb.GeneratedMessage {
@@ -757,6 +1742,415 @@ class WriteCharacteristicResponse extends $pb.GeneratedMessage {
   void clearSuccess() => clearField(2);
 }
 
+class ReadCharacteristicsRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ReadCharacteristicsRequest', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..pc<ReadCharacteristicRequest>(2, 'requests', $pb.PbFieldType.PM, subBuilder: ReadCharacteristicRequest.create)
+    ..hasRequiredFields = false
+  ;
+
+  ReadCharacteristicsRequest._() : super();
+  factory ReadCharacteristicsRequest() => create();
+  factory ReadCharacteristicsRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReadCharacteristicsRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ReadCharacteristicsRequest clone() => ReadCharacteristicsRequest()..mergeFromMessage(this);
+  ReadCharacteristicsRequest copyWith(void Function(ReadCharacteristicsRequest) updates) => super.copyWith((message) => updates(message as ReadCharacteristicsRequest));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ReadCharacteristicsRequest create() => ReadCharacteristicsRequest._();
+  ReadCharacteristicsRequest createEmptyInstance() => create();
+  static $pb.PbList<ReadCharacteristicsRequest> createRepeated() => $pb.PbList<ReadCharacteristicsRequest>();
+  static ReadCharacteristicsRequest getDefault() => _defaultInstance ??= create()..freeze();
+  static ReadCharacteristicsRequest _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  $core.List<ReadCharacteristicRequest> get requests => $_getList(1);
+}
+
+class WriteCharacteristicsRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('WriteCharacteristicsRequest', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..pc<WriteCharacteristicRequest>(2, 'requests', $pb.PbFieldType.PM, subBuilder: WriteCharacteristicRequest.create)
+    ..hasRequiredFields = false
+  ;
+
+  WriteCharacteristicsRequest._() : super();
+  factory WriteCharacteristicsRequest() => create();
+  factory WriteCharacteristicsRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory WriteCharacteristicsRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  WriteCharacteristicsRequest clone() => WriteCharacteristicsRequest()..mergeFromMessage(this);
+  WriteCharacteristicsRequest copyWith(void Function(WriteCharacteristicsRequest) updates) => super.copyWith((message) => updates(message as WriteCharacteristicsRequest));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static WriteCharacteristicsRequest create() => WriteCharacteristicsRequest._();
+  WriteCharacteristicsRequest createEmptyInstance() => create();
+  static $pb.PbList<WriteCharacteristicsRequest> createRepeated() => $pb.PbList<WriteCharacteristicsRequest>();
+  static WriteCharacteristicsRequest getDefault() => _defaultInstance ??= create()..freeze();
+  static WriteCharacteristicsRequest _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  $core.List<WriteCharacteristicRequest> get requests => $_getList(1);
+}
+
+class CharacteristicBatchResult extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('CharacteristicBatchResult', createEmptyInstance: create)
+    ..aOS(1, 'characteristicUuid')
+    ..a<$core.int>(2, 'characteristicHandle', $pb.PbFieldType.O3)
+    ..aOB(3, 'success')
+    ..a<$core.int>(4, 'gattStatus', $pb.PbFieldType.O3)
+    ..aOS(5, 'error')
+    ..a<$core.List<$core.int>>(6, 'value', $pb.PbFieldType.OY)
+    ..hasRequiredFields = false
+  ;
+
+  CharacteristicBatchResult._() : super();
+  factory CharacteristicBatchResult() => create();
+  factory CharacteristicBatchResult.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory CharacteristicBatchResult.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  CharacteristicBatchResult clone() => CharacteristicBatchResult()..mergeFromMessage(this);
+  CharacteristicBatchResult copyWith(void Function(CharacteristicBatchResult) updates) => super.copyWith((message) => updates(message as CharacteristicBatchResult));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static CharacteristicBatchResult create() => CharacteristicBatchResult._();
+  CharacteristicBatchResult createEmptyInstance() => create();
+  static $pb.PbList<CharacteristicBatchResult> createRepeated() => $pb.PbList<CharacteristicBatchResult>();
+  static CharacteristicBatchResult getDefault() => _defaultInstance ??= create()..freeze();
+  static CharacteristicBatchResult _defaultInstance;
+
+  $core.String get characteristicUuid => $_getS(0, '');
+  set characteristicUuid($core.String v) { $_setString(0, v); }
+  $core.bool hasCharacteristicUuid() => $_has(0);
+  void clearCharacteristicUuid() => clearField(1);
+
+  $core.int get characteristicHandle => $_get(1, 0);
+  set characteristicHandle($core.int v) { $_setSignedInt32(1, v); }
+  $core.bool hasCharacteristicHandle() => $_has(1);
+  void clearCharacteristicHandle() => clearField(2);
+
+  $core.bool get success => $_get(2, false);
+  set success($core.bool v) { $_setBool(2, v); }
+  $core.bool hasSuccess() => $_has(2);
+  void clearSuccess() => clearField(3);
+
+  $core.int get gattStatus => $_get(3, 0);
+  set gattStatus($core.int v) { $_setSignedInt32(3, v); }
+  $core.bool hasGattStatus() => $_has(3);
+  void clearGattStatus() => clearField(4);
+
+  $core.String get error => $_getS(4, '');
+  set error($core.String v) { $_setString(4, v); }
+  $core.bool hasError() => $_has(4);
+  void clearError() => clearField(5);
+
+  $core.List<$core.int> get value => $_getN(5);
+  set value($core.List<$core.int> v) { $_setBytes(5, v); }
+  $core.bool hasValue() => $_has(5);
+  void clearValue() => clearField(6);
+}
+
+class CharacteristicBatchResponse extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('CharacteristicBatchResponse', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..pc<CharacteristicBatchResult>(2, 'results', $pb.PbFieldType.PM, subBuilder: CharacteristicBatchResult.create)
+    ..hasRequiredFields = false
+  ;
+
+  CharacteristicBatchResponse._() : super();
+  factory CharacteristicBatchResponse() => create();
+  factory CharacteristicBatchResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory CharacteristicBatchResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  CharacteristicBatchResponse clone() => CharacteristicBatchResponse()..mergeFromMessage(this);
+  CharacteristicBatchResponse copyWith(void Function(CharacteristicBatchResponse) updates) => super.copyWith((message) => updates(message as CharacteristicBatchResponse));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static CharacteristicBatchResponse create() => CharacteristicBatchResponse._();
+  CharacteristicBatchResponse createEmptyInstance() => create();
+  static $pb.PbList<CharacteristicBatchResponse> createRepeated() => $pb.PbList<CharacteristicBatchResponse>();
+  static CharacteristicBatchResponse getDefault() => _defaultInstance ??= create()..freeze();
+  static CharacteristicBatchResponse _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  $core.List<CharacteristicBatchResult> get results => $_getList(1);
+}
+
+class FanOutReadRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('FanOutReadRequest', createEmptyInstance: create)
+    ..pPS(1, 'remoteIds')
+    ..a<ReadCharacteristicRequest>(2, 'request', $pb.PbFieldType.OM, defaultOrMaker: ReadCharacteristicRequest.getDefault, subBuilder: ReadCharacteristicRequest.create)
+    ..hasRequiredFields = false
+  ;
+
+  FanOutReadRequest._() : super();
+  factory FanOutReadRequest() => create();
+  factory FanOutReadRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory FanOutReadRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  FanOutReadRequest clone() => FanOutReadRequest()..mergeFromMessage(this);
+  FanOutReadRequest copyWith(void Function(FanOutReadRequest) updates) => super.copyWith((message) => updates(message as FanOutReadRequest));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static FanOutReadRequest create() => FanOutReadRequest._();
+  FanOutReadRequest createEmptyInstance() => create();
+  static $pb.PbList<FanOutReadRequest> createRepeated() => $pb.PbList<FanOutReadRequest>();
+  static FanOutReadRequest getDefault() => _defaultInstance ??= create()..freeze();
+  static FanOutReadRequest _defaultInstance;
+
+  $core.List<$core.String> get remoteIds => $_getList(0);
+
+  ReadCharacteristicRequest get request => $_getN(1);
+  set request(ReadCharacteristicRequest v) { setField(2, v); }
+  $core.bool hasRequest() => $_has(1);
+  void clearRequest() => clearField(2);
+}
+
+class FanOutWriteRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('FanOutWriteRequest', createEmptyInstance: create)
+    ..pPS(1, 'remoteIds')
+    ..a<WriteCharacteristicRequest>(2, 'request', $pb.PbFieldType.OM, defaultOrMaker: WriteCharacteristicRequest.getDefault, subBuilder: WriteCharacteristicRequest.create)
+    ..hasRequiredFields = false
+  ;
+
+  FanOutWriteRequest._() : super();
+  factory FanOutWriteRequest() => create();
+  factory FanOutWriteRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory FanOutWriteRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  FanOutWriteRequest clone() => FanOutWriteRequest()..mergeFromMessage(this);
+  FanOutWriteRequest copyWith(void Function(FanOutWriteRequest) updates) => super.copyWith((message) => updates(message as FanOutWriteRequest));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static FanOutWriteRequest create() => FanOutWriteRequest._();
+  FanOutWriteRequest createEmptyInstance() => create();
+  static $pb.PbList<FanOutWriteRequest> createRepeated() => $pb.PbList<FanOutWriteRequest>();
+  static FanOutWriteRequest getDefault() => _defaultInstance ??= create()..freeze();
+  static FanOutWriteRequest _defaultInstance;
+
+  $core.List<$core.String> get remoteIds => $_getList(0);
+
+  WriteCharacteristicRequest get request => $_getN(1);
+  set request(WriteCharacteristicRequest v) { setField(2, v); }
+  $core.bool hasRequest() => $_has(1);
+  void clearRequest() => clearField(2);
+}
+
+class FanOutSetNotificationRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('FanOutSetNotificationRequest', createEmptyInstance: create)
+    ..pPS(1, 'remoteIds')
+    ..a<SetNotificationRequest>(2, 'request', $pb.PbFieldType.OM, defaultOrMaker: SetNotificationRequest.getDefault, subBuilder: SetNotificationRequest.create)
+    ..hasRequiredFields = false
+  ;
+
+  FanOutSetNotificationRequest._() : super();
+  factory FanOutSetNotificationRequest() => create();
+  factory FanOutSetNotificationRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory FanOutSetNotificationRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  FanOutSetNotificationRequest clone() => FanOutSetNotificationRequest()..mergeFromMessage(this);
+  FanOutSetNotificationRequest copyWith(void Function(FanOutSetNotificationRequest) updates) => super.copyWith((message) => updates(message as FanOutSetNotificationRequest));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static FanOutSetNotificationRequest create() => FanOutSetNotificationRequest._();
+  FanOutSetNotificationRequest createEmptyInstance() => create();
+  static $pb.PbList<FanOutSetNotificationRequest> createRepeated() => $pb.PbList<FanOutSetNotificationRequest>();
+  static FanOutSetNotificationRequest getDefault() => _defaultInstance ??= create()..freeze();
+  static FanOutSetNotificationRequest _defaultInstance;
+
+  $core.List<$core.String> get remoteIds => $_getList(0);
+
+  SetNotificationRequest get request => $_getN(1);
+  set request(SetNotificationRequest v) { setField(2, v); }
+  $core.bool hasRequest() => $_has(1);
+  void clearRequest() => clearField(2);
+}
+
+class FanOutResult extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('FanOutResult', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..aOB(2, 'success')
+    ..a<$core.int>(3, 'gattStatus', $pb.PbFieldType.O3)
+    ..aOS(4, 'error')
+    ..a<$core.List<$core.int>>(5, 'value', $pb.PbFieldType.OY)
+    ..a<$fixnum.Int64>(6, 'latencyMicros', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..hasRequiredFields = false
+  ;
+
+  FanOutResult._() : super();
+  factory FanOutResult() => create();
+  factory FanOutResult.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory FanOutResult.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  FanOutResult clone() => FanOutResult()..mergeFromMessage(this);
+  FanOutResult copyWith(void Function(FanOutResult) updates) => super.copyWith((message) => updates(message as FanOutResult));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static FanOutResult create() => FanOutResult._();
+  FanOutResult createEmptyInstance() => create();
+  static $pb.PbList<FanOutResult> createRepeated() => $pb.PbList<FanOutResult>();
+  static FanOutResult getDefault() => _defaultInstance ??= create()..freeze();
+  static FanOutResult _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  $core.bool get success => $_get(1, false);
+  set success($core.bool v) { $_setBool(1, v); }
+  $core.bool hasSuccess() => $_has(1);
+  void clearSuccess() => clearField(2);
+
+  $core.int get gattStatus => $_get(2, 0);
+  set gattStatus($core.int v) { $_setSignedInt32(2, v); }
+  $core.bool hasGattStatus() => $_has(2);
+  void clearGattStatus() => clearField(3);
+
+  $core.String get error => $_getS(3, '');
+  set error($core.String v) { $_setString(3, v); }
+  $core.bool hasError() => $_has(3);
+  void clearError() => clearField(4);
+
+  $core.List<$core.int> get value => $_getN(4);
+  set value($core.List<$core.int> v) { $_setBytes(4, v); }
+  $core.bool hasValue() => $_has(4);
+  void clearValue() => clearField(5);
+
+  $fixnum.Int64 get latencyMicros => $_getI64(5);
+  set latencyMicros($fixnum.Int64 v) { $_setInt64(5, v); }
+  $core.bool hasLatencyMicros() => $_has(5);
+  void clearLatencyMicros() => clearField(6);
+}
+
+class FanOutResponse extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('FanOutResponse', createEmptyInstance: create)
+    ..pc<FanOutResult>(1, 'results', $pb.PbFieldType.PM, subBuilder: FanOutResult.create)
+    ..hasRequiredFields = false
+  ;
+
+  FanOutResponse._() : super();
+  factory FanOutResponse() => create();
+  factory FanOutResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory FanOutResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  FanOutResponse clone() => FanOutResponse()..mergeFromMessage(this);
+  FanOutResponse copyWith(void Function(FanOutResponse) updates) => super.copyWith((message) => updates(message as FanOutResponse));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static FanOutResponse create() => FanOutResponse._();
+  FanOutResponse createEmptyInstance() => create();
+  static $pb.PbList<FanOutResponse> createRepeated() => $pb.PbList<FanOutResponse>();
+  static FanOutResponse getDefault() => _defaultInstance ??= create()..freeze();
+  static FanOutResponse _defaultInstance;
+
+  $core.List<FanOutResult> get results => $_getList(0);
+}
+
+class BulkWriteRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('BulkWriteRequest', createEmptyInstance: create)
+    ..a<WriteCharacteristicRequest>(1, 'request', $pb.PbFieldType.OM, defaultOrMaker: WriteCharacteristicRequest.getDefault, subBuilder: WriteCharacteristicRequest.create)
+    ..a<$core.int>(2, 'progressInterval', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  BulkWriteRequest._() : super();
+  factory BulkWriteRequest() => create();
+  factory BulkWriteRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory BulkWriteRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  BulkWriteRequest clone() => BulkWriteRequest()..mergeFromMessage(this);
+  BulkWriteRequest copyWith(void Function(BulkWriteRequest) updates) => super.copyWith((message) => updates(message as BulkWriteRequest));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static BulkWriteRequest create() => BulkWriteRequest._();
+  BulkWriteRequest createEmptyInstance() => create();
+  static $pb.PbList<BulkWriteRequest> createRepeated() => $pb.PbList<BulkWriteRequest>();
+  static BulkWriteRequest getDefault() => _defaultInstance ??= create()..freeze();
+  static BulkWriteRequest _defaultInstance;
+
+  WriteCharacteristicRequest get request => $_getN(0);
+  set request(WriteCharacteristicRequest v) { setField(1, v); }
+  $core.bool hasRequest() => $_has(0);
+  void clearRequest() => clearField(1);
+
+  $core.int get progressInterval => $_get(1, 0);
+  set progressInterval($core.int v) { $_setUnsignedInt32(1, v); }
+  $core.bool hasProgressInterval() => $_has(1);
+  void clearProgressInterval() => clearField(2);
+}
+
+class BulkWriteProgress extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('BulkWriteProgress', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..aOS(2, 'characteristicUuid')
+    ..a<$core.int>(3, 'characteristicHandle', $pb.PbFieldType.O3)
+    ..a<$core.int>(4, 'bytesWritten', $pb.PbFieldType.OU3)
+    ..a<$core.int>(5, 'totalBytes', $pb.PbFieldType.OU3)
+    ..a<$core.int>(6, 'bytesPerSecond', $pb.PbFieldType.OU3)
+    ..aOB(7, 'done')
+    ..aOB(8, 'success')
+    ..hasRequiredFields = false
+  ;
+
+  BulkWriteProgress._() : super();
+  factory BulkWriteProgress() => create();
+  factory BulkWriteProgress.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory BulkWriteProgress.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  BulkWriteProgress clone() => BulkWriteProgress()..mergeFromMessage(this);
+  BulkWriteProgress copyWith(void Function(BulkWriteProgress) updates) => super.copyWith((message) => updates(message as BulkWriteProgress));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static BulkWriteProgress create() => BulkWriteProgress._();
+  BulkWriteProgress createEmptyInstance() => create();
+  static $pb.PbList<BulkWriteProgress> createRepeated() => $pb.PbList<BulkWriteProgress>();
+  static BulkWriteProgress getDefault() => _defaultInstance ??= create()..freeze();
+  static BulkWriteProgress _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  $core.String get characteristicUuid => $_getS(1, '');
+  set characteristicUuid($core.String v) { $_setString(1, v); }
+  $core.bool hasCharacteristicUuid() => $_has(1);
+  void clearCharacteristicUuid() => clearField(2);
+
+  $core.int get characteristicHandle => $_get(2, 0);
+  set characteristicHandle($core.int v) { $_setSignedInt32(2, v); }
+  $core.bool hasCharacteristicHandle() => $_has(2);
+  void clearCharacteristicHandle() => clearField(3);
+
+  $core.int get bytesWritten => $_get(3, 0);
+  set bytesWritten($core.int v) { $_setUnsignedInt32(3, v); }
+  $core.bool hasBytesWritten() => $_has(3);
+  void clearBytesWritten() => clearField(4);
+
+  $core.int get totalBytes => $_get(4, 0);
+  set totalBytes($core.int v) { $_setUnsignedInt32(4, v); }
+  $core.bool hasTotalBytes() => $_has(4);
+  void clearTotalBytes() => clearField(5);
+
+  $core.int get bytesPerSecond => $_get(5, 0);
+  set bytesPerSecond($core.int v) { $_setUnsignedInt32(5, v); }
+  $core.bool hasBytesPerSecond() => $_has(5);
+  void clearBytesPerSecond() => clearField(6);
+
+  $core.bool get done => $_get(6, false);
+  set done($core.bool v) { $_setBool(6, v); }
+  $core.bool hasDone() => $_has(6);
+  void clearDone() => clearField(7);
+
+  $core.bool get success => $_get(7, false);
+  set success($core.bool v) { $_setBool(7, v); }
+  $core.bool hasSuccess() => $_has(7);
+  void clearSuccess() => clearField(8);
+}
+
 class WriteDescriptorRequest extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo('WriteDescriptorRequest', createEmptyInstance: create)
     ..aOS(1, 'remoteId')
@@ -765,6 +2159,7 @@ class WriteDescriptorRequest extends $pb.GeneratedMessage {
     ..aOS(4, 'secondaryServiceUuid')
     ..aOS(5, 'characteristicUuid')
     ..a<$core.List<$core.int>>(6, 'value', $pb.PbFieldType.OY)
+    ..a<$core.int>(7, 'characteristicHandle', $pb.PbFieldType.O3)
     ..hasRequiredFields = false
   ;
 
@@ -811,6 +2206,11 @@ class WriteDescriptorRequest extends $pb.GeneratedMessage {
   set value($core.List<$core.int> v) { $_setBytes(5, v); }
   $core.bool hasValue() => $_has(5);
   void clearValue() => clearField(6);
+
+  $core.int get characteristicHandle => $_get(6, 0);
+  set characteristicHandle($core.int v) { $_setSignedInt32(6, v); }
+  $core.bool hasCharacteristicHandle() => $_has(6);
+  void clearCharacteristicHandle() => clearField(7);
 }
 
 class WriteDescriptorResponse extends $pb.GeneratedMessage {
@@ -852,6 +2252,8 @@ class SetNotificationRequest extends $pb.GeneratedMessage {
     ..aOS(3, 'secondaryServiceUuid')
     ..aOS(4, 'characteristicUuid')
     ..aOB(5, 'enable')
+    ..a<$core.int>(6, 'characteristicHandle', $pb.PbFieldType.O3)
+    ..aOB(7, 'compact')
     ..hasRequiredFields = false
   ;
 
@@ -893,6 +2295,16 @@ class SetNotificationRequest extends $pb.GeneratedMessage {
   set enable($core.bool v) { $_setBool(4, v); }
   $core.bool hasEnable() => $_has(4);
   void clearEnable() => clearField(5);
+
+  $core.int get characteristicHandle => $_get(5, 0);
+  set characteristicHandle($core.int v) { $_setSignedInt32(5, v); }
+  $core.bool hasCharacteristicHandle() => $_has(5);
+  void clearCharacteristicHandle() => clearField(6);
+
+  $core.bool get compact => $_get(6, false);
+  set compact($core.bool v) { $_setBool(6, v); }
+  $core.bool hasCompact() => $_has(6);
+  void clearCompact() => clearField(7);
 }
 
 class SetNotificationResponse extends $pb.GeneratedMessage {
@@ -965,6 +2377,112 @@ class OnCharacteristicChanged extends $pb.GeneratedMessage {
   void clearCharacteristic() => clearField(2);
 }
 
+class OnCharacteristicValue extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('OnCharacteristicValue', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..a<$core.int>(2, 'characteristicHandle', $pb.PbFieldType.O3)
+    ..aOS(3, 'characteristicUuid')
+    ..aOS(4, 'serviceUuid')
+    ..aOS(5, 'secondaryServiceUuid')
+    ..a<$core.List<$core.int>>(6, 'value', $pb.PbFieldType.OY)
+    ..aInt64(7, 'timestampMillis')
+    ..hasRequiredFields = false
+  ;
+
+  OnCharacteristicValue._() : super();
+  factory OnCharacteristicValue() => create();
+  factory OnCharacteristicValue.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory OnCharacteristicValue.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  OnCharacteristicValue clone() => OnCharacteristicValue()..mergeFromMessage(this);
+  OnCharacteristicValue copyWith(void Function(OnCharacteristicValue) updates) => super.copyWith((message) => updates(message as OnCharacteristicValue));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static OnCharacteristicValue create() => OnCharacteristicValue._();
+  OnCharacteristicValue createEmptyInstance() => create();
+  static $pb.PbList<OnCharacteristicValue> createRepeated() => $pb.PbList<OnCharacteristicValue>();
+  static OnCharacteristicValue getDefault() => _defaultInstance ??= create()..freeze();
+  static OnCharacteristicValue _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  $core.int get characteristicHandle => $_get(1, 0);
+  set characteristicHandle($core.int v) { $_setSignedInt32(1, v); }
+  $core.bool hasCharacteristicHandle() => $_has(1);
+  void clearCharacteristicHandle() => clearField(2);
+
+  $core.String get characteristicUuid => $_getS(2, '');
+  set characteristicUuid($core.String v) { $_setString(2, v); }
+  $core.bool hasCharacteristicUuid() => $_has(2);
+  void clearCharacteristicUuid() => clearField(3);
+
+  $core.String get serviceUuid => $_getS(3, '');
+  set serviceUuid($core.String v) { $_setString(3, v); }
+  $core.bool hasServiceUuid() => $_has(3);
+  void clearServiceUuid() => clearField(4);
+
+  $core.String get secondaryServiceUuid => $_getS(4, '');
+  set secondaryServiceUuid($core.String v) { $_setString(4, v); }
+  $core.bool hasSecondaryServiceUuid() => $_has(4);
+  void clearSecondaryServiceUuid() => clearField(5);
+
+  $core.List<$core.int> get value => $_getN(5);
+  set value($core.List<$core.int> v) { $_setBytes(5, v); }
+  $core.bool hasValue() => $_has(5);
+  void clearValue() => clearField(6);
+
+  $fixnum.Int64 get timestampMillis => $_getI64(6);
+  set timestampMillis($fixnum.Int64 v) { $_setInt64(6, v); }
+  $core.bool hasTimestampMillis() => $_has(6);
+  void clearTimestampMillis() => clearField(7);
+}
+
+class NotificationStats extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('NotificationStats', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..a<$fixnum.Int64>(2, 'delivered', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(3, 'dropped', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$core.int>(4, 'buffered', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  NotificationStats._() : super();
+  factory NotificationStats() => create();
+  factory NotificationStats.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory NotificationStats.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  NotificationStats clone() => NotificationStats()..mergeFromMessage(this);
+  NotificationStats copyWith(void Function(NotificationStats) updates) => super.copyWith((message) => updates(message as NotificationStats));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static NotificationStats create() => NotificationStats._();
+  NotificationStats createEmptyInstance() => create();
+  static $pb.PbList<NotificationStats> createRepeated() => $pb.PbList<NotificationStats>();
+  static NotificationStats getDefault() => _defaultInstance ??= create()..freeze();
+  static NotificationStats _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  $fixnum.Int64 get delivered => $_getI64(1);
+  set delivered($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasDelivered() => $_has(1);
+  void clearDelivered() => clearField(2);
+
+  $fixnum.Int64 get dropped => $_getI64(2);
+  set dropped($fixnum.Int64 v) { $_setInt64(2, v); }
+  $core.bool hasDropped() => $_has(2);
+  void clearDropped() => clearField(3);
+
+  $core.int get buffered => $_get(3, 0);
+  set buffered($core.int v) { $_setUnsignedInt32(3, v); }
+  $core.bool hasBuffered() => $_has(3);
+  void clearBuffered() => clearField(4);
+}
+
 class DeviceStateResponse extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo('DeviceStateResponse', createEmptyInstance: create)
     ..aOS(1, 'remoteId')
@@ -1084,3 +2602,299 @@ class MtuSizeResponse extends $pb.GeneratedMessage {
   void clearMtu() => clearField(2);
 }
 
+class PipelineStage extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('PipelineStage', createEmptyInstance: create)
+    ..aOS(1, 'name')
+    ..a<$fixnum.Int64>(2, 'count', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(3, 'totalMicros', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(4, 'maxMicros', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..hasRequiredFields = false
+  ;
+
+  PipelineStage._() : super();
+  factory PipelineStage() => create();
+  factory PipelineStage.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory PipelineStage.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  PipelineStage clone() => PipelineStage()..mergeFromMessage(this);
+  PipelineStage copyWith(void Function(PipelineStage) updates) => super.copyWith((message) => updates(message as PipelineStage));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static PipelineStage create() => PipelineStage._();
+  PipelineStage createEmptyInstance() => create();
+  static $pb.PbList<PipelineStage> createRepeated() => $pb.PbList<PipelineStage>();
+  static PipelineStage getDefault() => _defaultInstance ??= create()..freeze();
+  static PipelineStage _defaultInstance;
+
+  $core.String get name => $_getS(0, '');
+  set name($core.String v) { $_setString(0, v); }
+  $core.bool hasName() => $_has(0);
+  void clearName() => clearField(1);
+
+  $fixnum.Int64 get count => $_getI64(1);
+  set count($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasCount() => $_has(1);
+  void clearCount() => clearField(2);
+
+  $fixnum.Int64 get totalMicros => $_getI64(2);
+  set totalMicros($fixnum.Int64 v) { $_setInt64(2, v); }
+  $core.bool hasTotalMicros() => $_has(2);
+  void clearTotalMicros() => clearField(3);
+
+  $fixnum.Int64 get maxMicros => $_getI64(3);
+  set maxMicros($fixnum.Int64 v) { $_setInt64(3, v); }
+  $core.bool hasMaxMicros() => $_has(3);
+  void clearMaxMicros() => clearField(4);
+}
+
+class PipelineStats extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('PipelineStats', createEmptyInstance: create)
+    ..pc<PipelineStage>(1, 'stages', $pb.PbFieldType.PM, subBuilder: PipelineStage.create)
+    ..a<$core.int>(2, 'pendingTasks', $pb.PbFieldType.OU3)
+    ..a<$core.int>(3, 'pendingMessages', $pb.PbFieldType.OU3)
+    ..a<$core.int>(4, 'maxPendingTasks', $pb.PbFieldType.OU3)
+    ..a<$core.int>(5, 'maxPendingMessages', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  PipelineStats._() : super();
+  factory PipelineStats() => create();
+  factory PipelineStats.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory PipelineStats.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  PipelineStats clone() => PipelineStats()..mergeFromMessage(this);
+  PipelineStats copyWith(void Function(PipelineStats) updates) => super.copyWith((message) => updates(message as PipelineStats));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static PipelineStats create() => PipelineStats._();
+  PipelineStats createEmptyInstance() => create();
+  static $pb.PbList<PipelineStats> createRepeated() => $pb.PbList<PipelineStats>();
+  static PipelineStats getDefault() => _defaultInstance ??= create()..freeze();
+  static PipelineStats _defaultInstance;
+
+  $core.List<PipelineStage> get stages => $_getList(0);
+
+  $core.int get pendingTasks => $_get(1, 0);
+  set pendingTasks($core.int v) { $_setUnsignedInt32(1, v); }
+  $core.bool hasPendingTasks() => $_has(1);
+  void clearPendingTasks() => clearField(2);
+
+  $core.int get pendingMessages => $_get(2, 0);
+  set pendingMessages($core.int v) { $_setUnsignedInt32(2, v); }
+  $core.bool hasPendingMessages() => $_has(2);
+  void clearPendingMessages() => clearField(3);
+
+  $core.int get maxPendingTasks => $_get(3, 0);
+  set maxPendingTasks($core.int v) { $_setUnsignedInt32(3, v); }
+  $core.bool hasMaxPendingTasks() => $_has(3);
+  void clearMaxPendingTasks() => clearField(4);
+
+  $core.int get maxPendingMessages => $_get(4, 0);
+  set maxPendingMessages($core.int v) { $_setUnsignedInt32(4, v); }
+  $core.bool hasMaxPendingMessages() => $_has(4);
+  void clearMaxPendingMessages() => clearField(5);
+}
+
+class HistogramBucket extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('HistogramBucket', createEmptyInstance: create)
+    ..a<$fixnum.Int64>(1, 'upperMicros', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(2, 'count', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..hasRequiredFields = false
+  ;
+
+  HistogramBucket._() : super();
+  factory HistogramBucket() => create();
+  factory HistogramBucket.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory HistogramBucket.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  HistogramBucket clone() => HistogramBucket()..mergeFromMessage(this);
+  HistogramBucket copyWith(void Function(HistogramBucket) updates) => super.copyWith((message) => updates(message as HistogramBucket));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static HistogramBucket create() => HistogramBucket._();
+  HistogramBucket createEmptyInstance() => create();
+  static $pb.PbList<HistogramBucket> createRepeated() => $pb.PbList<HistogramBucket>();
+  static HistogramBucket getDefault() => _defaultInstance ??= create()..freeze();
+  static HistogramBucket _defaultInstance;
+
+  $fixnum.Int64 get upperMicros => $_getI64(0);
+  set upperMicros($fixnum.Int64 v) { $_setInt64(0, v); }
+  $core.bool hasUpperMicros() => $_has(0);
+  void clearUpperMicros() => clearField(1);
+
+  $fixnum.Int64 get count => $_getI64(1);
+  set count($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasCount() => $_has(1);
+  void clearCount() => clearField(2);
+}
+
+class LatencyHistogram extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('LatencyHistogram', createEmptyInstance: create)
+    ..aOS(1, 'operation')
+    ..a<$fixnum.Int64>(2, 'count', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(3, 'minMicros', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(4, 'maxMicros', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(5, 'meanMicros', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(6, 'p50Micros', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(7, 'p90Micros', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(8, 'p99Micros', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..pc<HistogramBucket>(9, 'buckets', $pb.PbFieldType.PM, subBuilder: HistogramBucket.create)
+    ..hasRequiredFields = false
+  ;
+
+  LatencyHistogram._() : super();
+  factory LatencyHistogram() => create();
+  factory LatencyHistogram.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory LatencyHistogram.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  LatencyHistogram clone() => LatencyHistogram()..mergeFromMessage(this);
+  LatencyHistogram copyWith(void Function(LatencyHistogram) updates) => super.copyWith((message) => updates(message as LatencyHistogram));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static LatencyHistogram create() => LatencyHistogram._();
+  LatencyHistogram createEmptyInstance() => create();
+  static $pb.PbList<LatencyHistogram> createRepeated() => $pb.PbList<LatencyHistogram>();
+  static LatencyHistogram getDefault() => _defaultInstance ??= create()..freeze();
+  static LatencyHistogram _defaultInstance;
+
+  $core.String get operation => $_getS(0, '');
+  set operation($core.String v) { $_setString(0, v); }
+  $core.bool hasOperation() => $_has(0);
+  void clearOperation() => clearField(1);
+
+  $fixnum.Int64 get count => $_getI64(1);
+  set count($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasCount() => $_has(1);
+  void clearCount() => clearField(2);
+
+  $fixnum.Int64 get minMicros => $_getI64(2);
+  set minMicros($fixnum.Int64 v) { $_setInt64(2, v); }
+  $core.bool hasMinMicros() => $_has(2);
+  void clearMinMicros() => clearField(3);
+
+  $fixnum.Int64 get maxMicros => $_getI64(3);
+  set maxMicros($fixnum.Int64 v) { $_setInt64(3, v); }
+  $core.bool hasMaxMicros() => $_has(3);
+  void clearMaxMicros() => clearField(4);
+
+  $fixnum.Int64 get meanMicros => $_getI64(4);
+  set meanMicros($fixnum.Int64 v) { $_setInt64(4, v); }
+  $core.bool hasMeanMicros() => $_has(4);
+  void clearMeanMicros() => clearField(5);
+
+  $fixnum.Int64 get p50Micros => $_getI64(5);
+  set p50Micros($fixnum.Int64 v) { $_setInt64(5, v); }
+  $core.bool hasP50Micros() => $_has(5);
+  void clearP50Micros() => clearField(6);
+
+  $fixnum.Int64 get p90Micros => $_getI64(6);
+  set p90Micros($fixnum.Int64 v) { $_setInt64(6, v); }
+  $core.bool hasP90Micros() => $_has(6);
+  void clearP90Micros() => clearField(7);
+
+  $fixnum.Int64 get p99Micros => $_getI64(7);
+  set p99Micros($fixnum.Int64 v) { $_setInt64(7, v); }
+  $core.bool hasP99Micros() => $_has(7);
+  void clearP99Micros() => clearField(8);
+
+  $core.List<HistogramBucket> get buckets => $_getList(8);
+}
+
+class DeviceMetrics extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('DeviceMetrics', createEmptyInstance: create)
+    ..aOS(1, 'remoteId')
+    ..pc<LatencyHistogram>(2, 'operations', $pb.PbFieldType.PM, subBuilder: LatencyHistogram.create)
+    ..hasRequiredFields = false
+  ;
+
+  DeviceMetrics._() : super();
+  factory DeviceMetrics() => create();
+  factory DeviceMetrics.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory DeviceMetrics.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  DeviceMetrics clone() => DeviceMetrics()..mergeFromMessage(this);
+  DeviceMetrics copyWith(void Function(DeviceMetrics) updates) => super.copyWith((message) => updates(message as DeviceMetrics));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static DeviceMetrics create() => DeviceMetrics._();
+  DeviceMetrics createEmptyInstance() => create();
+  static $pb.PbList<DeviceMetrics> createRepeated() => $pb.PbList<DeviceMetrics>();
+  static DeviceMetrics getDefault() => _defaultInstance ??= create()..freeze();
+  static DeviceMetrics _defaultInstance;
+
+  $core.String get remoteId => $_getS(0, '');
+  set remoteId($core.String v) { $_setString(0, v); }
+  $core.bool hasRemoteId() => $_has(0);
+  void clearRemoteId() => clearField(1);
+
+  $core.List<LatencyHistogram> get operations => $_getList(1);
+}
+
+class ScanMetrics extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('ScanMetrics', createEmptyInstance: create)
+    ..a<$fixnum.Int64>(1, 'received', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(2, 'emitted', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..a<$fixnum.Int64>(3, 'dropped', $pb.PbFieldType.OU6, defaultOrMaker: $fixnum.Int64.ZERO)
+    ..hasRequiredFields = false
+  ;
+
+  ScanMetrics._() : super();
+  factory ScanMetrics() => create();
+  factory ScanMetrics.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ScanMetrics.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  ScanMetrics clone() => ScanMetrics()..mergeFromMessage(this);
+  ScanMetrics copyWith(void Function(ScanMetrics) updates) => super.copyWith((message) => updates(message as ScanMetrics));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ScanMetrics create() => ScanMetrics._();
+  ScanMetrics createEmptyInstance() => create();
+  static $pb.PbList<ScanMetrics> createRepeated() => $pb.PbList<ScanMetrics>();
+  static ScanMetrics getDefault() => _defaultInstance ??= create()..freeze();
+  static ScanMetrics _defaultInstance;
+
+  $fixnum.Int64 get received => $_getI64(0);
+  set received($fixnum.Int64 v) { $_setInt64(0, v); }
+  $core.bool hasReceived() => $_has(0);
+  void clearReceived() => clearField(1);
+
+  $fixnum.Int64 get emitted => $_getI64(1);
+  set emitted($fixnum.Int64 v) { $_setInt64(1, v); }
+  $core.bool hasEmitted() => $_has(1);
+  void clearEmitted() => clearField(2);
+
+  $fixnum.Int64 get dropped => $_getI64(2);
+  set dropped($fixnum.Int64 v) { $_setInt64(2, v); }
+  $core.bool hasDropped() => $_has(2);
+  void clearDropped() => clearField(3);
+}
+
+class Metrics extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo('Metrics', createEmptyInstance: create)
+    ..pc<DeviceMetrics>(1, 'devices', $pb.PbFieldType.PM, subBuilder: DeviceMetrics.create)
+    ..a<ScanMetrics>(2, 'scan', $pb.PbFieldType.OM, defaultOrMaker: ScanMetrics.getDefault, subBuilder: ScanMetrics.create)
+    ..a<PipelineStats>(3, 'pipeline', $pb.PbFieldType.OM, defaultOrMaker: PipelineStats.getDefault, subBuilder: PipelineStats.create)
+    ..hasRequiredFields = false
+  ;
+
+  Metrics._() : super();
+  factory Metrics() => create();
+  factory Metrics.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory Metrics.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  Metrics clone() => Metrics()..mergeFromMessage(this);
+  Metrics copyWith(void Function(Metrics) updates) => super.copyWith((message) => updates(message as Metrics));
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static Metrics create() => Metrics._();
+  Metrics createEmptyInstance() => create();
+  static $pb.PbList<Metrics> createRepeated() => $pb.PbList<Metrics>();
+  static Metrics getDefault() => _defaultInstance ??= create()..freeze();
+  static Metrics _defaultInstance;
+
+  $core.List<DeviceMetrics> get devices => $_getList(0);
+
+  ScanMetrics get scan => $_getN(1);
+  set scan(ScanMetrics v) { setField(2, v); }
+  $core.bool hasScan() => $_has(1);
+  void clearScan() => clearField(2);
+
+  PipelineStats get pipeline => $_getN(2);
+  set pipeline(PipelineStats v) { setField(3, v); }
+  $core.bool hasPipeline() => $_has(2);
+  void clearPipeline() => clearField(3);
+}
+
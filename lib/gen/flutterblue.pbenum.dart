@@ -34,6 +34,97 @@ class BluetoothState_State extends $pb.ProtobufEnum {
   const BluetoothState_State._($core.int v, $core.String n) : super(v, n);
 }
 
+class ReconnectState_State extends $pb.ProtobufEnum {
+  static const ReconnectState_State SCHEDULED = ReconnectState_State._(0, 'SCHEDULED');
+  static const ReconnectState_State CONNECTING = ReconnectState_State._(1, 'CONNECTING');
+  static const ReconnectState_State RESTORED = ReconnectState_State._(2, 'RESTORED');
+  static const ReconnectState_State GAVE_UP = ReconnectState_State._(3, 'GAVE_UP');
+
+  static const $core.List<ReconnectState_State> values = <ReconnectState_State> [
+    SCHEDULED,
+    CONNECTING,
+    RESTORED,
+    GAVE_UP,
+  ];
+
+  static final $core.Map<$core.int, ReconnectState_State> _byValue = $pb.ProtobufEnum.initByValue(values);
+  static ReconnectState_State valueOf($core.int value) => _byValue[value];
+
+  const ReconnectState_State._($core.int v, $core.String n) : super(v, n);
+}
+
+class ConnectRequest_OverflowPolicy extends $pb.ProtobufEnum {
+  static const ConnectRequest_OverflowPolicy DROP_OLDEST = ConnectRequest_OverflowPolicy._(0, 'DROP_OLDEST');
+  static const ConnectRequest_OverflowPolicy DROP_NEWEST = ConnectRequest_OverflowPolicy._(1, 'DROP_NEWEST');
+
+  static const $core.List<ConnectRequest_OverflowPolicy> values = <ConnectRequest_OverflowPolicy> [
+    DROP_OLDEST,
+    DROP_NEWEST,
+  ];
+
+  static final $core.Map<$core.int, ConnectRequest_OverflowPolicy> _byValue = $pb.ProtobufEnum.initByValue(values);
+  static ConnectRequest_OverflowPolicy valueOf($core.int value) => _byValue[value];
+
+  const ConnectRequest_OverflowPolicy._($core.int v, $core.String n) : super(v, n);
+}
+
+class ConnectRequest_ConnectionPriority extends $pb.ProtobufEnum {
+  static const ConnectRequest_ConnectionPriority BALANCED = ConnectRequest_ConnectionPriority._(0, 'BALANCED');
+  static const ConnectRequest_ConnectionPriority HIGH = ConnectRequest_ConnectionPriority._(1, 'HIGH');
+  static const ConnectRequest_ConnectionPriority LOW_POWER = ConnectRequest_ConnectionPriority._(2, 'LOW_POWER');
+
+  static const $core.List<ConnectRequest_ConnectionPriority> values = <ConnectRequest_ConnectionPriority> [
+    BALANCED,
+    HIGH,
+    LOW_POWER,
+  ];
+
+  static final $core.Map<$core.int, ConnectRequest_ConnectionPriority> _byValue = $pb.ProtobufEnum.initByValue(values);
+  static ConnectRequest_ConnectionPriority valueOf($core.int value) => _byValue[value];
+
+  const ConnectRequest_ConnectionPriority._($core.int v, $core.String n) : super(v, n);
+}
+
+class ConnectRequest_Phy extends $pb.ProtobufEnum {
+  static const ConnectRequest_Phy PHY_UNSPECIFIED = ConnectRequest_Phy._(0, 'PHY_UNSPECIFIED');
+  static const ConnectRequest_Phy LE_1M = ConnectRequest_Phy._(1, 'LE_1M');
+  static const ConnectRequest_Phy LE_2M = ConnectRequest_Phy._(2, 'LE_2M');
+  static const ConnectRequest_Phy LE_CODED = ConnectRequest_Phy._(3, 'LE_CODED');
+
+  static const $core.List<ConnectRequest_Phy> values = <ConnectRequest_Phy> [
+    PHY_UNSPECIFIED,
+    LE_1M,
+    LE_2M,
+    LE_CODED,
+  ];
+
+  static final $core.Map<$core.int, ConnectRequest_Phy> _byValue = $pb.ProtobufEnum.initByValue(values);
+  static ConnectRequest_Phy valueOf($core.int value) => _byValue[value];
+
+  const ConnectRequest_Phy._($core.int v, $core.String n) : super(v, n);
+}
+
+class ConnectionSlotState_State extends $pb.ProtobufEnum {
+  static const ConnectionSlotState_State IDLE = ConnectionSlotState_State._(0, 'IDLE');
+  static const ConnectionSlotState_State QUEUED = ConnectionSlotState_State._(1, 'QUEUED');
+  static const ConnectionSlotState_State CONNECTING = ConnectionSlotState_State._(2, 'CONNECTING');
+  static const ConnectionSlotState_State CONNECTED = ConnectionSlotState_State._(3, 'CONNECTED');
+  static const ConnectionSlotState_State DISCONNECTING = ConnectionSlotState_State._(4, 'DISCONNECTING');
+
+  static const $core.List<ConnectionSlotState_State> values = <ConnectionSlotState_State> [
+    IDLE,
+    QUEUED,
+    CONNECTING,
+    CONNECTED,
+    DISCONNECTING,
+  ];
+
+  static final $core.Map<$core.int, ConnectionSlotState_State> _byValue = $pb.ProtobufEnum.initByValue(values);
+  static ConnectionSlotState_State valueOf($core.int value) => _byValue[value];
+
+  const ConnectionSlotState_State._($core.int v, $core.String n) : super(v, n);
+}
+
 class BluetoothDevice_Type extends $pb.ProtobufEnum {
   static const BluetoothDevice_Type UNKNOWN = BluetoothDevice_Type._(0, 'UNKNOWN');
   static const BluetoothDevice_Type CLASSIC = BluetoothDevice_Type._(1, 'CLASSIC');
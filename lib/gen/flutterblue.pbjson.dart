@@ -42,6 +42,10 @@ const AdvertisementData$json = const {
     const {'1': 'manufacturer_data', '3': 4, '4': 3, '5': 11, '6': '.AdvertisementData.ManufacturerDataEntry', '10': 'manufacturerData'},
     const {'1': 'service_data', '3': 5, '4': 3, '5': 11, '6': '.AdvertisementData.ServiceDataEntry', '10': 'serviceData'},
     const {'1': 'service_uuids', '3': 6, '4': 3, '5': 9, '10': 'serviceUuids'},
+    const {'1': 'appearance', '3': 7, '4': 1, '5': 11, '6': '.Int32Value', '10': 'appearance'},
+    const {'1': 'connection_interval_range', '3': 8, '4': 1, '5': 11, '6': '.ConnectionIntervalRange', '10': 'connectionIntervalRange'},
+    const {'1': 'uri', '3': 9, '4': 1, '5': 9, '10': 'uri'},
+    const {'1': 'raw_scan_record', '3': 10, '4': 1, '5': 12, '10': 'rawScanRecord'},
   ],
   '3': const [AdvertisementData_ManufacturerDataEntry$json, AdvertisementData_ServiceDataEntry$json],
 };
@@ -64,11 +68,113 @@ const AdvertisementData_ServiceDataEntry$json = const {
   '7': const {'7': true},
 };
 
+const ConnectionIntervalRange$json = const {
+  '1': 'ConnectionIntervalRange',
+  '2': const [
+    const {'1': 'min', '3': 1, '4': 1, '5': 13, '10': 'min'},
+    const {'1': 'max', '3': 2, '4': 1, '5': 13, '10': 'max'},
+  ],
+};
+
 const ScanSettings$json = const {
   '1': 'ScanSettings',
   '2': const [
     const {'1': 'android_scan_mode', '3': 1, '4': 1, '5': 5, '10': 'androidScanMode'},
     const {'1': 'service_uuids', '3': 2, '4': 3, '5': 9, '10': 'serviceUuids'},
+    const {'1': 'report_delay_millis', '3': 3, '4': 1, '5': 3, '10': 'reportDelayMillis'},
+    const {'1': 'max_batch_size', '3': 4, '4': 1, '5': 5, '10': 'maxBatchSize'},
+    const {'1': 'deduplicate', '3': 5, '4': 1, '5': 8, '10': 'deduplicate'},
+    const {'1': 'dedup_rssi_delta', '3': 6, '4': 1, '5': 5, '10': 'dedupRssiDelta'},
+    const {'1': 'dedup_refresh_millis', '3': 7, '4': 1, '5': 3, '10': 'dedupRefreshMillis'},
+    const {'1': 'include_raw_scan_record', '3': 8, '4': 1, '5': 8, '10': 'includeRawScanRecord'},
+    const {'1': 'device_table', '3': 9, '4': 1, '5': 11, '6': '.DeviceTableSettings', '10': 'deviceTable'},
+    const {'1': 'filters', '3': 10, '4': 3, '5': 11, '6': '.ScanFilter', '10': 'filters'},
+    const {'1': 'android_callback_type', '3': 11, '4': 1, '5': 5, '10': 'androidCallbackType'},
+    const {'1': 'android_match_mode', '3': 12, '4': 1, '5': 5, '10': 'androidMatchMode'},
+    const {'1': 'android_num_of_matches', '3': 13, '4': 1, '5': 5, '10': 'androidNumOfMatches'},
+    const {'1': 'android_extended_advertising', '3': 14, '4': 1, '5': 8, '10': 'androidExtendedAdvertising'},
+    const {'1': 'android_phy', '3': 15, '4': 1, '5': 5, '10': 'androidPhy'},
+    const {'1': 'schedule', '3': 16, '4': 1, '5': 11, '6': '.ScanSchedule', '10': 'schedule'},
+  ],
+};
+
+const ScanSchedule$json = const {
+  '1': 'ScanSchedule',
+  '2': const [
+    const {'1': 'scan_window_millis', '3': 1, '4': 1, '5': 3, '10': 'scanWindowMillis'},
+    const {'1': 'pause_window_millis', '3': 2, '4': 1, '5': 3, '10': 'pauseWindowMillis'},
+    const {'1': 'adaptive_scan_mode', '3': 3, '4': 1, '5': 8, '10': 'adaptiveScanMode'},
+    const {'1': 'raise_threshold', '3': 4, '4': 1, '5': 5, '10': 'raiseThreshold'},
+    const {'1': 'lower_after_windows', '3': 5, '4': 1, '5': 5, '10': 'lowerAfterWindows'},
+    const {'1': 'restart_on_failure', '3': 6, '4': 1, '5': 8, '10': 'restartOnFailure'},
+    const {'1': 'max_restart_delay_millis', '3': 7, '4': 1, '5': 3, '10': 'maxRestartDelayMillis'},
+  ],
+};
+
+const ScanFailure$json = const {
+  '1': 'ScanFailure',
+  '2': const [
+    const {'1': 'error_code', '3': 1, '4': 1, '5': 5, '10': 'errorCode'},
+    const {'1': 'message', '3': 2, '4': 1, '5': 9, '10': 'message'},
+    const {'1': 'restarting', '3': 3, '4': 1, '5': 8, '10': 'restarting'},
+    const {'1': 'restart_delay_millis', '3': 4, '4': 1, '5': 3, '10': 'restartDelayMillis'},
+  ],
+};
+
+const ScanFilter$json = const {
+  '1': 'ScanFilter',
+  '2': const [
+    const {'1': 'device_address', '3': 1, '4': 1, '5': 9, '10': 'deviceAddress'},
+    const {'1': 'device_name', '3': 2, '4': 1, '5': 9, '10': 'deviceName'},
+    const {'1': 'service_uuid', '3': 3, '4': 1, '5': 9, '10': 'serviceUuid'},
+    const {'1': 'has_manufacturer_id', '3': 4, '4': 1, '5': 8, '10': 'hasManufacturerId'},
+    const {'1': 'manufacturer_id', '3': 5, '4': 1, '5': 5, '10': 'manufacturerId'},
+    const {'1': 'manufacturer_data', '3': 6, '4': 1, '5': 12, '10': 'manufacturerData'},
+    const {'1': 'manufacturer_data_mask', '3': 7, '4': 1, '5': 12, '10': 'manufacturerDataMask'},
+    const {'1': 'service_data_uuid', '3': 8, '4': 1, '5': 9, '10': 'serviceDataUuid'},
+    const {'1': 'service_data', '3': 9, '4': 1, '5': 12, '10': 'serviceData'},
+    const {'1': 'service_data_mask', '3': 10, '4': 1, '5': 12, '10': 'serviceDataMask'},
+  ],
+};
+
+const DeviceTableSettings$json = const {
+  '1': 'DeviceTableSettings',
+  '2': const [
+    const {'1': 'max_devices', '3': 1, '4': 1, '5': 13, '10': 'maxDevices'},
+    const {'1': 'max_age_millis', '3': 2, '4': 1, '5': 3, '10': 'maxAgeMillis'},
+  ],
+};
+
+const DeviceTableRequest$json = const {
+  '1': 'DeviceTableRequest',
+  '2': const [
+    const {'1': 'since_version', '3': 1, '4': 1, '5': 4, '10': 'sinceVersion'},
+  ],
+};
+
+const DeviceTableEntry$json = const {
+  '1': 'DeviceTableEntry',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'first_seen_millis', '3': 2, '4': 1, '5': 3, '10': 'firstSeenMillis'},
+    const {'1': 'last_seen_millis', '3': 3, '4': 1, '5': 3, '10': 'lastSeenMillis'},
+    const {'1': 'advertisement_count', '3': 4, '4': 1, '5': 4, '10': 'advertisementCount'},
+    const {'1': 'rssi_min', '3': 5, '4': 1, '5': 5, '10': 'rssiMin'},
+    const {'1': 'rssi_max', '3': 6, '4': 1, '5': 5, '10': 'rssiMax'},
+    const {'1': 'rssi_average', '3': 7, '4': 1, '5': 2, '10': 'rssiAverage'},
+    const {'1': 'advertising_interval_millis', '3': 8, '4': 1, '5': 13, '10': 'advertisingIntervalMillis'},
+    const {'1': 'last_payload', '3': 9, '4': 1, '5': 12, '10': 'lastPayload'},
+    const {'1': 'advertisement_data', '3': 10, '4': 1, '5': 11, '6': '.AdvertisementData', '10': 'advertisementData'},
+  ],
+};
+
+const DeviceTable$json = const {
+  '1': 'DeviceTable',
+  '2': const [
+    const {'1': 'version', '3': 1, '4': 1, '5': 4, '10': 'version'},
+    const {'1': 'full', '3': 2, '4': 1, '5': 8, '10': 'full'},
+    const {'1': 'devices', '3': 3, '4': 3, '5': 11, '6': '.DeviceTableEntry', '10': 'devices'},
+    const {'1': 'removed', '3': 4, '4': 3, '5': 9, '10': 'removed'},
   ],
 };
 
@@ -78,6 +184,48 @@ const ScanResult$json = const {
     const {'1': 'device', '3': 1, '4': 1, '5': 11, '6': '.BluetoothDevice', '10': 'device'},
     const {'1': 'advertisement_data', '3': 2, '4': 1, '5': 11, '6': '.AdvertisementData', '10': 'advertisementData'},
     const {'1': 'rssi', '3': 3, '4': 1, '5': 5, '10': 'rssi'},
+    const {'1': 'lost', '3': 4, '4': 1, '5': 8, '10': 'lost'},
+  ],
+};
+
+const ScanResultBatch$json = const {
+  '1': 'ScanResultBatch',
+  '2': const [
+    const {'1': 'results', '3': 1, '4': 3, '5': 11, '6': '.ScanResult', '10': 'results'},
+  ],
+};
+
+const ReconnectPolicy$json = const {
+  '1': 'ReconnectPolicy',
+  '2': const [
+    const {'1': 'max_attempts', '3': 1, '4': 1, '5': 13, '10': 'maxAttempts'},
+    const {'1': 'initial_delay_millis', '3': 2, '4': 1, '5': 3, '10': 'initialDelayMillis'},
+    const {'1': 'max_delay_millis', '3': 3, '4': 1, '5': 3, '10': 'maxDelayMillis'},
+    const {'1': 'jitter', '3': 4, '4': 1, '5': 2, '10': 'jitter'},
+    const {'1': 'attempt_timeout_millis', '3': 5, '4': 1, '5': 3, '10': 'attemptTimeoutMillis'},
+  ],
+};
+
+const ReconnectState$json = const {
+  '1': 'ReconnectState',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'state', '3': 2, '4': 1, '5': 14, '6': '.ReconnectState.State', '10': 'state'},
+    const {'1': 'attempt', '3': 3, '4': 1, '5': 13, '10': 'attempt'},
+    const {'1': 'delay_millis', '3': 4, '4': 1, '5': 3, '10': 'delayMillis'},
+    const {'1': 'failed_notifications', '3': 5, '4': 3, '5': 9, '10': 'failedNotifications'},
+    const {'1': 'recovery_millis', '3': 6, '4': 1, '5': 3, '10': 'recoveryMillis'},
+  ],
+  '4': const [ReconnectState_State$json],
+};
+
+const ReconnectState_State$json = const {
+  '1': 'State',
+  '2': const [
+    const {'1': 'SCHEDULED', '2': 0},
+    const {'1': 'CONNECTING', '2': 1},
+    const {'1': 'RESTORED', '2': 2},
+    const {'1': 'GAVE_UP', '2': 3},
   ],
 };
 
@@ -86,6 +234,108 @@ const ConnectRequest$json = const {
   '2': const [
     const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
     const {'1': 'android_auto_connect', '3': 2, '4': 1, '5': 8, '10': 'androidAutoConnect'},
+    const {'1': 'notification_buffer_size', '3': 3, '4': 1, '5': 13, '10': 'notificationBufferSize'},
+    const {'1': 'notification_overflow_policy', '3': 4, '4': 1, '5': 14, '6': '.ConnectRequest.OverflowPolicy', '10': 'notificationOverflowPolicy'},
+    const {'1': 'mtu', '3': 5, '4': 1, '5': 13, '10': 'mtu'},
+    const {'1': 'connection_priority', '3': 6, '4': 1, '5': 14, '6': '.ConnectRequest.ConnectionPriority', '10': 'connectionPriority'},
+    const {'1': 'preferred_phy', '3': 7, '4': 1, '5': 14, '6': '.ConnectRequest.Phy', '10': 'preferredPhy'},
+    const {'1': 'value_cache', '3': 8, '4': 1, '5': 11, '6': '.ValueCachePolicy', '10': 'valueCache'},
+    const {'1': 'cache_services', '3': 9, '4': 1, '5': 8, '10': 'cacheServices'},
+    const {'1': 'firmware_fingerprint', '3': 10, '4': 1, '5': 9, '10': 'firmwareFingerprint'},
+    const {'1': 'reconnect', '3': 11, '4': 1, '5': 11, '6': '.ReconnectPolicy', '10': 'reconnect'},
+  ],
+  '4': const [ConnectRequest_OverflowPolicy$json, ConnectRequest_ConnectionPriority$json, ConnectRequest_Phy$json],
+};
+
+const ConnectRequest_OverflowPolicy$json = const {
+  '1': 'OverflowPolicy',
+  '2': const [
+    const {'1': 'DROP_OLDEST', '2': 0},
+    const {'1': 'DROP_NEWEST', '2': 1},
+  ],
+};
+
+const ConnectRequest_ConnectionPriority$json = const {
+  '1': 'ConnectionPriority',
+  '2': const [
+    const {'1': 'BALANCED', '2': 0},
+    const {'1': 'HIGH', '2': 1},
+    const {'1': 'LOW_POWER', '2': 2},
+  ],
+};
+
+const ConnectRequest_Phy$json = const {
+  '1': 'Phy',
+  '2': const [
+    const {'1': 'PHY_UNSPECIFIED', '2': 0},
+    const {'1': 'LE_1M', '2': 1},
+    const {'1': 'LE_2M', '2': 2},
+    const {'1': 'LE_CODED', '2': 3},
+  ],
+};
+
+const ValueCachePolicy$json = const {
+  '1': 'ValueCachePolicy',
+  '2': const [
+    const {'1': 'max_entries', '3': 1, '4': 1, '5': 13, '10': 'maxEntries'},
+    const {'1': 'default_ttl_millis', '3': 2, '4': 1, '5': 4, '10': 'defaultTtlMillis'},
+    const {'1': 'rules', '3': 3, '4': 3, '5': 11, '6': '.ValueCacheRule', '10': 'rules'},
+  ],
+};
+
+const ValueCacheRule$json = const {
+  '1': 'ValueCacheRule',
+  '2': const [
+    const {'1': 'characteristic_uuid', '3': 1, '4': 1, '5': 9, '10': 'characteristicUuid'},
+    const {'1': 'ttl_millis', '3': 2, '4': 1, '5': 4, '10': 'ttlMillis'},
+  ],
+};
+
+const ValueCacheStats$json = const {
+  '1': 'ValueCacheStats',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'hits', '3': 2, '4': 1, '5': 4, '10': 'hits'},
+    const {'1': 'misses', '3': 3, '4': 1, '5': 4, '10': 'misses'},
+    const {'1': 'evictions', '3': 4, '4': 1, '5': 4, '10': 'evictions'},
+    const {'1': 'entries', '3': 5, '4': 1, '5': 13, '10': 'entries'},
+  ],
+};
+
+const ConnectionLimits$json = const {
+  '1': 'ConnectionLimits',
+  '2': const [
+    const {'1': 'max_pending_connections', '3': 1, '4': 1, '5': 13, '10': 'maxPendingConnections'},
+    const {'1': 'max_connections', '3': 2, '4': 1, '5': 13, '10': 'maxConnections'},
+    const {'1': 'idle_timeout_millis', '3': 3, '4': 1, '5': 13, '10': 'idleTimeoutMillis'},
+  ],
+};
+
+const ConnectionSlotState$json = const {
+  '1': 'ConnectionSlotState',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'state', '3': 2, '4': 1, '5': 14, '6': '.ConnectionSlotState.State', '10': 'state'},
+    const {'1': 'idle_millis', '3': 3, '4': 1, '5': 3, '10': 'idleMillis'},
+  ],
+  '4': const [ConnectionSlotState_State$json],
+};
+
+const ConnectionSlotState_State$json = const {
+  '1': 'State',
+  '2': const [
+    const {'1': 'IDLE', '2': 0},
+    const {'1': 'QUEUED', '2': 1},
+    const {'1': 'CONNECTING', '2': 2},
+    const {'1': 'CONNECTED', '2': 3},
+    const {'1': 'DISCONNECTING', '2': 4},
+  ],
+};
+
+const ConnectionSlotsResponse$json = const {
+  '1': 'ConnectionSlotsResponse',
+  '2': const [
+    const {'1': 'devices', '3': 1, '4': 3, '5': 11, '6': '.ConnectionSlotState', '10': 'devices'},
   ],
 };
 
@@ -130,6 +380,7 @@ const BluetoothCharacteristic$json = const {
     const {'1': 'descriptors', '3': 5, '4': 3, '5': 11, '6': '.BluetoothDescriptor', '10': 'descriptors'},
     const {'1': 'properties', '3': 6, '4': 1, '5': 11, '6': '.CharacteristicProperties', '10': 'properties'},
     const {'1': 'value', '3': 7, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'handle', '3': 8, '4': 1, '5': 5, '10': 'handle'},
   ],
 };
 
@@ -168,6 +419,17 @@ const DiscoverServicesResult$json = const {
   ],
 };
 
+const ServicesDiff$json = const {
+  '1': 'ServicesDiff',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'added', '3': 2, '4': 3, '5': 11, '6': '.BluetoothService', '10': 'added'},
+    const {'1': 'removed', '3': 3, '4': 3, '5': 11, '6': '.BluetoothService', '10': 'removed'},
+    const {'1': 'changed', '3': 4, '4': 3, '5': 11, '6': '.BluetoothService', '10': 'changed'},
+    const {'1': 'error', '3': 5, '4': 1, '5': 9, '10': 'error'},
+  ],
+};
+
 const ReadCharacteristicRequest$json = const {
   '1': 'ReadCharacteristicRequest',
   '2': const [
@@ -175,6 +437,8 @@ const ReadCharacteristicRequest$json = const {
     const {'1': 'characteristic_uuid', '3': 2, '4': 1, '5': 9, '10': 'characteristicUuid'},
     const {'1': 'service_uuid', '3': 3, '4': 1, '5': 9, '10': 'serviceUuid'},
     const {'1': 'secondary_service_uuid', '3': 4, '4': 1, '5': 9, '10': 'secondaryServiceUuid'},
+    const {'1': 'characteristic_handle', '3': 5, '4': 1, '5': 5, '10': 'characteristicHandle'},
+    const {'1': 'bypass_cache', '3': 6, '4': 1, '5': 8, '10': 'bypassCache'},
   ],
 };
 
@@ -183,6 +447,7 @@ const ReadCharacteristicResponse$json = const {
   '2': const [
     const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
     const {'1': 'characteristic', '3': 2, '4': 1, '5': 11, '6': '.BluetoothCharacteristic', '10': 'characteristic'},
+    const {'1': 'error', '3': 3, '4': 1, '5': 9, '10': 'error'},
   ],
 };
 
@@ -194,6 +459,7 @@ const ReadDescriptorRequest$json = const {
     const {'1': 'service_uuid', '3': 3, '4': 1, '5': 9, '10': 'serviceUuid'},
     const {'1': 'secondary_service_uuid', '3': 4, '4': 1, '5': 9, '10': 'secondaryServiceUuid'},
     const {'1': 'characteristic_uuid', '3': 5, '4': 1, '5': 9, '10': 'characteristicUuid'},
+    const {'1': 'characteristic_handle', '3': 6, '4': 1, '5': 5, '10': 'characteristicHandle'},
   ],
 };
 
@@ -202,6 +468,7 @@ const ReadDescriptorResponse$json = const {
   '2': const [
     const {'1': 'request', '3': 1, '4': 1, '5': 11, '6': '.ReadDescriptorRequest', '10': 'request'},
     const {'1': 'value', '3': 2, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'error', '3': 3, '4': 1, '5': 9, '10': 'error'},
   ],
 };
 
@@ -214,6 +481,7 @@ const WriteCharacteristicRequest$json = const {
     const {'1': 'secondary_service_uuid', '3': 4, '4': 1, '5': 9, '10': 'secondaryServiceUuid'},
     const {'1': 'write_type', '3': 5, '4': 1, '5': 14, '6': '.WriteCharacteristicRequest.WriteType', '10': 'writeType'},
     const {'1': 'value', '3': 6, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'characteristic_handle', '3': 7, '4': 1, '5': 5, '10': 'characteristicHandle'},
   ],
   '4': const [WriteCharacteristicRequest_WriteType$json],
 };
@@ -234,6 +502,107 @@ const WriteCharacteristicResponse$json = const {
   ],
 };
 
+const ReadCharacteristicsRequest$json = const {
+  '1': 'ReadCharacteristicsRequest',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'requests', '3': 2, '4': 3, '5': 11, '6': '.ReadCharacteristicRequest', '10': 'requests'},
+  ],
+};
+
+const WriteCharacteristicsRequest$json = const {
+  '1': 'WriteCharacteristicsRequest',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'requests', '3': 2, '4': 3, '5': 11, '6': '.WriteCharacteristicRequest', '10': 'requests'},
+  ],
+};
+
+const CharacteristicBatchResult$json = const {
+  '1': 'CharacteristicBatchResult',
+  '2': const [
+    const {'1': 'characteristic_uuid', '3': 1, '4': 1, '5': 9, '10': 'characteristicUuid'},
+    const {'1': 'characteristic_handle', '3': 2, '4': 1, '5': 5, '10': 'characteristicHandle'},
+    const {'1': 'success', '3': 3, '4': 1, '5': 8, '10': 'success'},
+    const {'1': 'gatt_status', '3': 4, '4': 1, '5': 5, '10': 'gattStatus'},
+    const {'1': 'error', '3': 5, '4': 1, '5': 9, '10': 'error'},
+    const {'1': 'value', '3': 6, '4': 1, '5': 12, '10': 'value'},
+  ],
+};
+
+const CharacteristicBatchResponse$json = const {
+  '1': 'CharacteristicBatchResponse',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'results', '3': 2, '4': 3, '5': 11, '6': '.CharacteristicBatchResult', '10': 'results'},
+  ],
+};
+
+const FanOutReadRequest$json = const {
+  '1': 'FanOutReadRequest',
+  '2': const [
+    const {'1': 'remote_ids', '3': 1, '4': 3, '5': 9, '10': 'remoteIds'},
+    const {'1': 'request', '3': 2, '4': 1, '5': 11, '6': '.ReadCharacteristicRequest', '10': 'request'},
+  ],
+};
+
+const FanOutWriteRequest$json = const {
+  '1': 'FanOutWriteRequest',
+  '2': const [
+    const {'1': 'remote_ids', '3': 1, '4': 3, '5': 9, '10': 'remoteIds'},
+    const {'1': 'request', '3': 2, '4': 1, '5': 11, '6': '.WriteCharacteristicRequest', '10': 'request'},
+  ],
+};
+
+const FanOutSetNotificationRequest$json = const {
+  '1': 'FanOutSetNotificationRequest',
+  '2': const [
+    const {'1': 'remote_ids', '3': 1, '4': 3, '5': 9, '10': 'remoteIds'},
+    const {'1': 'request', '3': 2, '4': 1, '5': 11, '6': '.SetNotificationRequest', '10': 'request'},
+  ],
+};
+
+const FanOutResult$json = const {
+  '1': 'FanOutResult',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'success', '3': 2, '4': 1, '5': 8, '10': 'success'},
+    const {'1': 'gatt_status', '3': 3, '4': 1, '5': 5, '10': 'gattStatus'},
+    const {'1': 'error', '3': 4, '4': 1, '5': 9, '10': 'error'},
+    const {'1': 'value', '3': 5, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'latency_micros', '3': 6, '4': 1, '5': 4, '10': 'latencyMicros'},
+  ],
+};
+
+const FanOutResponse$json = const {
+  '1': 'FanOutResponse',
+  '2': const [
+    const {'1': 'results', '3': 1, '4': 3, '5': 11, '6': '.FanOutResult', '10': 'results'},
+  ],
+};
+
+const BulkWriteRequest$json = const {
+  '1': 'BulkWriteRequest',
+  '2': const [
+    const {'1': 'request', '3': 1, '4': 1, '5': 11, '6': '.WriteCharacteristicRequest', '10': 'request'},
+    const {'1': 'progress_interval', '3': 2, '4': 1, '5': 13, '10': 'progressInterval'},
+  ],
+};
+
+const BulkWriteProgress$json = const {
+  '1': 'BulkWriteProgress',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'characteristic_uuid', '3': 2, '4': 1, '5': 9, '10': 'characteristicUuid'},
+    const {'1': 'characteristic_handle', '3': 3, '4': 1, '5': 5, '10': 'characteristicHandle'},
+    const {'1': 'bytes_written', '3': 4, '4': 1, '5': 13, '10': 'bytesWritten'},
+    const {'1': 'total_bytes', '3': 5, '4': 1, '5': 13, '10': 'totalBytes'},
+    const {'1': 'bytes_per_second', '3': 6, '4': 1, '5': 13, '10': 'bytesPerSecond'},
+    const {'1': 'done', '3': 7, '4': 1, '5': 8, '10': 'done'},
+    const {'1': 'success', '3': 8, '4': 1, '5': 8, '10': 'success'},
+  ],
+};
+
 const WriteDescriptorRequest$json = const {
   '1': 'WriteDescriptorRequest',
   '2': const [
@@ -243,6 +612,7 @@ const WriteDescriptorRequest$json = const {
     const {'1': 'secondary_service_uuid', '3': 4, '4': 1, '5': 9, '10': 'secondaryServiceUuid'},
     const {'1': 'characteristic_uuid', '3': 5, '4': 1, '5': 9, '10': 'characteristicUuid'},
     const {'1': 'value', '3': 6, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'characteristic_handle', '3': 7, '4': 1, '5': 5, '10': 'characteristicHandle'},
   ],
 };
 
@@ -262,6 +632,8 @@ const SetNotificationRequest$json = const {
     const {'1': 'secondary_service_uuid', '3': 3, '4': 1, '5': 9, '10': 'secondaryServiceUuid'},
     const {'1': 'characteristic_uuid', '3': 4, '4': 1, '5': 9, '10': 'characteristicUuid'},
     const {'1': 'enable', '3': 5, '4': 1, '5': 8, '10': 'enable'},
+    const {'1': 'characteristic_handle', '3': 6, '4': 1, '5': 5, '10': 'characteristicHandle'},
+    const {'1': 'compact', '3': 7, '4': 1, '5': 8, '10': 'compact'},
   ],
 };
 
@@ -282,6 +654,29 @@ const OnCharacteristicChanged$json = const {
   ],
 };
 
+const OnCharacteristicValue$json = const {
+  '1': 'OnCharacteristicValue',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'characteristic_handle', '3': 2, '4': 1, '5': 5, '10': 'characteristicHandle'},
+    const {'1': 'characteristic_uuid', '3': 3, '4': 1, '5': 9, '10': 'characteristicUuid'},
+    const {'1': 'service_uuid', '3': 4, '4': 1, '5': 9, '10': 'serviceUuid'},
+    const {'1': 'secondary_service_uuid', '3': 5, '4': 1, '5': 9, '10': 'secondaryServiceUuid'},
+    const {'1': 'value', '3': 6, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'timestamp_millis', '3': 7, '4': 1, '5': 3, '10': 'timestampMillis'},
+  ],
+};
+
+const NotificationStats$json = const {
+  '1': 'NotificationStats',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'delivered', '3': 2, '4': 1, '5': 4, '10': 'delivered'},
+    const {'1': 'dropped', '3': 3, '4': 1, '5': 4, '10': 'dropped'},
+    const {'1': 'buffered', '3': 4, '4': 1, '5': 13, '10': 'buffered'},
+  ],
+};
+
 const DeviceStateResponse$json = const {
   '1': 'DeviceStateResponse',
   '2': const [
@@ -324,3 +719,73 @@ const MtuSizeResponse$json = const {
   ],
 };
 
+const PipelineStage$json = const {
+  '1': 'PipelineStage',
+  '2': const [
+    const {'1': 'name', '3': 1, '4': 1, '5': 9, '10': 'name'},
+    const {'1': 'count', '3': 2, '4': 1, '5': 4, '10': 'count'},
+    const {'1': 'total_micros', '3': 3, '4': 1, '5': 4, '10': 'totalMicros'},
+    const {'1': 'max_micros', '3': 4, '4': 1, '5': 4, '10': 'maxMicros'},
+  ],
+};
+
+const PipelineStats$json = const {
+  '1': 'PipelineStats',
+  '2': const [
+    const {'1': 'stages', '3': 1, '4': 3, '5': 11, '6': '.PipelineStage', '10': 'stages'},
+    const {'1': 'pending_tasks', '3': 2, '4': 1, '5': 13, '10': 'pendingTasks'},
+    const {'1': 'pending_messages', '3': 3, '4': 1, '5': 13, '10': 'pendingMessages'},
+    const {'1': 'max_pending_tasks', '3': 4, '4': 1, '5': 13, '10': 'maxPendingTasks'},
+    const {'1': 'max_pending_messages', '3': 5, '4': 1, '5': 13, '10': 'maxPendingMessages'},
+  ],
+};
+
+const HistogramBucket$json = const {
+  '1': 'HistogramBucket',
+  '2': const [
+    const {'1': 'upper_micros', '3': 1, '4': 1, '5': 4, '10': 'upperMicros'},
+    const {'1': 'count', '3': 2, '4': 1, '5': 4, '10': 'count'},
+  ],
+};
+
+const LatencyHistogram$json = const {
+  '1': 'LatencyHistogram',
+  '2': const [
+    const {'1': 'operation', '3': 1, '4': 1, '5': 9, '10': 'operation'},
+    const {'1': 'count', '3': 2, '4': 1, '5': 4, '10': 'count'},
+    const {'1': 'min_micros', '3': 3, '4': 1, '5': 4, '10': 'minMicros'},
+    const {'1': 'max_micros', '3': 4, '4': 1, '5': 4, '10': 'maxMicros'},
+    const {'1': 'mean_micros', '3': 5, '4': 1, '5': 4, '10': 'meanMicros'},
+    const {'1': 'p50_micros', '3': 6, '4': 1, '5': 4, '10': 'p50Micros'},
+    const {'1': 'p90_micros', '3': 7, '4': 1, '5': 4, '10': 'p90Micros'},
+    const {'1': 'p99_micros', '3': 8, '4': 1, '5': 4, '10': 'p99Micros'},
+    const {'1': 'buckets', '3': 9, '4': 3, '5': 11, '6': '.HistogramBucket', '10': 'buckets'},
+  ],
+};
+
+const DeviceMetrics$json = const {
+  '1': 'DeviceMetrics',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'operations', '3': 2, '4': 3, '5': 11, '6': '.LatencyHistogram', '10': 'operations'},
+  ],
+};
+
+const ScanMetrics$json = const {
+  '1': 'ScanMetrics',
+  '2': const [
+    const {'1': 'received', '3': 1, '4': 1, '5': 4, '10': 'received'},
+    const {'1': 'emitted', '3': 2, '4': 1, '5': 4, '10': 'emitted'},
+    const {'1': 'dropped', '3': 3, '4': 1, '5': 4, '10': 'dropped'},
+  ],
+};
+
+const Metrics$json = const {
+  '1': 'Metrics',
+  '2': const [
+    const {'1': 'devices', '3': 1, '4': 3, '5': 11, '6': '.DeviceMetrics', '10': 'devices'},
+    const {'1': 'scan', '3': 2, '4': 1, '5': 11, '6': '.ScanMetrics', '10': 'scan'},
+    const {'1': 'pipeline', '3': 3, '4': 1, '5': 11, '6': '.PipelineStats', '10': 'pipeline'},
+  ],
+};
+
@@ -0,0 +1,81 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+part of flutter_blue;
+
+/// One write of [BluetoothDevice.writeCharacteristics].
+class CharacteristicWrite {
+  final BluetoothCharacteristic characteristic;
+  final List<int> value;
+  final bool withoutResponse;
+
+  const CharacteristicWrite(this.characteristic, this.value,
+      {this.withoutResponse = false});
+}
+
+/// The outcome of one request of [BluetoothDevice.readCharacteristics] or
+/// [BluetoothDevice.writeCharacteristics].
+class CharacteristicBatchResult {
+  final Guid characteristicUuid;
+  final bool success;
+
+  /// Only meaningful if [error] is empty.
+  final int gattStatus;
+
+  /// Why the request could not be issued or did not complete.
+  final String error;
+
+  /// Reads only.
+  final List<int> value;
+
+  CharacteristicBatchResult.fromProto(protos.CharacteristicBatchResult p)
+      : characteristicUuid = new Guid(p.characteristicUuid),
+        success = p.success,
+        gattStatus = p.gattStatus,
+        error = p.error,
+        value = p.value;
+}
+
+/// The outcome of a fan-out request on one device.
+class FanOutResult {
+  final DeviceIdentifier deviceId;
+  final bool success;
+
+  /// Only meaningful if [error] is empty.
+  final int gattStatus;
+  final String error;
+
+  /// Reads only.
+  final List<int> value;
+
+  /// From the call until this device completed.
+  final Duration latency;
+
+  FanOutResult.fromProto(protos.FanOutResult p)
+      : deviceId = new DeviceIdentifier(p.remoteId),
+        success = p.success,
+        gattStatus = p.gattStatus,
+        error = p.error,
+        value = p.value,
+        latency = Duration(microseconds: p.latencyMicros.toInt());
+}
+
+class BulkWriteProgress {
+  final DeviceIdentifier deviceId;
+  final Guid characteristicUuid;
+  final int bytesWritten;
+  final int totalBytes;
+  final int bytesPerSecond;
+  final bool done;
+  final bool success;
+
+  BulkWriteProgress.fromProto(protos.BulkWriteProgress p)
+      : deviceId = new DeviceIdentifier(p.remoteId),
+        characteristicUuid = new Guid(p.characteristicUuid),
+        bytesWritten = p.bytesWritten,
+        totalBytes = p.totalBytes,
+        bytesPerSecond = p.bytesPerSecond,
+        done = p.done,
+        success = p.success;
+}
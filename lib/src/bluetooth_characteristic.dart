@@ -25,6 +25,7 @@ class BluetoothCharacteristic {
   Stream<List<int>> get value => Observable.merge([
         _value.stream,
         _onValueChangedStream,
+        _onCompactValueStream,
       ]);
 
   List<int> get lastValue => _value.value;
@@ -62,6 +63,21 @@ class BluetoothCharacteristic {
   Stream<List<int>> get _onValueChangedStream =>
       _onCharacteristicChangedStream.map((c) => c.lastValue);
 
+  // Notifications enabled as compact, or buffered for the device
+  Stream<List<int>> get _onCompactValueStream => Observable.merge([
+        FlutterBlue.instance._methodStream
+            .where((m) => m.method == "OnCharacteristicValue")
+            .map((m) => m.arguments)
+            .map((buffer) =>
+                new protos.OnCharacteristicValue.fromBuffer(buffer)),
+        FlutterBlue.instance._bufferedNotifications(deviceId),
+      ])
+          .where((p) =>
+              (p.remoteId == deviceId.toString()) &&
+              (p.characteristicUuid == uuid.toString()) &&
+              (p.serviceUuid == serviceUuid.toString()))
+          .map((p) => p.value);
+
   void _updateDescriptors(List<BluetoothDescriptor> newDescriptors) {
     for (var d in descriptors) {
       for (var newD in newDescriptors) {
@@ -72,12 +88,54 @@ class BluetoothCharacteristic {
     }
   }
 
-  /// Retrieves the value of the characteristic
-  Future<List<int>> read() async {
+  protos.ReadCharacteristicRequest _readRequest() {
     var request = protos.ReadCharacteristicRequest.create()
       ..remoteId = deviceId.toString()
       ..characteristicUuid = uuid.toString()
       ..serviceUuid = serviceUuid.toString();
+    if (secondaryServiceUuid != null) {
+      request.secondaryServiceUuid = secondaryServiceUuid.toString();
+    }
+    return request;
+  }
+
+  protos.WriteCharacteristicRequest _writeRequest(
+      List<int> value, bool withoutResponse) {
+    final type = withoutResponse
+        ? CharacteristicWriteType.withoutResponse
+        : CharacteristicWriteType.withResponse;
+    var request = protos.WriteCharacteristicRequest.create()
+      ..remoteId = deviceId.toString()
+      ..characteristicUuid = uuid.toString()
+      ..serviceUuid = serviceUuid.toString()
+      ..writeType =
+          protos.WriteCharacteristicRequest_WriteType.valueOf(type.index)
+      ..value = value;
+    if (secondaryServiceUuid != null) {
+      request.secondaryServiceUuid = secondaryServiceUuid.toString();
+    }
+    return request;
+  }
+
+  protos.SetNotificationRequest _notificationRequest(
+      bool notify, bool compact) {
+    var request = protos.SetNotificationRequest.create()
+      ..remoteId = deviceId.toString()
+      ..serviceUuid = serviceUuid.toString()
+      ..characteristicUuid = uuid.toString()
+      ..enable = notify
+      ..compact = compact;
+    if (secondaryServiceUuid != null) {
+      request.secondaryServiceUuid = secondaryServiceUuid.toString();
+    }
+    return request;
+  }
+
+  /// Retrieves the value of the characteristic
+  /// [bypassCache] reads over the air even if the value cache of the device
+  /// holds a fresh value, see [ValueCachePolicy].
+  Future<List<int>> read({bool bypassCache = false}) async {
+    var request = _readRequest()..bypassCache = bypassCache;
     FlutterBlue.instance._log(LogLevel.info,
         'remoteId: ${deviceId.toString()} characteristicUuid: ${uuid.toString()} serviceUuid: ${serviceUuid.toString()}');
 
@@ -93,8 +151,10 @@ class BluetoothCharacteristic {
             (p.remoteId == request.remoteId) &&
             (p.characteristic.uuid == request.characteristicUuid) &&
             (p.characteristic.serviceUuid == request.serviceUuid))
-        .map((p) => p.characteristic.value)
         .first
+        .then((p) => (p.error.isNotEmpty)
+            ? throw new Exception('Failed to read the characteristic: ${p.error}')
+            : p.characteristic.value)
         .then((d) {
       _value.add(d);
       return d;
@@ -111,13 +171,7 @@ class BluetoothCharacteristic {
         ? CharacteristicWriteType.withoutResponse
         : CharacteristicWriteType.withResponse;
 
-    var request = protos.WriteCharacteristicRequest.create()
-      ..remoteId = deviceId.toString()
-      ..characteristicUuid = uuid.toString()
-      ..serviceUuid = serviceUuid.toString()
-      ..writeType =
-          protos.WriteCharacteristicRequest_WriteType.valueOf(type.index)
-      ..value = value;
+    var request = _writeRequest(value, withoutResponse);
 
     var result = await FlutterBlue.instance._channel
         .invokeMethod('writeCharacteristic', request.writeToBuffer());
@@ -151,13 +205,44 @@ class BluetoothCharacteristic {
         .then((_) => null);
   }
 
+  /// Writes [value] in MTU sized chunks as one operation, paced by the write
+  /// callbacks. [onProgress] is called every [progressInterval] bytes, and
+  /// once done. Completes once the last chunk is written and throws if the
+  /// transfer fails. Android only.
+  Future<void> bulkWrite(List<int> value,
+      {bool withoutResponse = false,
+      int progressInterval = 0,
+      void Function(BulkWriteProgress) onProgress}) async {
+    var request = protos.BulkWriteRequest.create()
+      ..request = _writeRequest(value, withoutResponse)
+      ..progressInterval = progressInterval;
+
+    StreamSubscription<BulkWriteProgress> progress;
+    if (onProgress != null) {
+      progress = FlutterBlue.instance._methodStream
+          .where((m) => m.method == "BulkWriteProgress")
+          .map((m) => m.arguments)
+          .map((buffer) => new protos.BulkWriteProgress.fromBuffer(buffer))
+          .where((p) =>
+              (p.remoteId == request.request.remoteId) &&
+              (p.characteristicUuid == request.request.characteristicUuid))
+          .map((p) => new BulkWriteProgress.fromProto(p))
+          .listen(onProgress);
+    }
+    try {
+      await FlutterBlue.instance._channel
+          .invokeMethod('bulkWrite', request.writeToBuffer());
+    } finally {
+      // The final progress is sent before the reply
+      await progress?.cancel();
+    }
+  }
+
   /// Sets notifications or indications for the value of a specified characteristic
-  Future<bool> setNotifyValue(bool notify) async {
-    var request = protos.SetNotificationRequest.create()
-      ..remoteId = deviceId.toString()
-      ..serviceUuid = serviceUuid.toString()
-      ..characteristicUuid = uuid.toString()
-      ..enable = notify;
+  /// With [compact], the values are delivered without the descriptors and
+  /// properties of the characteristic. Android only, ignored on iOS.
+  Future<bool> setNotifyValue(bool notify, {bool compact = false}) async {
+    var request = _notificationRequest(notify, compact);
 
     await FlutterBlue.instance._channel
         .invokeMethod('setNotification', request.writeToBuffer());
@@ -171,11 +256,11 @@ class BluetoothCharacteristic {
             (p.characteristic.uuid == request.characteristicUuid) &&
             (p.characteristic.serviceUuid == request.serviceUuid))
         .first
-        .then((p) => new BluetoothCharacteristic.fromProto(p.characteristic))
-        .then((c) {
+        .then((p) {
+      var c = new BluetoothCharacteristic.fromProto(p.characteristic);
       _updateDescriptors(c.descriptors);
       _value.add(c.lastValue);
-      return (c.isNotifying == notify);
+      return p.success && (c.isNotifying == notify);
     });
   }
 }
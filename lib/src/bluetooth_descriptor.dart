@@ -44,8 +44,10 @@ class BluetoothDescriptor {
             (p.request.descriptorUuid == request.descriptorUuid) &&
             (p.request.characteristicUuid == request.characteristicUuid) &&
             (p.request.serviceUuid == request.serviceUuid))
-        .map((d) => d.value)
         .first
+        .then((p) => (p.error.isNotEmpty)
+            ? throw new Exception('Failed to read the descriptor: ${p.error}')
+            : p.value)
         .then((d) {
       _value.add(d);
       return d;
@@ -18,13 +18,48 @@ class BluetoothDevice {
   Stream<bool> get isDiscoveringServices => _isDiscoveringServices.stream;
 
   /// Establishes a connection to the Bluetooth Device.
+  ///
+  /// The other options are only supported on Android:
+  /// [mtu], [connectionPriority] and [preferredPhy] are requested right after
+  /// connecting, before the connected state is reported.
+  /// With [notificationBufferSize], notifications are buffered up to this many
+  /// and delivered on a channel of their own, see [NotificationOverflowPolicy].
+  /// With [cacheServices], the services stored from the last connection with
+  /// the same [firmwareFingerprint] are reported on [provisionalServices] right
+  /// away, and [servicesDiff] reports any change found by the discovery.
   Future<void> connect({
     Duration timeout,
     bool autoConnect = true,
+    int mtu = 0,
+    ConnectionPriority connectionPriority = ConnectionPriority.balanced,
+    Phy preferredPhy = Phy.unspecified,
+    int notificationBufferSize = 0,
+    NotificationOverflowPolicy notificationOverflowPolicy =
+        NotificationOverflowPolicy.dropOldest,
+    ValueCachePolicy valueCache,
+    bool cacheServices = false,
+    String firmwareFingerprint = '',
+    ReconnectPolicy reconnect,
   }) async {
     var request = protos.ConnectRequest.create()
       ..remoteId = id.toString()
-      ..androidAutoConnect = autoConnect;
+      ..androidAutoConnect = autoConnect
+      ..mtu = mtu
+      ..connectionPriority =
+          protos.ConnectRequest_ConnectionPriority.valueOf(connectionPriority.index)
+      ..preferredPhy = protos.ConnectRequest_Phy.valueOf(preferredPhy.index)
+      ..notificationBufferSize = notificationBufferSize
+      ..notificationOverflowPolicy = protos.ConnectRequest_OverflowPolicy.valueOf(
+          notificationOverflowPolicy.index)
+      ..cacheServices = cacheServices
+      ..firmwareFingerprint = firmwareFingerprint;
+    if (valueCache != null) {
+      request.valueCache = valueCache._toProto();
+    }
+    if (reconnect != null) {
+      request.reconnect = reconnect._toProto();
+    }
+    FlutterBlue.instance._bufferNotifications(id, notificationBufferSize > 0);
 
     Timer timer;
     if (timeout != null) {
@@ -86,6 +121,84 @@ class BluetoothDevice {
     yield* _services.stream;
   }
 
+  /// Services stored from the last connection, reported right after
+  /// connecting with cacheServices. Android only.
+  Stream<List<BluetoothService>> get provisionalServices =>
+      FlutterBlue.instance._methodStream
+          .where((m) => m.method == "ProvisionalServices")
+          .map((m) => m.arguments)
+          .map((buffer) => new protos.DiscoverServicesResult.fromBuffer(buffer))
+          .where((p) => p.remoteId == id.toString())
+          .map((p) =>
+              p.services.map((s) => new BluetoothService.fromProto(s)).toList());
+
+  /// Changes found by the background discovery after [provisionalServices].
+  /// Emits an error if that discovery fails, the provisional services then
+  /// remain the services of the device. Android only.
+  Stream<ServicesDiff> get servicesDiff => FlutterBlue.instance._methodStream
+      .where((m) => m.method == "ServicesDiff")
+      .map((m) => m.arguments)
+      .map((buffer) => new protos.ServicesDiff.fromBuffer(buffer))
+      .where((p) => p.remoteId == id.toString())
+      .map((p) => (p.error.isNotEmpty)
+          ? throw new Exception(p.error)
+          : new ServicesDiff.fromProto(p));
+
+  /// Reads the characteristics in order as one operation. A failed read does
+  /// not stop the others. Android only.
+  Future<List<CharacteristicBatchResult>> readCharacteristics(
+      List<BluetoothCharacteristic> characteristics,
+      {bool bypassCache = false}) {
+    var request = protos.ReadCharacteristicsRequest.create()
+      ..remoteId = id.toString()
+      ..requests.addAll(characteristics
+          .map((c) => c._readRequest()..bypassCache = bypassCache));
+    return _batch('readCharacteristics', request.writeToBuffer());
+  }
+
+  /// Writes the characteristics in order as one operation. A failed write
+  /// does not stop the others. Android only.
+  Future<List<CharacteristicBatchResult>> writeCharacteristics(
+      List<CharacteristicWrite> writes) {
+    var request = protos.WriteCharacteristicsRequest.create()
+      ..remoteId = id.toString()
+      ..requests.addAll(writes.map((w) =>
+          w.characteristic._writeRequest(w.value, w.withoutResponse)));
+    return _batch('writeCharacteristics', request.writeToBuffer());
+  }
+
+  Future<List<CharacteristicBatchResult>> _batch(
+          String method, List<int> request) =>
+      FlutterBlue.instance._channel
+          .invokeMethod(method, request)
+          .then((buffer) =>
+              new protos.CharacteristicBatchResponse.fromBuffer(buffer))
+          .then((p) => p.results
+              .map((r) => new CharacteristicBatchResult.fromProto(r))
+              .toList());
+
+  /// Progress of the reconnections of a [ReconnectPolicy]. Android only.
+  Stream<ReconnectState> get reconnectState =>
+      FlutterBlue.instance._methodStream
+          .where((m) => m.method == "ReconnectState")
+          .map((m) => m.arguments)
+          .map((buffer) => new protos.ReconnectState.fromBuffer(buffer))
+          .where((p) => p.remoteId == id.toString())
+          .map((p) => new ReconnectState.fromProto(p));
+
+  /// Counters of the notification buffer. Android only.
+  Future<NotificationStats> notificationStats() =>
+      FlutterBlue.instance._channel
+          .invokeMethod('notificationStats', id.toString())
+          .then((buffer) => new protos.NotificationStats.fromBuffer(buffer))
+          .then((p) => new NotificationStats.fromProto(p));
+
+  /// Counters of the [ValueCachePolicy] given when connecting. Android only.
+  Future<ValueCacheStats> valueCacheStats() => FlutterBlue.instance._channel
+      .invokeMethod('valueCacheStats', id.toString())
+      .then((buffer) => new protos.ValueCacheStats.fromBuffer(buffer))
+      .then((p) => new ValueCacheStats.fromProto(p));
+
   /// The current connection state of the device
   Stream<BluetoothDeviceState> get state async* {
     yield await FlutterBlue.instance._channel
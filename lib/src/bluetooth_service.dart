@@ -22,3 +22,22 @@ class BluetoothService {
             .map((s) => new BluetoothService.fromProto(s))
             .toList();
 }
+
+/// Difference between the services stored from the last connection and those
+/// found by background discovery, see [BluetoothDevice.servicesDiff].
+class ServicesDiff {
+  final DeviceIdentifier deviceId;
+  final List<BluetoothService> added;
+  final List<BluetoothService> removed;
+
+  /// As discovered now.
+  final List<BluetoothService> changed;
+
+  ServicesDiff.fromProto(protos.ServicesDiff p)
+      : deviceId = new DeviceIdentifier(p.remoteId),
+        added = p.added.map((s) => new BluetoothService.fromProto(s)).toList(),
+        removed =
+            p.removed.map((s) => new BluetoothService.fromProto(s)).toList(),
+        changed =
+            p.changed.map((s) => new BluetoothService.fromProto(s)).toList();
+}
@@ -0,0 +1,130 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+part of flutter_blue;
+
+/// Requested right after connecting when not [balanced], Android 5.0+.
+enum ConnectionPriority { balanced, high, lowPower }
+
+/// Requested right after connecting when set, Android 8.0+.
+enum Phy { unspecified, le1m, le2m, leCoded }
+
+/// What to drop once the notification buffer of a device is full.
+enum NotificationOverflowPolicy { dropOldest, dropNewest }
+
+/// Answers reads of slowly changing characteristics from memory while their
+/// value is fresh. Android only.
+class ValueCachePolicy {
+  /// Least recently used values are evicted beyond this.
+  final int maxEntries;
+
+  /// For characteristics without a rule, null to not cache them.
+  final Duration defaultTtl;
+
+  /// Time to live of the values of characteristics, a zero duration never caches them.
+  final Map<Guid, Duration> rules;
+
+  const ValueCachePolicy(
+      {@required this.maxEntries, this.defaultTtl, this.rules = const {}});
+
+  protos.ValueCachePolicy _toProto() {
+    var p = protos.ValueCachePolicy.create()..maxEntries = maxEntries;
+    if (defaultTtl != null) {
+      p.defaultTtlMillis = Int64(defaultTtl.inMilliseconds);
+    }
+    rules.forEach((uuid, ttl) {
+      p.rules.add(protos.ValueCacheRule.create()
+        ..characteristicUuid = uuid.toString()
+        ..ttlMillis = Int64(ttl.inMilliseconds));
+    });
+    return p;
+  }
+}
+
+/// Reconnects natively when the link drops. Android only.
+///
+/// Once connected again the services are rediscovered, the MTU is requested
+/// again and the notifications enabled before the drop are re-enabled.
+/// Progress is reported on [BluetoothDevice.reconnectState].
+class ReconnectPolicy {
+  final int maxAttempts;
+
+  /// Doubles with every attempt, null means 1 second.
+  final Duration initialDelay;
+
+  /// Null means 30 seconds.
+  final Duration maxDelay;
+
+  /// Up to this fraction of each delay is removed at random, 0 to 1.
+  final double jitter;
+
+  /// Attempts not connected by then are cancelled, null means 30 seconds.
+  final Duration attemptTimeout;
+
+  const ReconnectPolicy({
+    @required this.maxAttempts,
+    this.initialDelay,
+    this.maxDelay,
+    this.jitter = 0,
+    this.attemptTimeout,
+  });
+
+  protos.ReconnectPolicy _toProto() {
+    var p = protos.ReconnectPolicy.create()
+      ..maxAttempts = maxAttempts
+      ..jitter = jitter;
+    if (initialDelay != null) {
+      p.initialDelayMillis = Int64(initialDelay.inMilliseconds);
+    }
+    if (maxDelay != null) {
+      p.maxDelayMillis = Int64(maxDelay.inMilliseconds);
+    }
+    if (attemptTimeout != null) {
+      p.attemptTimeoutMillis = Int64(attemptTimeout.inMilliseconds);
+    }
+    return p;
+  }
+}
+
+enum ReconnectStatus { scheduled, connecting, restored, gaveUp }
+
+class ReconnectState {
+  final DeviceIdentifier deviceId;
+  final ReconnectStatus status;
+  final int attempt;
+
+  /// Until the next attempt, when [ReconnectStatus.scheduled].
+  final Duration delay;
+
+  /// Characteristics whose notifications could not be re-enabled, when [ReconnectStatus.restored].
+  final List<Guid> failedNotifications;
+
+  /// From the disconnect, when [ReconnectStatus.restored].
+  final Duration recovery;
+
+  ReconnectState.fromProto(protos.ReconnectState p)
+      : deviceId = new DeviceIdentifier(p.remoteId),
+        status = ReconnectStatus.values[p.state.value],
+        attempt = p.attempt,
+        delay = Duration(milliseconds: p.delayMillis.toInt()),
+        failedNotifications =
+            p.failedNotifications.map((u) => new Guid(u)).toList(),
+        recovery = Duration(milliseconds: p.recoveryMillis.toInt());
+}
+
+enum ConnectionSlotState { idle, queued, connecting, connected, disconnecting }
+
+/// A device holding or waiting for a connection slot, see [FlutterBlue.setConnectionLimits].
+class ConnectionSlot {
+  final DeviceIdentifier deviceId;
+  final ConnectionSlotState state;
+
+  /// Time since the last GATT activity.
+  final Duration idle;
+
+  ConnectionSlot.fromProto(protos.ConnectionSlotState p)
+      : deviceId = new DeviceIdentifier(p.remoteId),
+        state = ConnectionSlotState.values[p.state.value],
+        idle = Duration(milliseconds: p.idleMillis.toInt());
+}
@@ -67,15 +67,21 @@ class FlutterBlue {
 
   /// Starts a scan for Bluetooth Low Energy devices
   /// Timeout closes the stream after a specified [Duration]
+  /// A device is reported if it matches any of [withServices] or [filters],
+  /// [filters] and [androidSettings] are only supported on Android.
   Stream<ScanResult> scan({
     ScanMode scanMode = ScanMode.lowLatency,
     List<Guid> withServices = const [],
     List<Guid> withDevices = const [],
+    List<ScanFilter> filters = const [],
+    AndroidScanSettings androidSettings,
     Duration timeout,
   }) async* {
     var settings = protos.ScanSettings.create()
       ..androidScanMode = scanMode.value
-      ..serviceUuids.addAll(withServices.map((g) => g.toString()).toList());
+      ..serviceUuids.addAll(withServices.map((g) => g.toString()).toList())
+      ..filters.addAll(filters.map((f) => f._toProto()).toList());
+    androidSettings?._applyTo(settings);
 
     if (_isScanning.value == true) {
       throw Exception('Another scan is already in progress.');
@@ -102,17 +108,24 @@ class FlutterBlue {
       throw e;
     }
 
+    // Results arrive one by one, or in batches with a report delay
     yield* Observable(FlutterBlue.instance._methodStream
-            .where((m) => m.method == "ScanResult")
-            .map((m) => m.arguments))
+            .where((m) =>
+                m.method == "ScanResult" || m.method == "ScanResultBatch"))
         .takeUntil(Observable.merge(killStreams))
         .doOnDone(stopScan)
-        .map((buffer) => new protos.ScanResult.fromBuffer(buffer))
+        .expand((m) => (m.method == "ScanResult")
+            ? [new protos.ScanResult.fromBuffer(m.arguments)]
+            : new protos.ScanResultBatch.fromBuffer(m.arguments).results)
         .map((p) {
       final result = new ScanResult.fromProto(p);
       final list = _scanResults.value;
       int index = list.indexOf(result);
-      if (index != -1) {
+      if (result.lost) {
+        if (index != -1) {
+          list.removeAt(index);
+        }
+      } else if (index != -1) {
         list[index] = result;
       } else {
         list.add(result);
@@ -126,17 +139,174 @@ class FlutterBlue {
     ScanMode scanMode = ScanMode.lowLatency,
     List<Guid> withServices = const [],
     List<Guid> withDevices = const [],
+    List<ScanFilter> filters = const [],
+    AndroidScanSettings androidSettings,
     Duration timeout,
   }) async {
     await scan(
             scanMode: scanMode,
             withServices: withServices,
             withDevices: withDevices,
+            filters: filters,
+            androidSettings: androidSettings,
             timeout: timeout)
         .drain();
     return _scanResults.value;
   }
 
+  /// Failures of scans started with a [ScanSchedule]. Android only.
+  Stream<ScanFailure> get scanFailures => _methodStream
+      .where((m) => m.method == "ScanFailed")
+      .map((m) => m.arguments)
+      .map((buffer) => new ScanFailure.fromProto(
+          new protos.ScanFailure.fromBuffer(buffer)));
+
+  /// The devices seen by the current scan, see [AndroidScanSettings.deviceTable].
+  /// Pass the version of a previous table to only get the changes since. Android only.
+  Future<DeviceTable> deviceTable({int sinceVersion = 0}) {
+    var request = protos.DeviceTableRequest.create()
+      ..sinceVersion = Int64(sinceVersion);
+    return _channel
+        .invokeMethod('deviceTable', request.writeToBuffer())
+        .then((buffer) => new protos.DeviceTable.fromBuffer(buffer))
+        .then((p) => new DeviceTable.fromProto(p));
+  }
+
+  /// Limits the devices connecting or connected at once. Android only.
+  /// Connections beyond the limits are queued, and devices idle for
+  /// [idleTimeout] may be disconnected to make room. 0 means no limit.
+  Future<void> setConnectionLimits({
+    int maxPendingConnections = 0,
+    int maxConnections = 0,
+    Duration idleTimeout,
+  }) {
+    var limits = protos.ConnectionLimits.create()
+      ..maxPendingConnections = maxPendingConnections
+      ..maxConnections = maxConnections
+      ..idleTimeoutMillis = idleTimeout?.inMilliseconds ?? 0;
+    return _channel.invokeMethod('setConnectionLimits', limits.writeToBuffer());
+  }
+
+  /// The devices holding or waiting for a connection slot, least recently
+  /// active first. Android only.
+  Future<List<ConnectionSlot>> get connectionSlots => _channel
+      .invokeMethod('connectionSlots')
+      .then((buffer) => new protos.ConnectionSlotsResponse.fromBuffer(buffer))
+      .then((p) =>
+          p.devices.map((d) => new ConnectionSlot.fromProto(d)).toList());
+
+  /// Changes of the connection slot of any device. Android only.
+  Stream<ConnectionSlot> get connectionSlotChanges => _methodStream
+      .where((m) => m.method == "ConnectionSlotState")
+      .map((m) => m.arguments)
+      .map((buffer) => new ConnectionSlot.fromProto(
+          new protos.ConnectionSlotState.fromBuffer(buffer)));
+
+  /// Time spent processing Bluetooth callbacks off the binder threads.
+  /// Android only.
+  Future<PipelineStats> pipelineStats() => _channel
+      .invokeMethod('pipelineStats')
+      .then((buffer) => new protos.PipelineStats.fromBuffer(buffer))
+      .then((p) => new PipelineStats.fromProto(p));
+
+  /// Operation latencies, scan counters and callback pipeline stats. Android only.
+  Future<Metrics> getMetrics() => _channel
+      .invokeMethod('getMetrics')
+      .then((buffer) => new protos.Metrics.fromBuffer(buffer))
+      .then((p) => new Metrics.fromProto(p));
+
+  /// Reads [characteristic] on every device in [devices], or on every
+  /// connected device if empty. Each device queues the read with its other
+  /// operations. Android only.
+  Future<List<FanOutResult>> readCharacteristicFanOut(
+    BluetoothCharacteristic characteristic, {
+    List<DeviceIdentifier> devices = const [],
+    bool bypassCache = false,
+  }) {
+    var request = protos.FanOutReadRequest.create()
+      ..remoteIds.addAll(devices.map((d) => d.toString()))
+      ..request = (characteristic._readRequest()..bypassCache = bypassCache);
+    return _fanOut('readCharacteristicFanOut', request.writeToBuffer());
+  }
+
+  /// Writes [value] to [characteristic] on every device in [devices], or on
+  /// every connected device if empty. Android only.
+  Future<List<FanOutResult>> writeCharacteristicFanOut(
+    BluetoothCharacteristic characteristic,
+    List<int> value, {
+    List<DeviceIdentifier> devices = const [],
+    bool withoutResponse = false,
+  }) {
+    var request = protos.FanOutWriteRequest.create()
+      ..remoteIds.addAll(devices.map((d) => d.toString()))
+      ..request = characteristic._writeRequest(value, withoutResponse);
+    return _fanOut('writeCharacteristicFanOut', request.writeToBuffer());
+  }
+
+  /// Sets notifications of [characteristic] on every device in [devices], or
+  /// on every connected device if empty. Android only.
+  Future<List<FanOutResult>> setNotifyValueFanOut(
+    BluetoothCharacteristic characteristic,
+    bool notify, {
+    List<DeviceIdentifier> devices = const [],
+    bool compact = false,
+  }) {
+    var request = protos.FanOutSetNotificationRequest.create()
+      ..remoteIds.addAll(devices.map((d) => d.toString()))
+      ..request = characteristic._notificationRequest(notify, compact);
+    return _fanOut('setNotificationFanOut', request.writeToBuffer());
+  }
+
+  Future<List<FanOutResult>> _fanOut(String method, List<int> request) =>
+      _channel
+          .invokeMethod(method, request)
+          .then((buffer) => new protos.FanOutResponse.fromBuffer(buffer))
+          .then((p) =>
+              p.results.map((r) => new FanOutResult.fromProto(r)).toList());
+
+  // Notifications of devices connected with a notification buffer
+  final Map<DeviceIdentifier, Stream<protos.OnCharacteristicValue>>
+      _notificationStreams = {};
+
+  // Devices whose latest connect call asked for a notification buffer
+  final Set<DeviceIdentifier> _bufferingDevices = new Set();
+
+  Stream<protos.OnCharacteristicValue> _bufferedNotifications(
+          DeviceIdentifier id) =>
+      _notificationStreams[id] ?? Stream.empty();
+
+  /// Shares one listener of the device's notifications channel, which only
+  /// supports one. The channel is recreated when the device connects anew or
+  /// with other buffer options, so it is listened to again each time the
+  /// device connects, unless it stopped buffering.
+  void _bufferNotifications(DeviceIdentifier id, bool buffer) {
+    if (!buffer) {
+      _bufferingDevices.remove(id);
+      return;
+    }
+    _bufferingDevices.add(id);
+    final channel = new EventChannel('$NAMESPACE/notifications/$id');
+    _notificationStreams.putIfAbsent(
+        id,
+        () => Observable(_methodStream
+                .where((m) => m.method == "DeviceState")
+                .map((m) => m.arguments)
+                .map((buffer) =>
+                    new protos.DeviceStateResponse.fromBuffer(buffer))
+                .where((p) =>
+                    p.remoteId == id.toString() &&
+                    p.state ==
+                        protos.DeviceStateResponse_BluetoothDeviceState
+                            .CONNECTED))
+            .startWith(null)
+            .switchMap((_) => _bufferingDevices.contains(id)
+                ? channel.receiveBroadcastStream()
+                : Stream.empty())
+            .expand((events) => events as List)
+            .map((buffer) => new protos.OnCharacteristicValue.fromBuffer(buffer))
+            .share());
+  }
+
   /// Stops a scan for Bluetooth Low Energy devices
   Future stopScan() async {
     await _channel.invokeMethod('stopScan');
@@ -215,18 +385,23 @@ class DeviceIdentifier {
 }
 
 class ScanResult {
-  const ScanResult({this.device, this.advertisementData, this.rssi});
+  const ScanResult(
+      {this.device, this.advertisementData, this.rssi, this.lost = false});
 
   ScanResult.fromProto(protos.ScanResult p)
       : device = new BluetoothDevice.fromProto(p.device),
         advertisementData =
             new AdvertisementData.fromProto(p.advertisementData),
-        rssi = p.rssi;
+        rssi = p.rssi,
+        lost = p.lost;
 
   final BluetoothDevice device;
   final AdvertisementData advertisementData;
   final int rssi;
 
+  /// The device stopped matching, only with the MATCH_LOST callback type.
+  final bool lost;
+
   @override
   bool operator ==(Object other) =>
       identical(this, other) ||
@@ -245,6 +420,14 @@ class AdvertisementData {
   final Map<int, List<int>> manufacturerData;
   final Map<String, List<int>> serviceData;
   final List<String> serviceUuids;
+  final int appearance;
+
+  /// Slave connection interval range, in units of 1.25 ms.
+  final ConnectionIntervalRange connectionIntervalRange;
+  final String uri;
+
+  /// Only set with [AndroidScanSettings.includeRawScanRecord].
+  final List<int> rawScanRecord;
 
   AdvertisementData(
       {this.localName,
@@ -252,7 +435,11 @@ class AdvertisementData {
       this.connectable,
       this.manufacturerData,
       this.serviceData,
-      this.serviceUuids});
+      this.serviceUuids,
+      this.appearance,
+      this.connectionIntervalRange,
+      this.uri,
+      this.rawScanRecord});
 
   AdvertisementData.fromProto(protos.AdvertisementData p)
       : localName = p.localName,
@@ -261,5 +448,22 @@ class AdvertisementData {
         connectable = p.connectable,
         manufacturerData = p.manufacturerData,
         serviceData = p.serviceData,
-        serviceUuids = p.serviceUuids;
+        serviceUuids = p.serviceUuids,
+        appearance = (p.appearance.hasValue()) ? p.appearance.value : null,
+        connectionIntervalRange = (p.hasConnectionIntervalRange())
+            ? new ConnectionIntervalRange(
+                p.connectionIntervalRange.min, p.connectionIntervalRange.max)
+            : null,
+        uri = p.uri,
+        rawScanRecord = p.rawScanRecord;
+}
+
+class ConnectionIntervalRange {
+  /// 0xFFFF means no specific minimum.
+  final int min;
+
+  /// 0xFFFF means no specific maximum.
+  final int max;
+
+  const ConnectionIntervalRange(this.min, this.max);
 }
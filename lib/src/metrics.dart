@@ -0,0 +1,144 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+part of flutter_blue;
+
+/// Latencies of the GATT operations of every device, the scan counters and
+/// the callback pipeline, see [FlutterBlue.getMetrics].
+class Metrics {
+  final List<DeviceMetrics> devices;
+  final ScanMetrics scan;
+  final PipelineStats pipeline;
+
+  Metrics.fromProto(protos.Metrics p)
+      : devices = p.devices.map((d) => new DeviceMetrics.fromProto(d)).toList(),
+        scan = new ScanMetrics.fromProto(p.scan),
+        pipeline = new PipelineStats.fromProto(p.pipeline);
+}
+
+class DeviceMetrics {
+  final DeviceIdentifier deviceId;
+  final List<LatencyHistogram> operations;
+
+  DeviceMetrics.fromProto(protos.DeviceMetrics p)
+      : deviceId = new DeviceIdentifier(p.remoteId),
+        operations =
+            p.operations.map((o) => new LatencyHistogram.fromProto(o)).toList();
+}
+
+/// Latencies from issuing a request to processing its callback.
+///
+/// Percentiles are the upper bound of their bucket, within about 12% of the
+/// exact value.
+class LatencyHistogram {
+  /// connect, discover_services, read_characteristic, write_characteristic,
+  /// read_descriptor, write_descriptor, set_notification or request_mtu.
+  final String operation;
+  final int count;
+  final Duration min;
+  final Duration max;
+  final Duration mean;
+  final Duration p50;
+  final Duration p90;
+  final Duration p99;
+
+  /// Non-empty buckets only, in increasing order.
+  final List<HistogramBucket> buckets;
+
+  LatencyHistogram.fromProto(protos.LatencyHistogram p)
+      : operation = p.operation,
+        count = p.count.toInt(),
+        min = Duration(microseconds: p.minMicros.toInt()),
+        max = Duration(microseconds: p.maxMicros.toInt()),
+        mean = Duration(microseconds: p.meanMicros.toInt()),
+        p50 = Duration(microseconds: p.p50Micros.toInt()),
+        p90 = Duration(microseconds: p.p90Micros.toInt()),
+        p99 = Duration(microseconds: p.p99Micros.toInt()),
+        buckets =
+            p.buckets.map((b) => new HistogramBucket.fromProto(b)).toList();
+}
+
+class HistogramBucket {
+  /// The highest latency counted in the bucket.
+  final Duration upperBound;
+  final int count;
+
+  HistogramBucket.fromProto(protos.HistogramBucket p)
+      : upperBound = Duration(microseconds: p.upperMicros.toInt()),
+        count = p.count.toInt();
+}
+
+class ScanMetrics {
+  /// Advertisements delivered by the platform.
+  final int received;
+
+  /// Results forwarded to Dart, individually or in batches.
+  final int emitted;
+
+  /// Rejected by the scan filters or deduplication.
+  final int dropped;
+
+  ScanMetrics.fromProto(protos.ScanMetrics p)
+      : received = p.received.toInt(),
+        emitted = p.emitted.toInt(),
+        dropped = p.dropped.toInt();
+}
+
+class PipelineStats {
+  final List<PipelineStage> stages;
+
+  /// Callbacks waiting for the processing thread.
+  final int pendingTasks;
+
+  /// Messages waiting for the main thread.
+  final int pendingMessages;
+  final int maxPendingTasks;
+  final int maxPendingMessages;
+
+  PipelineStats.fromProto(protos.PipelineStats p)
+      : stages = p.stages.map((s) => new PipelineStage.fromProto(s)).toList(),
+        pendingTasks = p.pendingTasks,
+        pendingMessages = p.pendingMessages,
+        maxPendingTasks = p.maxPendingTasks,
+        maxPendingMessages = p.maxPendingMessages;
+}
+
+/// Time spent in one stage of the native callback pipeline.
+class PipelineStage {
+  /// dispatch, process or deliver.
+  final String name;
+  final int count;
+  final Duration total;
+  final Duration max;
+
+  PipelineStage.fromProto(protos.PipelineStage p)
+      : name = p.name,
+        count = p.count.toInt(),
+        total = Duration(microseconds: p.totalMicros.toInt()),
+        max = Duration(microseconds: p.maxMicros.toInt());
+}
+
+class NotificationStats {
+  final int delivered;
+  final int dropped;
+  final int buffered;
+
+  NotificationStats.fromProto(protos.NotificationStats p)
+      : delivered = p.delivered.toInt(),
+        dropped = p.dropped.toInt(),
+        buffered = p.buffered;
+}
+
+class ValueCacheStats {
+  final int hits;
+  final int misses;
+  final int evictions;
+  final int entries;
+
+  ValueCacheStats.fromProto(protos.ValueCacheStats p)
+      : hits = p.hits.toInt(),
+        misses = p.misses.toInt(),
+        evictions = p.evictions.toInt(),
+        entries = p.entries;
+}
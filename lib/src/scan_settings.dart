@@ -0,0 +1,279 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+part of flutter_blue;
+
+/// Scan options only supported on Android, ignored on iOS.
+///
+/// The values of [callbackType], [matchMode] and [phy] are those of
+/// android.bluetooth.le.ScanSettings, 0 keeps the platform default.
+class AndroidScanSettings {
+  /// When set, results are delivered in batches once per interval.
+  final Duration reportDelay;
+
+  /// Flushes a batch early once it holds this many devices, 0 means no limit.
+  final int maxBatchSize;
+
+  /// Drops repeated advertisements with an unchanged payload.
+  final bool deduplicate;
+
+  /// When deduplicating, still reports a device if its rssi moves by more than this.
+  final int dedupRssiDelta;
+
+  /// When deduplicating, still reports a device after this long.
+  final Duration dedupRefresh;
+
+  /// Forwards the undecoded scan record in [AdvertisementData.rawScanRecord].
+  final bool includeRawScanRecord;
+
+  /// Keeps a table of the devices seen, queried with [FlutterBlue.deviceTable].
+  final DeviceTableSettings deviceTable;
+
+  /// API 23+. FIRST_MATCH | MATCH_LOST reports arrival and loss once each.
+  final int callbackType;
+
+  /// API 23+. 1 aggressive, 2 sticky.
+  final int matchMode;
+
+  /// API 23+. Advertisements needed for a first match, 1 to 3.
+  final int numOfMatches;
+
+  /// API 26+. Also reports extended advertisements.
+  final bool extendedAdvertising;
+
+  /// API 26+, with [extendedAdvertising]. 1 LE 1M, 3 LE Coded, 255 all.
+  final int phy;
+
+  /// When set, scans in windows and reports failures on [FlutterBlue.scanFailures].
+  final ScanSchedule schedule;
+
+  const AndroidScanSettings({
+    this.reportDelay,
+    this.maxBatchSize = 0,
+    this.deduplicate = false,
+    this.dedupRssiDelta = 0,
+    this.dedupRefresh,
+    this.includeRawScanRecord = false,
+    this.deviceTable,
+    this.callbackType = 0,
+    this.matchMode = 0,
+    this.numOfMatches = 0,
+    this.extendedAdvertising = false,
+    this.phy = 0,
+    this.schedule,
+  });
+
+  void _applyTo(protos.ScanSettings p) {
+    if (reportDelay != null) {
+      p.reportDelayMillis = Int64(reportDelay.inMilliseconds);
+    }
+    p
+      ..maxBatchSize = maxBatchSize
+      ..deduplicate = deduplicate
+      ..dedupRssiDelta = dedupRssiDelta
+      ..includeRawScanRecord = includeRawScanRecord
+      ..androidCallbackType = callbackType
+      ..androidMatchMode = matchMode
+      ..androidNumOfMatches = numOfMatches
+      ..androidExtendedAdvertising = extendedAdvertising
+      ..androidPhy = phy;
+    if (dedupRefresh != null) {
+      p.dedupRefreshMillis = Int64(dedupRefresh.inMilliseconds);
+    }
+    if (deviceTable != null) {
+      p.deviceTable = deviceTable._toProto();
+    }
+    if (schedule != null) {
+      p.schedule = schedule._toProto();
+    }
+  }
+}
+
+/// Runs a scan in windows separated by pauses. Android only.
+///
+/// Windows are delayed as needed to stay under 5 scan starts per 30 seconds.
+class ScanSchedule {
+  /// Null scans continuously.
+  final Duration scanWindow;
+  final Duration pauseWindow;
+
+  /// Moves between low power, balanced and low latency with the discovery rate.
+  final bool adaptiveScanMode;
+
+  /// New devices in a window that raise the scan mode, 0 means 5.
+  final int raiseThreshold;
+
+  /// Windows without new devices that lower the scan mode, 0 means 3.
+  final int lowerAfterWindows;
+
+  final bool restartOnFailure;
+
+  /// Restarts back off exponentially from 1 second, null means 60 seconds.
+  final Duration maxRestartDelay;
+
+  const ScanSchedule({
+    this.scanWindow,
+    this.pauseWindow,
+    this.adaptiveScanMode = false,
+    this.raiseThreshold = 0,
+    this.lowerAfterWindows = 0,
+    this.restartOnFailure = false,
+    this.maxRestartDelay,
+  });
+
+  protos.ScanSchedule _toProto() {
+    var p = protos.ScanSchedule.create()
+      ..adaptiveScanMode = adaptiveScanMode
+      ..raiseThreshold = raiseThreshold
+      ..lowerAfterWindows = lowerAfterWindows
+      ..restartOnFailure = restartOnFailure;
+    if (scanWindow != null) {
+      p.scanWindowMillis = Int64(scanWindow.inMilliseconds);
+    }
+    if (pauseWindow != null) {
+      p.pauseWindowMillis = Int64(pauseWindow.inMilliseconds);
+    }
+    if (maxRestartDelay != null) {
+      p.maxRestartDelayMillis = Int64(maxRestartDelay.inMilliseconds);
+    }
+    return p;
+  }
+}
+
+/// A scan that failed, reported when scanning with a [ScanSchedule].
+class ScanFailure {
+  /// ScanCallback.SCAN_FAILED_*, or 0 if the scan could not be started.
+  final int errorCode;
+  final String message;
+  final bool restarting;
+  final Duration restartDelay;
+
+  ScanFailure.fromProto(protos.ScanFailure p)
+      : errorCode = p.errorCode,
+        message = p.message,
+        restarting = p.restarting,
+        restartDelay = Duration(milliseconds: p.restartDelayMillis.toInt());
+}
+
+/// Every criterion that is set must match. Android only.
+///
+/// Data is compared as a prefix, only the bits set in the mask are compared,
+/// and an empty mask compares every bit.
+class ScanFilter {
+  final DeviceIdentifier deviceId;
+
+  /// Matched against the advertised local name on Android 4.3 and 4.4.
+  final String deviceName;
+  final Guid serviceUuid;
+  final int manufacturerId;
+
+  /// Data after the company identifier, only matched with [manufacturerId].
+  final List<int> manufacturerData;
+  final List<int> manufacturerDataMask;
+  final Guid serviceDataUuid;
+
+  /// Data after the service UUID.
+  final List<int> serviceData;
+  final List<int> serviceDataMask;
+
+  const ScanFilter({
+    this.deviceId,
+    this.deviceName,
+    this.serviceUuid,
+    this.manufacturerId,
+    this.manufacturerData,
+    this.manufacturerDataMask,
+    this.serviceDataUuid,
+    this.serviceData,
+    this.serviceDataMask,
+  });
+
+  protos.ScanFilter _toProto() {
+    var p = protos.ScanFilter.create();
+    if (deviceId != null) p.deviceAddress = deviceId.toString();
+    if (deviceName != null) p.deviceName = deviceName;
+    if (serviceUuid != null) p.serviceUuid = serviceUuid.toString();
+    if (manufacturerId != null) {
+      p
+        ..hasManufacturerId = true
+        ..manufacturerId_5 = manufacturerId;
+    }
+    if (manufacturerData != null) p.manufacturerData = manufacturerData;
+    if (manufacturerDataMask != null) {
+      p.manufacturerDataMask = manufacturerDataMask;
+    }
+    if (serviceDataUuid != null) p.serviceDataUuid = serviceDataUuid.toString();
+    if (serviceData != null) p.serviceData = serviceData;
+    if (serviceDataMask != null) p.serviceDataMask = serviceDataMask;
+    return p;
+  }
+}
+
+class DeviceTableSettings {
+  /// The least recently seen device is removed beyond this.
+  final int maxDevices;
+
+  /// Devices not seen for this long are removed, null means never.
+  final Duration maxAge;
+
+  const DeviceTableSettings({@required this.maxDevices, this.maxAge});
+
+  protos.DeviceTableSettings _toProto() {
+    var p = protos.DeviceTableSettings.create()..maxDevices = maxDevices;
+    if (maxAge != null) {
+      p.maxAgeMillis = Int64(maxAge.inMilliseconds);
+    }
+    return p;
+  }
+}
+
+/// The devices seen while scanning with [AndroidScanSettings.deviceTable].
+class DeviceTable {
+  /// Pass to [FlutterBlue.deviceTable] to only get later changes.
+  final int version;
+
+  /// Every device is listed, otherwise only those updated since the requested version.
+  final bool full;
+  final List<DeviceTableEntry> devices;
+  final List<DeviceIdentifier> removed;
+
+  DeviceTable.fromProto(protos.DeviceTable p)
+      : version = p.version.toInt(),
+        full = p.full,
+        devices =
+            p.devices.map((d) => new DeviceTableEntry.fromProto(d)).toList(),
+        removed = p.removed.map((id) => new DeviceIdentifier(id)).toList();
+}
+
+class DeviceTableEntry {
+  final DeviceIdentifier id;
+  final DateTime firstSeen;
+  final DateTime lastSeen;
+  final int advertisementCount;
+  final int rssiMin;
+  final int rssiMax;
+
+  /// Exponentially weighted.
+  final double rssiAverage;
+
+  /// Estimated from arrival times, null until known.
+  final Duration advertisingInterval;
+  final List<int> lastPayload;
+  final AdvertisementData advertisementData;
+
+  DeviceTableEntry.fromProto(protos.DeviceTableEntry p)
+      : id = new DeviceIdentifier(p.remoteId),
+        firstSeen =
+            DateTime.fromMillisecondsSinceEpoch(p.firstSeenMillis.toInt()),
+        lastSeen = DateTime.fromMillisecondsSinceEpoch(p.lastSeenMillis.toInt()),
+        advertisementCount = p.advertisementCount.toInt(),
+        rssiMin = p.rssiMin,
+        rssiMax = p.rssiMax,
+        rssiAverage = p.rssiAverage,
+        advertisingInterval = (p.advertisingIntervalMillis > 0)
+            ? Duration(milliseconds: p.advertisingIntervalMillis)
+            : null,
+        lastPayload = p.lastPayload,
+        advertisementData = new AdvertisementData.fromProto(p.advertisementData);
+}